@@ -47,6 +47,7 @@ import com.plotsquared.bukkit.placeholder.PAPIPlaceholders;
 import com.plotsquared.bukkit.placeholder.PlaceholderFormatter;
 import com.plotsquared.bukkit.player.BukkitPlayerManager;
 import com.plotsquared.bukkit.util.BukkitUtil;
+import com.plotsquared.bukkit.util.EntityOrigins;
 import com.plotsquared.bukkit.util.BukkitWorld;
 import com.plotsquared.bukkit.util.SetGenCB;
 import com.plotsquared.bukkit.util.TranslationUpdateManager;
@@ -377,6 +378,7 @@ public final class BukkitPlatform extends JavaPlugin implements Listener, PlotPl
                 getServer().getPluginManager().registerEvents(injector().getInstance(PaperListener.class), this);
             } else {
                 getServer().getPluginManager().registerEvents(injector().getInstance(SpigotListener.class), this);
+                TaskManager.runTaskRepeat(EntityOrigins::removeDespawned, TaskTime.seconds(300L));
             }
             this.plotListener.startRunnable();
         }
@@ -559,6 +561,9 @@ public final class BukkitPlatform extends JavaPlugin implements Listener, PlotPl
 
         if (Settings.Enabled_Components.WORLDS) {
             TaskManager.getPlatformImplementation().taskRepeat(this::unload, TaskTime.seconds(10L));
+            if (this.plotAreaManager instanceof SinglePlotAreaManager) {
+                ((SinglePlotAreaManager) this.plotAreaManager).getArea().getLifecycleManager().refillPool();
+            }
             try {
                 singleWorldListener = injector().getInstance(SingleWorldListener.class);
                 Bukkit.getPluginManager().registerEvents(singleWorldListener, this);
@@ -605,17 +610,23 @@ public final class BukkitPlatform extends JavaPlugin implements Listener, PlotPl
             long start = System.currentTimeMillis();
             final SinglePlotArea area = ((SinglePlotAreaManager) this.plotAreaManager).getArea();
 
-            outer:
+            final Map<String, World> loaded = new HashMap<>();
             for (final World world : Bukkit.getWorlds()) {
                 final String name = world.getName();
                 final char char0 = name.charAt(0);
                 if (!Character.isDigit(char0) && char0 != '-') {
                     continue;
                 }
+                loaded.put(name, world);
+            }
+            final List<String> candidates = area.getLifecycleManager().selectUnloadCandidates(
+                    loaded.keySet(),
+                    name -> !loaded.get(name).getPlayers().isEmpty()
+            );
 
-                if (!world.getPlayers().isEmpty()) {
-                    continue;
-                }
+            outer:
+            for (final String name : candidates) {
+                final World world = loaded.get(name);
 
                 PlotId id;
                 try {
@@ -637,6 +648,8 @@ public final class BukkitPlatform extends JavaPlugin implements Listener, PlotPl
                         if (chunks.length == 0) {
                             if (!Bukkit.unloadWorld(world, true)) {
                                 LOGGER.warn("Failed to unload {}", world.getName());
+                            } else {
+                                area.getLifecycleManager().recordUnload(name);
                             }
                             return;
                         } else {
@@ -737,6 +750,7 @@ public final class BukkitPlatform extends JavaPlugin implements Listener, PlotPl
     public void onDisable() {
         PlotSquared.get().disable();
         Bukkit.getScheduler().cancelTasks(this);
+        EntityOrigins.clear();
     }
 
     @Override
@@ -848,11 +862,10 @@ public final class BukkitPlatform extends JavaPlugin implements Listener, PlotPl
                                     }
                                     continue;
                                 }
-                                List<MetadataValue> meta = entity.getMetadata("plot");
-                                if (meta.isEmpty()) {
+                                Plot origin = EntityOrigins.getPlot(entity);
+                                if (origin == null) {
                                     continue;
                                 }
-                                Plot origin = (Plot) meta.get(0).value();
                                 if (!plot.equals(origin.getBasePlot(false))) {
                                     if (entity.hasMetadata("ps-tmp-teleport")) {
                                         continue;
@@ -1035,6 +1048,7 @@ public final class BukkitPlatform extends JavaPlugin implements Listener, PlotPl
         }
 
         entityIterator.remove();
+        EntityOrigins.remove(entity.getEntityId());
         entity.remove();
     }
 
@@ -29,6 +29,7 @@ import com.plotsquared.core.permissions.Permission;
 import com.plotsquared.core.player.PlotPlayer;
 import com.plotsquared.core.plot.Plot;
 import com.plotsquared.core.plot.PlotArea;
+import com.plotsquared.core.plot.PlotCell;
 import com.plotsquared.core.plot.flag.implementations.BlockBurnFlag;
 import com.plotsquared.core.plot.flag.implementations.BlockIgnitionFlag;
 import com.plotsquared.core.plot.flag.implementations.BreakFlag;
@@ -55,6 +56,8 @@ import com.plotsquared.core.plot.flag.types.BlockTypeWrapper;
 import com.plotsquared.core.plot.flag.types.BooleanFlag;
 import com.plotsquared.core.plot.world.PlotAreaManager;
 import com.plotsquared.core.util.PlotFlagUtil;
+import com.plotsquared.core.util.metrics.Metrics;
+import com.plotsquared.core.util.metrics.Timer;
 import com.plotsquared.core.util.task.TaskManager;
 import com.plotsquared.core.util.task.TaskTime;
 import com.sk89q.worldedit.WorldEdit;
@@ -113,6 +116,9 @@ import static org.bukkit.Tag.WALL_CORALS;
 
 @SuppressWarnings("unused")
 public class BlockEventListener implements Listener {
+
+    private static final Timer FROM_TO_TIMER = Metrics.timer("listener.block-from-to");
+
     private final PlotAreaManager plotAreaManager;
     private final WorldEdit worldEdit;
 
@@ -650,6 +656,15 @@ public class BlockEventListener implements Listener {
 
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
     public void onChange(BlockFromToEvent event) {
+        final long start = FROM_TO_TIMER.start();
+        try {
+            handleFromTo(event);
+        } finally {
+            FROM_TO_TIMER.stop(start);
+        }
+    }
+
+    private void handleFromTo(BlockFromToEvent event) {
         Block fromBlock = event.getBlock();
 
         // Check liquid flow flag inside of origin plot too
@@ -692,11 +707,18 @@ public class BlockEventListener implements Listener {
             }
         }
 
+        // Source and target resolve to the same plot if they lie in the same plot or road rectangle
+        final PlotCell fromCell = toArea.getPlotCellAbs(fromLocation.getX(), fromLocation.getZ());
+        final boolean sameCell = fromCell != null && fromCell.contains(
+                toLocation.getX() - fromLocation.getX(),
+                toLocation.getZ() - fromLocation.getZ()
+        );
+
         if (toPlot != null) {
-            if (!toArea.contains(fromLocation.getX(), fromLocation.getZ()) || !Objects.equals(
+            if (!sameCell && (!toArea.contains(fromLocation.getX(), fromLocation.getZ()) || !Objects.equals(
                     toPlot,
                     toArea.getOwnedPlot(fromLocation)
-            )) {
+            ))) {
                 event.setCancelled(true);
                 return;
             }
@@ -712,12 +734,13 @@ public class BlockEventListener implements Listener {
                 toPlot.debug("Liquid could not flow because liquid-flow = disabled");
                 event.setCancelled(true);
             }
-        } else if (!toArea.contains(fromLocation.getX(), fromLocation.getZ()) || !Objects.equals(
+        } else if (!sameCell && (!toArea.contains(fromLocation.getX(), fromLocation.getZ()) || !Objects.equals(
                 null,
                 toArea.getOwnedPlot(fromLocation)
-        )) {
+        ))) {
             event.setCancelled(true);
-        } else if (event.getBlock().isLiquid()) {
+        } else if (event.getBlock().isLiquid() && (fromCell == null || !fromCell.isRoad() || fromCell.edgeDistance() < 1)) {
+            // Only liquids at the edge of a road can have a plot as their neighbour
             final org.bukkit.Location location = event.getBlock().getLocation();
 
             /*
@@ -801,23 +824,20 @@ public class BlockEventListener implements Listener {
             event.setCancelled(true);
             return;
         }
+        final int dx = relative.getBlockX();
+        final int dy = relative.getBlockY();
+        final int dz = relative.getBlockZ();
         for (Block block1 : event.getBlocks()) {
-            Location bloc = BukkitUtil.adapt(block1.getLocation());
-            Location newLoc = bloc.add(relative.getBlockX(), relative.getBlockY(), relative.getBlockZ());
-            if (!area.contains(bloc.getX(), bloc.getZ()) || !area.contains(newLoc)) {
+            if (!plot.contains(block1.getX(), block1.getZ()) || !plot.contains(block1.getX() + dx, block1.getZ() + dz)) {
                 event.setCancelled(true);
                 return;
             }
-            if (!plot.equals(area.getOwnedPlot(bloc)) || !plot.equals(area.getOwnedPlot(newLoc))) {
-                event.setCancelled(true);
-                return;
-            }
-            if (!area.buildRangeContainsY(bloc.getY()) || !area.buildRangeContainsY(newLoc.getY())) {
+            if (!area.buildRangeContainsY(block1.getY()) || !area.buildRangeContainsY(block1.getY() + dy)) {
                 event.setCancelled(true);
                 return;
             }
         }
-        if (!plot.equals(area.getOwnedPlot(location.add(relative.getBlockX(), relative.getBlockY(), relative.getBlockZ())))) {
+        if (!plot.contains(location.getX() + dx, location.getZ() + dz)) {
             // This branch is only necessary to prevent pistons from extending
             // if they are: on a plot edge, facing outside the plot, and not
             // pushing any blocks
@@ -851,18 +871,15 @@ public class BlockEventListener implements Listener {
             event.setCancelled(true);
             return;
         }
+        final int dx = relative.getBlockX();
+        final int dy = relative.getBlockY();
+        final int dz = relative.getBlockZ();
         for (Block block1 : event.getBlocks()) {
-            Location bloc = BukkitUtil.adapt(block1.getLocation());
-            Location newLoc = bloc.add(relative.getBlockX(), relative.getBlockY(), relative.getBlockZ());
-            if (!area.contains(bloc.getX(), bloc.getZ()) || !area.contains(newLoc)) {
+            if (!plot.contains(block1.getX(), block1.getZ()) || !plot.contains(block1.getX() + dx, block1.getZ() + dz)) {
                 event.setCancelled(true);
                 return;
             }
-            if (!plot.equals(area.getOwnedPlot(bloc)) || !plot.equals(area.getOwnedPlot(newLoc))) {
-                event.setCancelled(true);
-                return;
-            }
-            if (!area.buildRangeContainsY(bloc.getY()) || !area.buildRangeContainsY(newLoc.getY())) {
+            if (!area.buildRangeContainsY(block1.getY()) || !area.buildRangeContainsY(block1.getY() + dy)) {
                 event.setCancelled(true);
                 return;
             }
@@ -918,44 +935,16 @@ public class BlockEventListener implements Listener {
                 }
             }
             return;
-        } else {
-            Plot origin = area.getOwnedPlot(location);
-            if (origin == null) {
-                event.setCancelled(true);
-                return;
-            }
-            for (int i = blocks.size() - 1; i >= 0; i--) {
-                location = BukkitUtil.adapt(blocks.get(i).getLocation());
-                if (!area.contains(location.getX(), location.getZ())) {
-                    blocks.remove(i);
-                    continue;
-                }
-                Plot plot = area.getOwnedPlot(location);
-                if (!Objects.equals(plot, origin)) {
-                    event.getBlocks().remove(i);
-                    continue;
-                }
-                if (!area.buildRangeContainsY(location.getY())) {
-                    event.getBlocks().remove(i);
-                }
-            }
         }
-        Plot origin = area.getPlot(location);
+        Plot origin = area.getOwnedPlot(location);
         if (origin == null) {
             event.setCancelled(true);
             return;
         }
         for (int i = blocks.size() - 1; i >= 0; i--) {
-            location = BukkitUtil.adapt(blocks.get(i).getLocation());
-            Plot plot = area.getOwnedPlot(location);
-            /*
-             * plot → the base plot of the merged area
-             * origin → the plot where the event gets called
-             */
-
-            // Are plot and origin different AND are both plots merged
-            if (!Objects.equals(plot, origin) && (!plot.isMerged() && !origin.isMerged())) {
-                event.getBlocks().remove(i);
+            final org.bukkit.block.BlockState state = blocks.get(i);
+            if (!origin.contains(state.getX(), state.getZ()) || !area.buildRangeContainsY(state.getY())) {
+                blocks.remove(i);
             }
         }
     }
@@ -987,7 +976,7 @@ public class BlockEventListener implements Listener {
             }
             return;
         }
-        event.blockList().removeIf(blox -> !plot.equals(area.getOwnedPlot(BukkitUtil.adapt(blox.getLocation()))));
+        event.blockList().removeIf(blox -> !plot.contains(blox.getX(), blox.getZ()));
     }
 
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
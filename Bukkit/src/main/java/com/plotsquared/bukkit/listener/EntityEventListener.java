@@ -23,7 +23,7 @@ import com.plotsquared.bukkit.BukkitPlatform;
 import com.plotsquared.bukkit.player.BukkitPlayer;
 import com.plotsquared.bukkit.util.BukkitEntityUtil;
 import com.plotsquared.bukkit.util.BukkitUtil;
-import com.plotsquared.core.PlotSquared;
+import com.plotsquared.bukkit.util.EntityOrigins;
 import com.plotsquared.core.configuration.Settings;
 import com.plotsquared.core.listener.PlayerBlockEventType;
 import com.plotsquared.core.location.Location;
@@ -70,13 +70,10 @@ import org.bukkit.event.entity.EntityExplodeEvent;
 import org.bukkit.event.entity.ExplosionPrimeEvent;
 import org.bukkit.event.vehicle.VehicleCreateEvent;
 import org.bukkit.metadata.FixedMetadataValue;
-import org.bukkit.metadata.MetadataValue;
-import org.bukkit.plugin.Plugin;
 import org.bukkit.projectiles.BlockProjectileSource;
 import org.bukkit.projectiles.ProjectileSource;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
-import java.util.Iterator;
 import java.util.List;
 
 @SuppressWarnings("unused")
@@ -230,17 +227,18 @@ public class EntityEventListener implements Listener {
         }
         if (event.getTo().hasGravity()) {
             Entity entity = event.getEntity();
-            List<MetadataValue> meta = entity.getMetadata("plot");
-            if (meta.isEmpty()) {
+            Plot origin = EntityOrigins.getPlot(entity);
+            if (origin == null) {
                 return;
             }
-            Plot origin = (Plot) meta.get(0).value();
-            if (origin != null && !origin.equals(plot)) {
+            // The falling block turns into a block, or is removed below
+            EntityOrigins.remove(entity.getEntityId());
+            if (!origin.equals(plot)) {
                 event.setCancelled(true);
                 entity.remove();
             }
         } else if (event.getTo() == Material.AIR) {
-            event.getEntity().setMetadata("plot", new FixedMetadataValue((Plugin) PlotSquared.platform(), plot));
+            EntityOrigins.setPlot(event.getEntity(), plot);
         }
     }
 
@@ -304,31 +302,21 @@ public class EntityEventListener implements Listener {
         Plot plot = area.getOwnedPlot(location);
         if (plot != null) {
             if (plot.getFlag(ExplosionFlag.class)) {
-                List<MetadataValue> meta = event.getEntity().getMetadata("plot");
-                Plot origin;
-                if (meta.isEmpty()) {
-                    origin = plot;
-                } else {
-                    origin = (Plot) meta.get(0).value();
-                }
+                Plot tracked = EntityOrigins.getPlot(event.getEntity());
+                Plot origin = tracked == null ? plot : tracked;
                 if (this.lastRadius != 0) {
                     List<Entity> nearby = event.getEntity().getNearbyEntities(this.lastRadius, this.lastRadius, this.lastRadius);
                     for (Entity near : nearby) {
                         if (near instanceof TNTPrimed || near.getType().equals(EntityType.TNT_MINECART)) {
-                            if (!near.hasMetadata("plot")) {
-                                near.setMetadata("plot", new FixedMetadataValue((Plugin) PlotSquared.platform(), plot));
-                            }
+                            EntityOrigins.setPlotIfAbsent(near, plot);
                         }
                     }
                     this.lastRadius = 0;
                 }
-                Iterator<Block> iterator = event.blockList().iterator();
-                while (iterator.hasNext()) {
-                    Block block = iterator.next();
-                    location = BukkitUtil.adapt(block.getLocation());
-                    if (!area.contains(location.getX(), location.getZ()) || !origin.equals(area.getOwnedPlot(location))) {
-                        iterator.remove();
-                    }
+                if (origin.getArea() != area || !origin.hasOwner()) {
+                    event.blockList().clear();
+                } else {
+                    event.blockList().removeIf(block -> !origin.contains(block.getX(), block.getZ()));
                 }
                 return;
             } else {
@@ -456,7 +444,7 @@ public class EntityEventListener implements Listener {
             return;
         }
         if (Settings.Enabled_Components.KILL_ROAD_VEHICLES) {
-            entity.setMetadata("plot", new FixedMetadataValue((Plugin) PlotSquared.platform(), plot));
+            EntityOrigins.setPlot(entity, plot);
         }
     }
 
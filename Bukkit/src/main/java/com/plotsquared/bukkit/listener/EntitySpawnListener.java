@@ -20,6 +20,7 @@ package com.plotsquared.bukkit.listener;
 
 import com.plotsquared.bukkit.util.BukkitEntityUtil;
 import com.plotsquared.bukkit.util.BukkitUtil;
+import com.plotsquared.bukkit.util.EntityOrigins;
 import com.plotsquared.core.PlotSquared;
 import com.plotsquared.core.configuration.Settings;
 import com.plotsquared.core.location.Location;
@@ -27,7 +28,6 @@ import com.plotsquared.core.plot.Plot;
 import com.plotsquared.core.plot.PlotArea;
 import com.plotsquared.core.plot.flag.implementations.DoneFlag;
 import io.papermc.lib.PaperLib;
-import org.bukkit.Chunk;
 import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.entity.ArmorStand;
@@ -38,23 +38,24 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.CreatureSpawnEvent;
+import org.bukkit.event.entity.EntityDeathEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
 import org.bukkit.event.entity.EntitySpawnEvent;
 import org.bukkit.event.entity.EntityTeleportEvent;
 import org.bukkit.event.vehicle.VehicleBlockCollisionEvent;
 import org.bukkit.event.vehicle.VehicleCreateEvent;
+import org.bukkit.event.vehicle.VehicleDestroyEvent;
 import org.bukkit.event.vehicle.VehicleMoveEvent;
 import org.bukkit.event.vehicle.VehicleUpdateEvent;
-import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.EntitiesLoadEvent;
+import org.bukkit.event.world.EntitiesUnloadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
 import org.bukkit.metadata.FixedMetadataValue;
-import org.bukkit.metadata.MetadataValue;
 import org.bukkit.plugin.Plugin;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
-import java.util.List;
-
 public class EntitySpawnListener implements Listener {
 
-    private static final String KEY = "P2";
     private static boolean ignoreTP = false;
     private static boolean hasPlotArea = false;
     private static String areaName = null;
@@ -81,20 +82,25 @@ public class EntitySpawnListener implements Listener {
 
     public static void test(Entity entity) {
         @NonNull World world = entity.getWorld();
-        List<MetadataValue> meta = entity.getMetadata(KEY);
-        if (meta.isEmpty()) {
+        World originWorld = EntityOrigins.getWorld(entity);
+        if (originWorld == null) {
             if (PlotSquared.get().getPlotAreaManager().hasPlotArea(world.getName())) {
-                entity.setMetadata(KEY, new FixedMetadataValue((Plugin) PlotSquared.platform(), entity.getLocation()));
+                EntityOrigins.trackPosition(entity);
             }
         } else {
-            org.bukkit.Location origin = (org.bukkit.Location) meta.get(0).value();
-            World originWorld = origin.getWorld();
             if (!originWorld.equals(world)) {
                 if (!ignoreTP) {
                     if (!world.getName().equalsIgnoreCase(originWorld + "_the_end")) {
                         if (entity.getType() == EntityType.PLAYER) {
                             return;
                         }
+                        long position = EntityOrigins.getPosition(entity);
+                        org.bukkit.Location origin = new org.bukkit.Location(
+                                originWorld,
+                                EntityOrigins.unpackX(position) + 0.5,
+                                EntityOrigins.unpackY(position),
+                                EntityOrigins.unpackZ(position) + 0.5
+                        );
                         try {
                             ignoreTP = true;
                             PaperLib.teleportAsync(entity, origin);
@@ -102,6 +108,7 @@ public class EntitySpawnListener implements Listener {
                             ignoreTP = false;
                         }
                         if (entity.getLocation().getWorld().equals(world)) {
+                            EntityOrigins.remove(entity.getEntityId());
                             entity.remove();
                         }
                     }
@@ -109,6 +116,7 @@ public class EntitySpawnListener implements Listener {
                     if (entity.getType() == EntityType.PLAYER) {
                         return;
                     }
+                    EntityOrigins.remove(entity.getEntityId());
                     entity.remove();
                 }
             }
@@ -168,13 +176,44 @@ public class EntitySpawnListener implements Listener {
     }
 
     @EventHandler
-    public void onChunkLoad(ChunkLoadEvent event) {
-        @NonNull Chunk chunk = event.getChunk();
-        for (final Entity entity : chunk.getEntities()) {
+    public void onEntitiesLoad(EntitiesLoadEvent event) {
+        for (final Entity entity : event.getEntities()) {
+            EntityOrigins.restore(entity);
             testCreate(entity);
         }
     }
 
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesUnload(EntitiesUnloadEvent event) {
+        if (EntityOrigins.size() == 0) {
+            return;
+        }
+        for (final Entity entity : event.getEntities()) {
+            EntityOrigins.persist(entity);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onDeath(EntityDeathEvent event) {
+        EntityOrigins.remove(event.getEntity().getEntityId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onExplode(EntityExplodeEvent event) {
+        // Exploding entities are removed, even if the explosion itself is cancelled
+        EntityOrigins.remove(event.getEntity().getEntityId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onVehicle(VehicleDestroyEvent event) {
+        EntityOrigins.remove(event.getVehicle().getEntityId());
+    }
+
+    @EventHandler
+    public void onWorldUnload(WorldUnloadEvent event) {
+        EntityOrigins.removeWorld(event.getWorld());
+    }
+
     @EventHandler
     public void onVehicle(VehicleUpdateEvent event) {
         testNether(event.getVehicle());
@@ -32,6 +32,8 @@ import com.plotsquared.core.plot.flag.implementations.DisablePhysicsFlag;
 import com.plotsquared.core.plot.flag.implementations.RedstoneFlag;
 import com.plotsquared.core.plot.world.PlotAreaManager;
 import com.plotsquared.core.util.PlotFlagUtil;
+import com.plotsquared.core.util.metrics.Metrics;
+import com.plotsquared.core.util.metrics.Timer;
 import com.plotsquared.core.util.task.TaskManager;
 import com.plotsquared.core.util.task.TaskTime;
 import com.sk89q.worldedit.WorldEdit;
@@ -53,6 +55,7 @@ import java.util.UUID;
 @SuppressWarnings("unused")
 public class HighFreqBlockEventListener implements Listener {
 
+    private static final Timer PHYSICS_TIMER = Metrics.timer("listener.block-physics");
     private static final Set<Material> PISTONS = Set.of(
             Material.PISTON,
             Material.STICKY_PISTON
@@ -151,12 +154,22 @@ public class HighFreqBlockEventListener implements Listener {
 
     @EventHandler(ignoreCancelled = true, priority = EventPriority.HIGHEST)
     public void onPhysicsEvent(BlockPhysicsEvent event) {
+        final long start = PHYSICS_TIMER.start();
         Block block = event.getBlock();
         Location location = BukkitUtil.adapt(block.getLocation());
         PlotArea area = location.getPlotArea();
         if (area == null) {
+            PHYSICS_TIMER.stop(start);
             return;
         }
+        try {
+            handlePhysics(event, block, location, area);
+        } finally {
+            PHYSICS_TIMER.stop(start, area);
+        }
+    }
+
+    private void handlePhysics(BlockPhysicsEvent event, Block block, Location location, PlotArea area) {
         Plot plot = area.getOwnedPlotAbs(location);
         if (plot == null) {
             return;
@@ -190,7 +203,7 @@ public class HighFreqBlockEventListener implements Listener {
                 if (plot.equals(newPlot)) {
                     return;
                 }
-                if (!plot.isMerged() || !plot.getConnectedPlots().contains(newPlot)) {
+                if (!plot.isConnected(newPlot)) {
                     event.setCancelled(true);
                     plot.debug("Prevented piston update because of invalid edge piston detection");
                 }
@@ -24,6 +24,7 @@ import com.google.inject.Inject;
 import com.plotsquared.bukkit.player.BukkitPlayer;
 import com.plotsquared.bukkit.util.BukkitEntityUtil;
 import com.plotsquared.bukkit.util.BukkitUtil;
+import com.plotsquared.bukkit.util.EntityOrigins;
 import com.plotsquared.bukkit.util.UpdateUtility;
 import com.plotsquared.core.PlotSquared;
 import com.plotsquared.core.configuration.Settings;
@@ -41,6 +42,7 @@ import com.plotsquared.core.plot.Plot;
 import com.plotsquared.core.plot.PlotArea;
 import com.plotsquared.core.plot.PlotId;
 import com.plotsquared.core.plot.PlotInventory;
+import com.plotsquared.core.plot.comment.CommentManager;
 import com.plotsquared.core.plot.flag.FlagContainer;
 import com.plotsquared.core.plot.flag.implementations.AnimalInteractFlag;
 import com.plotsquared.core.plot.flag.implementations.BlockedCmdsFlag;
@@ -73,6 +75,8 @@ import com.plotsquared.core.util.MathMan;
 import com.plotsquared.core.util.PlotFlagUtil;
 import com.plotsquared.core.util.PremiumVerification;
 import com.plotsquared.core.util.entity.EntityCategories;
+import com.plotsquared.core.util.metrics.Metrics;
+import com.plotsquared.core.util.metrics.Timer;
 import com.plotsquared.core.util.task.TaskManager;
 import com.plotsquared.core.util.task.TaskTime;
 import com.sk89q.worldedit.WorldEdit;
@@ -146,9 +150,6 @@ import org.bukkit.help.HelpTopic;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.PlayerInventory;
 import org.bukkit.inventory.meta.ItemMeta;
-import org.bukkit.metadata.FixedMetadataValue;
-import org.bukkit.metadata.MetadataValue;
-import org.bukkit.plugin.Plugin;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.util.Vector;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -166,6 +167,7 @@ import java.util.UUID;
 @SuppressWarnings("unused")
 public class PlayerEventListener implements Listener {
 
+    private static final Timer MOVE_TIMER = Metrics.timer("listener.player-move");
     private static final Set<Material> MINECARTS = Set.of(
             Material.MINECART,
             Material.TNT_MINECART,
@@ -521,6 +523,7 @@ public class PlayerEventListener implements Listener {
 
         // we're stripping the country code as we don't want to differ between countries
         pp.setLocale(Locale.forLanguageTag(player.getLocale().substring(0, 2)));
+        CommentManager.loadComments(pp);
 
         Location location = pp.getLocation();
         PlotArea area = location.getPlotArea();
@@ -678,15 +681,15 @@ public class PlayerEventListener implements Listener {
                     // Horses etc are vehicles, but they're also animals
                     // so this filters out all living entities
                     if (EntityCategories.VEHICLE.contains(entityType) && !EntityCategories.ANIMAL.contains(entityType)) {
-                        List<MetadataValue> meta = vehicle.getMetadata("plot");
                         Plot toPlot = BukkitUtil.adapt(to).getPlot();
-                        if (!meta.isEmpty()) {
-                            Plot origin = (Plot) meta.get(0).value();
-                            if (origin != null && !origin.getBasePlot(false).equals(toPlot)) {
+                        Plot origin = EntityOrigins.getPlot(vehicle);
+                        if (origin != null) {
+                            if (!origin.isConnected(toPlot)) {
+                                EntityOrigins.remove(vehicle.getEntityId());
                                 vehicle.remove();
                             }
                         } else if (toPlot != null) {
-                            vehicle.setMetadata("plot", new FixedMetadataValue((Plugin) PlotSquared.platform(), toPlot));
+                            EntityOrigins.setPlot(vehicle, toPlot);
                         }
                     }
                 }
@@ -697,6 +700,15 @@ public class PlayerEventListener implements Listener {
 
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
     public void playerMove(PlayerMoveEvent event) {
+        final long start = MOVE_TIMER.start();
+        try {
+            handleMove(event);
+        } finally {
+            MOVE_TIMER.stop(start);
+        }
+    }
+
+    private void handleMove(PlayerMoveEvent event) {
         org.bukkit.Location from = event.getFrom();
         org.bukkit.Location to = event.getTo();
         int x2;
@@ -924,7 +936,7 @@ public class PlayerEventListener implements Listener {
                 spies.add(pp);
             } else {
                 Plot current = pp.getCurrentPlot();
-                if (current != null && current.getBasePlot(false).equals(plot)) {
+                if (current != null && current.isConnected(plot)) {
                     plotRecipients.add(pp);
                 }
             }
@@ -64,6 +64,7 @@ public final class BukkitChunkCoordinator extends ChunkCoordinator {
     private final Consumer<BlockVector2> chunkConsumer;
     private final org.bukkit.World bukkitWorld;
     private final Runnable whenDone;
+    private final Runnable batchAction;
     private final Consumer<Throwable> throwableConsumer;
     private final boolean unloadAfter;
     private final int totalSize;
@@ -83,7 +84,8 @@ public final class BukkitChunkCoordinator extends ChunkCoordinator {
             @Assisted final @NonNull Consumer<BlockVector2> chunkConsumer,
             @Assisted final @NonNull World world,
             @Assisted final @NonNull Collection<BlockVector2> requestedChunks,
-            @Assisted final @NonNull Runnable whenDone,
+            @Assisted("whenDone") final @NonNull Runnable whenDone,
+            @Assisted("batchAction") final @NonNull Runnable batchAction,
             @Assisted final @NonNull Consumer<Throwable> throwableConsumer,
             @Assisted("unloadAfter") final boolean unloadAfter,
             @Assisted final @NonNull Collection<ProgressSubscriber> progressSubscribers,
@@ -97,6 +99,7 @@ public final class BukkitChunkCoordinator extends ChunkCoordinator {
         this.chunkConsumer = chunkConsumer;
         this.maxIterationTime = maxIterationTime;
         this.whenDone = whenDone;
+        this.batchAction = batchAction;
         this.throwableConsumer = throwableConsumer;
         this.unloadAfter = unloadAfter;
         this.plugin = JavaPlugin.getPlugin(BukkitPlatform.class);
@@ -117,6 +120,7 @@ public final class BukkitChunkCoordinator extends ChunkCoordinator {
                 while (!shouldCancel && !requestedChunks.isEmpty()) {
                     chunkConsumer.accept(requestedChunks.poll());
                 }
+                batchAction.run();
             } catch (Throwable t) {
                 throwableConsumer.accept(t);
             } finally {
@@ -188,6 +192,11 @@ public final class BukkitChunkCoordinator extends ChunkCoordinator {
             iterationTime[0] = iterationTime[1];
             iterationTime[1] = end - start;
         } while (iterationTime[0] + iterationTime[1] < this.maxIterationTime * 2 && (chunk = availableChunks.poll()) != null);
+        try {
+            this.batchAction.run();
+        } catch (final Throwable throwable) {
+            this.throwableConsumer.accept(throwable);
+        }
         if (processedChunks < this.batchSize) {
             // Adjust batch size based on the amount of processed chunks per tick
             this.batchSize = processedChunks;
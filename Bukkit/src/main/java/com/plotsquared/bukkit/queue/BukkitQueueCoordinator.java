@@ -21,45 +21,79 @@ package com.plotsquared.bukkit.queue;
 import com.google.inject.Inject;
 import com.plotsquared.bukkit.schematic.StateWrapper;
 import com.plotsquared.bukkit.util.BukkitBlockUtil;
+import com.plotsquared.core.PlotSquared;
 import com.plotsquared.core.configuration.Settings;
 import com.plotsquared.core.inject.factory.ChunkCoordinatorBuilderFactory;
 import com.plotsquared.core.inject.factory.ChunkCoordinatorFactory;
+import com.plotsquared.core.location.Location;
+import com.plotsquared.core.plot.PlotArea;
+import com.plotsquared.core.plot.PlotAreaType;
 import com.plotsquared.core.queue.BasicQueueCoordinator;
 import com.plotsquared.core.queue.ChunkCoordinator;
+import com.plotsquared.core.queue.ChunkGenerationBuffer;
+import com.plotsquared.core.queue.LightingMode;
 import com.plotsquared.core.queue.LocalChunk;
 import com.plotsquared.core.util.ChunkUtil;
+import com.plotsquared.core.util.PatternUtil;
+import com.plotsquared.core.util.metrics.Metrics;
+import com.plotsquared.core.util.metrics.Timer;
+import com.plotsquared.core.util.task.TaskManager;
 import com.sk89q.jnbt.CompoundTag;
 import com.sk89q.worldedit.WorldEditException;
 import com.sk89q.worldedit.bukkit.BukkitAdapter;
+import com.sk89q.worldedit.entity.BaseEntity;
 import com.sk89q.worldedit.extent.clipboard.BlockArrayClipboard;
 import com.sk89q.worldedit.extent.clipboard.Clipboard;
+import com.sk89q.worldedit.function.pattern.Pattern;
 import com.sk89q.worldedit.math.BlockVector2;
 import com.sk89q.worldedit.math.BlockVector3;
 import com.sk89q.worldedit.regions.CuboidRegion;
-import com.sk89q.worldedit.regions.Region;
 import com.sk89q.worldedit.util.SideEffect;
 import com.sk89q.worldedit.util.SideEffectSet;
 import com.sk89q.worldedit.world.World;
 import com.sk89q.worldedit.world.biome.BiomeType;
 import com.sk89q.worldedit.world.block.BaseBlock;
 import com.sk89q.worldedit.world.block.BlockState;
+import com.sk89q.worldedit.world.block.BlockTypes;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.bukkit.Bukkit;
 import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.block.Biome;
 import org.bukkit.block.Block;
 import org.bukkit.block.Container;
 import org.bukkit.block.data.BlockData;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 public class BukkitQueueCoordinator extends BasicQueueCoordinator {
 
+    private static final Logger LOGGER = LogManager.getLogger("PlotSquared/" + BukkitQueueCoordinator.class.getSimpleName());
+    private static final Timer CHUNK_TIMER = Metrics.timer("queue.chunk");
+    private static final BaseBlock AIR = BlockTypes.AIR.getDefaultState().toBaseBlock();
+    private static final int GENERATION_WORKERS = 4;
     private static final SideEffectSet NO_SIDE_EFFECT_SET;
     private static final SideEffectSet EDGE_SIDE_EFFECT_SET;
     private static final SideEffectSet LIGHTING_SIDE_EFFECT_SET;
     private static final SideEffectSet EDGE_LIGHTING_SIDE_EFFECT_SET;
+    // Only FastAsyncWorldEdit implements World#fixLighting, it does nothing in WorldEdit
+    private static final boolean BULK_RELIGHT = Bukkit.getPluginManager().getPlugin("FastAsyncWorldEdit") != null;
 
     static {
         NO_SIDE_EFFECT_SET = enableNetworkIfNeeded()
@@ -69,10 +103,9 @@ public class BukkitQueueCoordinator extends BasicQueueCoordinator {
                 .with(SideEffect.UPDATE, SideEffect.State.ON)
                 .with(SideEffect.NEIGHBORS, SideEffect.State.ON);
         LIGHTING_SIDE_EFFECT_SET = NO_SIDE_EFFECT_SET
-                .with(SideEffect.NEIGHBORS, SideEffect.State.OFF);
-        EDGE_LIGHTING_SIDE_EFFECT_SET = NO_SIDE_EFFECT_SET
-                .with(SideEffect.UPDATE, SideEffect.State.ON)
-                .with(SideEffect.NEIGHBORS, SideEffect.State.ON);
+                .with(SideEffect.LIGHTING, SideEffect.State.ON);
+        EDGE_LIGHTING_SIDE_EFFECT_SET = EDGE_SIDE_EFFECT_SET
+                .with(SideEffect.LIGHTING, SideEffect.State.ON);
     }
 
     // make sure block changes are sent
@@ -92,6 +125,18 @@ public class BukkitQueueCoordinator extends BasicQueueCoordinator {
     @Inject
     private ChunkCoordinatorFactory chunkCoordinatorFactory;
     private ChunkCoordinator chunkCoordinator;
+    // Sections (relative to the lowest section of the world) to relight after the current batch, by chunk
+    private final Map<BlockVector2, BitSet> relightSections = new HashMap<>();
+    private BlockVector2 snapshotChunk;
+    private ChunkSnapshot snapshot;
+    // Chunks to regenerate, and the generation of those driven by the plot area generator
+    private final Set<BlockVector2> regenChunks = new HashSet<>();
+    private final Queue<BlockVector2> toGenerate = new ConcurrentLinkedQueue<>();
+    private final Map<BlockVector2, ChunkGenerationBuffer.GeneratedChunk> generated = new ConcurrentHashMap<>();
+    private @Nullable CompletableFuture<Void> generation;
+    private PlotArea generatorArea;
+    private BlockVector3 regenMin;
+    private BlockVector3 regenMax;
 
     @Inject
     public BukkitQueueCoordinator(@NonNull World world) {
@@ -104,9 +149,20 @@ public class BukkitQueueCoordinator extends BasicQueueCoordinator {
         return BukkitBlockUtil.get(block);
     }
 
+    /**
+     * Start writing the chunks. If chunks are regenerated by the generator of a plot area, the chunk coordinator is only
+     * started once all of them have been generated, so that the chunk consumer never waits for the generator.
+     */
     @Override
     public void start() {
-        chunkCoordinator.start();
+        if (this.generation == null || this.generation.isDone()) {
+            chunkCoordinator.start();
+        } else if (isForceSync()) {
+            this.generation.join();
+            chunkCoordinator.start();
+        } else {
+            this.generation.whenComplete((ignored, throwable) -> TaskManager.runTask(chunkCoordinator::start));
+        }
     }
 
     @Override
@@ -116,45 +172,26 @@ public class BukkitQueueCoordinator extends BasicQueueCoordinator {
 
     @Override
     public boolean enqueue() {
-        final Clipboard regenClipboard;
-        if (isRegen()) {
-            BlockVector3 start = BlockVector3.at(getRegenStart()[0] << 4, getMinY(), getRegenStart()[1] << 4);
-            BlockVector3 end = BlockVector3.at((getRegenEnd()[0] << 4) + 15, getMaxY(), (getRegenEnd()[1] << 4) + 15);
-            Region region = new CuboidRegion(start, end);
-            regenClipboard = new BlockArrayClipboard(region);
-            regenClipboard.setOrigin(start);
-            getWorld().regenerate(region, regenClipboard);
-        } else if (getRegenRegion() != null) {
-            regenClipboard = new BlockArrayClipboard(getRegenRegion());
-            regenClipboard.setOrigin(getRegenRegion().getMinimumPoint());
-            getWorld().regenerate(getRegenRegion(), regenClipboard);
-        } else {
-            regenClipboard = null;
-        }
         Consumer<BlockVector2> consumer = getChunkConsumer();
         if (consumer == null) {
+            final Clipboard regenClipboard = prepareRegen();
             consumer = blockVector2 -> {
                 LocalChunk localChunk = getBlockChunks().get(blockVector2);
-                boolean isRegenChunk =
-                        regenClipboard != null && blockVector2.getBlockX() > getRegenStart()[0] && blockVector2.getBlockZ() > getRegenStart()[1]
-                                && blockVector2.getBlockX() < getRegenEnd()[0] && blockVector2.getBlockZ() < getRegenEnd()[1];
                 int sx = blockVector2.getX() << 4;
                 int sz = blockVector2.getZ() << 4;
-                if (isRegenChunk) {
-                    for (int layer = getMinLayer(); layer <= getMaxLayer(); layer++) {
-                        for (int y = 0; y < 16; y++) {
-                            for (int x = 0; x < 16; x++) {
-                                for (int z = 0; z < 16; z++) {
-                                    x += sx;
-                                    y += layer << 4;
-                                    z += sz;
-                                    BaseBlock block = regenClipboard.getFullBlock(BlockVector3.at(x, y, z));
-                                    if (block != null) {
-                                        boolean edge = Settings.QUEUE.UPDATE_EDGES && isEdgeRegen(x & 15, z & 15, blockVector2);
-                                        setWorldBlock(x, y, z, block, blockVector2, edge);
-                                    }
-                                }
-                            }
+                if (getLightingMode() == LightingMode.REPLACEMENT && getSideEffectSet() == null) {
+                    // Take the snapshot before the first write, the replaced blocks decide whether to relight
+                    getSnapshot(blockVector2);
+                }
+                if (regenChunks.contains(blockVector2)) {
+                    if (regenClipboard != null) {
+                        applyRegenerated(readClipboard(regenClipboard, blockVector2), localChunk, blockVector2);
+                    } else {
+                        final ChunkGenerationBuffer.GeneratedChunk generated = this.generated.remove(blockVector2);
+                        // Chunks that failed to generate are left as they are
+                        if (generated != null) {
+                            applyRegenerated(generated.sections(), localChunk, blockVector2);
+                            applyPopulatedEntities(generated.entities());
                         }
                     }
                 }
@@ -162,6 +199,7 @@ public class BukkitQueueCoordinator extends BasicQueueCoordinator {
                 if (localChunk == null) {
                     return;
                 }
+                applyFills(localChunk, blockVector2);
                 for (int layer = 0; layer < localChunk.getBaseblocks().length; layer++) {
                     BaseBlock[] blocksLayer = localChunk.getBaseblocks()[layer];
                     if (blocksLayer == null) {
@@ -186,24 +224,7 @@ public class BukkitQueueCoordinator extends BasicQueueCoordinator {
                         }
                     }
                 }
-                for (int layer = 0; layer < localChunk.getBiomes().length; layer++) {
-                    BiomeType[] biomesLayer = localChunk.getBiomes()[layer];
-                    if (biomesLayer == null) {
-                        continue;
-                    }
-                    for (int j = 0; j < biomesLayer.length; j++) {
-                        if (biomesLayer[j] == null) {
-                            continue;
-                        }
-                        BiomeType biome = biomesLayer[j];
-                        if (biome != null) {
-                            int x = sx + ChunkUtil.getX(j);
-                            int y = ChunkUtil.getY(layer, j);
-                            int z = sz + ChunkUtil.getZ(j);
-                            getWorld().setBiome(BlockVector3.at(x, y, z), biome);
-                        }
-                    }
-                }
+                applyBiomes(localChunk, blockVector2);
                 if (localChunk.getTiles().size() > 0) {
                     localChunk.getTiles().forEach((blockVector3, tag) -> {
                         try {
@@ -220,21 +241,47 @@ public class BukkitQueueCoordinator extends BasicQueueCoordinator {
                 }
             };
         }
+        final Consumer<BlockVector2> chunkConsumer = consumer;
         Collection<BlockVector2> read = new ArrayList<>();
         if (getReadChunks().size() > 0) {
             read.addAll(getReadChunks());
         }
+        if (!regenChunks.isEmpty()) {
+            final Set<BlockVector2> regenOnly = new HashSet<>(regenChunks);
+            regenOnly.removeAll(getBlockChunks().keySet());
+            read.forEach(regenOnly::remove);
+            read.addAll(regenOnly);
+        }
+        final List<BlockVector2> requested = new ArrayList<>(getBlockChunks().keySet());
+        requested.addAll(read);
+        if (this.generatorArea != null) {
+            // Generate in the order the chunks are requested in
+            final Set<BlockVector2> queued = new HashSet<>();
+            for (final BlockVector2 chunk : requested) {
+                if (this.regenChunks.contains(chunk) && queued.add(chunk)) {
+                    this.toGenerate.add(chunk);
+                }
+            }
+            this.generation = generateAll();
+        }
         chunkCoordinator =
                 chunkCoordinatorBuilderFactory
                         .create(chunkCoordinatorFactory)
                         .inWorld(getWorld())
-                        .withChunks(getBlockChunks().keySet())
-                        .withChunks(read)
+                        .withChunks(requested)
                         .withInitialBatchSize(3)
                         .withMaxIterationTime(40)
                         .withThrowableConsumer(Throwable::printStackTrace)
                         .withFinalAction(getCompleteTask())
-                        .withConsumer(consumer)
+                        .withBatchAction(this::relight)
+                        .withConsumer(blockVector2 -> {
+                            final long start = CHUNK_TIMER.start();
+                            try {
+                                chunkConsumer.accept(blockVector2);
+                            } finally {
+                                CHUNK_TIMER.stop(start);
+                            }
+                        })
                         .unloadAfter(isUnloadAfter())
                         .withProgressSubscribers(getProgressSubscribers())
                         .forceSync(isForceSync())
@@ -243,34 +290,265 @@ public class BukkitQueueCoordinator extends BasicQueueCoordinator {
     }
 
     /**
-     * Set a block to the world. First tries WNA but defaults to normal block setting methods if that fails
+     * Collect the chunks to regenerate. Chunks of plot worlds are generated and populated by the generator of the plot area
+     * off the main thread before the queue starts, see {@link #generateAll()}. Other worlds, and augmented or partial
+     * plot areas, have no generator of their own to drive, as their terrain comes from the vanilla or another plugin's
+     * generator, so the region is regenerated by WorldEdit into a clipboard on the current thread, as before.
+     *
+     * @return clipboard holding the region regenerated by WorldEdit, or {@code null} if it is not needed
+     */
+    private @Nullable Clipboard prepareRegen() {
+        final BlockVector3 min;
+        final BlockVector3 max;
+        if (isRegen()) {
+            min = BlockVector3.at(getRegenStart()[0] << 4, getMinY(), getRegenStart()[1] << 4);
+            max = BlockVector3.at((getRegenEnd()[0] << 4) + 15, getMaxY(), (getRegenEnd()[1] << 4) + 15);
+        } else if (getRegenRegion() != null) {
+            min = getRegenRegion().getMinimumPoint();
+            max = getRegenRegion().getMaximumPoint();
+        } else {
+            return null;
+        }
+        this.regenMin = min;
+        this.regenMax = max;
+        final CuboidRegion region = new CuboidRegion(min, max);
+        this.regenChunks.addAll(region.getChunks());
+        final PlotArea area = PlotSquared.get().getPlotAreaManager().getApplicablePlotArea(
+                Location.at(getWorld().getName(), min.getX(), min.getY(), min.getZ()));
+        if (area != null && area.getType() == PlotAreaType.NORMAL && area.getGenerator() != null) {
+            this.generatorArea = area;
+            return null;
+        }
+        final Clipboard clipboard = new BlockArrayClipboard(region);
+        clipboard.setOrigin(min);
+        getWorld().regenerate(region, clipboard);
+        return clipboard;
+    }
+
+    /**
+     * Generate all chunks to regenerate asynchronously, using up to {@link #GENERATION_WORKERS} async tasks that each take
+     * the next chunk until none are left. Chunks that fail to generate are logged and skipped.
+     *
+     * @return future completing once every chunk has been generated
+     */
+    private @NonNull CompletableFuture<Void> generateAll() {
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+        final int workers = Math.min(GENERATION_WORKERS, this.toGenerate.size());
+        if (workers == 0) {
+            done.complete(null);
+            return done;
+        }
+        final AtomicInteger running = new AtomicInteger(workers);
+        for (int i = 0; i < workers; i++) {
+            TaskManager.runTaskAsync(() -> {
+                BlockVector2 chunk;
+                while ((chunk = this.toGenerate.poll()) != null) {
+                    try {
+                        this.generated.put(chunk, generate(chunk));
+                    } catch (final Throwable throwable) {
+                        LOGGER.error("Failed to generate chunk {} in {}", chunk, getWorld().getName(), throwable);
+                    }
+                }
+                if (running.decrementAndGet() == 0) {
+                    done.complete(null);
+                }
+            });
+        }
+        return done;
+    }
+
+    private ChunkGenerationBuffer.@NonNull GeneratedChunk generate(final @NonNull BlockVector2 blockVector2) {
+        return ChunkGenerationBuffer.generate(
+                this.generatorArea.getGenerator(),
+                this.generatorArea,
+                getWorld().getName(),
+                blockVector2.getX(),
+                blockVector2.getZ(),
+                getMinLayer(),
+                getMaxLayer()
+        );
+    }
+
+    /**
+     * Read the blocks of a chunk regenerated by WorldEdit, in the section layout of {@link ChunkGenerationBuffer}.
+     */
+    private @Nullable BaseBlock @NonNull [][] readClipboard(
+            final @NonNull Clipboard clipboard,
+            final @NonNull BlockVector2 blockVector2
+    ) {
+        final BaseBlock[][] sections = new BaseBlock[getMaxLayer() - getMinLayer() + 1][];
+        final BlockVector3 min = clipboard.getMinimumPoint();
+        final BlockVector3 max = clipboard.getMaximumPoint();
+        final int sx = blockVector2.getX() << 4;
+        final int sz = blockVector2.getZ() << 4;
+        for (int layer = 0; layer < sections.length; layer++) {
+            final int sy = (layer + getMinLayer()) << 4;
+            if (sy > max.getY() || sy + 15 < min.getY()) {
+                continue;
+            }
+            final BaseBlock[] section = new BaseBlock[4096];
+            for (int j = 0; j < 4096; j++) {
+                final BlockVector3 position = BlockVector3.at(sx + ChunkUtil.getX(j), sy + ChunkUtil.getY(0, j), sz + ChunkUtil.getZ(j));
+                if (position.containedWithin(min, max)) {
+                    section[j] = clipboard.getFullBlock(position);
+                }
+            }
+            sections[layer] = section;
+        }
+        return sections;
+    }
+
+    /**
+     * Write the regenerated blocks of a chunk within the regeneration bounds. Positions without a regenerated block become
+     * air, and positions the queue writes to afterwards are skipped.
+     */
+    private void applyRegenerated(
+            final @Nullable BaseBlock @NonNull [][] sections,
+            final @Nullable LocalChunk localChunk,
+            final @NonNull BlockVector2 blockVector2
+    ) {
+        final int sx = blockVector2.getX() << 4;
+        final int sz = blockVector2.getZ() << 4;
+        for (int layer = 0; layer < sections.length; layer++) {
+            if (localChunk != null && localChunk.getFills()[layer] != null) {
+                continue;
+            }
+            final BaseBlock[] section = sections[layer];
+            final int sy = (layer + getMinLayer()) << 4;
+            if (sy > this.regenMax.getY() || sy + 15 < this.regenMin.getY()) {
+                continue;
+            }
+            // Section indices of snapshots start at the lowest section of the world
+            if (section == null && getSnapshot(blockVector2).isSectionEmpty(layer)) {
+                continue;
+            }
+            for (int j = 0; j < 4096; j++) {
+                if (localChunk != null && localChunk.isSet(layer, j)) {
+                    continue;
+                }
+                final int lx = ChunkUtil.getX(j);
+                final int lz = ChunkUtil.getZ(j);
+                final int x = sx + lx;
+                final int y = sy + ChunkUtil.getY(0, j);
+                final int z = sz + lz;
+                if (x < this.regenMin.getX() || x > this.regenMax.getX() || y < this.regenMin.getY()
+                        || y > this.regenMax.getY() || z < this.regenMin.getZ() || z > this.regenMax.getZ()) {
+                    continue;
+                }
+                BaseBlock block = section == null ? null : section.length == 1 ? section[0] : section[j];
+                if (block == null) {
+                    block = AIR;
+                }
+                final boolean edge = Settings.QUEUE.UPDATE_EDGES && isEdgeRegen(lx, lz, blockVector2);
+                setWorldBlock(x, y, z, block, blockVector2, edge);
+            }
+        }
+    }
+
+    /**
+     * Spawn the entities placed while populating a regenerated chunk that are within the regeneration bounds.
+     */
+    private void applyPopulatedEntities(final @NonNull Map<com.sk89q.worldedit.util.Location, BaseEntity> entities) {
+        entities.forEach((location, entity) -> {
+            if (location.toVector().toBlockPoint().containedWithin(this.regenMin, this.regenMax)) {
+                getWorld().createEntity(location, entity);
+            }
+        });
+    }
+
+    /**
+     * Write the sections of a chunk that are filled entirely. Air fills of sections that are already empty are skipped,
+     * and only blocks on the boundary of a section need the edge check. Blocks set individually are skipped, as they
+     * are written afterwards.
+     */
+    private void applyFills(final @NonNull LocalChunk localChunk, final @NonNull BlockVector2 blockVector2) {
+        final Pattern[] fills = localChunk.getFills();
+        final int sx = blockVector2.getX() << 4;
+        final int sz = blockVector2.getZ() << 4;
+        for (int layer = 0; layer < fills.length; layer++) {
+            final Pattern fill = fills[layer];
+            if (fill == null) {
+                continue;
+            }
+            final BaseBlock constant = fill instanceof BaseBlock block ? block : null;
+            final BaseBlock[] blocksLayer = localChunk.getBaseblocks()[layer];
+            if (constant != null && constant.getBlockType().getMaterial().isAir() && blocksLayer == null) {
+                // Section indices of snapshots start at the lowest section of the world
+                if (getSnapshot(blockVector2).isSectionEmpty(layer)) {
+                    continue;
+                }
+            }
+            final int section = layer + localChunk.getMinSection();
+            for (int j = 0; j < 4096; j++) {
+                if (blocksLayer != null && blocksLayer[j] != null) {
+                    continue;
+                }
+                final int lx = ChunkUtil.getX(j);
+                final int lz = ChunkUtil.getZ(j);
+                final int x = sx + lx;
+                final int y = ChunkUtil.getY(section, j);
+                final int z = sz + lz;
+                final int ly = y & 15;
+                final boolean boundary = lx == 0 || lx == 15 || ly == 0 || ly == 15 || lz == 0 || lz == 15;
+                final boolean edge = boundary && Settings.QUEUE.UPDATE_EDGES
+                        && isEdge(section, lx, ly, lz, blockVector2, localChunk);
+                setWorldBlock(x, y, z, constant != null ? constant : PatternUtil.apply(fill, x, y, z), blockVector2, edge);
+            }
+        }
+    }
+
+    /**
+     * Write the biomes of a chunk, one call per 4x4x4 biome cell, and resend the chunk once if any biome was set.
+     */
+    private void applyBiomes(final @NonNull LocalChunk localChunk, final @NonNull BlockVector2 blockVector2) {
+        final BiomeType[][] biomes = localChunk.getBiomes();
+        final org.bukkit.World world = getBukkitWorld();
+        final int sx = blockVector2.getX() << 4;
+        final int sz = blockVector2.getZ() << 4;
+        BiomeType last = null;
+        Biome adapted = null;
+        boolean changed = false;
+        for (int layer = 0; layer < biomes.length; layer++) {
+            final BiomeType[] biomesLayer = biomes[layer];
+            if (biomesLayer == null) {
+                continue;
+            }
+            final int sy = (layer + localChunk.getMinSection()) << 4;
+            for (int index = 0; index < biomesLayer.length; index++) {
+                final BiomeType biome = biomesLayer[index];
+                if (biome == null) {
+                    continue;
+                }
+                if (biome != last) {
+                    last = biome;
+                    adapted = BukkitAdapter.adapt(biome);
+                }
+                world.setBiome(sx + ((index & 3) << 2), sy + ((index >> 4) << 2), sz + (((index >> 2) & 3) << 2), adapted);
+                changed = true;
+            }
+        }
+        if (changed) {
+            world.refreshChunk(blockVector2.getX(), blockVector2.getZ());
+        }
+    }
+
+    /**
+     * Set a block to the world. First tries WNA but defaults to normal block setting methods if that fails. If the world
+     * supports bulk relighting, lighting is not updated here. The sections to relight are recorded instead and relit
+     * once per batch of chunks. Otherwise, lighting is updated with the write.
      */
     @SuppressWarnings("unused")
     private void setWorldBlock(int x, int y, int z, @NonNull BaseBlock block, @NonNull BlockVector2 blockVector2, boolean edge) {
         try {
-            BlockVector3 loc = BlockVector3.at(x, y, z);
-            boolean lighting = false;
-            switch (getLightingMode()) {
-                case NONE:
-                    break;
-                case PLACEMENT:
-                    lighting = block.getBlockType().getMaterial().getLightValue() > 0;
-                    break;
-                case REPLACEMENT:
-                    lighting = block.getBlockType().getMaterial().getLightValue() > 0
-                            || getWorld().getBlock(loc).getBlockType().getMaterial().getLightValue() > 0;
-                    break;
-                default:
-                    // Can only be "all"
-                    lighting = true;
-            }
-            SideEffectSet sideEffectSet;
-            if (lighting) {
-                sideEffectSet = getSideEffectSet(edge ? SideEffectState.EDGE_LIGHTING : SideEffectState.LIGHTING);
-            } else {
-                sideEffectSet = getSideEffectSet(edge ? SideEffectState.EDGE : SideEffectState.NONE);
+            SideEffectState state = edge ? SideEffectState.EDGE : SideEffectState.NONE;
+            if (getSideEffectSet() == null && getLightingMode() != LightingMode.NONE) {
+                if (BULK_RELIGHT) {
+                    markRelight(x, y, z, block, blockVector2);
+                } else if (needsRelight(x, y, z, block, blockVector2)) {
+                    state = edge ? SideEffectState.EDGE_LIGHTING : SideEffectState.LIGHTING;
+                }
             }
-            getWorld().setBlock(loc, block, sideEffectSet);
+            getWorld().setBlock(BlockVector3.at(x, y, z), block, getSideEffectSet(state));
         } catch (WorldEditException ignored) {
             // Fallback to not so nice method
             BlockData blockData = BukkitAdapter.adapt(block);
@@ -301,6 +579,94 @@ public class BukkitQueueCoordinator extends BasicQueueCoordinator {
         }
     }
 
+    /**
+     * Record the section of a block write for relighting if the {@link LightingMode} requires it. Blocks on a face of
+     * their section also mark the adjacent section, which may belong to a neighbouring chunk.
+     */
+    private void markRelight(int x, int y, int z, @NonNull BaseBlock block, @NonNull BlockVector2 blockVector2) {
+        final int index = (y >> 4) - getMinLayer();
+        final int lx = x & 15;
+        final int ly = y & 15;
+        final int lz = z & 15;
+        final boolean face = lx == 0 || lx == 15 || ly == 0 || ly == 15 || lz == 0 || lz == 15;
+        final BitSet sections = relightSections.get(blockVector2);
+        // Inner blocks of a section that is relit anyway cannot add anything
+        if (sections != null && sections.get(index) && !face) {
+            return;
+        }
+        if (!needsRelight(x, y, z, block, blockVector2)) {
+            return;
+        }
+        markSection(blockVector2, index);
+        if (lx == 0) {
+            markSection(blockVector2.withX(blockVector2.getX() - 1), index);
+        } else if (lx == 15) {
+            markSection(blockVector2.withX(blockVector2.getX() + 1), index);
+        }
+        if (lz == 0) {
+            markSection(blockVector2.withZ(blockVector2.getZ() - 1), index);
+        } else if (lz == 15) {
+            markSection(blockVector2.withZ(blockVector2.getZ() + 1), index);
+        }
+        if (ly == 0 && index > 0) {
+            markSection(blockVector2, index - 1);
+        } else if (ly == 15 && index < getMaxLayer() - getMinLayer()) {
+            markSection(blockVector2, index + 1);
+        }
+    }
+
+    /**
+     * Get whether a block write affects lighting according to the {@link LightingMode}.
+     */
+    private boolean needsRelight(int x, int y, int z, @NonNull BaseBlock block, @NonNull BlockVector2 blockVector2) {
+        return switch (getLightingMode()) {
+            case NONE -> false;
+            case PLACEMENT -> block.getBlockType().getMaterial().getLightValue() > 0;
+            case REPLACEMENT -> block.getBlockType().getMaterial().getLightValue() > 0 || BukkitAdapter
+                    .adapt(getSnapshot(blockVector2).getBlockData(x & 15, y, z & 15))
+                    .getBlockType()
+                    .getMaterial()
+                    .getLightValue() > 0;
+            default -> true;
+        };
+    }
+
+    private void markSection(@NonNull BlockVector2 blockVector2, int index) {
+        relightSections.computeIfAbsent(blockVector2, key -> new BitSet()).set(index);
+    }
+
+    /**
+     * Relight every chunk with sections recorded since the last batch in a single bulk relight. Sections are only
+     * recorded if the world supports bulk relighting.
+     */
+    private void relight() {
+        snapshot = null;
+        snapshotChunk = null;
+        if (relightSections.isEmpty()) {
+            return;
+        }
+        final List<BlockVector2> chunks = new ArrayList<>(relightSections.keySet());
+        relightSections.clear();
+        try {
+            getWorld().fixLighting(chunks);
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to relight {} chunks in {}", chunks.size(), getWorld().getName(), e);
+        }
+    }
+
+    /**
+     * Get a snapshot of the chunk currently being written, taken when it is first requested for the chunk.
+     */
+    private @NonNull ChunkSnapshot getSnapshot(@NonNull BlockVector2 blockVector2) {
+        if (snapshot == null || !blockVector2.equals(snapshotChunk)) {
+            snapshot = getBukkitWorld()
+                    .getChunkAt(blockVector2.getX(), blockVector2.getZ())
+                    .getChunkSnapshot(false, false, false);
+            snapshotChunk = blockVector2;
+        }
+        return snapshot;
+    }
+
     private org.bukkit.World getBukkitWorld() {
         if (bukkitWorld == null) {
             bukkitWorld = Bukkit.getWorld(getWorld().getName());
@@ -315,80 +681,81 @@ public class BukkitQueueCoordinator extends BasicQueueCoordinator {
         }
         if (x == 0) {
             LocalChunk localChunkX = getBlockChunks().get(blockVector2.withX(blockVector2.getX() - 1));
-            if (localChunkX == null || localChunkX.getBaseblocks()[layerIndex] == null ||
-                    localChunkX.getBaseblocks()[layerIndex][ChunkUtil.getJ(15, y, z)] != null) {
+            if (localChunkX == null || !localChunkX.hasLayer(layerIndex) ||
+                    localChunkX.isSet(layerIndex, ChunkUtil.getJ(15, y, z))) {
                 return true;
             }
         } else if (x == 15) {
             LocalChunk localChunkX = getBlockChunks().get(blockVector2.withX(blockVector2.getX() + 1));
-            if (localChunkX == null || localChunkX.getBaseblocks()[layerIndex] == null ||
-                    localChunkX.getBaseblocks()[layerIndex][ChunkUtil.getJ(0, y, z)] != null) {
+            if (localChunkX == null || !localChunkX.hasLayer(layerIndex) ||
+                    localChunkX.isSet(layerIndex, ChunkUtil.getJ(0, y, z))) {
                 return true;
             }
         }
         if (z == 0) {
             LocalChunk localChunkZ = getBlockChunks().get(blockVector2.withZ(blockVector2.getZ() - 1));
-            if (localChunkZ == null || localChunkZ.getBaseblocks()[layerIndex] == null ||
-                    localChunkZ.getBaseblocks()[layerIndex][ChunkUtil.getJ(x, y, 15)] != null) {
+            if (localChunkZ == null || !localChunkZ.hasLayer(layerIndex) ||
+                    localChunkZ.isSet(layerIndex, ChunkUtil.getJ(x, y, 15))) {
                 return true;
             }
         } else if (z == 15) {
             LocalChunk localChunkZ = getBlockChunks().get(blockVector2.withZ(blockVector2.getZ() + 1));
-            if (localChunkZ == null || localChunkZ.getBaseblocks()[layerIndex] == null ||
-                    localChunkZ.getBaseblocks()[layerIndex][ChunkUtil.getJ(x, y, 0)] != null) {
+            if (localChunkZ == null || !localChunkZ.hasLayer(layerIndex) ||
+                    localChunkZ.isSet(layerIndex, ChunkUtil.getJ(x, y, 0))) {
                 return true;
             }
         }
         if (y == 0) {
-            if (localChunk.getBaseblocks()[layerIndex - 1] == null ||
-                    localChunk.getBaseblocks()[layerIndex][ChunkUtil.getJ(x, 15, z)] != null) {
+            if (!localChunk.hasLayer(layerIndex - 1) ||
+                    localChunk.isSet(layerIndex, ChunkUtil.getJ(x, 15, z))) {
                 return true;
             }
         } else if (y == 15) {
-            if (localChunk.getBaseblocks()[layerIndex + 1] == null ||
-                    localChunk.getBaseblocks()[layerIndex][ChunkUtil.getJ(x, 0, z)] != null) {
+            if (!localChunk.hasLayer(layerIndex + 1) ||
+                    localChunk.isSet(layerIndex, ChunkUtil.getJ(x, 0, z))) {
                 return true;
             }
         }
-        BaseBlock[] baseBlocks = localChunk.getBaseblocks()[layerIndex];
-        if (x > 0 && baseBlocks[ChunkUtil.getJ(x - 1, y, z)] == null) {
+        if (x > 0 && !localChunk.isSet(layerIndex, ChunkUtil.getJ(x - 1, y, z))) {
             return true;
         }
-        if (x < 15 && baseBlocks[ChunkUtil.getJ(x + 1, y, z)] == null) {
+        if (x < 15 && !localChunk.isSet(layerIndex, ChunkUtil.getJ(x + 1, y, z))) {
             return true;
         }
-        if (y > 0 && baseBlocks[ChunkUtil.getJ(x, y - 1, z)] == null) {
+        if (y > 0 && !localChunk.isSet(layerIndex, ChunkUtil.getJ(x, y - 1, z))) {
             return true;
         }
-        if (y < 15 && baseBlocks[ChunkUtil.getJ(x, y + 1, z)] == null) {
+        if (y < 15 && !localChunk.isSet(layerIndex, ChunkUtil.getJ(x, y + 1, z))) {
             return true;
         }
-        if (z > 0 && baseBlocks[ChunkUtil.getJ(x, y, z - 1)] == null) {
+        if (z > 0 && !localChunk.isSet(layerIndex, ChunkUtil.getJ(x, y, z - 1))) {
             return true;
         }
-        return z < 15 && baseBlocks[ChunkUtil.getJ(x, y, z + 1)] == null;
+        return z < 15 && !localChunk.isSet(layerIndex, ChunkUtil.getJ(x, y, z + 1));
     }
 
     private boolean isEdgeRegen(int x, int z, BlockVector2 blockVector2) {
         if (x == 0) {
-            LocalChunk localChunkX = getBlockChunks().get(blockVector2.withX(blockVector2.getX() - 1));
-            if (localChunkX == null) {
+            if (isUnwritten(blockVector2.withX(blockVector2.getX() - 1))) {
                 return true;
             }
         } else if (x == 15) {
-            LocalChunk localChunkX = getBlockChunks().get(blockVector2.withX(blockVector2.getX() + 1));
-            if (localChunkX == null) {
+            if (isUnwritten(blockVector2.withX(blockVector2.getX() + 1))) {
                 return true;
             }
         }
         if (z == 0) {
-            return getBlockChunks().get(blockVector2.withZ(blockVector2.getZ() - 1)) == null;
+            return isUnwritten(blockVector2.withZ(blockVector2.getZ() - 1));
         } else if (z == 15) {
-            return getBlockChunks().get(blockVector2.withZ(blockVector2.getZ() + 1)) == null;
+            return isUnwritten(blockVector2.withZ(blockVector2.getZ() + 1));
         }
         return false;
     }
 
+    private boolean isUnwritten(BlockVector2 blockVector2) {
+        return getBlockChunks().get(blockVector2) == null && !regenChunks.contains(blockVector2);
+    }
+
     private SideEffectSet getSideEffectSet(SideEffectState state) {
         if (getSideEffectSet() != null) {
             return getSideEffectSet();
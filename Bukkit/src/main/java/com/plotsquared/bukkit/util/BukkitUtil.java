@@ -29,6 +29,7 @@ import com.plotsquared.core.location.Location;
 import com.plotsquared.core.player.PlotPlayer;
 import com.plotsquared.core.plot.PlotArea;
 import com.plotsquared.core.util.BlockUtil;
+import com.plotsquared.core.util.ChunkSnapshot;
 import com.plotsquared.core.util.MathMan;
 import com.plotsquared.core.util.PlayerManager;
 import com.plotsquared.core.util.StringComparison;
@@ -37,7 +38,9 @@ import com.plotsquared.core.util.task.TaskManager;
 import com.sk89q.worldedit.bukkit.BukkitAdapter;
 import com.sk89q.worldedit.bukkit.BukkitWorld;
 import com.sk89q.worldedit.math.BlockVector2;
+import com.sk89q.worldedit.math.BlockVector3;
 import com.sk89q.worldedit.world.biome.BiomeType;
+import com.sk89q.worldedit.world.block.BaseBlock;
 import com.sk89q.worldedit.world.block.BlockCategories;
 import com.sk89q.worldedit.world.block.BlockState;
 import com.sk89q.worldedit.world.block.BlockType;
@@ -95,9 +98,12 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Semaphore;
 import java.util.function.Consumer;
 import java.util.function.IntConsumer;
@@ -233,6 +239,43 @@ public class BukkitUtil extends WorldUtil {
         return BukkitAdapter.adapt(Objects.requireNonNull(getWorld(world)).getBiome(x, z));
     }
 
+    @Override
+    public @NonNull CompletableFuture<@Nullable ChunkSnapshot> getChunkSnapshot(
+            final @NonNull String world,
+            final @NonNull BlockVector2 chunk,
+            final boolean tileEntities
+    ) {
+        final World bukkitWorld = getWorld(world);
+        if (bukkitWorld == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        final int minY = com.plotsquared.bukkit.util.BukkitWorld.getMinWorldHeight(bukkitWorld);
+        final int maxY = com.plotsquared.bukkit.util.BukkitWorld.getMaxWorldHeight(bukkitWorld) - 1;
+        final CompletableFuture<ChunkSnapshot> future = new CompletableFuture<>();
+        PaperLib.getChunkAtAsync(bukkitWorld, chunk.getX(), chunk.getZ(), false).whenComplete((loaded, throwable) -> {
+            if (throwable != null) {
+                future.completeExceptionally(throwable);
+            } else if (loaded == null) {
+                future.complete(null);
+            } else {
+                // Snapshots have to be taken on the main thread, reading them is thread safe
+                ensureMainThread(c -> {
+                    try {
+                        future.complete(new BukkitChunkSnapshot(
+                                c.getChunkSnapshot(false, true, false),
+                                tileEntities ? getTileEntities(c) : Map.of(),
+                                minY,
+                                maxY
+                        ));
+                    } catch (final Throwable t) {
+                        future.completeExceptionally(t);
+                    }
+                }, loaded);
+            }
+        });
+        return future;
+    }
+
     @Override
     public void getHighestBlock(final @NonNull String world, final int x, final int z, final @NonNull IntConsumer result) {
         ensureLoaded(world, x, z, chunk -> {
@@ -585,4 +628,59 @@ public class BukkitUtil extends WorldUtil {
         return chunks;
     }
 
+    /**
+     * Read the tile entities of a loaded chunk with their data, keyed by their chunk relative position.
+     */
+    private static @NonNull Map<BlockVector3, BaseBlock> getTileEntities(final @NonNull Chunk chunk) {
+        final com.sk89q.worldedit.world.World world = BukkitAdapter.adapt(chunk.getWorld());
+        final Map<BlockVector3, BaseBlock> tiles = new HashMap<>();
+        for (final org.bukkit.block.BlockState tile : chunk.getTileEntities()) {
+            tiles.put(
+                    BlockVector3.at(tile.getX() & 15, tile.getY(), tile.getZ() & 15),
+                    world.getFullBlock(BlockVector3.at(tile.getX(), tile.getY(), tile.getZ()))
+            );
+        }
+        return tiles;
+    }
+
+    private record BukkitChunkSnapshot(
+            org.bukkit.ChunkSnapshot snapshot,
+            Map<BlockVector3, BaseBlock> tiles,
+            int minY,
+            int maxY
+    ) implements ChunkSnapshot {
+
+        @Override
+        public int getMinY() {
+            return this.minY;
+        }
+
+        @Override
+        public int getMaxY() {
+            return this.maxY;
+        }
+
+        @Override
+        public @NonNull BlockState getBlock(final int x, final int y, final int z) {
+            return BukkitAdapter.adapt(this.snapshot.getBlockData(x, y, z));
+        }
+
+        @Override
+        public @NonNull BaseBlock getFullBlock(final int x, final int y, final int z) {
+            if (!this.tiles.isEmpty()) {
+                final BaseBlock tile = this.tiles.get(BlockVector3.at(x, y, z));
+                if (tile != null) {
+                    return tile;
+                }
+            }
+            return getBlock(x, y, z).toBaseBlock();
+        }
+
+        @Override
+        public @NonNull BiomeType getBiome(final int x, final int y, final int z) {
+            return BukkitAdapter.adapt(this.snapshot.getBiome(x, y, z));
+        }
+
+    }
+
 }
@@ -0,0 +1,393 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.bukkit.util;
+
+import com.plotsquared.core.PlotSquared;
+import com.plotsquared.core.plot.Plot;
+import com.plotsquared.core.plot.PlotArea;
+import com.plotsquared.core.plot.PlotId;
+import org.bukkit.Bukkit;
+import org.bukkit.NamespacedKey;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Origins of entities tracked by PlotSquared, keyed by their runtime entity id. An entity can have an origin
+ * position, the block it was first seen at, and an origin plot, the plot it was spawned or primed in.
+ * <p>
+ * The origins are kept in an open addressing table of primitive columns, so looking them up neither allocates nor
+ * goes through the synchronised Bukkit metadata store. Entries have to be removed once the entity is removed from
+ * its world. Runtime ids change when an entity is loaded again, so the origins of entities in unloaded chunks are
+ * moved to their persistent data container by {@link #persist(Entity)} and read back by {@link #restore(Entity)}.
+ * The table must only be accessed from the main thread.
+ *
+ * @since TODO
+ */
+public final class EntityOrigins {
+
+    // Entity ids are assigned from 1 upwards, so 0 marks a free slot
+    private static final int FREE = 0;
+    private static final int INITIAL_CAPACITY = 256;
+    private static final long NO_POSITION = Long.MIN_VALUE;
+    private static final NamespacedKey ORIGIN_WORLD = NamespacedKey.fromString("plotsquared:origin_world");
+    private static final NamespacedKey ORIGIN_POSITION = NamespacedKey.fromString("plotsquared:origin_position");
+    private static final NamespacedKey ORIGIN_AREA = NamespacedKey.fromString("plotsquared:origin_area");
+    private static final NamespacedKey ORIGIN_PLOT = NamespacedKey.fromString("plotsquared:origin_plot");
+
+    private static int[] ids = new int[INITIAL_CAPACITY];
+    private static long[] positions = new long[INITIAL_CAPACITY];
+    private static World[] worlds = new World[INITIAL_CAPACITY];
+    private static Plot[] plots = new Plot[INITIAL_CAPACITY];
+    private static int size;
+
+    private EntityOrigins() {
+    }
+
+    /**
+     * Get the number of tracked entities.
+     *
+     * @return number of entities with an origin
+     */
+    public static int size() {
+        return size;
+    }
+
+    /**
+     * Get whether an origin position has been recorded for an entity.
+     *
+     * @param entity entity
+     * @return {@code true} if the entity has an origin position
+     */
+    public static boolean hasPosition(final @NonNull Entity entity) {
+        final int slot = find(entity.getEntityId());
+        return slot >= 0 && worlds[slot] != null;
+    }
+
+    /**
+     * Record the current block position of an entity as its origin, unless it already has one.
+     *
+     * @param entity entity
+     */
+    public static void trackPosition(final @NonNull Entity entity) {
+        final int slot = insert(entity.getEntityId());
+        if (worlds[slot] == null) {
+            final org.bukkit.Location location = entity.getLocation();
+            worlds[slot] = location.getWorld();
+            positions[slot] = pack(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+        }
+    }
+
+    /**
+     * Get the world of the origin position of an entity.
+     *
+     * @param entity entity
+     * @return origin world, or {@code null} if no position has been recorded
+     */
+    public static @Nullable World getWorld(final @NonNull Entity entity) {
+        final int slot = find(entity.getEntityId());
+        return slot < 0 ? null : worlds[slot];
+    }
+
+    /**
+     * Get the origin position of an entity as packed block coordinates.
+     *
+     * @param entity entity
+     * @return packed position, see {@link #unpackX(long)}, {@link #unpackY(long)} and {@link #unpackZ(long)}, or
+     *         {@link Long#MIN_VALUE} if no position has been recorded
+     */
+    public static long getPosition(final @NonNull Entity entity) {
+        final int slot = find(entity.getEntityId());
+        return slot < 0 || worlds[slot] == null ? NO_POSITION : positions[slot];
+    }
+
+    /**
+     * Get the origin plot of an entity.
+     *
+     * @param entity entity
+     * @return origin plot, or {@code null} if none has been recorded
+     */
+    public static @Nullable Plot getPlot(final @NonNull Entity entity) {
+        final int slot = find(entity.getEntityId());
+        return slot < 0 ? null : plots[slot];
+    }
+
+    /**
+     * Set the origin plot of an entity, replacing any previous origin plot.
+     *
+     * @param entity entity
+     * @param plot   origin plot
+     */
+    public static void setPlot(final @NonNull Entity entity, final @NonNull Plot plot) {
+        final int slot = insert(entity.getEntityId());
+        plots[slot] = plot;
+    }
+
+    /**
+     * Set the origin plot of an entity if it does not have one yet.
+     *
+     * @param entity entity
+     * @param plot   origin plot
+     */
+    public static void setPlotIfAbsent(final @NonNull Entity entity, final @NonNull Plot plot) {
+        final int slot = insert(entity.getEntityId());
+        if (plots[slot] == null) {
+            plots[slot] = plot;
+        }
+    }
+
+    /**
+     * Forget the origins of an entity.
+     *
+     * @param entityId runtime id of the entity
+     */
+    public static void remove(final int entityId) {
+        final int slot = find(entityId);
+        if (slot >= 0) {
+            delete(slot);
+        }
+    }
+
+    /**
+     * Forget the origins of all entities whose origin position is in a world, e.g. because the world is unloaded.
+     *
+     * @param world world
+     */
+    public static void removeWorld(final @NonNull World world) {
+        for (int slot = 0; slot < ids.length; ) {
+            if (ids[slot] != FREE && worlds[slot] == world) {
+                // Deleting shifts a later entry into this slot, so it has to be checked again
+                delete(slot);
+            } else {
+                slot++;
+            }
+        }
+    }
+
+    /**
+     * Move the origins of an entity to its persistent data container and forget them, e.g. because its chunk is
+     * unloaded. Does nothing if the entity has no origins.
+     *
+     * @param entity entity
+     */
+    public static void persist(final @NonNull Entity entity) {
+        final int slot = find(entity.getEntityId());
+        if (slot < 0) {
+            return;
+        }
+        final PersistentDataContainer container = entity.getPersistentDataContainer();
+        if (worlds[slot] != null) {
+            container.set(ORIGIN_WORLD, PersistentDataType.STRING, worlds[slot].getName());
+            container.set(ORIGIN_POSITION, PersistentDataType.LONG, positions[slot]);
+        }
+        final Plot plot = plots[slot];
+        if (plot != null && plot.getArea() != null) {
+            container.set(ORIGIN_AREA, PersistentDataType.STRING, plot.getArea().toString());
+            container.set(ORIGIN_PLOT, PersistentDataType.STRING, plot.getId().toString());
+        }
+        delete(slot);
+    }
+
+    /**
+     * Read back the origins stored by {@link #persist(Entity)} once an entity is loaded again, and remove them from
+     * its persistent data container.
+     *
+     * @param entity entity
+     */
+    public static void restore(final @NonNull Entity entity) {
+        final PersistentDataContainer container = entity.getPersistentDataContainer();
+        final String worldName = container.get(ORIGIN_WORLD, PersistentDataType.STRING);
+        final String areaName = container.get(ORIGIN_AREA, PersistentDataType.STRING);
+        if (worldName == null && areaName == null) {
+            return;
+        }
+        if (worldName != null) {
+            final World world = Bukkit.getWorld(worldName);
+            final Long position = container.get(ORIGIN_POSITION, PersistentDataType.LONG);
+            if (world != null && position != null) {
+                final int slot = insert(entity.getEntityId());
+                worlds[slot] = world;
+                positions[slot] = position;
+            }
+            container.remove(ORIGIN_WORLD);
+            container.remove(ORIGIN_POSITION);
+        }
+        if (areaName != null) {
+            final PlotArea area = PlotSquared.get().getPlotAreaManager().getPlotAreaByString(areaName);
+            final String plotId = container.get(ORIGIN_PLOT, PersistentDataType.STRING);
+            final PlotId id = plotId == null ? null : PlotId.fromStringOrNull(plotId);
+            if (area != null && id != null) {
+                final Plot plot = area.getPlotAbs(id);
+                if (plot != null) {
+                    plots[insert(entity.getEntityId())] = plot;
+                }
+            }
+            container.remove(ORIGIN_AREA);
+            container.remove(ORIGIN_PLOT);
+        }
+    }
+
+    /**
+     * Forget the origins of entities that are no longer part of any world. Paper reports every removed entity, on
+     * Spigot entities that despawn without an event are only found by this sweep.
+     */
+    public static void removeDespawned() {
+        if (size == 0) {
+            return;
+        }
+        final int[] live = Bukkit.getWorlds().stream()
+                .flatMap(world -> world.getEntities().stream())
+                .mapToInt(Entity::getEntityId)
+                .sorted()
+                .toArray();
+        for (int slot = 0; slot < ids.length; ) {
+            if (ids[slot] != FREE && Arrays.binarySearch(live, ids[slot]) < 0) {
+                // Deleting shifts a later entry into this slot, so it has to be checked again
+                delete(slot);
+            } else {
+                slot++;
+            }
+        }
+    }
+
+    /**
+     * Pack block coordinates into a single long, using 26 bits for x and z and 12 bits for y.
+     *
+     * @param x block x
+     * @param y block y
+     * @param z block z
+     * @return packed coordinates
+     */
+    public static long pack(final int x, final int y, final int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+
+    public static int unpackX(final long packed) {
+        return (int) (packed >> 38);
+    }
+
+    public static int unpackY(final long packed) {
+        return (int) (packed << 52 >> 52);
+    }
+
+    public static int unpackZ(final long packed) {
+        return (int) (packed << 26 >> 38);
+    }
+
+    private static int slotOf(final int id, final int mask) {
+        // Entity ids are sequential, so spread them before masking
+        final int hash = id * 0x9E3779B9;
+        return (hash ^ hash >>> 16) & mask;
+    }
+
+    private static int find(final int id) {
+        final int mask = ids.length - 1;
+        for (int slot = slotOf(id, mask); ; slot = (slot + 1) & mask) {
+            final int current = ids[slot];
+            if (current == id) {
+                return slot;
+            }
+            if (current == FREE) {
+                return -1;
+            }
+        }
+    }
+
+    private static int insert(final int id) {
+        int mask = ids.length - 1;
+        int slot = slotOf(id, mask);
+        for (; ids[slot] != FREE; slot = (slot + 1) & mask) {
+            if (ids[slot] == id) {
+                return slot;
+            }
+        }
+        // Keep the load factor at or below one half
+        if ((size + 1) * 2 > ids.length) {
+            resize(ids.length * 2);
+            mask = ids.length - 1;
+            for (slot = slotOf(id, mask); ids[slot] != FREE; slot = (slot + 1) & mask) {
+            }
+        }
+        ids[slot] = id;
+        positions[slot] = NO_POSITION;
+        size++;
+        return slot;
+    }
+
+    private static void delete(int slot) {
+        final int mask = ids.length - 1;
+        size--;
+        // Shift back following entries of the same probe sequence, so that lookups never stop at a hole
+        for (int next = (slot + 1) & mask; ids[next] != FREE; next = (next + 1) & mask) {
+            final int home = slotOf(ids[next], mask);
+            if (((next - home) & mask) >= ((next - slot) & mask)) {
+                ids[slot] = ids[next];
+                positions[slot] = positions[next];
+                worlds[slot] = worlds[next];
+                plots[slot] = plots[next];
+                slot = next;
+            }
+        }
+        ids[slot] = FREE;
+        worlds[slot] = null;
+        plots[slot] = null;
+    }
+
+    private static void resize(final int capacity) {
+        final int[] oldIds = ids;
+        final long[] oldPositions = positions;
+        final World[] oldWorlds = worlds;
+        final Plot[] oldPlots = plots;
+        ids = new int[capacity];
+        positions = new long[capacity];
+        worlds = new World[capacity];
+        plots = new Plot[capacity];
+        final int mask = capacity - 1;
+        for (int old = 0; old < oldIds.length; old++) {
+            if (oldIds[old] == FREE) {
+                continue;
+            }
+            int slot = slotOf(oldIds[old], mask);
+            while (ids[slot] != FREE) {
+                slot = (slot + 1) & mask;
+            }
+            ids[slot] = oldIds[old];
+            positions[slot] = oldPositions[old];
+            worlds[slot] = oldWorlds[old];
+            plots[slot] = oldPlots[old];
+        }
+    }
+
+    /**
+     * Reset the table to its initial capacity.
+     */
+    public static void clear() {
+        ids = new int[INITIAL_CAPACITY];
+        positions = new long[INITIAL_CAPACITY];
+        worlds = new World[INITIAL_CAPACITY];
+        plots = new Plot[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+}
@@ -25,6 +25,7 @@ import com.plotsquared.core.PlotSquared;
 import com.plotsquared.core.util.task.PlotSquaredTask;
 import com.plotsquared.core.util.task.TaskManager;
 import com.plotsquared.core.util.task.TaskTime;
+import io.papermc.lib.PaperLib;
 import org.bukkit.Bukkit;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
@@ -62,6 +63,11 @@ public class BukkitTaskManager extends TaskManager {
         return bukkitPlotSquaredTask;
     }
 
+    @Override
+    public double getAverageTickTime() {
+        return PaperLib.isPaper() ? Bukkit.getAverageTickTime() : -1;
+    }
+
     @Override
     public PlotSquaredTask taskRepeatAsync(
             final @NonNull Runnable runnable,
@@ -37,7 +37,6 @@ import com.plotsquared.core.database.SQLManager;
 import com.plotsquared.core.database.SQLite;
 import com.plotsquared.core.generator.GeneratorWrapper;
 import com.plotsquared.core.generator.HybridPlotWorld;
-import com.plotsquared.core.generator.HybridUtils;
 import com.plotsquared.core.generator.IndependentPlotGenerator;
 import com.plotsquared.core.inject.factory.HybridPlotWorldFactory;
 import com.plotsquared.core.listener.PlotListener;
@@ -82,13 +81,9 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
-import java.nio.file.Files;
-import java.nio.file.StandardOpenOption;
 import java.sql.SQLException;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
@@ -297,11 +292,11 @@ public class PlotSquared {
     public void startExpiryTasks() {
         if (Settings.Enabled_Components.PLOT_EXPIRY) {
             ExpireManager expireManager = PlotSquared.platform().expireManager();
-            expireManager.runAutomatedTask();
             for (Settings.Auto_Clear settings : Settings.AUTO_CLEAR.getInstances()) {
                 ExpiryTask task = new ExpiryTask(settings, this.getPlotAreaManager());
                 expireManager.addTask(task);
             }
+            expireManager.runAutomatedTask();
         }
     }
 
@@ -399,42 +394,9 @@ public class PlotSquared {
         }
         getPlotAreaManager().addPlotArea(plotArea);
         plotArea.setupBorder();
-        if (!Settings.Enabled_Components.PERSISTENT_ROAD_REGEN) {
-            return;
+        if (plotArea instanceof HybridPlotWorld) {
+            TaskManager.runTaskAsync(() -> this.platform.hybridUtils().resumeRoadUpdate(plotArea));
         }
-        File file = new File(
-                this.platform.getDirectory() + File.separator + "persistent_regen_data_" + plotArea.getId()
-                        + "_" + plotArea.getWorldName());
-        if (!file.exists()) {
-            return;
-        }
-        TaskManager.runTaskAsync(() -> {
-            try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(file))) {
-                List<Object> list = (List<Object>) ois.readObject();
-                ArrayList<int[]> regionInts = (ArrayList<int[]>) list.get(0);
-                ArrayList<int[]> chunkInts = (ArrayList<int[]>) list.get(1);
-                HashSet<BlockVector2> regions = new HashSet<>();
-                Set<BlockVector2> chunks = new HashSet<>();
-                regionInts.forEach(l -> regions.add(BlockVector2.at(l[0], l[1])));
-                chunkInts.forEach(l -> chunks.add(BlockVector2.at(l[0], l[1])));
-                int height = (int) list.get(2);
-                LOGGER.info(
-                        "Incomplete road regeneration found. Restarting in world {} with height {}",
-                        plotArea.getWorldName(),
-                        height
-                );
-                LOGGER.info("- Regions: {}", regions.size());
-                LOGGER.info("- Chunks: {}", chunks.size());
-                HybridUtils.UPDATE = true;
-                PlotSquared.platform().hybridUtils().scheduleRoadUpdate(plotArea, regions, height, chunks);
-            } catch (IOException | ClassNotFoundException e) {
-                LOGGER.error("Error restarting road regeneration", e);
-            } finally {
-                if (!file.delete()) {
-                    LOGGER.error("Error deleting persistent_regen_data_{}. Please delete this file manually", plotArea.getId());
-                }
-            }
-        });
     }
 
     /**
@@ -467,7 +429,7 @@ public class PlotSquared {
         if (this.clustersTmp == null) {
             this.clustersTmp = new HashMap<>();
         }
-        this.clustersTmp.put(area.toString(), area.getClusters());
+        this.clustersTmp.put(area.toString(), new HashSet<>(area.getClusters()));
     }
 
     public Set<PlotCluster> getClusters(final @NonNull String world) {
@@ -1226,7 +1188,6 @@ public class PlotSquared {
     public void disable() {
         try {
             eventDispatcher.unregisterAll();
-            checkRoadRegenPersistence();
             // Validate that all data in the db is correct
             final HashSet<Plot> plots = new HashSet<>();
             try {
@@ -1243,44 +1204,6 @@ public class PlotSquared {
         }
     }
 
-    /**
-     * Handle road regen persistence
-     */
-    private void checkRoadRegenPersistence() {
-        if (!HybridUtils.UPDATE || !Settings.Enabled_Components.PERSISTENT_ROAD_REGEN || (
-                HybridUtils.regions.isEmpty() && HybridUtils.chunks.isEmpty())) {
-            return;
-        }
-        LOGGER.info("Road regeneration incomplete. Saving incomplete regions to disk");
-        LOGGER.info("- regions: {}", HybridUtils.regions.size());
-        LOGGER.info("- chunks: {}", HybridUtils.chunks.size());
-        ArrayList<int[]> regions = new ArrayList<>();
-        ArrayList<int[]> chunks = new ArrayList<>();
-        for (BlockVector2 r : HybridUtils.regions) {
-            regions.add(new int[]{r.getBlockX(), r.getBlockZ()});
-        }
-        for (BlockVector2 c : HybridUtils.chunks) {
-            chunks.add(new int[]{c.getBlockX(), c.getBlockZ()});
-        }
-        List<Object> list = new ArrayList<>();
-        list.add(regions);
-        list.add(chunks);
-        list.add(HybridUtils.height);
-        File file = new File(
-                this.platform.getDirectory() + File.separator + "persistent_regen_data_" + HybridUtils.area
-                        .getId() + "_" + HybridUtils.area.getWorldName());
-        if (file.exists() && !file.delete()) {
-            LOGGER.error("persistent_regene_data file already exists and could not be deleted");
-            return;
-        }
-        try (ObjectOutputStream oos = new ObjectOutputStream(
-                Files.newOutputStream(file.toPath(), StandardOpenOption.CREATE_NEW))) {
-            oos.writeObject(list);
-        } catch (IOException e) {
-            LOGGER.error("Error creating persistent_region_data file", e);
-        }
-    }
-
     /**
      * Set up the database connection.
      */
@@ -24,21 +24,33 @@ import com.plotsquared.core.configuration.caption.StaticCaption;
 import com.plotsquared.core.configuration.caption.TranslatableCaption;
 import com.plotsquared.core.player.PlotPlayer;
 import com.plotsquared.core.plot.world.PlotAreaManager;
+import com.plotsquared.core.plot.world.SinglePlotAreaManager;
+import com.plotsquared.core.plot.world.SinglePlotWorldLifecycleManager;
 import com.plotsquared.core.util.StringMan;
 import com.plotsquared.core.util.WorldUtil;
 import com.plotsquared.core.util.entity.EntityCategories;
 import com.plotsquared.core.util.entity.EntityCategory;
+import com.plotsquared.core.util.metrics.Metrics;
+import com.plotsquared.core.util.metrics.MetricsExporter;
 import com.plotsquared.core.util.query.PlotQuery;
+import com.plotsquared.core.util.task.ObjectTaskExecutor;
+import com.plotsquared.core.util.task.ObjectTaskRunnable;
+import com.plotsquared.core.util.task.TaskManager;
 import com.plotsquared.core.uuid.UUIDMapping;
 import com.sk89q.worldedit.world.entity.EntityType;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.TextComponent;
 import net.kyori.adventure.text.minimessage.tag.Tag;
 import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
@@ -51,6 +63,8 @@ import java.util.stream.Stream;
         permission = "plots.admin")
 public class Debug extends SubCommand {
 
+    private static final Logger LOGGER = LogManager.getLogger("PlotSquared/" + Debug.class.getSimpleName());
+
     private final PlotAreaManager plotAreaManager;
     private final WorldUtil worldUtil;
 
@@ -70,7 +84,7 @@ public class Debug extends SubCommand {
                     TranslatableCaption.of("commandconfig.command_syntax"),
                     TagResolver.resolver(
                             "value",
-                            Tag.inserting(Component.text("/plot debug <player | debug-players | entitytypes | msg>"))
+                            Tag.inserting(Component.text("/plot debug <player | debug-players | entitytypes | worlds | timings | tasks | msg>"))
                     )
             );
         }
@@ -92,6 +106,77 @@ public class Debug extends SubCommand {
             );
             return true;
         }
+        if (args.length > 0 && "worlds".equalsIgnoreCase(args[0])) {
+            if (!(this.plotAreaManager instanceof SinglePlotAreaManager)) {
+                player.sendMessage(StaticCaption.of("<prefix><gray>Plot worlds are not enabled.</gray>"));
+                return true;
+            }
+            final SinglePlotWorldLifecycleManager lifecycle =
+                    ((SinglePlotAreaManager) this.plotAreaManager).getArea().getLifecycleManager();
+            player.sendMessage(StaticCaption.of(String.format(
+                    "<prefix><gray>Loaded plot worlds: <gold>%d</gold>, prepared: <gold>%d</gold>, loads: <gold>%d</gold>, "
+                            + "idle unloads: <gold>%d</gold>, load time avg/max: <gold>%.1fms</gold>/<gold>%.1fms</gold></gray>",
+                    lifecycle.getLoadedWorldCount(),
+                    lifecycle.getPooledWorldCount(),
+                    lifecycle.getLoadCount(),
+                    lifecycle.getUnloadCount(),
+                    lifecycle.getAverageLoadMillis(),
+                    lifecycle.getMaxLoadMillis()
+            )));
+            return true;
+        }
+        if (args.length > 0 && "timings".equalsIgnoreCase(args[0])) {
+            if (args.length > 1 && "reset".equalsIgnoreCase(args[1])) {
+                Metrics.reset();
+                player.sendMessage(StaticCaption.of("<prefix><gray>Timings have been reset.</gray>"));
+                return true;
+            }
+            if (args.length > 1 && "export".equalsIgnoreCase(args[1])) {
+                TaskManager.runTaskAsync(() -> {
+                    try {
+                        final File file = MetricsExporter.export(new File(PlotSquared.platform().getDirectory(), "timings"));
+                        player.sendMessage(StaticCaption.of("<prefix><gray>Timings have been exported to <gold>"
+                                + file.getName() + "</gold>.</gray>"));
+                    } catch (IOException e) {
+                        LOGGER.error("Failed to export timings", e);
+                        player.sendMessage(StaticCaption.of("<prefix><red>Failed to export timings, see the console.</red>"));
+                    }
+                });
+                return true;
+            }
+            if (!Metrics.isEnabled()) {
+                player.sendMessage(StaticCaption.of("<prefix><gray>Timings are disabled in the settings.</gray>"));
+            }
+            player.sendMessage(StaticCaption.of("<prefix><gray>Timings of the last <gold>"
+                    + (System.currentTimeMillis() - Metrics.getRecordingSince()) / 1000 + "s</gold>:</gray>"));
+            for (final String line : MetricsExporter.toText()) {
+                player.sendMessage(StaticCaption.of("<gray>" + MINI_MESSAGE.escapeTags(line) + "</gray>"));
+            }
+            return true;
+        }
+        if (args.length > 0 && "tasks".equalsIgnoreCase(args[0])) {
+            final ObjectTaskExecutor executor = TaskManager.getPlatformImplementation().getObjectTaskExecutor();
+            final List<ObjectTaskRunnable<?>> jobs = executor.getJobs();
+            player.sendMessage(StaticCaption.of(String.format(
+                    "<prefix><gray>Object tasks: <gold>%d</gold>, budget: <gold>%.1fms</gold>, used: <gold>%.1fms</gold> per tick</gray>",
+                    jobs.size(),
+                    executor.getBudgetMillis(),
+                    executor.getOwnMillis()
+            )));
+            for (final ObjectTaskRunnable<?> job : jobs) {
+                player.sendMessage(StaticCaption.of(String.format(
+                        "<gray>- <gold>%s</gold> (%s): <gold>%d</gold> objects, <gold>%.0f</gold>/s, "
+                                + "slice <gold>%.1fms</gold>, used <gold>%.1fms</gold></gray>",
+                        MINI_MESSAGE.escapeTags(job.getName()),
+                        job.getPriority().name().toLowerCase(Locale.ROOT),
+                        job.getProcessed(),
+                        job.getThroughput(),
+                        job.getSliceMillis(),
+                        job.getSpentMillis()
+                )));
+            }
+            return true;
+        }
         if (args.length > 0 && "debug-players".equalsIgnoreCase(args[0])) {
             player.sendMessage(TranslatableCaption.of("debug.player_in_debugmode"));
             for (final PlotPlayer<?> pp : PlotPlayer.getDebugModePlayers()) {
@@ -185,7 +270,7 @@ public class Debug extends SubCommand {
 
     @Override
     public Collection<Command> tab(final PlotPlayer<?> player, String[] args, boolean space) {
-        return Stream.of("debug-players", "entitytypes")
+        return Stream.of("debug-players", "entitytypes", "worlds", "timings", "tasks")
                 .filter(value -> value.startsWith(args[0].toLowerCase(Locale.ENGLISH)))
                 .map(value -> new Command(null, false, value, "plots.admin", RequiredType.NONE, null) {
                 }).collect(Collectors.toList());
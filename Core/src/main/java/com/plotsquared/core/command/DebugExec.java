@@ -25,6 +25,7 @@ import com.plotsquared.core.configuration.caption.TranslatableCaption;
 import com.plotsquared.core.events.PlotFlagRemoveEvent;
 import com.plotsquared.core.events.Result;
 import com.plotsquared.core.generator.HybridUtils;
+import com.plotsquared.core.generator.RoadRegenerationJob;
 import com.plotsquared.core.player.PlotPlayer;
 import com.plotsquared.core.plot.Plot;
 import com.plotsquared.core.plot.PlotArea;
@@ -43,7 +44,7 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.LinkedHashSet;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.stream.Collectors;
@@ -203,24 +204,24 @@ public class DebugExec extends SubCommand {
                         );
                         return false;
                     }
-                    boolean result;
-                    if (HybridUtils.regions != null) {
-                        result = this.hybridUtils.scheduleRoadUpdate(area, HybridUtils.regions, 0, new LinkedHashSet<>());
-                    } else {
-                        result = this.hybridUtils.scheduleRoadUpdate(area, 0);
-                    }
-                    if (!result) {
+                    if (!this.hybridUtils.scheduleRoadUpdate(area, 0)) {
                         player.sendMessage(TranslatableCaption.of("debugexec.mass_schematic_update_in_progress"));
                         return false;
                     }
                     return true;
                 }
                 case "stop-rgar" -> {
-                    if (!HybridUtils.UPDATE) {
+                    Collection<RoadRegenerationJob> jobs = this.hybridUtils.getRoadUpdates();
+                    if (args.length > 1) {
+                        PlotArea area = this.plotAreaManager.getPlotAreaByString(args[1]);
+                        RoadRegenerationJob job = area == null ? null : this.hybridUtils.getRoadUpdate(area);
+                        jobs = job == null ? Collections.emptyList() : Collections.singletonList(job);
+                    }
+                    if (jobs.isEmpty()) {
                         player.sendMessage(TranslatableCaption.of("debugexec.task_not_running"));
                         return false;
                     }
-                    HybridUtils.UPDATE = false;
+                    jobs.forEach(RoadRegenerationJob::cancel);
                     player.sendMessage(TranslatableCaption.of("debugexec.task_cancelled"));
                     return true;
                 }
@@ -53,12 +53,13 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -413,6 +414,43 @@ public class ListCmd extends SubCommand {
     public void displayPlots(final PlotPlayer<?> player, List<Plot> plots, int pageSize, int page, String[] args) {
         // Header
         plots.removeIf(plot -> !plot.isBasePlot());
+        // Resolve the names of every player shown on the page in one request, instead of one request per row
+        final int totalPages = plots.size() / pageSize;
+        final int from = Math.max(0, Math.min(page, totalPages)) * pageSize;
+        final Set<UUID> uuids = new HashSet<>();
+        for (final Plot plot : plots.subList(from, Math.min(plots.size(), from + pageSize))) {
+            uuids.addAll(plot.getOwners());
+            uuids.addAll(plot.getTrusted());
+            uuids.addAll(plot.getMembers());
+        }
+        uuids.remove(null);
+        uuids.remove(DBFunc.EVERYONE);
+        uuids.remove(DBFunc.SERVER);
+        PlotSquared.get().getImpromptuUUIDPipeline().getNames(uuids, Settings.UUID.BLOCKING_TIMEOUT)
+                .whenComplete((mappings, throwable) -> {
+                    final Map<UUID, String> names = new HashMap<>();
+                    if (throwable != null) {
+                        if (throwable instanceof TimeoutException || throwable.getCause() instanceof TimeoutException) {
+                            player.sendMessage(TranslatableCaption.of("players.fetching_players_timeout"));
+                        } else {
+                            player.sendMessage(
+                                    TranslatableCaption.of("errors.invalid_player"),
+                                    TagResolver.resolver("value", Tag.inserting(Component.text(StringMan.join(uuids, ", "))))
+                            );
+                        }
+                    } else {
+                        for (final UUIDMapping mapping : mappings) {
+                            names.put(mapping.uuid(), mapping.username());
+                        }
+                    }
+                    displayPlots(player, plots, pageSize, page, args, names);
+                });
+    }
+
+    private void displayPlots(
+            final PlotPlayer<?> player, final List<Plot> plots, final int pageSize, final int page,
+            final String[] args, final Map<UUID, String> names
+    ) {
         this.paginate(player, plots, pageSize, page, new RunnableVal3<>() {
             @Override
             public void run(Integer i, Plot plot, CaptionHolder caption) {
@@ -430,11 +468,11 @@ public class ListCmd extends SubCommand {
                 }
                 Component trusted = MINI_MESSAGE.deserialize(
                         TranslatableCaption.of("info.plot_info_trusted").getComponent(player),
-                        TagResolver.resolver("trusted", Tag.inserting(PlayerManager.getPlayerList(plot.getTrusted(), player)))
+                        TagResolver.resolver("trusted", Tag.inserting(PlayerManager.getPlayerList(plot.getTrusted(), player, names)))
                 );
                 Component members = MINI_MESSAGE.deserialize(
                         TranslatableCaption.of("info.plot_info_members").getComponent(player),
-                        TagResolver.resolver("members", Tag.inserting(PlayerManager.getPlayerList(plot.getMembers(), player)))
+                        TagResolver.resolver("members", Tag.inserting(PlayerManager.getPlayerList(plot.getMembers(), player, names)))
                 );
                 TagResolver.Builder finalResolver = TagResolver.builder();
                 finalResolver.tag(
@@ -470,50 +508,33 @@ public class ListCmd extends SubCommand {
                     );
                     builder.append(MINI_MESSAGE.deserialize(server, serverResolver));
                 } else {
-                    try {
-                        final List<UUIDMapping> names = PlotSquared.get().getImpromptuUUIDPipeline().getNames(plot.getOwners())
-                                .get(Settings.UUID.BLOCKING_TIMEOUT, TimeUnit.MILLISECONDS);
-                        for (final UUIDMapping uuidMapping : names) {
-                            PlotPlayer<?> pp = PlotSquared.platform().playerManager().getPlayerIfExists(uuidMapping.uuid());
-                            TagResolver resolver = TagResolver.builder()
-                                    .tag("prefix", Tag.inserting(Component.text(prefix)))
-                                    .tag("player", Tag.inserting(Component.text(uuidMapping.username())))
-                                    .build();
-                            if (pp != null) {
-                                builder.append(MINI_MESSAGE.deserialize(online, resolver));
-                            } else if (uuidMapping.username().equalsIgnoreCase("unknown")) {
-                                TagResolver unknownResolver = TagResolver.resolver(
-                                        "unknown",
-                                        Tag.inserting(TranslatableCaption.of("info.unknown").toComponent(player))
-                                );
-                                builder.append(MINI_MESSAGE.deserialize(unknown, unknownResolver));
-                            } else if (uuidMapping.uuid().equals(DBFunc.EVERYONE)) {
-                                TagResolver everyoneResolver = TagResolver.resolver(
-                                        "everyone",
-                                        Tag.inserting(TranslatableCaption.of("info.everyone").toComponent(player))
-                                );
-                                builder.append(MINI_MESSAGE.deserialize(everyone, everyoneResolver));
-                            } else {
-                                builder.append(MINI_MESSAGE.deserialize(offline, resolver));
-                            }
-                            prefix = ", ";
-                        }
-                    } catch (InterruptedException | ExecutionException e) {
-                        final StringBuilder playerBuilder = new StringBuilder();
-                        final Iterator<UUID> uuidIterator = plot.getOwners().iterator();
-                        while (uuidIterator.hasNext()) {
-                            final UUID uuid = uuidIterator.next();
-                            playerBuilder.append(uuid);
-                            if (uuidIterator.hasNext()) {
-                                playerBuilder.append(", ");
-                            }
+                    for (final UUID uuid : plot.getOwners()) {
+                        final String name = names.get(uuid);
+                        TagResolver resolver = TagResolver.builder()
+                                .tag("prefix", Tag.inserting(Component.text(prefix)))
+                                .tag("player", Tag.inserting(Component.text(name == null ? uuid.toString() : name)))
+                                .build();
+                        if (DBFunc.EVERYONE.equals(uuid)) {
+                            TagResolver everyoneResolver = TagResolver.resolver(
+                                    "everyone",
+                                    Tag.inserting(TranslatableCaption.of("info.everyone").toComponent(player))
+                            );
+                            builder.append(MINI_MESSAGE.deserialize(everyone, everyoneResolver));
+                        } else if (name == null) {
+                            // The batched lookup failed, it was already reported once for the whole page
+                            continue;
+                        } else if (PlotSquared.platform().playerManager().getPlayerIfExists(uuid) != null) {
+                            builder.append(MINI_MESSAGE.deserialize(online, resolver));
+                        } else if (name.equalsIgnoreCase("unknown")) {
+                            TagResolver unknownResolver = TagResolver.resolver(
+                                    "unknown",
+                                    Tag.inserting(TranslatableCaption.of("info.unknown").toComponent(player))
+                            );
+                            builder.append(MINI_MESSAGE.deserialize(unknown, unknownResolver));
+                        } else {
+                            builder.append(MINI_MESSAGE.deserialize(offline, resolver));
                         }
-                        player.sendMessage(
-                                TranslatableCaption.of("errors.invalid_player"),
-                                TagResolver.resolver("value", Tag.inserting(Component.text(playerBuilder.toString())))
-                        );
-                    } catch (TimeoutException e) {
-                        player.sendMessage(TranslatableCaption.of("players.fetching_players_timeout"));
+                        prefix = ", ";
                     }
                 }
                 finalResolver.tag("players", Tag.inserting(builder.asComponent()));
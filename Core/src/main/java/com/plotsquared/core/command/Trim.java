@@ -20,36 +20,55 @@ package com.plotsquared.core.command;
 
 import com.google.inject.Inject;
 import com.plotsquared.core.PlotSquared;
+import com.plotsquared.core.configuration.ConfigurationSection;
+import com.plotsquared.core.configuration.ConfigurationUtil;
+import com.plotsquared.core.configuration.MemorySection;
 import com.plotsquared.core.configuration.caption.StaticCaption;
 import com.plotsquared.core.configuration.caption.TranslatableCaption;
+import com.plotsquared.core.configuration.file.YamlConfiguration;
+import com.plotsquared.core.generator.GeneratorWrapper;
 import com.plotsquared.core.location.Location;
 import com.plotsquared.core.player.PlotPlayer;
 import com.plotsquared.core.plot.Plot;
+import com.plotsquared.core.plot.PlotArea;
+import com.plotsquared.core.plot.PlotAreaType;
+import com.plotsquared.core.plot.PlotId;
 import com.plotsquared.core.plot.world.PlotAreaManager;
 import com.plotsquared.core.queue.GlobalBlockQueue;
 import com.plotsquared.core.queue.QueueCoordinator;
+import com.plotsquared.core.util.RegionFileTrimmer;
 import com.plotsquared.core.util.RegionManager;
 import com.plotsquared.core.util.RegionUtil;
 import com.plotsquared.core.util.WorldUtil;
 import com.plotsquared.core.util.query.PlotQuery;
+import com.plotsquared.core.util.task.ObjectTaskExecutor;
 import com.plotsquared.core.util.task.RunnableVal;
 import com.plotsquared.core.util.task.RunnableVal2;
 import com.plotsquared.core.util.task.TaskManager;
 import com.plotsquared.core.util.task.TaskTime;
 import com.sk89q.worldedit.math.BlockVector2;
 import com.sk89q.worldedit.regions.CuboidRegion;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.tag.Tag;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @CommandDeclaration(command = "trim",
         permission = "plots.admin",
-        usage = "/plot trim <world> [regenerate]",
+        usage = "/plot trim <world> [regenerate | chunks [dry-run]]",
         requiredType = RequiredType.CONSOLE,
         category = CommandCategory.ADMINISTRATION)
 public class Trim extends SubCommand {
@@ -117,7 +136,7 @@ public class Trim extends SubCommand {
                     }
                 }
             }
-        }).thenAccept(ignore ->
+        }, "trim-plots", ObjectTaskExecutor.Priority.LOW).thenAccept(ignore ->
                 TaskManager.getPlatformImplementation().taskLater(result, TaskTime.ticks(1L)));
         return true;
     }
@@ -129,7 +148,9 @@ public class Trim extends SubCommand {
             return false;
         }
         final String world = args[0];
-        if (!this.worldUtil.isWorld(world) || !this.plotAreaManager.hasPlotArea(world)) {
+        final boolean chunkTrim = args.length >= 2 && "chunks".equalsIgnoreCase(args[1]);
+        if (chunkTrim ? !this.plotAreaManager.hasPlotArea(world) && !isConfiguredWorld(world)
+                : !this.worldUtil.isWorld(world) || !this.plotAreaManager.hasPlotArea(world)) {
             player.sendMessage(TranslatableCaption.of("errors.not_valid_world"));
             return false;
         }
@@ -137,6 +158,10 @@ public class Trim extends SubCommand {
             player.sendMessage(TranslatableCaption.of("trim.trim_in_progress"));
             return false;
         }
+        if (args.length >= 2 && "chunks".equalsIgnoreCase(args[1])) {
+            final boolean dryRun = args.length == 3 && "dry-run".equalsIgnoreCase(args[2]);
+            return trimChunks(player, world, dryRun);
+        }
         Trim.TASK = true;
         final boolean regen = args.length == 2 && Boolean.parseBoolean(args[1]);
         getTrimRegions(world, new RunnableVal2<>() {
@@ -196,7 +221,7 @@ public class Trim extends SubCommand {
                                 public void run(BlockVector2 value) {
                                     queue.regenChunk(value.getX(), value.getZ());
                                 }
-                            }).thenAccept(ignore -> TaskManager.getPlatformImplementation()
+                            }, "trim-regen-chunks", ObjectTaskExecutor.Priority.LOW).thenAccept(ignore -> TaskManager.getPlatformImplementation()
                                     .taskLater(this, TaskTime.ticks(1L)));
                         }
                     };
@@ -214,4 +239,166 @@ public class Trim extends SubCommand {
         return true;
     }
 
+    /**
+     * Trim the region files of an unloaded world at chunk granularity, dropping every chunk that lies entirely
+     * within a single unowned plot.
+     */
+    private boolean trimChunks(final PlotPlayer<?> player, final String world, final boolean dryRun) {
+        if (!dryRun && this.worldUtil.isWorld(world)) {
+            player.sendMessage(
+                    TranslatableCaption.of("trim.trim_world_loaded"),
+                    TagResolver.resolver("world", Tag.inserting(Component.text(world)))
+            );
+            return false;
+        }
+        Trim.TASK = true;
+        try {
+            player.sendMessage(TranslatableCaption.of("trim.trim_starting"));
+            final Collection<PlotArea> plotAreas = resolvePlotAreas(world);
+            final Map<String, Set<PlotId>> owned = getOwnedPlots(world);
+            final PlotArea[] areas = plotAreas.toArray(new PlotArea[0]);
+            final RegionFileTrimmer.ChunkFilter filter = (chunkX, chunkZ) -> {
+                final int x1 = chunkX << 4;
+                final int z1 = chunkZ << 4;
+                final int x2 = x1 + 15;
+                final int z2 = z1 + 15;
+                for (final PlotArea area : areas) {
+                    if (!area.contains(x1, z1)) {
+                        continue;
+                    }
+                    if (!area.contains(x2, z2)) {
+                        return true;
+                    }
+                    final PlotId id = area.getPlotManager().getPlotIdAbs(x1, 0, z1);
+                    if (id == null || !id.equals(area.getPlotManager().getPlotIdAbs(x2, 0, z2))) {
+                        // Roads, or more than a single plot
+                        return true;
+                    }
+                    return owned.getOrDefault(area.toString(), Collections.emptySet()).contains(id);
+                }
+                return true;
+            };
+            final File regionFolder = new File(PlotSquared.platform().worldContainer(), world + File.separator + "region");
+            new RegionFileTrimmer(regionFolder, filter, dryRun, Runtime.getRuntime().availableProcessors())
+                    .trim()
+                    .whenComplete((report, throwable) -> {
+                        Trim.TASK = false;
+                        if (throwable != null) {
+                            LOGGER.error("Failed to trim {}", world, throwable);
+                            return;
+                        }
+                        LOGGER.info("Trim {}: {}", dryRun ? "report (dry run)" : "done", report);
+                        player.sendMessage(
+                                TranslatableCaption.of(dryRun ? "trim.trim_chunks_report" : "trim.trim_chunks_done"),
+                                TagResolver.builder()
+                                        .tag("regions", Tag.inserting(Component.text(report.getRegionFiles())))
+                                        .tag("dropped", Tag.inserting(Component.text(report.getDroppedChunks())))
+                                        .tag("kept", Tag.inserting(Component.text(report.getKeptChunks())))
+                                        .tag("deleted", Tag.inserting(Component.text(report.getDeletedFiles())))
+                                        .tag("freed", Tag.inserting(Component.text(
+                                                (report.getBytesBefore() - report.getBytesAfter()) >> 20)))
+                                        .build()
+                        );
+                    });
+        } catch (final RuntimeException e) {
+            Trim.TASK = false;
+            LOGGER.error("Failed to trim {}", world, e);
+            return false;
+        }
+        return true;
+    }
+
+    private static boolean isConfiguredWorld(final String world) {
+        return PlotSquared.get().getWorldConfiguration().getConfigurationSection("worlds." + world) != null;
+    }
+
+    /**
+     * Get the plot areas of a world. When the world is not loaded, its areas are not registered, so they are created
+     * from the world configuration without being registered.
+     */
+    private Collection<PlotArea> resolvePlotAreas(final String world) {
+        if (this.plotAreaManager.hasPlotArea(world)) {
+            return this.plotAreaManager.getPlotAreasSet(world);
+        }
+        final ConfigurationSection worldSection =
+                PlotSquared.get().getWorldConfiguration().getConfigurationSection("worlds." + world);
+        final List<PlotArea> areas = new ArrayList<>();
+        if (worldSection == null) {
+            return areas;
+        }
+        final ConfigurationSection areasSection = worldSection.getConfigurationSection("areas");
+        if (areasSection == null || ConfigurationUtil.getType(worldSection) != PlotAreaType.PARTIAL) {
+            areas.add(createPlotArea(world, null, null, null, worldSection));
+            return areas;
+        }
+        for (final String areaId : areasSection.getKeys(false)) {
+            final String[] split = areaId.split("(?<=[^;-])-");
+            if (split.length != 3) {
+                throw new IllegalArgumentException("Invalid Area identifier: " + areaId
+                        + ". Expected form `<name>-<pos1>-<pos2>`");
+            }
+            // Area settings take precedence over the settings of the world
+            final ConfigurationSection section = areasSection.getConfigurationSection(areaId);
+            final YamlConfiguration clone = new YamlConfiguration();
+            for (final String key : section.getKeys(true)) {
+                if (!(section.get(key) instanceof MemorySection)) {
+                    clone.set(key, section.get(key));
+                }
+            }
+            for (final String key : worldSection.getKeys(true)) {
+                if (!(worldSection.get(key) instanceof MemorySection) && !key.startsWith("areas") && !clone.contains(key)) {
+                    clone.set(key, worldSection.get(key));
+                }
+            }
+            areas.add(createPlotArea(world, split[0], PlotId.fromString(split[1]), PlotId.fromString(split[2]), clone));
+        }
+        return areas;
+    }
+
+    private static PlotArea createPlotArea(
+            final String world,
+            final String name,
+            final PlotId pos1,
+            final PlotId pos2,
+            final ConfigurationSection section
+    ) {
+        final String generatorName = section.getString("generator.plugin", PlotSquared.platform().pluginName());
+        final GeneratorWrapper<?> generator = PlotSquared.platform().getGenerator(world, generatorName);
+        if (generator == null) {
+            throw new IllegalArgumentException("Invalid Generator: " + generatorName);
+        }
+        final PlotArea area = generator.getPlotGenerator().getNewPlotArea(world, name, pos1, pos2);
+        area.loadDefaultConfiguration(section);
+        return area;
+    }
+
+    /**
+     * Get the ids of the plots of a world that are not pending expiry, keyed by the name of their area. Plots of
+     * unloaded worlds are not held by any area, so they are taken from the plots loaded from the database.
+     */
+    private static Map<String, Set<PlotId>> getOwnedPlots(final String world) {
+        final Set<Plot> expired = PlotSquared.platform().expireManager() != null
+                ? PlotSquared.platform().expireManager().getPendingExpired()
+                : Collections.emptySet();
+        final Map<String, Set<PlotId>> owned = new HashMap<>();
+        for (final Plot plot : PlotQuery.newQuery().inWorld(world)) {
+            if (!expired.contains(plot)) {
+                owned.computeIfAbsent(plot.getArea().toString(), area -> new HashSet<>()).add(plot.getId());
+            }
+        }
+        final Map<String, HashMap<PlotId, Plot>> unloaded = PlotSquared.get().plots_tmp;
+        if (unloaded != null) {
+            for (final Map.Entry<String, HashMap<PlotId, Plot>> entry : unloaded.entrySet()) {
+                if (entry.getKey().equals(world) || entry.getKey().startsWith(world + ";")) {
+                    for (final Plot plot : entry.getValue().values()) {
+                        if (!expired.contains(plot)) {
+                            owned.computeIfAbsent(entry.getKey(), area -> new HashSet<>()).add(plot.getId());
+                        }
+                    }
+                }
+            }
+        }
+        return owned;
+    }
+
 }
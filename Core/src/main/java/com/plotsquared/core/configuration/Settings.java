@@ -685,11 +685,12 @@ public class Settings extends Config {
         @Comment({"Time to wait in ms before beginning to notify player or console of progress.",
                 "Prevent needless notification of progress for short queues."})
         public static int NOTIFY_WAIT = 5000;
-        @Comment({"How lighting should be handled by the queue. Modes:",
+        @Comment({"How lighting should be handled by the queue. With FastAsyncWorldEdit installed, affected chunks are relit in bulk",
+                "once per batch of chunks, otherwise lighting is updated with every affected block. Modes:",
                 "  - 0 - Do not do any lighting (fastest)",
-                "  - 1 - Only execute lighting where blocks with light values are placed",
-                "  - 2 - Only execute lighting where blocks with light values are placed or removed/replaced",
-                "  - 3 - Always execute lighting (slowest)"})
+                "  - 1 - Only relight where blocks with light values are placed",
+                "  - 2 - Only relight where blocks with light values are placed or removed/replaced",
+                "  - 3 - Always relight every changed block (slowest)"})
         public static int LIGHTING_MODE = 1;
         @Comment({"If blocks at the edges of queued operations should be set causing updates",
                 " - Slightly slower, but prevents issues such as fences left connected to nothing"})
@@ -697,6 +698,36 @@ public class Settings extends Config {
 
     }
 
+    @Comment({"Settings related to tasks processing many objects on the main thread, such as /plot trim",
+            "All of these tasks share one time budget per tick, which shrinks while the server is under load"})
+    public static final class Object_Tasks {
+
+        @Comment({"Tick time in ms the tasks should keep the server below.",
+                "Only used on platforms reporting their tick time, such as Paper."})
+        public static int TARGET_TICK_TIME = 45;
+        @Comment("Minimum time in ms all tasks together may take each tick, even if the server is overloaded")
+        public static int MIN_BUDGET = 1;
+        @Comment("Maximum time in ms all tasks together may take each tick")
+        public static int MAX_BUDGET = 20;
+
+    }
+
+    @Comment({"Settings related to single plot worlds",
+            "Only used if `enabled-components.worlds` is enabled"})
+    public static final class Single_Plot_Worlds {
+
+        @Comment({"Time in seconds a plot world may stay loaded without any players before it is unloaded.",
+                "0 will disable unloading idle worlds."})
+        public static int IDLE_UNLOAD_SECONDS = 300;
+        @Comment({"The maximum amount of loaded plot worlds. If exceeded, the least recently used empty worlds",
+                "are unloaded even if they are not idle yet. 0 will disable the limit."})
+        public static int MAX_LOADED_WORLDS = 0;
+        @Comment({"How many blank plot worlds should be prepared from the 0_0 template in advance.",
+                "Claiming a plot world will use a prepared world instead of copying the template."})
+        public static int PREPARED_POOL_SIZE = 2;
+
+    }
+
     @Comment("Settings related to tab completion")
     public static final class Tab_Completions {
 
@@ -800,6 +831,8 @@ public class Settings extends Config {
         public static boolean COMPONENT_PRESETS = true;
         @Comment("Enable per user locale")
         public static boolean PER_USER_LOCALE = false;
+        @Comment("Record timings of frequently run code, see /plot debug timings")
+        public static boolean TIMINGS = true;
         @Comment({"The default locale. Before changing the language, make sure you downloaded the appropriate file and put it " +
                 "in the 'lang' folder.",
                 "You can find additional translations here: https://intellectualsites.crowdin.com/plotsquared"
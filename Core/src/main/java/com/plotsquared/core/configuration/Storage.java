@@ -63,4 +63,15 @@ public class Storage extends Config {
 
     }
 
+    @Comment({"Plot setting changes (flags, alias, home, merge state) are written in the background.",
+            "Repeated changes to the same setting of a plot are merged into a single write while they wait."})
+    public static final class Write_Behind {
+
+        @Comment("The longest time (in milliseconds) a setting change may wait before it is written")
+        public static int FLUSH_INTERVAL = 1000;
+        @Comment("Write immediately once this many plots have pending changes")
+        public static int FLUSH_THRESHOLD = 128;
+
+    }
+
 }
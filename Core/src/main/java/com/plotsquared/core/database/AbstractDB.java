@@ -22,11 +22,13 @@ import com.plotsquared.core.plot.Plot;
 import com.plotsquared.core.plot.PlotArea;
 import com.plotsquared.core.plot.PlotCluster;
 import com.plotsquared.core.plot.PlotId;
+import com.plotsquared.core.plot.comment.CommentCount;
 import com.plotsquared.core.plot.comment.PlotComment;
 import com.plotsquared.core.plot.flag.PlotFlag;
 import com.plotsquared.core.util.task.RunnableVal;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -108,6 +110,32 @@ public interface AbstractDB {
 
     void getPersistentMeta(UUID uuid, RunnableVal<Map<String, byte[]>> result);
 
+    /**
+     * Stores when a player was last seen in the last seen index.
+     *
+     * @param uuid     the player
+     * @param lastSeen the time the player was last seen in milliseconds, or {@code 0} if unknown
+     * @since TODO
+     */
+    void setLastSeen(@NonNull UUID uuid, long lastSeen);
+
+    /**
+     * Gets the complete last seen index.
+     *
+     * @param whenDone task to run with the last seen times in milliseconds, mapped by player
+     * @since TODO
+     */
+    void getLastSeen(@NonNull RunnableVal<Map<UUID, Long>> whenDone);
+
+    /**
+     * Gets the ids of all plots whose owner was last seen before the given time or is missing from the last seen index.
+     *
+     * @param before   the time in milliseconds
+     * @param whenDone task to run with the plot ids, mapped by the plot area name
+     * @since TODO
+     */
+    void getIdlePlots(long before, @NonNull RunnableVal<Map<String, Set<PlotId>>> whenDone);
+
     /**
      * Creates the plot settings.
      *
@@ -340,6 +368,27 @@ public interface AbstractDB {
      */
     void getComments(@NonNull Plot plot, String inbox, RunnableVal<List<PlotComment>> whenDone);
 
+    /**
+     * Gets the inbox counters of the given plots.
+     *
+     * @param plots    the plots
+     * @param whenDone task to run with the counters, mapped by plot and inbox
+     * @since TODO
+     */
+    void getCommentCounts(
+            @NonNull Collection<Plot> plots,
+            @NonNull RunnableVal<Map<Plot, Map<String, CommentCount>>> whenDone
+    );
+
+    /**
+     * Gets the comments of all inboxes of the given plots.
+     *
+     * @param plots    the plots
+     * @param whenDone task to run with the comments, mapped by plot
+     * @since TODO
+     */
+    void getComments(@NonNull Collection<Plot> plots, @NonNull RunnableVal<Map<Plot, List<PlotComment>>> whenDone);
+
     void createPlotAndSettings(Plot plot, Runnable whenDone);
 
     void createCluster(PlotCluster cluster);
@@ -22,6 +22,7 @@ import com.plotsquared.core.plot.Plot;
 import com.plotsquared.core.plot.PlotArea;
 import com.plotsquared.core.plot.PlotCluster;
 import com.plotsquared.core.plot.PlotId;
+import com.plotsquared.core.plot.comment.CommentCount;
 import com.plotsquared.core.plot.comment.PlotComment;
 import com.plotsquared.core.plot.flag.PlotFlag;
 import com.plotsquared.core.util.task.RunnableVal;
@@ -29,6 +30,7 @@ import com.plotsquared.core.util.task.RunnableVal;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -78,6 +80,24 @@ public class DBFunc {
         }
     }
 
+    public static void setLastSeen(UUID uuid, long lastSeen) {
+        if (dbManager != null) {
+            dbManager.setLastSeen(uuid, lastSeen);
+        }
+    }
+
+    public static void getLastSeen(RunnableVal<Map<UUID, Long>> whenDone) {
+        if (dbManager != null) {
+            dbManager.getLastSeen(whenDone);
+        }
+    }
+
+    public static void getIdlePlots(long before, RunnableVal<Map<String, Set<PlotId>>> whenDone) {
+        if (dbManager != null) {
+            dbManager.getIdlePlots(before, whenDone);
+        }
+    }
+
     public static CompletableFuture<Boolean> swapPlots(Plot plot1, Plot plot2) {
         if (dbManager != null) {
             return dbManager.swapPlots(plot1, plot2);
@@ -255,6 +275,7 @@ public class DBFunc {
      * @param plot
      */
     public static void deleteComments(Plot plot) {
+        plot.getPlotCommentContainer().clearCommentCount(null);
         if (plot.temp == -1 || dbManager == null) {
             return;
         }
@@ -382,6 +403,9 @@ public class DBFunc {
      * @param comment
      */
     public static void removeComment(Plot plot, PlotComment comment) {
+        if (plot != null) {
+            plot.getPlotCommentContainer().uncountComment(comment);
+        }
         if (plot.temp == -1 || dbManager == null) {
             return;
         }
@@ -389,6 +413,9 @@ public class DBFunc {
     }
 
     public static void clearInbox(Plot plot, String inbox) {
+        if (plot != null) {
+            plot.getPlotCommentContainer().clearCommentCount(inbox);
+        }
         if (plot != null && plot.temp == -1 || dbManager == null) {
             return;
         }
@@ -400,6 +427,9 @@ public class DBFunc {
      * @param comment
      */
     public static void setComment(Plot plot, PlotComment comment) {
+        if (plot != null) {
+            plot.getPlotCommentContainer().countComment(comment);
+        }
         if (plot != null && plot.temp == -1 || dbManager == null) {
             return;
         }
@@ -419,6 +449,37 @@ public class DBFunc {
         DBFunc.dbManager.getComments(plot, inbox, whenDone);
     }
 
+    /**
+     * Get the inbox counters of many plots at once.
+     *
+     * @param plots    the plots
+     * @param whenDone task to run with the counters, mapped by plot and inbox. Plots without comments are absent
+     * @since TODO
+     */
+    public static void getCommentCounts(
+            Collection<Plot> plots,
+            RunnableVal<Map<Plot, Map<String, CommentCount>>> whenDone
+    ) {
+        if (dbManager == null) {
+            return;
+        }
+        DBFunc.dbManager.getCommentCounts(plots, whenDone);
+    }
+
+    /**
+     * Get the comments of all inboxes of many plots at once.
+     *
+     * @param plots    the plots
+     * @param whenDone task to run with the comments, mapped by plot. Plots without comments are absent
+     * @since TODO
+     */
+    public static void getComments(Collection<Plot> plots, RunnableVal<Map<Plot, List<PlotComment>>> whenDone) {
+        if (dbManager == null) {
+            return;
+        }
+        DBFunc.dbManager.getComments(plots, whenDone);
+    }
+
     /**
      * @param plot
      * @param uuid
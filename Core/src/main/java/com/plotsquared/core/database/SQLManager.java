@@ -33,6 +33,7 @@ import com.plotsquared.core.plot.PlotArea;
 import com.plotsquared.core.plot.PlotCluster;
 import com.plotsquared.core.plot.PlotId;
 import com.plotsquared.core.plot.PlotSettings;
+import com.plotsquared.core.plot.comment.CommentCount;
 import com.plotsquared.core.plot.comment.PlotComment;
 import com.plotsquared.core.plot.flag.FlagContainer;
 import com.plotsquared.core.plot.flag.FlagParseException;
@@ -42,6 +43,9 @@ import com.plotsquared.core.plot.flag.types.BlockTypeListFlag;
 import com.plotsquared.core.util.EventDispatcher;
 import com.plotsquared.core.util.HashUtil;
 import com.plotsquared.core.util.StringMan;
+import com.plotsquared.core.util.metrics.Counter;
+import com.plotsquared.core.util.metrics.Metrics;
+import com.plotsquared.core.util.metrics.Timer;
 import com.plotsquared.core.util.task.RunnableVal;
 import com.plotsquared.core.util.task.TaskManager;
 import org.apache.logging.log4j.LogManager;
@@ -59,6 +63,7 @@ import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -79,6 +84,8 @@ import java.util.concurrent.atomic.AtomicInteger;
 public class SQLManager implements AbstractDB {
 
     private static final Logger LOGGER = LogManager.getLogger("PlotSquared/" + SQLManager.class.getSimpleName());
+    private static final Timer BATCH_TIMER = Metrics.timer("database.batch");
+    private static final Counter STATEMENT_COUNTER = Metrics.counter("database.statements");
 
     // Public final
     public final String SET_OWNER;
@@ -113,12 +120,14 @@ public class SQLManager implements AbstractDB {
      * plot_helpers
      * plot_trusted
      * plot_comments
+     * plot_comment_counts
      * plot_settings
      * plot_rating
      */
     public volatile ConcurrentHashMap<Plot, Queue<UniqueStatement>> plotTasks;
     /**
      * player_meta
+     * player_last_seen
      */
     public volatile ConcurrentHashMap<UUID, Queue<UniqueStatement>> playerTasks;
     /**
@@ -128,6 +137,14 @@ public class SQLManager implements AbstractDB {
      * cluster_settings
      */
     public volatile ConcurrentHashMap<PlotCluster, Queue<UniqueStatement>> clusterTasks;
+    /**
+     * Latest queued {@link CoalescingStatement} per plot and setting
+     */
+    private final ConcurrentHashMap<PendingWrite, UniqueStatement> pendingWrites = new ConcurrentHashMap<>();
+    /**
+     * Set when a plot task that must not wait for the write-behind interval is queued
+     */
+    private volatile boolean flushRequested;
     // Private
     private Connection connection;
     private boolean supportsGetGeneratedKeys;
@@ -215,11 +232,33 @@ public class SQLManager implements AbstractDB {
         }
         TaskManager.runTaskAsync(() -> {
             long last = System.currentTimeMillis();
+            long plotTasksSince = 0;
             while (!SQLManager.this.closed) {
                 boolean hasTask =
                         !globalTasks.isEmpty() || !playerTasks.isEmpty() || !plotTasks.isEmpty()
                                 || !clusterTasks.isEmpty();
+                if (!hasTask) {
+                    plotTasksSince = 0;
+                } else if (globalTasks.isEmpty() && playerTasks.isEmpty() && clusterTasks.isEmpty()) {
+                    // Only plot setting writes are queued, give repeated changes a chance to coalesce
+                    final long now = System.currentTimeMillis();
+                    if (plotTasksSince == 0) {
+                        plotTasksSince = now;
+                    }
+                    if (!this.flushRequested && now - plotTasksSince < Storage.Write_Behind.FLUSH_INTERVAL
+                            && this.plotTasks.size() < Storage.Write_Behind.FLUSH_THRESHOLD) {
+                        try {
+                            Thread.sleep(50);
+                        } catch (InterruptedException e) {
+                            e.printStackTrace();
+                        }
+                        continue;
+                    }
+                }
                 if (hasTask) {
+                    // Cleared before the queued tasks are drained, a request made after this point is for a task that
+                    // is either part of this batch or still queued afterwards
+                    this.flushRequested = false;
                     if (SQLManager.this.mySQL && System.currentTimeMillis() - last > 550000
                             || !isValid()) {
                         last = System.currentTimeMillis();
@@ -311,7 +350,18 @@ public class SQLManager implements AbstractDB {
 
             };
         }
-        tasks.add(task);
+        if (task instanceof CoalescingStatement coalescing) {
+            // Only the latest value of a setting needs to be written, drop the previous one if it is still queued
+            final UniqueStatement previous = this.pendingWrites.put(new PendingWrite(plot, coalescing.setting), task);
+            if (previous != null) {
+                tasks.remove(previous);
+            }
+            tasks.add(task);
+        } else {
+            tasks.add(task);
+            // Requested after the task is queued, so that the flush cannot be cleared before the task is visible
+            this.flushRequested = true;
+        }
     }
 
     public synchronized void addPlayerTask(UUID uuid, UniqueStatement task) {
@@ -390,6 +440,7 @@ public class SQLManager implements AbstractDB {
     }
 
     public boolean sendBatch() {
+        final long start = BATCH_TIMER.start();
         try {
             if (!getGlobalTasks().isEmpty()) {
                 if (this.connection.getAutoCommit()) {
@@ -409,6 +460,7 @@ public class SQLManager implements AbstractDB {
                     }
                 }
                 commit();
+                BATCH_TIMER.stop(start);
                 return true;
             }
             int count = -1;
@@ -433,6 +485,9 @@ public class SQLManager implements AbstractDB {
                         }
                         task = tasks.remove();
                         count++;
+                        if (task instanceof CoalescingStatement coalescing) {
+                            this.pendingWrites.remove(new PendingWrite(entry.getKey(), coalescing.setting), task);
+                        }
                         if (task != null) {
                             if (task.method == null || !task.method.equals(method)
                                     || statement == null) {
@@ -560,6 +615,8 @@ public class SQLManager implements AbstractDB {
             }
             if (count > 0) {
                 commit();
+                BATCH_TIMER.stop(start);
+                STATEMENT_COUNTER.add(count);
                 return true;
             }
             if (count != -1) {
@@ -572,6 +629,7 @@ public class SQLManager implements AbstractDB {
             }
             if (!this.plotTasks.isEmpty()) {
                 this.plotTasks.clear();
+                this.pendingWrites.clear();
             }
         } catch (Throwable e) {
             LOGGER.error("============ DATABASE ERROR ============");
@@ -1200,14 +1258,19 @@ public class SQLManager implements AbstractDB {
     public void createTables() throws SQLException {
         String[] tables =
                 new String[]{"plot", "plot_denied", "plot_helpers", "plot_comments", "plot_trusted",
-                        "plot_rating", "plot_settings", "cluster", "player_meta", "plot_flags"};
+                        "plot_rating", "plot_settings", "cluster", "player_meta", "plot_flags", "plot_comment_counts",
+                        "player_last_seen"};
         DatabaseMetaData meta = this.connection.getMetaData();
         int create = 0;
+        boolean populateCommentCounts = false;
+        boolean createLastSeen = false;
         for (String s : tables) {
             ResultSet set = meta.getTables(null, null, this.prefix + s, new String[]{"TABLE"});
             //            ResultSet set = meta.getTables(null, null, prefix + s, null);
             if (!set.next()) {
                 create++;
+                populateCommentCounts |= s.equals("plot_comment_counts");
+                createLastSeen |= s.equals("player_last_seen");
             }
             set.close();
         }
@@ -1287,6 +1350,15 @@ public class SQLManager implements AbstractDB {
                         + " `value` VARCHAR(512)," + "FOREIGN KEY (plot_id) REFERENCES `" + this.prefix
                         + "plot` (id) ON DELETE CASCADE, " + "UNIQUE (plot_id, flag)"
                         + ") ENGINE=InnoDB DEFAULT CHARSET=utf8");
+                stmt.addBatch("CREATE TABLE IF NOT EXISTS `" + this.prefix + "plot_comment_counts` ("
+                        + "`world` VARCHAR(40) NOT NULL, `hashcode` INT(11) NOT NULL,"
+                        + "`inbox` VARCHAR(40) NOT NULL, `count` INT(11) NOT NULL,"
+                        + "`latest` INT(11) NOT NULL," + "PRIMARY KEY (`world`, `hashcode`, `inbox`)"
+                        + ") ENGINE=InnoDB DEFAULT CHARSET=utf8");
+                stmt.addBatch("CREATE TABLE IF NOT EXISTS `" + this.prefix + "player_last_seen` ("
+                        + "`uuid` VARCHAR(40) NOT NULL, `last_seen` BIGINT NOT NULL,"
+                        + "PRIMARY KEY (`uuid`), INDEX `last_seen` (`last_seen`)"
+                        + ") ENGINE=InnoDB DEFAULT CHARSET=utf8");
             } else {
                 stmt.addBatch("CREATE TABLE IF NOT EXISTS `" + this.prefix + "plot` ("
                         + "`id` INTEGER PRIMARY KEY AUTOINCREMENT," + "`plot_id_x` INT(11) NOT NULL,"
@@ -1345,10 +1417,34 @@ public class SQLManager implements AbstractDB {
                         + " `flag` VARCHAR(64)," + " `value` VARCHAR(512),"
                         + "FOREIGN KEY (plot_id) REFERENCES `" + this.prefix
                         + "plot` (id) ON DELETE CASCADE, " + "UNIQUE (plot_id, flag))");
+                stmt.addBatch("CREATE TABLE IF NOT EXISTS `" + this.prefix + "plot_comment_counts` ("
+                        + "`world` VARCHAR(40) NOT NULL, `hashcode` INT(11) NOT NULL,"
+                        + "`inbox` VARCHAR(40) NOT NULL, `count` INT(11) NOT NULL,"
+                        + "`latest` INT(11) NOT NULL," + "PRIMARY KEY (`world`, `hashcode`, `inbox`))");
+                stmt.addBatch("CREATE TABLE IF NOT EXISTS `" + this.prefix + "player_last_seen` ("
+                        + "`uuid` VARCHAR(40) NOT NULL PRIMARY KEY, `last_seen` BIGINT NOT NULL)");
+                stmt.addBatch("CREATE INDEX IF NOT EXISTS `" + this.prefix + "player_last_seen_idx` ON `"
+                        + this.prefix + "player_last_seen` (`last_seen`)");
+            }
+            if (populateCommentCounts && !addConstraint) {
+                // Existing database: build the counters from the comments that are already stored
+                stmt.addBatch("INSERT INTO `" + this.prefix + "plot_comment_counts` "
+                        + "(`world`, `hashcode`, `inbox`, `count`, `latest`) "
+                        + "SELECT `world`, `hashcode`, `inbox`, COUNT(*), MAX(`timestamp`) FROM `" + this.prefix
+                        + "plot_comments` GROUP BY `world`, `hashcode`, `inbox`");
             }
             stmt.executeBatch();
             stmt.clearBatch();
         }
+        if (createLastSeen) {
+            // Idle plots are looked up by joining the last seen index on the plot owner
+            try (Statement stmt = this.connection.createStatement()) {
+                stmt.execute("CREATE INDEX " + (this.mySQL ? "" : "IF NOT EXISTS ") + "`" + this.prefix
+                        + "plot_owner_idx` ON `" + this.prefix + "plot` (`owner`)");
+            } catch (SQLException e) {
+                LOGGER.warn("Could not create the plot owner index, plot expiry will be slower", e);
+            }
+        }
     }
 
     @Override
@@ -1444,6 +1540,20 @@ public class SQLManager implements AbstractDB {
                                 + "plot_comments` WHERE `world` = ? AND `hashcode` = ?");
             }
         });
+        addPlotTask(plot, new UniqueStatement("delete_plot_comment_counts") {
+            @Override
+            public void set(PreparedStatement statement) throws SQLException {
+                statement.setString(1, plot.getArea().toString());
+                statement.setInt(2, plot.hashCode());
+            }
+
+            @Override
+            public PreparedStatement get() throws SQLException {
+                return SQLManager.this.connection.prepareStatement(
+                        "DELETE FROM `" + SQLManager.this.prefix
+                                + "plot_comment_counts` WHERE `world` = ? AND `hashcode` = ?");
+            }
+        });
     }
 
     @Override
@@ -2167,7 +2277,7 @@ public class SQLManager implements AbstractDB {
     @Override
     public void setMerged(final Plot plot, final boolean[] merged) {
         plot.getSettings().setMerged(merged);
-        addPlotTask(plot, new UniqueStatement("setMerged") {
+        addPlotTask(plot, new CoalescingStatement("setMerged", "merged") {
             @Override
             public void set(PreparedStatement statement) throws SQLException {
                 int hash = HashUtil.hash(merged);
@@ -2237,7 +2347,7 @@ public class SQLManager implements AbstractDB {
 
     @Override
     public void setFlag(final Plot plot, final PlotFlag<?, ?> flag) {
-        addPlotTask(plot, new UniqueStatement("setFlag") {
+        addPlotTask(plot, new CoalescingStatement("setFlag", "flag:" + flag.getName()) {
             @Override
             public void set(PreparedStatement statement) throws SQLException {
                 statement.setInt(1, getId(plot));
@@ -2265,7 +2375,7 @@ public class SQLManager implements AbstractDB {
 
     @Override
     public void removeFlag(final Plot plot, final PlotFlag<?, ?> flag) {
-        addPlotTask(plot, new UniqueStatement("removeFlag") {
+        addPlotTask(plot, new CoalescingStatement("removeFlag", "flag:" + flag.getName()) {
             @Override
             public void set(PreparedStatement statement) throws SQLException {
                 statement.setInt(1, getId(plot));
@@ -2283,7 +2393,7 @@ public class SQLManager implements AbstractDB {
 
     @Override
     public void setAlias(final Plot plot, final String alias) {
-        addPlotTask(plot, new UniqueStatement("setAlias") {
+        addPlotTask(plot, new CoalescingStatement("setAlias", "alias") {
             @Override
             public void set(PreparedStatement statement) throws SQLException {
                 statement.setString(1, alias);
@@ -2398,7 +2508,7 @@ public class SQLManager implements AbstractDB {
 
     @Override
     public void setPosition(final Plot plot, final String position) {
-        addPlotTask(plot, new UniqueStatement("setPosition") {
+        addPlotTask(plot, new CoalescingStatement("setPosition", "position") {
             @Override
             public void set(PreparedStatement statement) throws SQLException {
                 // Please see the table creation statement. There is the default value of "default"
@@ -2445,6 +2555,39 @@ public class SQLManager implements AbstractDB {
                                 + "plot_comments` WHERE `comment` = ? AND `inbox` = ? AND `sender` = ?");
             }
         });
+        if (plot == null) {
+            return;
+        }
+        addPlotTask(plot, new UniqueStatement("removeCommentCount") {
+            @Override
+            public void set(PreparedStatement statement) throws SQLException {
+                statement.setString(1, plot.getArea().toString());
+                statement.setInt(2, plot.getId().hashCode());
+                statement.setString(3, comment.inbox());
+            }
+
+            @Override
+            public PreparedStatement get() throws SQLException {
+                return SQLManager.this.connection.prepareStatement(
+                        "UPDATE `" + SQLManager.this.prefix
+                                + "plot_comment_counts` SET `count` = `count` - 1 WHERE `world` = ? AND `hashcode` = ? AND `inbox` = ?");
+            }
+        });
+        addPlotTask(plot, new UniqueStatement("purgeCommentCount") {
+            @Override
+            public void set(PreparedStatement statement) throws SQLException {
+                statement.setString(1, plot.getArea().toString());
+                statement.setInt(2, plot.getId().hashCode());
+                statement.setString(3, comment.inbox());
+            }
+
+            @Override
+            public PreparedStatement get() throws SQLException {
+                return SQLManager.this.connection.prepareStatement(
+                        "DELETE FROM `" + SQLManager.this.prefix
+                                + "plot_comment_counts` WHERE `world` = ? AND `hashcode` = ? AND `inbox` = ? AND `count` <= 0");
+            }
+        });
     }
 
     @Override
@@ -2469,7 +2612,30 @@ public class SQLManager implements AbstractDB {
                                     + "plot_comments` WHERE `world` = ? AND `hashcode` = ? AND `inbox` = ?");
                 }
                 return SQLManager.this.connection.prepareStatement(
-                        "DELETE FROM `" + SQLManager.this.prefix + "plot_comments` `inbox` = ?");
+                        "DELETE FROM `" + SQLManager.this.prefix + "plot_comments` WHERE `inbox` = ?");
+            }
+        });
+        addPlotTask(plot, new UniqueStatement("clearInboxCount") {
+            @Override
+            public void set(PreparedStatement statement) throws SQLException {
+                if (plot != null) {
+                    statement.setString(1, plot.getArea().toString());
+                    statement.setInt(2, plot.getId().hashCode());
+                    statement.setString(3, inbox);
+                } else {
+                    statement.setString(1, inbox);
+                }
+            }
+
+            @Override
+            public PreparedStatement get() throws SQLException {
+                if (plot != null) {
+                    return SQLManager.this.connection.prepareStatement(
+                            "DELETE FROM `" + SQLManager.this.prefix
+                                    + "plot_comment_counts` WHERE `world` = ? AND `hashcode` = ? AND `inbox` = ?");
+                }
+                return SQLManager.this.connection.prepareStatement(
+                        "DELETE FROM `" + SQLManager.this.prefix + "plot_comment_counts` WHERE `inbox` = ?");
             }
         });
     }
@@ -2522,7 +2688,7 @@ public class SQLManager implements AbstractDB {
                             id = null;
                         }
                         String msg = set.getString("comment");
-                        long timestamp = set.getInt("timestamp") * 1000;
+                        long timestamp = set.getInt("timestamp") * 1000L;
                         PlotComment comment =
                                 new PlotComment(world, id, msg, sender, inbox, timestamp);
                         comments.add(comment);
@@ -2554,6 +2720,105 @@ public class SQLManager implements AbstractDB {
                                 + "plot_comments` (`world`, `hashcode`, `comment`, `inbox`, `timestamp`, `sender`) VALUES(?,?,?,?,?,?)");
             }
         });
+        addPlotTask(plot, new UniqueStatement("setCommentCount") {
+            @Override
+            public void set(PreparedStatement statement) throws SQLException {
+                statement.setString(1, plot.getArea().toString());
+                statement.setInt(2, plot.getId().hashCode());
+                statement.setString(3, comment.inbox());
+                statement.setInt(4, (int) (comment.timestamp() / 1000));
+            }
+
+            @Override
+            public PreparedStatement get() throws SQLException {
+                String statement;
+                if (SQLManager.this.mySQL) {
+                    statement = "INSERT INTO `" + SQLManager.this.prefix
+                            + "plot_comment_counts` (`world`, `hashcode`, `inbox`, `count`, `latest`) VALUES(?, ?, ?, 1, ?) "
+                            + "ON DUPLICATE KEY UPDATE `count` = `count` + 1, `latest` = GREATEST(`latest`, VALUES(`latest`))";
+                } else {
+                    statement = "INSERT INTO `" + SQLManager.this.prefix
+                            + "plot_comment_counts` (`world`, `hashcode`, `inbox`, `count`, `latest`) VALUES(?, ?, ?, 1, ?) "
+                            + "ON CONFLICT(`world`, `hashcode`, `inbox`) DO UPDATE SET `count` = `count` + 1, "
+                            + "`latest` = MAX(`latest`, excluded.`latest`)";
+                }
+                return SQLManager.this.connection.prepareStatement(statement);
+            }
+        });
+    }
+
+    @Override
+    public void getCommentCounts(
+            final @NonNull Collection<Plot> plots,
+            final @NonNull RunnableVal<Map<Plot, Map<String, CommentCount>>> whenDone
+    ) {
+        addGlobalTask(() -> {
+            final Map<Plot, Map<String, CommentCount>> counts = new HashMap<>();
+            try {
+                selectCommentsOf(plots, "plot_comment_counts", (plot, set) -> counts
+                        .computeIfAbsent(plot, key -> new HashMap<>())
+                        .put(set.getString("inbox"), new CommentCount(set.getInt("count"), set.getInt("latest") * 1000L)));
+            } catch (SQLException e) {
+                LOGGER.error("Failed to load comment counters", e);
+            }
+            TaskManager.runTaskAsync(() -> whenDone.run(counts));
+        });
+    }
+
+    @Override
+    public void getComments(
+            final @NonNull Collection<Plot> plots,
+            final @NonNull RunnableVal<Map<Plot, List<PlotComment>>> whenDone
+    ) {
+        addGlobalTask(() -> {
+            final Map<Plot, List<PlotComment>> comments = new HashMap<>();
+            try {
+                selectCommentsOf(plots, "plot_comments", (plot, set) -> comments
+                        .computeIfAbsent(plot, key -> new ArrayList<>())
+                        .add(new PlotComment(set.getString("world"), plot.getId(), set.getString("comment"),
+                                set.getString("sender"), set.getString("inbox"), set.getInt("timestamp") * 1000L
+                        )));
+            } catch (SQLException e) {
+                LOGGER.error("Failed to load plot comments", e);
+            }
+            TaskManager.runTaskAsync(() -> whenDone.run(comments));
+        });
+    }
+
+    /**
+     * Select the rows of a comment table belonging to the given plots, using as few queries as possible.
+     */
+    private void selectCommentsOf(
+            final Collection<Plot> plots, final String table,
+            final CommentRowConsumer consumer
+    ) throws SQLException {
+        final Map<String, Map<Integer, Plot>> plotsByWorld = new HashMap<>();
+        final List<Integer> hashes = new ArrayList<>();
+        for (final Plot plot : plots) {
+            final int hash = plot.getId().hashCode();
+            plotsByWorld.computeIfAbsent(plot.getArea().toString(), key -> new HashMap<>()).put(hash, plot);
+            hashes.add(hash);
+        }
+        final int packet = 990;
+        for (int start = 0; start < hashes.size(); start += packet) {
+            final List<Integer> subList = hashes.subList(start, Math.min(hashes.size(), start + packet));
+            final String placeholders = String.join(",", Collections.nCopies(subList.size(), "?"));
+            try (PreparedStatement statement = SQLManager.this.connection.prepareStatement(
+                    "SELECT * FROM `" + this.prefix + table + "` WHERE `hashcode` IN (" + placeholders + ")")) {
+                for (int i = 0; i < subList.size(); i++) {
+                    statement.setInt(i + 1, subList.get(i));
+                }
+                try (ResultSet set = statement.executeQuery()) {
+                    while (set.next()) {
+                        final Map<Integer, Plot> worldPlots = plotsByWorld.get(set.getString("world"));
+                        final Plot plot = worldPlots == null ? null : worldPlots.get(set.getInt("hashcode"));
+                        if (plot != null) {
+                            consumer.accept(plot, set);
+                        }
+                    }
+                }
+            }
+        }
     }
 
     @Override
@@ -2850,6 +3115,77 @@ public class SQLManager implements AbstractDB {
         });
     }
 
+    @Override
+    public void setLastSeen(final @NonNull UUID uuid, final long lastSeen) {
+        addPlayerTask(uuid, new UniqueStatement("setLastSeen") {
+            @Override
+            public void set(PreparedStatement statement) throws SQLException {
+                statement.setString(1, uuid.toString());
+                statement.setLong(2, lastSeen);
+            }
+
+            @Override
+            public PreparedStatement get() throws SQLException {
+                String statement;
+                if (SQLManager.this.mySQL) {
+                    statement = "INSERT INTO `" + SQLManager.this.prefix
+                            + "player_last_seen` (`uuid`, `last_seen`) VALUES(?, ?) "
+                            + "ON DUPLICATE KEY UPDATE `last_seen` = VALUES(`last_seen`)";
+                } else {
+                    statement = "INSERT INTO `" + SQLManager.this.prefix
+                            + "player_last_seen` (`uuid`, `last_seen`) VALUES(?, ?) "
+                            + "ON CONFLICT(`uuid`) DO UPDATE SET `last_seen` = excluded.`last_seen`";
+                }
+                return SQLManager.this.connection.prepareStatement(statement);
+            }
+        });
+    }
+
+    @Override
+    public void getLastSeen(final @NonNull RunnableVal<Map<UUID, Long>> whenDone) {
+        addGlobalTask(() -> {
+            final Map<UUID, Long> lastSeen = new HashMap<>();
+            try (Statement statement = this.connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(
+                         "SELECT `uuid`, `last_seen` FROM `" + this.prefix + "player_last_seen`")) {
+                while (resultSet.next()) {
+                    try {
+                        lastSeen.put(UUID.fromString(resultSet.getString("uuid")), resultSet.getLong("last_seen"));
+                    } catch (IllegalArgumentException ignored) {
+                    }
+                }
+            } catch (SQLException e) {
+                LOGGER.error("Failed to load the last seen index", e);
+            }
+            TaskManager.runTaskAsync(() -> whenDone.run(lastSeen));
+        });
+    }
+
+    @Override
+    public void getIdlePlots(final long before, final @NonNull RunnableVal<Map<String, Set<PlotId>>> whenDone) {
+        addGlobalTask(() -> {
+            final Map<String, Set<PlotId>> plots = new HashMap<>();
+            final String columns = "SELECT `p`.`world`, `p`.`plot_id_x`, `p`.`plot_id_z` FROM `" + this.prefix + "plot` `p` ";
+            try (PreparedStatement idle = this.connection.prepareStatement(columns + "INNER JOIN `" + this.prefix
+                    + "player_last_seen` `s` ON `s`.`uuid` = `p`.`owner` WHERE `s`.`last_seen` < ?");
+                 PreparedStatement unindexed = this.connection.prepareStatement(columns + "WHERE NOT EXISTS "
+                         + "(SELECT 1 FROM `" + this.prefix + "player_last_seen` `s` WHERE `s`.`uuid` = `p`.`owner`)")) {
+                idle.setLong(1, before);
+                for (PreparedStatement statement : new PreparedStatement[]{idle, unindexed}) {
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        while (resultSet.next()) {
+                            plots.computeIfAbsent(resultSet.getString("world"), world -> new HashSet<>())
+                                    .add(PlotId.of(resultSet.getInt("plot_id_x"), resultSet.getInt("plot_id_z")));
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                LOGGER.error("Failed to query idle plots", e);
+            }
+            TaskManager.runTaskAsync(() -> whenDone.run(plots));
+        });
+    }
+
     @Override
     public HashMap<String, Set<PlotCluster>> getClusters() {
         LinkedHashMap<String, Set<PlotCluster>> newClusters = new LinkedHashMap<>();
@@ -3016,6 +3352,9 @@ public class SQLManager implements AbstractDB {
             }
         });
         cluster.settings.setAlias(name);
+        if (cluster.area != null) {
+            cluster.area.updateClusters();
+        }
     }
 
     @Override
@@ -3114,6 +3453,9 @@ public class SQLManager implements AbstractDB {
         final PlotId pos2 = PlotId.of(current.getP2().getX(), current.getP2().getY());
         current.setP1(min);
         current.setP2(max);
+        if (current.area != null) {
+            current.area.updateClusters();
+        }
 
         addClusterTask(current, new UniqueStatement("resizeCluster") {
             @Override
@@ -3202,6 +3544,7 @@ public class SQLManager implements AbstractDB {
             stmt.addBatch("DROP TABLE `" + this.prefix + "plot_rating`");
             stmt.addBatch("DROP TABLE `" + this.prefix + "plot_settings`");
             stmt.addBatch("DROP TABLE `" + this.prefix + "plot_comments`");
+            stmt.addBatch("DROP TABLE `" + this.prefix + "plot_comment_counts`");
             stmt.addBatch("DROP TABLE `" + this.prefix + "plot_trusted`");
             stmt.addBatch("DROP TABLE `" + this.prefix + "plot_helpers`");
             stmt.addBatch("DROP TABLE `" + this.prefix + "plot_denied`");
@@ -3466,8 +3809,34 @@ public class SQLManager implements AbstractDB {
 
     }
 
+    /**
+     * A plot task writing a single setting of a plot. While it is queued, it is replaced by any later
+     * statement writing the same setting of the same plot.
+     */
+    private abstract static class CoalescingStatement extends UniqueStatement {
+
+        private final String setting;
+
+        private CoalescingStatement(final String method, final String setting) {
+            super(method);
+            this.setting = setting;
+        }
+
+    }
+
+    private record PendingWrite(Plot plot, String setting) {
+
+    }
+
     private record UUIDPair(int id, UUID uuid) {
 
     }
 
+    @FunctionalInterface
+    private interface CommentRowConsumer {
+
+        void accept(Plot plot, ResultSet set) throws SQLException;
+
+    }
+
 }
@@ -28,6 +28,8 @@ import com.plotsquared.core.plot.PlotArea;
 import com.plotsquared.core.plot.PlotId;
 import com.plotsquared.core.queue.ZeroedDelegateScopedQueueCoordinator;
 import com.plotsquared.core.util.MathMan;
+import com.plotsquared.core.util.metrics.Metrics;
+import com.plotsquared.core.util.metrics.Timer;
 import com.sk89q.worldedit.entity.BaseEntity;
 import com.sk89q.worldedit.entity.Entity;
 import com.sk89q.worldedit.extent.Extent;
@@ -47,6 +49,7 @@ import java.util.EnumSet;
 public class HybridGen extends IndependentPlotGenerator {
 
     private static final CuboidRegion CHUNK = new CuboidRegion(BlockVector3.ZERO, BlockVector3.at(15, 396, 15));
+    private static final Timer GENERATE_TIMER = Metrics.timer("generator.hybrid-chunk");
     private final HybridPlotWorldFactory hybridPlotWorldFactory;
 
     @Inject
@@ -98,6 +101,7 @@ public class HybridGen extends IndependentPlotGenerator {
     public void generateChunk(@NonNull ZeroedDelegateScopedQueueCoordinator result, @NonNull PlotArea settings, boolean biomes) {
         Preconditions.checkNotNull(result, "result cannot be null");
         Preconditions.checkNotNull(settings, "settings cannot be null");
+        final long start = GENERATE_TIMER.start();
 
         HybridPlotWorld hybridPlotWorld = (HybridPlotWorld) settings;
         // Biome
@@ -239,6 +243,7 @@ public class HybridGen extends IndependentPlotGenerator {
                 }
             }
         }
+        GENERATE_TIMER.stop(start, settings);
     }
 
     @Override
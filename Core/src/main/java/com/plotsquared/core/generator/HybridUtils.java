@@ -19,6 +19,7 @@
 package com.plotsquared.core.generator;
 
 import com.google.inject.Inject;
+import com.plotsquared.core.PlotSquared;
 import com.plotsquared.core.configuration.Settings;
 import com.plotsquared.core.events.PlotFlagAddEvent;
 import com.plotsquared.core.events.Result;
@@ -38,6 +39,7 @@ import com.plotsquared.core.queue.BlockArrayCacheScopedQueueCoordinator;
 import com.plotsquared.core.queue.GlobalBlockQueue;
 import com.plotsquared.core.queue.QueueCoordinator;
 import com.plotsquared.core.util.ChunkManager;
+import com.plotsquared.core.util.ChunkSnapshot;
 import com.plotsquared.core.util.EventDispatcher;
 import com.plotsquared.core.util.MathMan;
 import com.plotsquared.core.util.RegionManager;
@@ -61,16 +63,20 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
 
 public class HybridUtils {
 
@@ -82,12 +88,35 @@ public class HybridUtils {
      */
     @Deprecated(forRemoval = true, since = "7.0.0")
     public static HybridUtils manager;
+    /**
+     * @deprecated Road updates run as one {@link RoadRegenerationJob} per plot area, see {@link #getRoadUpdates()}. Holds
+     *         the regions of the last scheduled update.
+     */
+    @Deprecated(forRemoval = true, since = "TODO")
     public static Set<BlockVector2> regions;
+    /**
+     * @deprecated Road updates run as one {@link RoadRegenerationJob} per plot area, see {@link #getRoadUpdates()}. Holds
+     *         the height of the last started update.
+     */
+    @Deprecated(forRemoval = true, since = "TODO")
     public static int height;
-    // Use ordered for reasonable chunk loading order to reduce paper unloading neighbour chunks and then us attempting to load
-    // them again, causing errors
+    /**
+     * @deprecated Road updates run as one {@link RoadRegenerationJob} per plot area, see {@link #getRoadUpdates()}. Holds
+     *         the chunks of the last scheduled update.
+     */
+    @Deprecated(forRemoval = true, since = "TODO")
     public static Set<BlockVector2> chunks = new LinkedHashSet<>();
+    /**
+     * @deprecated Road updates run as one {@link RoadRegenerationJob} per plot area, see {@link #getRoadUpdates()}. Holds
+     *         the area of the last started update.
+     */
+    @Deprecated(forRemoval = true, since = "TODO")
     public static PlotArea area;
+    /**
+     * @deprecated Road updates run as one {@link RoadRegenerationJob} per plot area, see {@link #getRoadUpdate(PlotArea)}.
+     *         {@code true} while any road update is running.
+     */
+    @Deprecated(forRemoval = true, since = "TODO")
     public static boolean UPDATE = false;
 
     private final PlotAreaManager plotAreaManager;
@@ -96,6 +125,7 @@ public class HybridUtils {
     private final WorldUtil worldUtil;
     private final SchematicHandler schematicHandler;
     private final EventDispatcher eventDispatcher;
+    private final Map<PlotArea, RoadRegenerationJob> roadJobs = new ConcurrentHashMap<>();
 
     @Inject
     public HybridUtils(
@@ -395,25 +425,38 @@ public class HybridUtils {
         return chunks;
     }
 
+    /**
+     * Regenerate the roads in every region file of a plot area's world.
+     *
+     * @param area   Plot area to regenerate the roads for
+     * @param extend How far to extend setting air above the road
+     * @return {@code false} if the roads of the area are already being regenerated
+     */
     public boolean scheduleRoadUpdate(PlotArea area, int extend) {
-        if (HybridUtils.UPDATE) {
+        if (this.roadJobs.containsKey(area)) {
             return false;
         }
-        HybridUtils.UPDATE = true;
         Set<BlockVector2> regions = this.worldUtil.getChunkChunks(area.getWorldName());
         return scheduleRoadUpdate(area, regions, extend, new LinkedHashSet<>());
     }
 
     public boolean scheduleSingleRegionRoadUpdate(Plot plot, int extend) {
-        if (HybridUtils.UPDATE) {
-            return false;
-        }
-        HybridUtils.UPDATE = true;
         Set<BlockVector2> regions = new HashSet<>();
         regions.add(RegionManager.getRegion(plot.getCenterSynchronous()));
         return scheduleRoadUpdate(plot.getArea(), regions, extend, new LinkedHashSet<>());
     }
 
+    /**
+     * Regenerate the roads in the given regions and chunks of a plot area. Regions are processed in iteration order,
+     * chunks are processed as part of the region containing them. Every plot area may only have one road update at a
+     * time, but updates of different areas run concurrently.
+     *
+     * @param area    Plot area to regenerate the roads for
+     * @param regions Region (32x32 chunks) coordinates
+     * @param extend  How far to extend setting air above the road
+     * @param chunks  Additional chunk coordinates
+     * @return {@code false} if the roads of the area are already being regenerated
+     */
     public boolean scheduleRoadUpdate(
             final PlotArea area,
             Set<BlockVector2> regions,
@@ -421,106 +464,149 @@ public class HybridUtils {
             Set<BlockVector2> chunks
     ) {
         HybridUtils.regions = regions;
-        HybridUtils.area = area;
-        HybridUtils.height = extend;
         HybridUtils.chunks = chunks;
-        final int initial = 1024 * regions.size() + chunks.size();
-        final AtomicInteger count = new AtomicInteger(0);
-        TaskManager.runTask(new Runnable() {
-            @Override
-            public void run() {
-                if (!UPDATE) {
-                    Iterator<BlockVector2> iter = chunks.iterator();
-                    QueueCoordinator queue = blockQueue.getNewQueue(worldUtil.getWeWorld(area.getWorldName()));
-                    while (iter.hasNext()) {
-                        BlockVector2 chunk = iter.next();
-                        iter.remove();
-                        boolean regenedRoad = regenerateRoad(area, chunk, extend, queue);
-                        if (!regenedRoad) {
-                            LOGGER.info("Failed to regenerate roads in chunk {}", chunk);
-                        }
-                    }
-                    queue.enqueue();
-                    LOGGER.info("Cancelled road task");
-                    return;
-                }
-                count.incrementAndGet();
-                if (count.intValue() % 10 == 0) {
-                    LOGGER.info("Progress: {}%", 100 * (initial - (chunks.size() + 1024 * regions.size())) / initial);
-                }
-                if (HybridUtils.regions.isEmpty() && chunks.isEmpty()) {
-                    regeneratePlotWalls(area);
+        Set<BlockVector2> ordered = new LinkedHashSet<>();
+        for (BlockVector2 chunk : chunks) {
+            ordered.add(BlockVector2.at(chunk.getX() >> 5, chunk.getZ() >> 5));
+        }
+        ordered.addAll(regions);
+        return startRoadUpdate(area, extend, ordered, null, 0);
+    }
 
-                    HybridUtils.UPDATE = false;
-                    LOGGER.info("Finished road conversion");
-                    // CANCEL TASK
-                } else {
-                    final Runnable task = this;
-                    TaskManager.runTaskAsync(() -> {
-                        try {
-                            if (chunks.size() < 64) {
-                                if (!HybridUtils.regions.isEmpty()) {
-                                    Iterator<BlockVector2> iterator = HybridUtils.regions.iterator();
-                                    BlockVector2 loc = iterator.next();
-                                    iterator.remove();
-                                    LOGGER.info("Updating .mcr: {}, {} (approx 1024 chunks)", loc.getX(), loc.getZ());
-                                    LOGGER.info("- Remaining: {}", HybridUtils.regions.size());
-                                    chunks.addAll(getChunks(loc));
-                                    System.gc();
-                                }
-                            }
-                            if (!chunks.isEmpty()) {
-                                TaskManager.getPlatformImplementation().sync(() -> {
-                                    Iterator<BlockVector2> iterator = chunks.iterator();
-                                    if (chunks.size() >= 32) {
-                                        QueueCoordinator queue = blockQueue.getNewQueue(worldUtil.getWeWorld(area.getWorldName()));
-                                        for (int i = 0; i < 32; i++) {
-                                            final BlockVector2 chunk = iterator.next();
-                                            iterator.remove();
-                                            boolean regenedRoads = regenerateRoad(area, chunk, extend, queue);
-                                            if (!regenedRoads) {
-                                                LOGGER.info("Failed to regenerate the road in chunk {}", chunk);
-                                            }
-                                        }
-                                        queue.setCompleteTask(task);
-                                        queue.enqueue();
-                                        return null;
-                                    }
-                                    QueueCoordinator queue = blockQueue.getNewQueue(worldUtil.getWeWorld(area.getWorldName()));
-                                    while (!chunks.isEmpty()) {
-                                        final BlockVector2 chunk = iterator.next();
-                                        iterator.remove();
-                                        boolean regenedRoads = regenerateRoad(area, chunk, extend, queue);
-                                        if (!regenedRoads) {
-                                            LOGGER.info("Failed to regenerate road in chunk {}", chunk);
-                                        }
-                                    }
-                                    queue.setCompleteTask(task);
-                                    queue.enqueue();
-                                    return null;
-                                });
-                                return;
-                            }
-                        } catch (Exception e) {
-                            e.printStackTrace();
-                            Iterator<BlockVector2> iterator = HybridUtils.regions.iterator();
-                            BlockVector2 loc = iterator.next();
-                            iterator.remove();
-                            LOGGER.error(
-                                    "Error! Could not update '{}/region/r.{}.{}.mca' (Corrupt chunk?)",
-                                    area.getWorldHash(),
-                                    loc.getX(),
-                                    loc.getZ()
-                            );
-                        }
-                        TaskManager.runTaskLater(task, TaskTime.seconds(1L));
-                    });
+    /**
+     * Resume a road update of a plot area that was interrupted by a restart, if
+     * {@link Settings.Enabled_Components#PERSISTENT_ROAD_REGEN persistent road regeneration} is enabled.
+     *
+     * @param area Plot area to resume the road update for
+     * @return {@code true} if an interrupted road update was found and resumed
+     * @since TODO
+     */
+    public boolean resumeRoadUpdate(final @NonNull PlotArea area) {
+        if (!Settings.Enabled_Components.PERSISTENT_ROAD_REGEN || this.roadJobs.containsKey(area)) {
+            return false;
+        }
+        final File file = getRoadCheckpoint(area);
+        if (file.exists()) {
+            try {
+                RoadRegenerationJob.Checkpoint checkpoint = RoadRegenerationJob.readCheckpoint(file);
+                LOGGER.info(
+                        "Incomplete road regeneration found. Restarting in world {} with height {}",
+                        area.getWorldName(),
+                        checkpoint.extend()
+                );
+                LOGGER.info("- Regions: {}", checkpoint.regions().size() + (checkpoint.region() == null ? 0 : 1));
+                return startRoadUpdate(
+                        area,
+                        checkpoint.extend(),
+                        checkpoint.regions(),
+                        checkpoint.region(),
+                        checkpoint.chunkIndex()
+                );
+            } catch (IOException e) {
+                LOGGER.error("Error restarting road regeneration", e);
+                if (!file.delete()) {
+                    LOGGER.error("Error deleting {}. Please delete this file manually", file.getName());
                 }
+                return false;
             }
-        });
+        }
+        return resumeLegacyRoadUpdate(area);
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean resumeLegacyRoadUpdate(final @NonNull PlotArea area) {
+        final File file = new File(
+                PlotSquared.platform().getDirectory(),
+                "persistent_regen_data_" + area.getId() + "_" + area.getWorldName()
+        );
+        if (!file.exists()) {
+            return false;
+        }
+        try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(file))) {
+            List<Object> list = (List<Object>) ois.readObject();
+            Set<BlockVector2> regions = new LinkedHashSet<>();
+            Set<BlockVector2> chunks = new LinkedHashSet<>();
+            ((List<int[]>) list.get(0)).forEach(l -> regions.add(BlockVector2.at(l[0], l[1])));
+            ((List<int[]>) list.get(1)).forEach(l -> chunks.add(BlockVector2.at(l[0], l[1])));
+            int height = (int) list.get(2);
+            LOGGER.info(
+                    "Incomplete road regeneration found. Restarting in world {} with height {}",
+                    area.getWorldName(),
+                    height
+            );
+            LOGGER.info("- Regions: {}", regions.size());
+            LOGGER.info("- Chunks: {}", chunks.size());
+            return scheduleRoadUpdate(area, regions, height, chunks);
+        } catch (IOException | ClassNotFoundException e) {
+            LOGGER.error("Error restarting road regeneration", e);
+            return false;
+        } finally {
+            if (!file.delete()) {
+                LOGGER.error("Error deleting persistent_regen_data_{}. Please delete this file manually", area.getId());
+            }
+        }
+    }
+
+    private boolean startRoadUpdate(
+            final @NonNull PlotArea area,
+            final int extend,
+            final @NonNull Collection<BlockVector2> regions,
+            final @Nullable BlockVector2 region,
+            final int chunkIndex
+    ) {
+        final RoadRegenerationJob job = new RoadRegenerationJob(
+                this,
+                this.worldUtil,
+                this.blockQueue,
+                area,
+                extend,
+                regions,
+                region,
+                chunkIndex,
+                Settings.Enabled_Components.PERSISTENT_ROAD_REGEN ? getRoadCheckpoint(area) : null,
+                () -> {
+                    this.roadJobs.remove(area);
+                    HybridUtils.UPDATE = !this.roadJobs.isEmpty();
+                }
+        );
+        if (this.roadJobs.putIfAbsent(area, job) != null) {
+            return false;
+        }
+        HybridUtils.area = area;
+        HybridUtils.height = extend;
+        HybridUtils.UPDATE = true;
+        job.start();
         return true;
     }
 
+    private @NonNull File getRoadCheckpoint(final @NonNull PlotArea area) {
+        return new File(
+                PlotSquared.platform().getDirectory(),
+                "road_regen_" + area.getId() + "_" + area.getWorldName() + ".dat"
+        );
+    }
+
+    /**
+     * Get the road update that is running in a plot area
+     *
+     * @param area Plot area
+     * @return the running update, or {@code null}
+     * @since TODO
+     */
+    public @Nullable RoadRegenerationJob getRoadUpdate(final @NonNull PlotArea area) {
+        return this.roadJobs.get(area);
+    }
+
+    /**
+     * Get all running road updates
+     *
+     * @return immutable view of the running updates
+     * @since TODO
+     */
+    public @NonNull Collection<RoadRegenerationJob> getRoadUpdates() {
+        return Collections.unmodifiableCollection(this.roadJobs.values());
+    }
+
     public boolean setupRoadSchematic(Plot plot) {
         final String world = plot.getWorldName();
         final QueueCoordinator queue = blockQueue.getNewQueue(worldUtil.getWeWorld(world));
@@ -598,58 +684,122 @@ public class HybridUtils {
             int extend,
             @Nullable QueueCoordinator queueCoordinator
     ) {
-        int x = chunk.getX() << 4;
-        int z = chunk.getZ() << 4;
-        int ex = x + 15;
-        int ez = z + 15;
         HybridPlotWorld plotWorld = (HybridPlotWorld) area;
         if (!plotWorld.ROAD_SCHEMATIC_ENABLED) {
             return false;
         }
-        AtomicBoolean toCheck = new AtomicBoolean(false);
+        final QueueCoordinator queue;
+        if (queueCoordinator == null) {
+            queue = this.blockQueue.getNewQueue(worldUtil.getWeWorld(plotWorld.getWorldName()));
+        } else {
+            queue = queueCoordinator;
+        }
+        final int minY = plotWorld.getRoadYStart();
+        boolean regenerated = forEachRoadColumn(plotWorld, chunk, (x, z, blocks, biome) -> {
+            int maxDy = Math.max(extend, blocks.length);
+            for (int dy = 0; dy < maxDy; dy++) {
+                BaseBlock block = dy < blocks.length ? blocks[dy] : null;
+                queue.setBlock(x, minY + dy, z, block != null ? block : WEExtent.AIRBASE);
+            }
+            queue.setBiome(x, z, biome);
+        });
+        if (regenerated && queueCoordinator == null) {
+            queue.enqueue();
+        }
+        return regenerated;
+    }
+
+    /**
+     * Check whether the road in a chunk still matches the road schematic of the plot area. Only the block states are
+     * compared, block entity data is ignored. This may be called from any thread.
+     *
+     * @param area     Plot area the chunk belongs to
+     * @param chunk    Chunk location to check
+     * @param extend   How far above the road the blocks are expected to be air
+     * @param snapshot Snapshot of the chunk
+     * @return {@code false} if {@link #regenerateRoad(PlotArea, BlockVector2, int, QueueCoordinator)} would change the chunk
+     * @since TODO
+     */
+    public boolean isRoadUpToDate(
+            final @NonNull PlotArea area,
+            final @NonNull BlockVector2 chunk,
+            final int extend,
+            final @NonNull ChunkSnapshot snapshot
+    ) {
+        HybridPlotWorld plotWorld = (HybridPlotWorld) area;
+        if (!plotWorld.ROAD_SCHEMATIC_ENABLED) {
+            return true;
+        }
+        final int minY = plotWorld.getRoadYStart();
+        final int minDy = Math.max(0, snapshot.getMinY() - minY);
+        final AtomicBoolean upToDate = new AtomicBoolean(true);
+        forEachRoadColumn(plotWorld, chunk, (x, z, blocks, biome) -> {
+            if (!upToDate.get()) {
+                return;
+            }
+            int maxDy = Math.min(Math.max(extend, blocks.length), snapshot.getMaxY() - minY + 1);
+            for (int dy = minDy; dy < maxDy; dy++) {
+                BaseBlock block = dy < blocks.length ? blocks[dy] : null;
+                BlockState expected = block != null ? block.toImmutableState() : AIR;
+                if (!expected.equals(snapshot.getBlock(x & 15, minY + dy, z & 15))) {
+                    upToDate.set(false);
+                    return;
+                }
+            }
+            if (!biome.equals(snapshot.getBiome(x & 15, Math.max(minY, snapshot.getMinY()), z & 15))) {
+                upToDate.set(false);
+            }
+        });
+        return upToDate.get();
+    }
+
+    /**
+     * Pass every road column of a chunk together with its road schematic column to the given consumer.
+     *
+     * @return {@code false} if the chunk does not contain any road
+     */
+    private boolean forEachRoadColumn(
+            final @NonNull HybridPlotWorld plotWorld,
+            final @NonNull BlockVector2 chunk,
+            final @NonNull RoadColumnConsumer consumer
+    ) {
+        int x = chunk.getX() << 4;
+        int z = chunk.getZ() << 4;
+        int ex = x + 15;
+        int ez = z + 15;
+        boolean toCheck = false;
         if (plotWorld.getType() == PlotAreaType.PARTIAL) {
-            boolean chunk1 = area.contains(x, z);
-            boolean chunk2 = area.contains(ex, ez);
+            boolean chunk1 = plotWorld.contains(x, z);
+            boolean chunk2 = plotWorld.contains(ex, ez);
             if (!chunk1 && !chunk2) {
                 return false;
             } else {
-                toCheck.set(chunk1 ^ chunk2);
+                toCheck = chunk1 ^ chunk2;
             }
         }
-        PlotManager manager = area.getPlotManager();
+        PlotManager manager = plotWorld.getPlotManager();
         PlotId id1 = manager.getPlotId(x, 0, z);
         PlotId id2 = manager.getPlotId(ex, 0, ez);
         x = x - plotWorld.ROAD_OFFSET_X;
         z -= plotWorld.ROAD_OFFSET_Z;
-        final int finalX = x;
-        final int finalZ = z;
-        final boolean enqueue;
-        final QueueCoordinator queue;
-        if (queueCoordinator == null) {
-            queue = this.blockQueue.getNewQueue(worldUtil.getWeWorld(plotWorld.getWorldName()));
-            enqueue = true;
-        } else {
-            queue = queueCoordinator;
-            enqueue = false;
-        }
         if (id1 == null || id2 == null || id1 != id2) {
             if (id1 != null) {
-                Plot p1 = area.getPlotAbs(id1);
+                Plot p1 = plotWorld.getPlotAbs(id1);
                 if (p1 != null && p1.hasOwner() && p1.isMerged()) {
-                    toCheck.set(true);
+                    toCheck = true;
                 }
             }
-            if (id2 != null && !toCheck.get()) {
-                Plot p2 = area.getPlotAbs(id2);
+            if (id2 != null && !toCheck) {
+                Plot p2 = plotWorld.getPlotAbs(id2);
                 if (p2 != null && p2.hasOwner() && p2.isMerged()) {
-                    toCheck.set(true);
+                    toCheck = true;
                 }
             }
             short size = plotWorld.SIZE;
             for (int X = 0; X < 16; X++) {
-                short absX = (short) ((finalX + X) % size);
+                short absX = (short) ((x + X) % size);
                 for (int Z = 0; Z < 16; Z++) {
-                    short absZ = (short) ((finalZ + Z) % size);
+                    short absZ = (short) ((z + Z) % size);
                     if (absX < 0) {
                         absX += size;
                     }
@@ -657,11 +807,11 @@ public class HybridUtils {
                         absZ += size;
                     }
                     boolean condition;
-                    if (toCheck.get()) {
+                    if (toCheck) {
                         condition = manager.getPlotId(
-                                finalX + X + plotWorld.ROAD_OFFSET_X,
+                                x + X + plotWorld.ROAD_OFFSET_X,
                                 1,
-                                finalZ + Z + plotWorld.ROAD_OFFSET_Z
+                                z + Z + plotWorld.ROAD_OFFSET_Z
                         ) == null;
                     } else {
                         boolean gx = absX > plotWorld.PATH_WIDTH_LOWER;
@@ -672,54 +822,26 @@ public class HybridUtils {
                     }
                     if (condition) {
                         BaseBlock[] blocks = plotWorld.G_SCH.get(MathMan.pair(absX, absZ));
-                        int minY = plotWorld.getRoadYStart();
-                        int maxDy = Math.max(extend, blocks.length);
-                        for (int dy = 0; dy < maxDy; dy++) {
-                            if (dy > blocks.length - 1) {
-                                queue.setBlock(
-                                        finalX + X + plotWorld.ROAD_OFFSET_X,
-                                        minY + dy,
-                                        finalZ + Z + plotWorld.ROAD_OFFSET_Z,
-                                        WEExtent.AIRBASE
-                                );
-                            } else {
-                                BaseBlock block = blocks[dy];
-                                if (block != null) {
-                                    queue.setBlock(
-                                            finalX + X + plotWorld.ROAD_OFFSET_X,
-                                            minY + dy,
-                                            finalZ + Z + plotWorld.ROAD_OFFSET_Z,
-                                            block
-                                    );
-                                } else {
-                                    queue.setBlock(
-                                            finalX + X + plotWorld.ROAD_OFFSET_X,
-                                            minY + dy,
-                                            finalZ + Z + plotWorld.ROAD_OFFSET_Z,
-                                            WEExtent.AIRBASE
-                                    );
-                                }
-                            }
-                        }
                         BiomeType biome = plotWorld.G_SCH_B.get(MathMan.pair(absX, absZ));
-                        if (biome != null) {
-                            queue.setBiome(finalX + X + plotWorld.ROAD_OFFSET_X, finalZ + Z + plotWorld.ROAD_OFFSET_Z, biome);
-                        } else {
-                            queue.setBiome(
-                                    finalX + X + plotWorld.ROAD_OFFSET_X,
-                                    finalZ + Z + plotWorld.ROAD_OFFSET_Z,
-                                    plotWorld.getPlotBiome()
-                            );
-                        }
+                        consumer.accept(
+                                x + X + plotWorld.ROAD_OFFSET_X,
+                                z + Z + plotWorld.ROAD_OFFSET_Z,
+                                blocks,
+                                biome != null ? biome : plotWorld.getPlotBiome()
+                        );
                     }
                 }
             }
-            if (enqueue) {
-                queue.enqueue();
-            }
             return true;
         }
         return false;
     }
 
+    @FunctionalInterface
+    private interface RoadColumnConsumer {
+
+        void accept(int x, int z, BaseBlock[] blocks, BiomeType biome);
+
+    }
+
 }
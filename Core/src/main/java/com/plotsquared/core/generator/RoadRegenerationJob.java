@@ -0,0 +1,331 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.generator;
+
+import com.plotsquared.core.plot.PlotArea;
+import com.plotsquared.core.queue.GlobalBlockQueue;
+import com.plotsquared.core.queue.QueueCoordinator;
+import com.plotsquared.core.util.ChunkSnapshot;
+import com.plotsquared.core.util.WorldUtil;
+import com.plotsquared.core.util.task.TaskManager;
+import com.sk89q.worldedit.math.BlockVector2;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Regenerates the roads of a {@link HybridPlotWorld} region by region. Chunks are read as {@link ChunkSnapshot snapshots}
+ * and compared to the road schematic off the main thread, so that only chunks whose road actually differs are written.
+ * <p>
+ * If a checkpoint file is given, the progress is written to it after every batch of chunks, allowing the job to be
+ * resumed at chunk granularity after a restart. Jobs are created and tracked by {@link HybridUtils}, one per plot area.
+ *
+ * @since TODO
+ */
+public final class RoadRegenerationJob {
+
+    private static final Logger LOGGER = LogManager.getLogger("PlotSquared/" + RoadRegenerationJob.class.getSimpleName());
+    private static final int CHECKPOINT_VERSION = 1;
+    private static final int CHUNKS_PER_REGION = 1024;
+    private static final int BATCH_SIZE = 32;
+
+    private final HybridUtils hybridUtils;
+    private final WorldUtil worldUtil;
+    private final GlobalBlockQueue blockQueue;
+    private final PlotArea area;
+    private final int extend;
+    private final Deque<BlockVector2> regions;
+    private final @Nullable File checkpoint;
+    private final Runnable onDone;
+    private final int totalChunks;
+    private @Nullable BlockVector2 region;
+    private List<BlockVector2> regionChunks = List.of();
+    private int chunkIndex;
+    private volatile int processedChunks;
+    private volatile int regeneratedChunks;
+    private volatile boolean cancelled;
+    private int batches;
+
+    RoadRegenerationJob(
+            final @NonNull HybridUtils hybridUtils,
+            final @NonNull WorldUtil worldUtil,
+            final @NonNull GlobalBlockQueue blockQueue,
+            final @NonNull PlotArea area,
+            final int extend,
+            final @NonNull Collection<BlockVector2> regions,
+            final @Nullable BlockVector2 region,
+            final int chunkIndex,
+            final @Nullable File checkpoint,
+            final @NonNull Runnable onDone
+    ) {
+        this.hybridUtils = hybridUtils;
+        this.worldUtil = worldUtil;
+        this.blockQueue = blockQueue;
+        this.area = area;
+        this.extend = extend;
+        this.regions = new ArrayDeque<>(regions);
+        this.checkpoint = checkpoint;
+        this.onDone = onDone;
+        if (region != null) {
+            this.region = region;
+            this.regionChunks = hybridUtils.getChunks(region);
+            this.chunkIndex = Math.min(Math.max(chunkIndex, 0), CHUNKS_PER_REGION);
+        }
+        this.totalChunks = CHUNKS_PER_REGION * this.regions.size() + this.regionChunks.size() - this.chunkIndex;
+    }
+
+    /**
+     * Read a checkpoint written by a previous job.
+     *
+     * @param file checkpoint file
+     * @return the stored state
+     * @throws IOException if the file could not be read or has an unknown format
+     */
+    static @NonNull Checkpoint readCheckpoint(final @NonNull File file) throws IOException {
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file.toPath()))) {
+            if (in.readInt() != CHECKPOINT_VERSION) {
+                throw new IOException("Unknown road regeneration checkpoint format");
+            }
+            final int extend = in.readInt();
+            BlockVector2 region = null;
+            int chunkIndex = 0;
+            if (in.readBoolean()) {
+                region = BlockVector2.at(in.readInt(), in.readInt());
+                chunkIndex = in.readInt();
+            }
+            final int count = in.readInt();
+            final List<BlockVector2> regions = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                regions.add(BlockVector2.at(in.readInt(), in.readInt()));
+            }
+            return new Checkpoint(extend, region, chunkIndex, regions);
+        }
+    }
+
+    void start() {
+        if (this.checkpoint != null) {
+            writeCheckpoint();
+        }
+        TaskManager.runTask(this::nextBatch);
+    }
+
+    /**
+     * Request the snapshots of the next batch of chunks. Runs on the main thread, as servers without asynchronous chunk
+     * loading load the chunks on the requesting thread.
+     */
+    private void nextBatch() {
+        if (this.cancelled) {
+            deleteCheckpoint();
+            LOGGER.info("Cancelled road regeneration in {}", this.area);
+            this.onDone.run();
+            return;
+        }
+        if (this.region == null || this.chunkIndex >= this.regionChunks.size()) {
+            this.region = this.regions.poll();
+            if (this.region == null) {
+                finish();
+                return;
+            }
+            this.regionChunks = this.hybridUtils.getChunks(this.region);
+            this.chunkIndex = 0;
+            LOGGER.info("Updating .mca: {}, {} (approx 1024 chunks)", this.region.getX(), this.region.getZ());
+            LOGGER.info("- Remaining: {}", this.regions.size());
+        }
+        final List<BlockVector2> batch = this.regionChunks.subList(
+                this.chunkIndex,
+                Math.min(this.chunkIndex + BATCH_SIZE, this.regionChunks.size())
+        );
+        final List<CompletableFuture<ChunkSnapshot>> snapshots = new ArrayList<>(batch.size());
+        for (final BlockVector2 chunk : batch) {
+            snapshots.add(this.worldUtil.getChunkSnapshot(this.area.getWorldName(), chunk));
+        }
+        CompletableFuture.allOf(snapshots.toArray(new CompletableFuture[0]))
+                .whenComplete((ignored, throwable) -> TaskManager.runTaskAsync(() -> compare(batch, snapshots)));
+    }
+
+    private void compare(
+            final @NonNull List<BlockVector2> batch,
+            final @NonNull List<CompletableFuture<ChunkSnapshot>> snapshots
+    ) {
+        final List<BlockVector2> changed = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            final BlockVector2 chunk = batch.get(i);
+            try {
+                final ChunkSnapshot snapshot = snapshots.get(i).join();
+                // Chunks that have not been generated yet will get the current road from the generator
+                if (snapshot != null && !this.hybridUtils.isRoadUpToDate(this.area, chunk, this.extend, snapshot)) {
+                    changed.add(chunk);
+                }
+            } catch (Exception e) {
+                LOGGER.error("Could not read chunk {} in {} (Corrupt chunk?)", chunk, this.area, e);
+            }
+        }
+        if (changed.isEmpty()) {
+            completeBatch(batch.size(), 0);
+            return;
+        }
+        TaskManager.runTask(() -> {
+            final QueueCoordinator queue = this.blockQueue.getNewQueue(this.worldUtil.getWeWorld(this.area.getWorldName()));
+            for (final BlockVector2 chunk : changed) {
+                if (!this.hybridUtils.regenerateRoad(this.area, chunk, this.extend, queue)) {
+                    LOGGER.info("Failed to regenerate the road in chunk {}", chunk);
+                }
+            }
+            queue.setCompleteTask(() -> TaskManager.runTaskAsync(() -> completeBatch(batch.size(), changed.size())));
+            queue.enqueue();
+        });
+    }
+
+    private void completeBatch(final int processed, final int regenerated) {
+        this.chunkIndex += processed;
+        this.processedChunks += processed;
+        this.regeneratedChunks += regenerated;
+        if (this.checkpoint != null && !this.cancelled) {
+            writeCheckpoint();
+        }
+        if (++this.batches % 10 == 0) {
+            LOGGER.info("Progress: {}%", getProgress());
+        }
+        TaskManager.runTask(this::nextBatch);
+    }
+
+    private void finish() {
+        this.hybridUtils.regeneratePlotWalls(this.area);
+        deleteCheckpoint();
+        LOGGER.info(
+                "Finished road conversion in {} ({} of {} chunks regenerated)",
+                this.area,
+                this.regeneratedChunks,
+                this.processedChunks
+        );
+        this.onDone.run();
+    }
+
+    private void writeCheckpoint() {
+        try {
+            new Checkpoint(this.extend, this.region, this.chunkIndex, List.copyOf(this.regions)).write(this.checkpoint);
+        } catch (IOException e) {
+            LOGGER.error("Failed to save road regeneration progress to {}", this.checkpoint.getName(), e);
+        }
+    }
+
+    private void deleteCheckpoint() {
+        if (this.checkpoint != null && this.checkpoint.exists() && !this.checkpoint.delete()) {
+            LOGGER.error("Error deleting {}. Please delete this file manually", this.checkpoint.getName());
+        }
+    }
+
+    /**
+     * Stop the job after the batch that is currently being processed. The checkpoint of a cancelled job is deleted.
+     */
+    public void cancel() {
+        this.cancelled = true;
+    }
+
+    /**
+     * Get whether the job has been cancelled
+     *
+     * @return {@code true} if the job has been cancelled
+     */
+    public boolean isCancelled() {
+        return this.cancelled;
+    }
+
+    /**
+     * Get the plot area whose roads are regenerated
+     *
+     * @return plot area
+     */
+    public @NonNull PlotArea getArea() {
+        return this.area;
+    }
+
+    /**
+     * Get the number of chunks that have been checked so far
+     *
+     * @return checked chunks
+     */
+    public int getProcessedChunks() {
+        return this.processedChunks;
+    }
+
+    /**
+     * Get the number of chunks whose road differed from the road schematic and has been regenerated
+     *
+     * @return regenerated chunks
+     */
+    public int getRegeneratedChunks() {
+        return this.regeneratedChunks;
+    }
+
+    /**
+     * Get the progress of the job
+     *
+     * @return progress in percent
+     */
+    public int getProgress() {
+        return this.totalChunks == 0 ? 100 : (int) (100L * this.processedChunks / this.totalChunks);
+    }
+
+    record Checkpoint(int extend, @Nullable BlockVector2 region, int chunkIndex, @NonNull List<BlockVector2> regions) {
+
+        /**
+         * Write the checkpoint to a temporary file next to the given file and move it into place, so that an interrupted
+         * write never leaves a truncated checkpoint behind.
+         *
+         * @param file checkpoint file
+         * @throws IOException if the file could not be written
+         */
+        void write(final @NonNull File file) throws IOException {
+            final File temp = new File(file.getParentFile(), file.getName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(temp.toPath()))) {
+                out.writeInt(CHECKPOINT_VERSION);
+                out.writeInt(this.extend);
+                out.writeBoolean(this.region != null);
+                if (this.region != null) {
+                    out.writeInt(this.region.getX());
+                    out.writeInt(this.region.getZ());
+                    out.writeInt(this.chunkIndex);
+                }
+                out.writeInt(this.regions.size());
+                for (final BlockVector2 remaining : this.regions) {
+                    out.writeInt(remaining.getX());
+                    out.writeInt(remaining.getZ());
+                }
+            }
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+
+    }
+
+}
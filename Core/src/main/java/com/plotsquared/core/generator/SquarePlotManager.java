@@ -23,6 +23,7 @@ import com.plotsquared.core.location.Location;
 import com.plotsquared.core.player.PlotPlayer;
 import com.plotsquared.core.plot.Plot;
 import com.plotsquared.core.plot.PlotArea;
+import com.plotsquared.core.plot.PlotCell;
 import com.plotsquared.core.plot.PlotId;
 import com.plotsquared.core.queue.QueueCoordinator;
 import com.plotsquared.core.util.HashUtil;
@@ -125,6 +126,56 @@ public abstract class SquarePlotManager extends GridPlotManager {
         }
     }
 
+    @Override
+    public @Nullable PlotCell getPlotCellAbs(int x, int z) {
+        return getPlotCell(
+                x - squarePlotWorld.ROAD_OFFSET_X,
+                z - squarePlotWorld.ROAD_OFFSET_Z,
+                squarePlotWorld.PLOT_WIDTH,
+                squarePlotWorld.ROAD_WIDTH
+        );
+    }
+
+    /**
+     * Get the plot cell of a position relative to the road offset of a square grid.
+     */
+    static @NonNull PlotCell getPlotCell(int x, int z, int plotWidth, int roadWidth) {
+        int pathWidthLower;
+        int end;
+        if (roadWidth == 0) {
+            pathWidthLower = -1;
+            end = plotWidth;
+        } else {
+            if ((roadWidth % 2) == 0) {
+                pathWidthLower = (roadWidth / 2) - 1;
+            } else {
+                pathWidthLower = roadWidth / 2;
+            }
+            end = pathWidthLower + plotWidth;
+        }
+        int size = plotWidth + roadWidth;
+        int rx = Math.floorMod(x, size);
+        int rz = Math.floorMod(z, size);
+        int distance = Math.min(edgeDistance(rx, pathWidthLower, end, size), edgeDistance(rz, pathWidthLower, end, size));
+        if (rz <= pathWidthLower || rz > end || rx <= pathWidthLower || rx > end) {
+            return new PlotCell(null, distance);
+        }
+        return new PlotCell(PlotId.of(Math.floorDiv(x, size) + 1, Math.floorDiv(z, size) + 1), distance);
+    }
+
+    /**
+     * Distance from a coordinate within a grid period to the nearest edge of the plot or road strip it lies in. The
+     * road strip wraps around the end of the period.
+     */
+    private static int edgeDistance(int relative, int pathWidthLower, int end, int size) {
+        if (relative > pathWidthLower && relative <= end) {
+            return Math.min(relative - pathWidthLower - 1, Math.min(end, size - 1) - relative);
+        }
+        int roadWidth = size - end + pathWidthLower;
+        int position = relative > end ? relative - end - 1 : relative + size - end - 1;
+        return Math.min(position, roadWidth - 1 - position);
+    }
+
     public PlotId getNearestPlotId(@NonNull PlotArea plotArea, int x, int y, int z) {
         SquarePlotWorld dpw = (SquarePlotWorld) plotArea;
         if (dpw.ROAD_OFFSET_X != 0) {
@@ -36,7 +36,8 @@ public interface ChunkCoordinatorFactory {
             final @NonNull Consumer<BlockVector2> chunkConsumer,
             final @NonNull World world,
             final @NonNull Collection<BlockVector2> requestedChunks,
-            final @NonNull Runnable whenDone,
+            @Assisted("whenDone") final @NonNull Runnable whenDone,
+            @Assisted("batchAction") final @NonNull Runnable batchAction,
             final @NonNull Consumer<Throwable> throwableConsumer,
             @Assisted("unloadAfter") final boolean unloadAfter,
             final @NonNull Collection<ProgressSubscriber> progressSubscribers,
@@ -57,6 +57,7 @@ import com.plotsquared.core.plot.flag.types.TimedFlag;
 import com.plotsquared.core.util.EventDispatcher;
 import com.plotsquared.core.util.task.TaskManager;
 import com.plotsquared.core.util.task.TaskTime;
+import com.plotsquared.core.util.task.TimerWheel;
 import com.sk89q.worldedit.world.gamemode.GameMode;
 import com.sk89q.worldedit.world.gamemode.GameModes;
 import com.sk89q.worldedit.world.item.ItemType;
@@ -68,10 +69,7 @@ import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Iterator;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -81,9 +79,10 @@ public class PlotListener {
 
     private static final MiniMessage MINI_MESSAGE = MiniMessage.miniMessage();
 
-    private final HashMap<UUID, Interval> feedRunnable = new HashMap<>();
-    private final HashMap<UUID, Interval> healRunnable = new HashMap<>();
-    private final Map<UUID, List<StatusEffect>> playerEffects = new HashMap<>();
+    private final TimerWheel timers = new TimerWheel(64);
+    private final Map<UUID, TimerWheel.Timeout> feedTimers = new HashMap<>();
+    private final Map<UUID, TimerWheel.Timeout> healTimers = new HashMap<>();
+    private final Map<UUID, Map<String, StatusEffect>> playerEffects = new HashMap<>();
 
     private final EventDispatcher eventDispatcher;
 
@@ -92,65 +91,32 @@ public class PlotListener {
     }
 
     public void startRunnable() {
-        TaskManager.runTaskRepeat(() -> {
-            if (!healRunnable.isEmpty()) {
-                for (Iterator<Map.Entry<UUID, Interval>> iterator =
-                     healRunnable.entrySet().iterator(); iterator.hasNext(); ) {
-                    Map.Entry<UUID, Interval> entry = iterator.next();
-                    Interval value = entry.getValue();
-                    ++value.count;
-                    if (value.count == value.interval) {
-                        value.count = 0;
-                        final PlotPlayer<?> player = PlotSquared.platform().playerManager().getPlayerIfExists(entry.getKey());
-                        if (player == null) {
-                            iterator.remove();
-                            continue;
-                        }
-                        // Don't attempt to heal dead players - they will get stuck in the abyss (#4406)
-                        if (PlotSquared.platform().worldUtil().getHealth(player) <= 0) {
-                            continue;
-                        }
-                        double level = PlotSquared.platform().worldUtil().getHealth(player);
-                        if (level != value.max) {
-                            PlotSquared.platform().worldUtil().setHealth(player, Math.min(level + value.amount, value.max));
-                        }
-                    }
-                }
-            }
-            if (!feedRunnable.isEmpty()) {
-                for (Iterator<Map.Entry<UUID, Interval>> iterator =
-                     feedRunnable.entrySet().iterator(); iterator.hasNext(); ) {
-                    Map.Entry<UUID, Interval> entry = iterator.next();
-                    Interval value = entry.getValue();
-                    ++value.count;
-                    if (value.count == value.interval) {
-                        value.count = 0;
-                        final PlotPlayer<?> player = PlotSquared.platform().playerManager().getPlayerIfExists(entry.getKey());
-                        if (player == null) {
-                            iterator.remove();
-                            continue;
-                        }
-                        int level = PlotSquared.platform().worldUtil().getFoodLevel(player);
-                        if (level != value.max) {
-                            PlotSquared.platform().worldUtil().setFoodLevel(player, Math.min(level + value.amount, value.max));
-                        }
-                    }
-                }
-            }
+        TaskManager.runTaskRepeat(this.timers::tick, TaskTime.seconds(1L));
+    }
 
-            if (!playerEffects.isEmpty()) {
-                long currentTime = System.currentTimeMillis();
-                for (Iterator<Map.Entry<UUID, List<StatusEffect>>> iterator =
-                     playerEffects.entrySet().iterator(); iterator.hasNext(); ) {
-                    Map.Entry<UUID, List<StatusEffect>> entry = iterator.next();
-                    List<StatusEffect> effects = entry.getValue();
-                    effects.removeIf(effect -> currentTime > effect.expiresAt);
-                    if (effects.isEmpty()) {
-                        iterator.remove();
-                    }
-                }
-            }
-        }, TaskTime.seconds(1L));
+    /**
+     * Run an action for a player every {@code interval} seconds until the timer is replaced or cancelled.
+     */
+    private void scheduleRepeating(
+            final Map<UUID, TimerWheel.Timeout> timeouts,
+            final PlotPlayer<?> player,
+            final int interval,
+            final Runnable action
+    ) {
+        final TimerWheel.Timeout previous = timeouts.put(player.getUUID(), this.timers.schedule(interval, () -> {
+            action.run();
+            scheduleRepeating(timeouts, player, interval, action);
+        }));
+        if (previous != null) {
+            previous.cancel();
+        }
+    }
+
+    private static void cancel(final Map<UUID, TimerWheel.Timeout> timeouts, final UUID uuid) {
+        final TimerWheel.Timeout timeout = timeouts.remove(uuid);
+        if (timeout != null) {
+            timeout.cancel();
+        }
     }
 
     public boolean plotEntry(final PlotPlayer<?> player, final Plot plot) {
@@ -352,13 +318,24 @@ public class PlotListener {
 
             TimedFlag.Timed<Integer> feed = plot.getFlag(FeedFlag.class);
             if (feed.interval() != 0 && feed.value() != 0) {
-                feedRunnable
-                        .put(player.getUUID(), new Interval(feed.interval(), feed.value(), 20));
+                final int amount = feed.value();
+                scheduleRepeating(feedTimers, player, feed.interval(), () -> {
+                    int level = PlotSquared.platform().worldUtil().getFoodLevel(player);
+                    if (level != 20) {
+                        PlotSquared.platform().worldUtil().setFoodLevel(player, Math.min(level + amount, 20));
+                    }
+                });
             }
             TimedFlag.Timed<Integer> heal = plot.getFlag(HealFlag.class);
             if (heal.interval() != 0 && heal.value() != 0) {
-                healRunnable
-                        .put(player.getUUID(), new Interval(heal.interval(), heal.value(), 20));
+                final int amount = heal.value();
+                scheduleRepeating(healTimers, player, heal.interval(), () -> {
+                    double level = PlotSquared.platform().worldUtil().getHealth(player);
+                    // Don't attempt to heal dead players - they will get stuck in the abyss (#4406)
+                    if (level > 0 && level != 20) {
+                        PlotSquared.platform().worldUtil().setHealth(player, Math.min(level + amount, 20));
+                    }
+                });
             }
             return true;
         }
@@ -369,10 +346,11 @@ public class PlotListener {
         try (final MetaDataAccess<Plot> lastPlot = player.accessTemporaryMetaData(PlayerMetaDataKeys.TEMPORARY_LAST_PLOT)) {
             final Plot previous = lastPlot.remove();
 
-            List<StatusEffect> effects = playerEffects.remove(player.getUUID());
+            Map<String, StatusEffect> effects = playerEffects.remove(player.getUUID());
             if (effects != null) {
                 long currentTime = System.currentTimeMillis();
-                effects.forEach(effect -> {
+                effects.values().forEach(effect -> {
+                    effect.expiry.cancel();
                     if (currentTime <= effect.expiresAt) {
                         player.removeEffect(effect.name);
                     }
@@ -467,8 +445,8 @@ public class PlotListener {
                     });
                 }
 
-                feedRunnable.remove(player.getUUID());
-                healRunnable.remove(player.getUUID());
+                cancel(feedTimers, player.getUUID());
+                cancel(healTimers, player.getUUID());
             }
         } finally {
             this.eventDispatcher.callLeave(player, plot);
@@ -490,9 +468,12 @@ public class PlotListener {
     }
 
     public void logout(UUID uuid) {
-        feedRunnable.remove(uuid);
-        healRunnable.remove(uuid);
-        playerEffects.remove(uuid);
+        cancel(feedTimers, uuid);
+        cancel(healTimers, uuid);
+        Map<String, StatusEffect> effects = playerEffects.remove(uuid);
+        if (effects != null) {
+            effects.values().forEach(effect -> effect.expiry.cancel());
+        }
     }
 
     /**
@@ -504,35 +485,31 @@ public class PlotListener {
      * @since 6.10.0
      */
     public void addEffect(@NonNull UUID uuid, @NonNull String name, long expiresAt) {
-        List<StatusEffect> effects = playerEffects.getOrDefault(uuid, new ArrayList<>());
-        effects.removeIf(effect -> effect.name.equals(name));
+        Map<String, StatusEffect> effects = playerEffects.computeIfAbsent(uuid, key -> new HashMap<>());
+        StatusEffect previous = effects.remove(name);
+        if (previous != null) {
+            previous.expiry.cancel();
+        }
         if (expiresAt != -1) {
-            effects.add(new StatusEffect(name, expiresAt));
+            long delay = (Math.max(0, expiresAt - System.currentTimeMillis()) + 999) / 1000;
+            effects.put(name, new StatusEffect(name, expiresAt, timers.schedule(delay, () -> expireEffect(uuid, name))));
+        }
+        if (effects.isEmpty()) {
+            playerEffects.remove(uuid);
         }
-        playerEffects.put(uuid, effects);
     }
 
-    private static class Interval {
-
-        final int interval;
-        final int amount;
-        final int max;
-        int count = 0;
-
-        Interval(int interval, int amount, int max) {
-            this.interval = interval;
-            this.amount = amount;
-            this.max = max;
+    private void expireEffect(@NonNull UUID uuid, @NonNull String name) {
+        Map<String, StatusEffect> effects = playerEffects.get(uuid);
+        if (effects != null) {
+            effects.remove(name);
+            if (effects.isEmpty()) {
+                playerEffects.remove(uuid);
+            }
         }
-
     }
 
-    private record StatusEffect(@NonNull String name, long expiresAt) {
-
-        private StatusEffect(@NonNull String name, long expiresAt) {
-            this.name = name;
-            this.expiresAt = expiresAt;
-        }
+    private record StatusEffect(@NonNull String name, long expiresAt, TimerWheel.@NonNull Timeout expiry) {
 
     }
 
@@ -44,6 +44,7 @@ import com.plotsquared.core.plot.PlotId;
 import com.plotsquared.core.plot.PlotWeather;
 import com.plotsquared.core.plot.flag.implementations.DoneFlag;
 import com.plotsquared.core.plot.world.PlotAreaManager;
+import com.plotsquared.core.plot.world.SinglePlot;
 import com.plotsquared.core.plot.world.SinglePlotArea;
 import com.plotsquared.core.plot.world.SinglePlotAreaManager;
 import com.plotsquared.core.synchronization.LockRepository;
@@ -723,7 +724,16 @@ public abstract class PlotPlayer<P> implements CommandCaller, OfflinePlotPlayer,
                         }
 
                         final Location location = Location.at(plot.getWorldName(), x, y, z);
-                        if (plot.isLoaded()) {
+                        if (plot instanceof SinglePlot singlePlot) {
+                            singlePlot.getArea().loadWorldAsync(id).whenComplete((unused, throwable) -> TaskManager.runTask(() -> {
+                                if (throwable != null) {
+                                    LOGGER.error("Failed to load plot world {}", singlePlot.getWorldName(), throwable);
+                                } else if (getMeta("teleportOnLogin", true)) {
+                                    teleport(location, TeleportCause.LOGIN);
+                                    sendMessage(TranslatableCaption.of("teleport.teleported_to_plot"));
+                                }
+                            }));
+                        } else if (plot.isLoaded()) {
                             TaskManager.runTask(() -> {
                                 if (getMeta("teleportOnLogin", true)) {
                                     teleport(location, TeleportCause.LOGIN);
@@ -0,0 +1,193 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable spatial index of the clusters of a plot area. The clusters are bulk loaded into a packed R-tree
+ * (sort-tile-recursive), so point and rectangle queries descend O(log n) nodes, and names are kept in a hash map.
+ * Changes create a new index, so lookups never lock and never allocate.
+ */
+final class ClusterIndex {
+
+    static final ClusterIndex EMPTY = new ClusterIndex(List.of());
+
+    private static final int NODE_SIZE = 16;
+
+    private final PlotCluster[] clusters;
+    private final Set<PlotCluster> clusterSet;
+    private final Map<String, PlotCluster> byName;
+    // Bounding boxes per level, level 0 holds the clusters and the last level the root
+    private final int[][] minX;
+    private final int[][] minY;
+    private final int[][] maxX;
+    private final int[][] maxY;
+
+    private ClusterIndex(final @NonNull List<PlotCluster> clusters) {
+        this.clusters = sortTileRecursive(clusters.toArray(new PlotCluster[0]));
+        this.clusterSet = Collections.unmodifiableSet(new LinkedHashSet<>(clusters));
+        this.byName = new HashMap<>();
+        for (final PlotCluster cluster : clusters) {
+            final String name = cluster.getName();
+            if (name != null) {
+                this.byName.putIfAbsent(name.toLowerCase(Locale.ROOT), cluster);
+            }
+        }
+        int levels = 1;
+        for (int count = this.clusters.length; count > 1; count = (count + NODE_SIZE - 1) / NODE_SIZE) {
+            levels++;
+        }
+        this.minX = new int[levels][];
+        this.minY = new int[levels][];
+        this.maxX = new int[levels][];
+        this.maxY = new int[levels][];
+        final int size = this.clusters.length;
+        this.minX[0] = new int[size];
+        this.minY[0] = new int[size];
+        this.maxX[0] = new int[size];
+        this.maxY[0] = new int[size];
+        for (int i = 0; i < size; i++) {
+            final PlotId pos1 = this.clusters[i].getP1();
+            final PlotId pos2 = this.clusters[i].getP2();
+            this.minX[0][i] = pos1.getX();
+            this.minY[0][i] = pos1.getY();
+            this.maxX[0][i] = pos2.getX();
+            this.maxY[0][i] = pos2.getY();
+        }
+        for (int level = 1; level < levels; level++) {
+            final int children = this.minX[level - 1].length;
+            final int nodes = (children + NODE_SIZE - 1) / NODE_SIZE;
+            this.minX[level] = new int[nodes];
+            this.minY[level] = new int[nodes];
+            this.maxX[level] = new int[nodes];
+            this.maxY[level] = new int[nodes];
+            for (int node = 0; node < nodes; node++) {
+                int nodeMinX = Integer.MAX_VALUE;
+                int nodeMinY = Integer.MAX_VALUE;
+                int nodeMaxX = Integer.MIN_VALUE;
+                int nodeMaxY = Integer.MIN_VALUE;
+                for (int child = node * NODE_SIZE, end = Math.min(children, child + NODE_SIZE); child < end; child++) {
+                    nodeMinX = Math.min(nodeMinX, this.minX[level - 1][child]);
+                    nodeMinY = Math.min(nodeMinY, this.minY[level - 1][child]);
+                    nodeMaxX = Math.max(nodeMaxX, this.maxX[level - 1][child]);
+                    nodeMaxY = Math.max(nodeMaxY, this.maxY[level - 1][child]);
+                }
+                this.minX[level][node] = nodeMinX;
+                this.minY[level][node] = nodeMinY;
+                this.maxX[level][node] = nodeMaxX;
+                this.maxY[level][node] = nodeMaxY;
+            }
+        }
+    }
+
+    /**
+     * Order the clusters in vertical slices by their center, so that consecutive clusters are close to each other
+     */
+    private static PlotCluster @NonNull [] sortTileRecursive(final PlotCluster @NonNull [] clusters) {
+        final Comparator<PlotCluster> byX = Comparator.comparingLong(cluster ->
+                (long) cluster.getP1().getX() + cluster.getP2().getX());
+        final Comparator<PlotCluster> byY = Comparator.comparingLong(cluster ->
+                (long) cluster.getP1().getY() + cluster.getP2().getY());
+        Arrays.sort(clusters, byX);
+        final int leaves = (clusters.length + NODE_SIZE - 1) / NODE_SIZE;
+        final int sliceSize = (int) Math.ceil(Math.sqrt(leaves)) * NODE_SIZE;
+        for (int start = 0; start < clusters.length; start += sliceSize) {
+            Arrays.sort(clusters, start, Math.min(clusters.length, start + sliceSize), byY);
+        }
+        return clusters;
+    }
+
+    @NonNull ClusterIndex with(final @NonNull PlotCluster cluster) {
+        final List<PlotCluster> clusters = new ArrayList<>(this.clusterSet);
+        clusters.add(cluster);
+        return new ClusterIndex(clusters);
+    }
+
+    @NonNull ClusterIndex without(final @NonNull PlotCluster cluster) {
+        final List<PlotCluster> clusters = new ArrayList<>(this.clusterSet.size());
+        for (final PlotCluster existing : this.clusterSet) {
+            if (existing != cluster) {
+                clusters.add(existing);
+            }
+        }
+        return clusters.isEmpty() ? EMPTY : new ClusterIndex(clusters);
+    }
+
+    /**
+     * Rebuild the index, e.g. after clusters were resized or renamed.
+     */
+    @NonNull ClusterIndex rebuild() {
+        return this.clusterSet.isEmpty() ? EMPTY : new ClusterIndex(List.copyOf(this.clusterSet));
+    }
+
+    @NonNull Set<PlotCluster> getAll() {
+        return this.clusterSet;
+    }
+
+    @Nullable PlotCluster getByName(final @NonNull String name) {
+        return this.byName.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Get a cluster containing the plot id
+     */
+    @Nullable PlotCluster get(final int x, final int y) {
+        return find(x, y, x, y);
+    }
+
+    /**
+     * Get a cluster intersecting the rectangle between both corners
+     */
+    @Nullable PlotCluster find(final int x1, final int y1, final int x2, final int y2) {
+        if (this.clusters.length == 0) {
+            return null;
+        }
+        return find(this.minX.length - 1, 0, x1, y1, x2, y2);
+    }
+
+    private @Nullable PlotCluster find(final int level, final int node, final int x1, final int y1, final int x2, final int y2) {
+        if (x1 > this.maxX[level][node] || x2 < this.minX[level][node] || y1 > this.maxY[level][node] || y2 < this.minY[level][node]) {
+            return null;
+        }
+        if (level == 0) {
+            return this.clusters[node];
+        }
+        for (int child = node * NODE_SIZE, end = Math.min(this.minX[level - 1].length, child + NODE_SIZE); child < end; child++) {
+            final PlotCluster cluster = find(level - 1, child, x1, y1, x2, y2);
+            if (cluster != null) {
+                return cluster;
+            }
+        }
+        return null;
+    }
+
+}
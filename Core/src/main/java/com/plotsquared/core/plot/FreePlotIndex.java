@@ -0,0 +1,372 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Tracks which plots of a {@link PlotArea} are taken, in the spiral order of {@link PlotId#getNextId()}. A plot is taken
+ * if it is claimed or if it has been reserved by an auto claim within the last {@link #RESERVATION_MILLIS} milliseconds.
+ * <p>
+ * Taken plots are stored in a hierarchical bitmap, where every bit of a level marks a completely taken word of the level
+ * below. Finding the next free plot therefore skips taken runs of plots in logarithmic time instead of probing every id.
+ * The words of every level are allocated in pages on first use, so plots claimed far away from the center stay cheap.
+ * <p>
+ * Rectangles of plots are not indexed. The plots of a rectangle are not adjacent in spiral order, so
+ * {@link #reserve(int, int, Predicate)} only skips taken corners through the bitmap and checks the remaining plots of
+ * every candidate one by one. All access is synchronized on the index. Claims and reservations are short bit operations
+ * on a single area, so the monitor replaces the global lock of {@link com.plotsquared.core.services.plots.AutoService}
+ * instead of making reservations lock-free.
+ *
+ * @since TODO
+ */
+public final class FreePlotIndex {
+
+    /**
+     * How long a reserved plot stays taken if it does not get claimed
+     */
+    public static final long RESERVATION_MILLIS = TimeUnit.SECONDS.toMillis(20);
+    /**
+     * Largest ring of the spiral that is indexed, so that every ordinal fits into an int
+     */
+    static final int MAX_RING = 23169;
+    private static final int LEVELS = 6;
+    private static final int PAGE_SHIFT = 10;
+    private static final int PAGE_MASK = (1 << PAGE_SHIFT) - 1;
+
+    private final PlotId center;
+    private final int limit;
+    private final LongSupplier clock;
+    private final long[][][] levels = new long[LEVELS][][];
+    private final int[] levelWords = new int[LEVELS];
+    private final Set<Integer> reservedOnly = new HashSet<>();
+    private final Deque<long[]> reservations = new ArrayDeque<>();
+
+    /**
+     * @param center the plot id at the center of the spiral
+     * @param limit  the number of ordinals that may be handed out
+     */
+    FreePlotIndex(final @NonNull PlotId center, final int limit) {
+        this(center, limit, System::currentTimeMillis);
+    }
+
+    FreePlotIndex(final @NonNull PlotId center, final int limit, final @NonNull LongSupplier clock) {
+        this.center = center;
+        this.limit = Math.min(limit, ordinal(MAX_RING, MAX_RING) + 1);
+        this.clock = clock;
+        int words = 1 << 25;
+        for (int level = 0; level < LEVELS; level++) {
+            this.levels[level] = new long[1][];
+            this.levelWords[level] = words;
+            words = (words + 63) >>> 6;
+        }
+    }
+
+    /**
+     * Get the position of a plot id relative to the spiral center in the spiral
+     *
+     * @param x relative x coordinate
+     * @param y relative y coordinate
+     * @return ordinal, or {@code -1} if the id lies outside the indexed rings
+     */
+    static int ordinal(final int x, final int y) {
+        final int ring = Math.max(Math.abs(x), Math.abs(y));
+        if (ring == 0) {
+            return 0;
+        }
+        if (ring > MAX_RING) {
+            return -1;
+        }
+        final int base = 1 + 4 * ring * (ring - 1);
+        if (y == ring && x < ring) {
+            return base + ring - 1 - x;
+        } else if (x == -ring && y < ring) {
+            return base + 3 * ring - 1 - y;
+        } else if (y == -ring) {
+            return base + 5 * ring - 1 + x;
+        }
+        return base + 7 * ring - 1 + y;
+    }
+
+    /**
+     * Get the plot id relative to the spiral center at a position of the spiral
+     *
+     * @param ordinal ordinal
+     * @return relative plot id
+     */
+    static @NonNull PlotId relativeId(final int ordinal) {
+        if (ordinal == 0) {
+            return PlotId.of(0, 0);
+        }
+        int ring = (int) Math.ceil((Math.sqrt(ordinal + 1.0) - 1) / 2);
+        while (4L * ring * (ring + 1) < ordinal) {
+            ring++;
+        }
+        while (ring > 1 && 4L * ring * (ring - 1) >= ordinal) {
+            ring--;
+        }
+        final int offset = ordinal - 1 - 4 * ring * (ring - 1);
+        final int side = offset / (2 * ring);
+        final int step = offset % (2 * ring);
+        return switch (side) {
+            case 0 -> PlotId.of(ring - 1 - step, ring);
+            case 1 -> PlotId.of(-ring, ring - 1 - step);
+            case 2 -> PlotId.of(-ring + 1 + step, -ring);
+            default -> PlotId.of(ring, -ring + 1 + step);
+        };
+    }
+
+    private int ordinalOf(final @NonNull PlotId id) {
+        final int ordinal = ordinal(id.getX() - this.center.getX(), id.getY() - this.center.getY());
+        return ordinal < this.limit ? ordinal : -1;
+    }
+
+    private @NonNull PlotId idOf(final int ordinal) {
+        final PlotId relative = relativeId(ordinal);
+        return PlotId.of(relative.getX() + this.center.getX(), relative.getY() + this.center.getY());
+    }
+
+    /**
+     * Mark a plot as claimed or unclaimed
+     *
+     * @param id      plot id
+     * @param claimed whether the plot is claimed
+     */
+    public synchronized void setClaimed(final @NonNull PlotId id, final boolean claimed) {
+        final int ordinal = ordinalOf(id);
+        if (ordinal < 0) {
+            return;
+        }
+        this.reservedOnly.remove(ordinal);
+        if (claimed) {
+            take(ordinal);
+        } else {
+            free(ordinal);
+        }
+    }
+
+    /**
+     * Get whether a plot is claimed or reserved
+     *
+     * @param id plot id
+     * @return {@code true} if the plot is taken
+     */
+    public synchronized boolean isTaken(final @NonNull PlotId id) {
+        expireReservations();
+        final int ordinal = ordinalOf(id);
+        return ordinal >= 0 && isTaken(ordinal);
+    }
+
+    /**
+     * Find the next free plot in spiral order without reserving it
+     *
+     * @param after  plot id to start after, or {@code null} to start at the center
+     * @param filter additional condition for the returned plot
+     * @return the free plot id, or {@code null} if there is none
+     */
+    public synchronized @Nullable PlotId next(final @Nullable PlotId after, final @NonNull Predicate<PlotId> filter) {
+        expireReservations();
+        final int ordinal = find(after, filter);
+        return ordinal < 0 ? null : idOf(ordinal);
+    }
+
+    /**
+     * Find and reserve the next free plot in spiral order
+     *
+     * @param after  plot id to start after, or {@code null} to start at the center
+     * @param filter additional condition for the returned plot
+     * @return the reserved plot id, or {@code null} if there is none
+     */
+    public synchronized @Nullable PlotId reserve(final @Nullable PlotId after, final @NonNull Predicate<PlotId> filter) {
+        expireReservations();
+        final int ordinal = find(after, filter);
+        if (ordinal < 0) {
+            return null;
+        }
+        reserve(ordinal);
+        return idOf(ordinal);
+    }
+
+    /**
+     * Find and reserve the first rectangle of free plots whose minimum corner comes first in spiral order. Only the
+     * minimum corners are found through the bitmap, the other plots of every candidate are checked one by one.
+     *
+     * @param sizeX  width of the rectangle
+     * @param sizeZ  length of the rectangle
+     * @param filter additional condition for every plot of the rectangle
+     * @return the reserved plot ids, or {@code null} if there is no free rectangle
+     */
+    public synchronized @Nullable List<PlotId> reserve(
+            final int sizeX,
+            final int sizeZ,
+            final @NonNull Predicate<PlotId> filter
+    ) {
+        expireReservations();
+        final int[] cells = new int[sizeX * sizeZ];
+        candidates:
+        for (int ordinal = nextFree(0); ordinal < this.limit; ordinal = nextFree(ordinal + 1)) {
+            final PlotId start = idOf(ordinal);
+            int index = 0;
+            for (int x = 0; x < sizeX; x++) {
+                for (int z = 0; z < sizeZ; z++) {
+                    final int cell = ordinalOf(PlotId.of(start.getX() + x, start.getY() + z));
+                    if (cell < 0 || isTaken(cell)) {
+                        continue candidates;
+                    }
+                    cells[index++] = cell;
+                }
+            }
+            final List<PlotId> ids = new ArrayList<>(cells.length);
+            for (final int cell : cells) {
+                final PlotId id = idOf(cell);
+                if (!filter.test(id)) {
+                    continue candidates;
+                }
+                ids.add(id);
+            }
+            for (final int cell : cells) {
+                reserve(cell);
+            }
+            return Collections.unmodifiableList(ids);
+        }
+        return null;
+    }
+
+    private int find(final @Nullable PlotId after, final @NonNull Predicate<PlotId> filter) {
+        int from = 0;
+        if (after != null) {
+            final int ordinal = ordinalOf(after);
+            if (ordinal < 0) {
+                return -1;
+            }
+            from = ordinal + 1;
+        }
+        for (int ordinal = nextFree(from); ordinal < this.limit; ordinal = nextFree(ordinal + 1)) {
+            if (filter.test(idOf(ordinal))) {
+                return ordinal;
+            }
+        }
+        return -1;
+    }
+
+    private void reserve(final int ordinal) {
+        this.reservations.add(new long[]{ordinal, this.clock.getAsLong() + RESERVATION_MILLIS});
+        this.reservedOnly.add(ordinal);
+        take(ordinal);
+    }
+
+    private void expireReservations() {
+        final long now = this.clock.getAsLong();
+        long[] reservation;
+        while ((reservation = this.reservations.peek()) != null && reservation[1] <= now) {
+            this.reservations.poll();
+            if (this.reservedOnly.remove((int) reservation[0])) {
+                free((int) reservation[0]);
+            }
+        }
+    }
+
+    private long word(final int level, final int word) {
+        final long[][] pages = this.levels[level];
+        final int page = word >>> PAGE_SHIFT;
+        if (page >= pages.length || pages[page] == null) {
+            return 0L;
+        }
+        return pages[page][word & PAGE_MASK];
+    }
+
+    private long @NonNull [] page(final int level, final int word) {
+        long[][] pages = this.levels[level];
+        final int page = word >>> PAGE_SHIFT;
+        if (page >= pages.length) {
+            pages = this.levels[level] = Arrays.copyOf(pages, Math.max(page + 1, pages.length * 2));
+        }
+        if (pages[page] == null) {
+            pages[page] = new long[1 << PAGE_SHIFT];
+        }
+        return pages[page];
+    }
+
+    private boolean isTaken(final int ordinal) {
+        return (word(0, ordinal >>> 6) & (1L << ordinal)) != 0;
+    }
+
+    private int nextFree(final int from) {
+        return from >= this.limit ? this.limit : nextFree(0, from);
+    }
+
+    private int nextFree(final int level, final int from) {
+        final int word = from >>> 6;
+        if (word >= this.levelWords[level]) {
+            return Integer.MAX_VALUE;
+        }
+        final long free = ~word(level, word) & (-1L << from);
+        if (free != 0) {
+            return (word << 6) + Long.numberOfTrailingZeros(free);
+        }
+        final int next = level + 1 < LEVELS ? nextFree(level + 1, word + 1) : word + 1;
+        if (next >= this.levelWords[level]) {
+            return Integer.MAX_VALUE;
+        }
+        return (next << 6) + Long.numberOfTrailingZeros(~word(level, next));
+    }
+
+    private void take(final int ordinal) {
+        int index = ordinal;
+        for (int level = 0; level < LEVELS; level++) {
+            final int word = index >>> 6;
+            final long[] page = page(level, word);
+            page[word & PAGE_MASK] |= 1L << index;
+            if (page[word & PAGE_MASK] != -1L) {
+                return;
+            }
+            index = word;
+        }
+    }
+
+    private void free(final int ordinal) {
+        int index = ordinal;
+        for (int level = 0; level < LEVELS; level++) {
+            final int word = index >>> 6;
+            final long current = word(level, word);
+            if ((current & (1L << index)) == 0) {
+                return;
+            }
+            page(level, word)[word & PAGE_MASK] = current & ~(1L << index);
+            if (current != -1L) {
+                return;
+            }
+            index = word;
+        }
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Disjoint-set forest of the merged plots in a plot area. Every merged plot is mapped to the representative id of its
+ * merge group, so testing whether two plots belong to the same merged plot does not need to walk the merge graph.
+ * <p>
+ * Groups are built from the merge state of the area and then joined in place when plots are merged. Splitting a group
+ * is not supported, the area builds new groups instead. Unions are serialized, lookups may run concurrently with them
+ * and see the groups either before or after a union.
+ */
+final class MergeGroups {
+
+    private final Map<PlotId, PlotId> parents = new ConcurrentHashMap<>();
+
+    /**
+     * Join the groups of two plots.
+     *
+     * @param first  first plot
+     * @param second second plot
+     */
+    synchronized void union(final @NonNull PlotId first, final @NonNull PlotId second) {
+        final PlotId firstRoot = find(first);
+        final PlotId secondRoot = find(second);
+        if (!firstRoot.equals(secondRoot)) {
+            this.parents.put(secondRoot, firstRoot);
+        }
+    }
+
+    /**
+     * Compress every path, so that each plot points at its representative directly.
+     */
+    synchronized void compress() {
+        for (final Map.Entry<PlotId, PlotId> entry : this.parents.entrySet()) {
+            entry.setValue(find(entry.getValue()));
+        }
+    }
+
+    /**
+     * Get the representative of the merge group of a plot.
+     *
+     * @param id plot id
+     * @return representative id, the id itself if the plot is not merged
+     */
+    @NonNull PlotId getGroup(final @NonNull PlotId id) {
+        PlotId root = id;
+        PlotId parent;
+        while ((parent = this.parents.get(root)) != null) {
+            root = parent;
+        }
+        return root;
+    }
+
+    private PlotId find(final PlotId id) {
+        final PlotId root = getGroup(id);
+        // Path compression
+        PlotId current = id;
+        while (!current.equals(root)) {
+            final PlotId next = this.parents.get(current);
+            this.parents.put(current, root);
+            current = next;
+        }
+        return root;
+    }
+
+}
@@ -47,6 +47,7 @@ import com.plotsquared.core.plot.flag.GlobalFlagContainer;
 import com.plotsquared.core.plot.flag.InternalFlag;
 import com.plotsquared.core.plot.flag.PlotFlag;
 import com.plotsquared.core.plot.flag.implementations.DescriptionFlag;
+import com.plotsquared.core.plot.flag.implementations.DoneFlag;
 import com.plotsquared.core.plot.flag.implementations.KeepFlag;
 import com.plotsquared.core.plot.flag.implementations.ServerPlotFlag;
 import com.plotsquared.core.plot.flag.types.DoubleFlag;
@@ -205,6 +206,7 @@ public class Plot {
     private Plot origin;
 
     private Set<Plot> connectedCache;
+    private volatile RegionBounds regionBounds;
 
     /**
      * Constructor for a new plot.
@@ -1105,6 +1107,9 @@ public class Plot {
             plot.reEnter();
             DBFunc.setFlag(plot, flag);
         }
+        if (flag instanceof DoneFlag) {
+            PlotLeaderboard.done().update(this);
+        }
         return true;
     }
 
@@ -1196,6 +1201,9 @@ public class Plot {
             DBFunc.removeFlag(plot, flag);
             removed = true;
         }
+        if (removed && flag instanceof DoneFlag) {
+            PlotLeaderboard.done().update(origin);
+        }
         return removed;
     }
 
@@ -1634,6 +1642,7 @@ public class Plot {
         int aggregate = rating.getAggregate();
         baseSettings.getRatings().put(uuid, aggregate);
         DBFunc.setRating(base, uuid, aggregate);
+        PlotLeaderboard.ratings().addRating(base, new Rating(aggregate).getAverageRating());
         return true;
     }
 
@@ -1646,6 +1655,7 @@ public class Plot {
         if (baseSettings.getRatings() != null && !baseSettings.getRatings().isEmpty()) {
             DBFunc.deleteRatings(base);
             baseSettings.setRatings(null);
+            PlotLeaderboard.ratings().remove(base);
         }
     }
 
@@ -1825,6 +1835,7 @@ public class Plot {
         plot.area.removePlot(plot.getId());
         this.area.addPlotAbs(this);
         plot.area.addPlotAbs(plot);
+        PlotLeaderboard.updateMoved(List.of(this, plot));
         // Swap database
         return DBFunc.swapPlots(plot, this);
     }
@@ -1848,6 +1859,7 @@ public class Plot {
         this.area.removePlot(this.id);
         this.id = plot.getId();
         this.area.addPlotAbs(this);
+        PlotLeaderboard.updateMoved(List.of(this));
         clearCache();
         DBFunc.movePlot(this, plot);
         TaskManager.runTaskLater(whenDone, TaskTime.ticks(1L));
@@ -2104,6 +2116,7 @@ public class Plot {
     public void setMerged(Direction direction, boolean value) {
         if (this.getSettings().setMerged(direction, value)) {
             if (value) {
+                this.area.joinMergeGroups(this.id, this.id.getRelative(direction));
                 Plot other = this.getRelative(direction).getBasePlot(false);
                 if (!other.equals(this.getBasePlot(false))) {
                     Plot base = other.id.getY() < this.id.getY() || other.id.getY() == this.id.getY() && other.id.getX() < this.id
@@ -2116,6 +2129,7 @@ public class Plot {
                     this.connectedCache = null;
                 }
             } else {
+                this.area.invalidateMergeState();
                 if (this.origin != null) {
                     this.origin.origin = null;
                     this.origin = null;
@@ -2153,6 +2167,7 @@ public class Plot {
     public void setMerged(boolean[] merged) {
         this.getSettings().setMerged(merged);
         DBFunc.setMerged(this, merged);
+        this.area.invalidateMergeState();
         clearCache();
     }
 
@@ -2332,9 +2347,11 @@ public class Plot {
                 if (tmp.isOwnerAbs(this.getOwnerAbs())) {
                     tmp.getSettings().setMerged(direction.opposite(), true);
                     DBFunc.setMerged(tmp, tmp.getSettings().getMerged());
+                    this.area.joinMergeGroups(this.id, tmp.getId());
                 } else {
                     this.getSettings().setMerged(direction, false);
                     DBFunc.setMerged(this, this.getSettings().getMerged());
+                    this.area.invalidateMergeState();
                 }
             }
             queueCache.add(tmp);
@@ -2356,6 +2373,72 @@ public class Plot {
         }
     }
 
+    /**
+     * Get whether this plot and another plot are part of the same merged plot. Unlike testing whether
+     * {@link #getConnectedPlots()} contains the other plot, this is a constant time lookup in the merge groups of the
+     * plot area.
+     *
+     * @param plot other plot
+     * @return {@code true} if both plots are the same plot, or are merged with each other
+     * @since TODO
+     */
+    public boolean isConnected(final @Nullable Plot plot) {
+        if (plot == null) {
+            return false;
+        }
+        if (this.equals(plot)) {
+            return true;
+        }
+        if (this.area != plot.area || !this.isMerged() || !plot.isMerged()) {
+            return false;
+        }
+        final MergeGroups groups = this.area.getMergeGroups();
+        return groups.getGroup(this.id).equals(groups.getGroup(plot.id));
+    }
+
+    /**
+     * Get whether a block column is part of this plot, including the roads between its merged plots. This only tests
+     * the cached rectangles of {@link #getRegions()}, so no plot is resolved and no location is created. The result
+     * is the same as comparing this plot to {@link PlotArea#getOwnedPlot(Location)} of an owned base plot.
+     *
+     * @param x x coordinate
+     * @param z z coordinate
+     * @return {@code true} if the column is part of the plot
+     * @since TODO
+     */
+    public boolean contains(final int x, final int z) {
+        final int[] rectangles = getRegionBounds();
+        for (int i = 0; i < rectangles.length; i += 4) {
+            if (x >= rectangles[i] && z >= rectangles[i + 1] && x <= rectangles[i + 2] && z <= rectangles[i + 3]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the rectangles of {@link #getRegions()} as {@code minX, minZ, maxX, maxZ} quadruples. They are computed once
+     * per merge state.
+     */
+    private int[] getRegionBounds() {
+        final long version = this.area.getMergeVersion();
+        RegionBounds bounds = this.regionBounds;
+        if (bounds == null || bounds.version() != version || !bounds.id().equals(this.id)) {
+            final Set<CuboidRegion> regions = computeRegions();
+            final int[] rectangles = new int[regions.size() * 4];
+            int i = 0;
+            for (final CuboidRegion region : regions) {
+                rectangles[i++] = region.getMinimumPoint().getX();
+                rectangles[i++] = region.getMinimumPoint().getZ();
+                rectangles[i++] = region.getMaximumPoint().getX();
+                rectangles[i++] = region.getMaximumPoint().getZ();
+            }
+            bounds = new RegionBounds(version, this.id, rectangles);
+            this.regionBounds = bounds;
+        }
+        return bounds.rectangles();
+    }
+
     /**
      * This will combine each plot into effective rectangular regions<br>
      * - This result is cached globally<br>
@@ -2364,6 +2447,26 @@ public class Plot {
      * @return all regions within the plot
      */
     public @NonNull Set<CuboidRegion> getRegions() {
+        if (!this.isMerged()) {
+            Location pos1 = this.getBottomAbs().withY(getArea().getMinBuildHeight());
+            Location pos2 = this.getTopAbs().withY(getArea().getMaxBuildHeight());
+            CuboidRegion rg = new CuboidRegion(pos1.getBlockVector3(), pos2.getBlockVector3());
+            return Collections.singleton(rg);
+        }
+        final int[] rectangles = getRegionBounds();
+        final int minHeight = getArea().getMinBuildHeight();
+        final int maxHeight = getArea().getMaxBuildHeight() - 1;
+        final Set<CuboidRegion> regions = new HashSet<>();
+        for (int i = 0; i < rectangles.length; i += 4) {
+            regions.add(new CuboidRegion(
+                    BlockVector3.at(rectangles[i], minHeight, rectangles[i + 1]),
+                    BlockVector3.at(rectangles[i + 2], maxHeight, rectangles[i + 3])
+            ));
+        }
+        return regions;
+    }
+
+    private @NonNull Set<CuboidRegion> computeRegions() {
         if (!this.isMerged()) {
             Location pos1 = this.getBottomAbs().withY(getArea().getMinBuildHeight());
             Location pos2 = this.getTopAbs().withY(getArea().getMaxBuildHeight());
@@ -2677,6 +2780,8 @@ public class Plot {
      */
     public void mergePlot(Plot lesserPlot, boolean removeRoads, @Nullable QueueCoordinator queue) {
         Plot greaterPlot = this;
+        // Both previous base plots are ranked again once the merge changed which of them is the base plot
+        final List<Plot> bases = List.of(lesserPlot.getBasePlot(false), greaterPlot.getBasePlot(false));
         lesserPlot.getPlotModificationManager().removeSign();
         if (lesserPlot.getId().getX() == greaterPlot.getId().getX()) {
             if (lesserPlot.getId().getY() > greaterPlot.getId().getY()) {
@@ -2729,6 +2834,7 @@ public class Plot {
                 }
             }
         }
+        PlotLeaderboard.updateMerged(bases);
     }
 
     /**
@@ -3016,4 +3122,8 @@ public class Plot {
         return this.plotModificationManager;
     }
 
+    private record RegionBounds(long version, PlotId id, int[] rectangles) {
+
+    }
+
 }
@@ -22,7 +22,6 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.plotsquared.core.PlotSquared;
-import com.plotsquared.core.collection.QuadMap;
 import com.plotsquared.core.configuration.ConfigurationNode;
 import com.plotsquared.core.configuration.ConfigurationSection;
 import com.plotsquared.core.configuration.ConfigurationUtil;
@@ -53,7 +52,6 @@ import com.plotsquared.core.util.RegionUtil;
 import com.plotsquared.core.util.StringMan;
 import com.plotsquared.core.util.task.TaskManager;
 import com.plotsquared.core.util.task.TaskTime;
-import com.sk89q.worldedit.math.BlockVector2;
 import com.sk89q.worldedit.math.BlockVector3;
 import com.sk89q.worldedit.regions.CuboidRegion;
 import com.sk89q.worldedit.world.biome.BiomeType;
@@ -84,6 +82,7 @@ import java.util.Map.Entry;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 /**
@@ -94,12 +93,14 @@ public abstract class PlotArea implements ComponentLike {
     private static final Logger LOGGER = LogManager.getLogger("PlotSquared/" + PlotArea.class.getSimpleName());
     private static final MiniMessage MINI_MESSAGE = MiniMessage.builder().build();
     private static final DecimalFormat FLAG_DECIMAL_FORMAT = new DecimalFormat("0");
+    private static final Direction[] MERGE_DIRECTIONS = {Direction.NORTH, Direction.EAST, Direction.SOUTH, Direction.WEST};
 
     static {
         FLAG_DECIMAL_FORMAT.setMaximumFractionDigits(340);
     }
 
     protected final ConcurrentHashMap<PlotId, Plot> plots = new ConcurrentHashMap<>();
+    private volatile FreePlotIndex freePlotIndex;
     @NonNull
     private final String worldName;
     private final String id;
@@ -152,7 +153,14 @@ public abstract class PlotArea implements ComponentLike {
     private int hash;
     private CuboidRegion region;
     private ConcurrentHashMap<String, Object> meta;
-    private QuadMap<PlotCluster> clusters;
+    private volatile ClusterIndex clusters = ClusterIndex.EMPTY;
+    /**
+     * Incremented whenever the merge state of a plot in this area changes, which invalidates the cached region
+     * rectangles of its plots
+     */
+    private final AtomicLong mergeVersion = new AtomicLong();
+    private final Object mergeLock = new Object();
+    private volatile @Nullable MergeGroups mergeGroups;
     private String signMaterial = "OAK_WALL_SIGN";
     private String legacySignMaterial = "WALL_SIGN";
 
@@ -285,8 +293,13 @@ public abstract class PlotArea implements ComponentLike {
                 .equals(plotarea.getWorldName()) && StringMan.isEqual(this.getId(), plotarea.getId());
     }
 
+    /**
+     * Get the clusters of this area
+     *
+     * @return unmodifiable snapshot of the clusters
+     */
     public Set<PlotCluster> getClusters() {
-        return this.clusters == null ? new HashSet<>() : this.clusters.getAll();
+        return this.clusters.getAll();
     }
 
     /**
@@ -579,6 +592,47 @@ public abstract class PlotArea implements ComponentLike {
         return getPlotAbs(pid);
     }
 
+    /**
+     * Get the plot or road rectangle a position lies in, along with the distance to its nearest edge. Listeners can
+     * use this to accept an event whose whole neighbourhood is inside one plot or one road without resolving every
+     * affected block. Merged plots are not considered, see {@link PlotCell}.
+     *
+     * @param x x coordinate
+     * @param z z coordinate
+     * @return the cell, or {@code null} if the position is outside of the area or the plot manager cannot tell
+     * @since TODO
+     */
+    public @Nullable PlotCell getPlotCellAbs(final int x, final int z) {
+        final PlotCell cell = this.getPlotManager().getPlotCellAbs(x, z);
+        if (cell == null || this.getType() != PlotAreaType.PARTIAL) {
+            return cell;
+        }
+        // Partial areas end at their region, which does not need to be aligned to the grid
+        final CuboidRegion region = getRegionAbs();
+        return region == null ? cell : clampToRegion(cell, region, x, z);
+    }
+
+    /**
+     * Limit the edge distance of a cell to the distance from its position to the edge of a region.
+     *
+     * @return the clamped cell, or {@code null} if the position is outside of the region
+     */
+    static @Nullable PlotCell clampToRegion(
+            final @NonNull PlotCell cell,
+            final @NonNull CuboidRegion region,
+            final int x,
+            final int z
+    ) {
+        final int toAreaEdge = Math.min(
+                Math.min(x - region.getMinimumPoint().getX(), region.getMaximumPoint().getX() - x),
+                Math.min(z - region.getMinimumPoint().getZ(), region.getMaximumPoint().getZ() - z)
+        );
+        if (toAreaEdge < 0) {
+            return null;
+        }
+        return toAreaEdge < cell.edgeDistance() ? new PlotCell(cell.id(), toAreaEdge) : cell;
+    }
+
     /**
      * Gets the base plot at a location.
      *
@@ -782,26 +836,18 @@ public abstract class PlotArea implements ComponentLike {
         if (plot == null) {
             return null;
         }
-        return this.clusters != null ? this.clusters.get(plot.getId().getX(), plot.getId().getY()) : null;
+        return this.clusters.get(plot.getId().getX(), plot.getId().getY());
     }
 
     public @Nullable PlotCluster getFirstIntersectingCluster(
             final @NonNull PlotId pos1,
             final @NonNull PlotId pos2
     ) {
-        if (this.clusters == null) {
-            return null;
-        }
-        for (PlotCluster cluster : this.clusters.getAll()) {
-            if (cluster.intersects(pos1, pos2)) {
-                return cluster;
-            }
-        }
-        return null;
+        return this.clusters.find(pos1.getX(), pos1.getY(), pos2.getX(), pos2.getY());
     }
 
     @Nullable PlotCluster getCluster(final @NonNull PlotId id) {
-        return this.clusters != null ? this.clusters.get(id.getX(), id.getY()) : null;
+        return this.clusters.get(id.getX(), id.getY());
     }
 
     /**
@@ -883,42 +929,174 @@ public abstract class PlotArea implements ComponentLike {
                 metaDataAccess.set(plot);
             }
         }
-        return this.plots.put(plot.getId(), plot) == null;
+        return indexClaimed(plot.getId(), plot, this.plots.put(plot.getId(), plot) == null);
     }
 
     public Plot getNextFreePlot(final PlotPlayer<?> player, @Nullable PlotId start) {
-        int plots;
-        PlotId center;
-        PlotId min = getMin();
-        PlotId max = getMax();
-        if (getType() == PlotAreaType.PARTIAL) {
-            center = PlotId.of(MathMan.average(min.getX(), max.getX()), MathMan.average(min.getY(), max.getY()));
-            plots = Math.max(max.getX() - min.getX() + 1, max.getY() - min.getY() + 1) + 1;
-            if (start != null) {
-                start = PlotId.of(start.getX() - center.getX(), start.getY() - center.getY());
+        PlotId id = getFreePlotIndex().next(start, candidate -> isClaimable(player, candidate));
+        return id == null ? null : getPlotAbs(id);
+    }
+
+    /**
+     * Find the next plot in spiral order that the player can claim and reserve it for
+     * {@link FreePlotIndex#RESERVATION_MILLIS}, so that concurrent lookups do not return the same plot.
+     *
+     * @param player player that will claim the plot
+     * @param start  plot id to start after, or {@code null} to start at the center of the area
+     * @return the reserved plot, or {@code null} if there is no free plot
+     * @since TODO
+     */
+    public @Nullable Plot reserveNextFreePlot(final @Nullable PlotPlayer<?> player, final @Nullable PlotId start) {
+        PlotId id = getFreePlotIndex().reserve(start, candidate -> isClaimable(player, candidate));
+        return id == null ? null : getPlotAbs(id);
+    }
+
+    /**
+     * Find the first rectangle of plots in spiral order that the player can claim and reserve them for
+     * {@link FreePlotIndex#RESERVATION_MILLIS}, so that concurrent lookups do not return the same plots.
+     *
+     * @param player player that will claim the plots
+     * @param sizeX  width of the rectangle
+     * @param sizeZ  length of the rectangle
+     * @return the reserved plots, or {@code null} if there is no free rectangle
+     * @since TODO
+     */
+    public @Nullable List<Plot> reserveFreePlots(final @Nullable PlotPlayer<?> player, final int sizeX, final int sizeZ) {
+        List<PlotId> ids = getFreePlotIndex().reserve(sizeX, sizeZ, candidate -> isClaimable(player, candidate));
+        if (ids == null) {
+            return null;
+        }
+        List<Plot> plots = new ArrayList<>(ids.size());
+        for (PlotId id : ids) {
+            plots.add(getPlotAbs(id));
+        }
+        return plots;
+    }
+
+    private boolean isClaimable(final @Nullable PlotPlayer<?> player, final @NonNull PlotId id) {
+        Plot plot = getPlotAbs(id);
+        return plot != null && plot.canClaim(player);
+    }
+
+    /**
+     * Get the index of free plots of this area, building it on first use
+     *
+     * @return free plot index
+     * @since TODO
+     */
+    public @NonNull FreePlotIndex getFreePlotIndex() {
+        FreePlotIndex index = this.freePlotIndex;
+        if (index == null) {
+            synchronized (this.plots) {
+                index = this.freePlotIndex;
+                if (index == null) {
+                    PlotId center = PlotId.of(0, 0);
+                    int limit = Integer.MAX_VALUE;
+                    if (getType() == PlotAreaType.PARTIAL) {
+                        PlotId min = getMin();
+                        PlotId max = getMax();
+                        center = PlotId.of(MathMan.average(min.getX(), max.getX()), MathMan.average(min.getY(), max.getY()));
+                        int ring = Math.max(max.getX() - min.getX(), max.getY() - min.getY()) / 2 + 1;
+                        limit = 4 * ring * (ring + 1) + 1;
+                    }
+                    index = new FreePlotIndex(center, limit);
+                    // Publish before populating, so that concurrent changes of the plot map wait for the index
+                    synchronized (index) {
+                        this.freePlotIndex = index;
+                        for (PlotId id : this.plots.keySet()) {
+                            index.setClaimed(id, true);
+                        }
+                    }
+                }
             }
-        } else {
-            center = PlotId.of(0, 0);
-            plots = Integer.MAX_VALUE;
         }
-        for (int i = 0; i < plots; i++) {
-            if (start == null) {
-                start = getMeta("lastPlot", PlotId.of(0, 0));
-            } else {
-                start = start.getNextId();
+        return index;
+    }
+
+    private boolean indexClaimed(final @NonNull PlotId id, final @Nullable Plot plot, final boolean claimed) {
+        // Only claimed plots are part of the merge groups
+        if (plot != null && plot.isMerged()) {
+            invalidateMergeState();
+        }
+        FreePlotIndex index = this.freePlotIndex;
+        if (index != null) {
+            index.setClaimed(id, this.plots.containsKey(id));
+        }
+        return claimed;
+    }
+
+    /**
+     * Get the merge state version of this area. It changes whenever plots in this area are merged or unlinked.
+     *
+     * @return merge state version
+     */
+    long getMergeVersion() {
+        return this.mergeVersion.get();
+    }
+
+    /**
+     * Account for two plots of this area that were merged with each other. The merge groups are joined in place.
+     *
+     * @param first  first plot
+     * @param second second plot
+     */
+    void joinMergeGroups(final @NonNull PlotId first, final @NonNull PlotId second) {
+        synchronized (this.mergeLock) {
+            this.mergeVersion.incrementAndGet();
+            final MergeGroups groups = this.mergeGroups;
+            if (groups != null) {
+                groups.union(first, second);
             }
-            PlotId currentId = PlotId.of(center.getX() + start.getX(), center.getY() + start.getY());
-            Plot plot = getPlotAbs(currentId);
-            if (plot != null && plot.canClaim(player)) {
-                setMeta("lastPlot", start);
-                return plot;
+        }
+    }
+
+    /**
+     * Account for a merge state change that may have split a merged plot. The merge groups are rebuilt on next use.
+     */
+    void invalidateMergeState() {
+        synchronized (this.mergeLock) {
+            this.mergeVersion.incrementAndGet();
+            this.mergeGroups = null;
+        }
+    }
+
+    /**
+     * Get the merge groups of the claimed plots in this area. They are built once, joined when plots are merged, and
+     * only rebuilt after a merged plot was unlinked, claimed or removed.
+     */
+    @NonNull MergeGroups getMergeGroups() {
+        MergeGroups groups = this.mergeGroups;
+        if (groups != null) {
+            return groups;
+        }
+        final long version = this.mergeVersion.get();
+        groups = new MergeGroups();
+        for (final Plot plot : this.plots.values()) {
+            if (!plot.hasOwner() || !plot.isMerged()) {
+                continue;
+            }
+            for (final Direction direction : MERGE_DIRECTIONS) {
+                if (plot.isMerged(direction)) {
+                    final Plot other = this.plots.get(plot.getId().getRelative(direction));
+                    if (other != null && other.hasOwner()) {
+                        groups.union(plot.getId(), other.getId());
+                    }
+                }
             }
         }
-        return null;
+        groups.compress();
+        synchronized (this.mergeLock) {
+            // Merge state that changed while building is not reflected, leave publishing to the next caller
+            if (this.mergeVersion.get() == version) {
+                this.mergeGroups = groups;
+            }
+        }
+        return groups;
     }
 
     public boolean addPlotIfAbsent(final @NonNull Plot plot) {
         if (this.plots.putIfAbsent(plot.getId(), plot) == null) {
+            indexClaimed(plot.getId(), plot, true);
             for (PlotPlayer<?> pp : plot.getPlayersInPlot()) {
                 try (final MetaDataAccess<Plot> metaDataAccess = pp.accessTemporaryMetaData(
                         PlayerMetaDataKeys.TEMPORARY_LAST_PLOT)) {
@@ -931,7 +1109,7 @@ public abstract class PlotArea implements ComponentLike {
     }
 
     public boolean addPlotAbs(final @NonNull Plot plot) {
-        return this.plots.put(plot.getId(), plot) == null;
+        return indexClaimed(plot.getId(), plot, this.plots.put(plot.getId(), plot) == null);
     }
 
     /**
@@ -1041,7 +1219,11 @@ public abstract class PlotArea implements ComponentLike {
     }
 
     public boolean removePlot(final @NonNull PlotId id) {
-        return this.plots.remove(id) != null;
+        final Plot plot = this.plots.remove(id);
+        if (plot != null) {
+            PlotLeaderboard.removeAll(plot);
+        }
+        return indexClaimed(id, plot, plot != null);
     }
 
     /**
@@ -1173,36 +1355,30 @@ public abstract class PlotArea implements ComponentLike {
 
     @SuppressWarnings("WeakerAccess")
     public void removeCluster(final @Nullable PlotCluster plotCluster) {
-        if (this.clusters == null) {
-            throw new IllegalAccessError("Clusters not enabled!");
+        synchronized (this.plots) {
+            this.clusters = this.clusters.without(plotCluster);
         }
-        this.clusters.remove(plotCluster);
     }
 
     public void addCluster(final @Nullable PlotCluster plotCluster) {
-        if (this.clusters == null) {
-            this.clusters = new QuadMap<>(Integer.MAX_VALUE, 0, 0, 62) {
-                @Override
-                public CuboidRegion getRegion(PlotCluster value) {
-                    BlockVector2 pos1 = BlockVector2.at(value.getP1().getX(), value.getP1().getY());
-                    BlockVector2 pos2 = BlockVector2.at(value.getP2().getX(), value.getP2().getY());
-                    return new CuboidRegion(
-                            pos1.toBlockVector3(getMinGenHeight()),
-                            pos2.toBlockVector3(getMaxGenHeight())
-                    );
-                }
-            };
+        synchronized (this.plots) {
+            this.clusters = this.clusters.with(plotCluster);
         }
-        this.clusters.add(plotCluster);
     }
 
-    public @Nullable PlotCluster getCluster(final String string) {
-        for (PlotCluster cluster : getClusters()) {
-            if (cluster.getName().equalsIgnoreCase(string)) {
-                return cluster;
-            }
+    /**
+     * Update the cluster index after a cluster of this area was resized or renamed
+     *
+     * @since TODO
+     */
+    public void updateClusters() {
+        synchronized (this.plots) {
+            this.clusters = this.clusters.rebuild();
         }
-        return null;
+    }
+
+    public @Nullable PlotCluster getCluster(final String string) {
+        return string == null ? null : this.clusters.getByName(string);
     }
 
     /**
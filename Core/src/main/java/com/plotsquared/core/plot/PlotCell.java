@@ -0,0 +1,59 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * The plot or road rectangle a horizontal position lies in, together with the distance from the position to the
+ * nearest edge of that rectangle. Positions whose x and z offsets from the queried position are both at most
+ * {@link #edgeDistance()} lie in the same rectangle, so they resolve to the same plot (or to no plot) without having
+ * to be looked up individually.
+ * <p>
+ * Roads between merged plots are reported as roads. Such a road rectangle is merged as a whole, so every position
+ * within it still resolves to the same owned plot.
+ *
+ * @param id           id of the plot, not taking merged plots into account, or {@code null} if the position is on a road
+ * @param edgeDistance number of blocks between the position and the nearest edge of its rectangle
+ * @see PlotArea#getPlotCellAbs(int, int)
+ * @since TODO
+ */
+public record PlotCell(@Nullable PlotId id, int edgeDistance) {
+
+    /**
+     * Whether the position is on a road.
+     *
+     * @return {@code true} if the position is not part of a plot
+     */
+    public boolean isRoad() {
+        return this.id == null;
+    }
+
+    /**
+     * Whether a position relative to the queried position lies in the same plot or road rectangle.
+     *
+     * @param offsetX x offset from the queried position
+     * @param offsetZ z offset from the queried position
+     * @return {@code true} if the offset position is known to be in the same rectangle
+     */
+    public boolean contains(final int offsetX, final int offsetZ) {
+        return Math.abs(offsetX) <= this.edgeDistance && Math.abs(offsetZ) <= this.edgeDistance;
+    }
+
+}
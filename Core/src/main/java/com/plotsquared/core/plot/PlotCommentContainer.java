@@ -18,10 +18,14 @@
  */
 package com.plotsquared.core.plot;
 
+import com.plotsquared.core.plot.comment.CommentCount;
 import com.plotsquared.core.plot.comment.PlotComment;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Container for {@link com.plotsquared.core.plot.Plot} comments
@@ -29,6 +33,7 @@ import java.util.List;
 public final class PlotCommentContainer {
 
     private final Plot plot;
+    private volatile Map<String, CommentCount> counts;
 
     PlotCommentContainer(final @NonNull Plot plot) {
         this.plot = plot;
@@ -81,6 +86,104 @@ public final class PlotCommentContainer {
         this.getSettings().setComments(list);
     }
 
+    /**
+     * Set the comments of all inboxes, as loaded from the database. Comments that are already in memory are kept.
+     *
+     * @param list Comments of all inboxes
+     * @since TODO
+     */
+    public void setLoadedComments(final @NonNull List<PlotComment> list) {
+        this.getSettings().setLoadedComments(list);
+    }
+
+    /**
+     * Whether the comments of all inboxes of this plot have been loaded from the database. Comments added to single
+     * inboxes do not count, so the in-memory comments are incomplete until this returns {@code true}.
+     *
+     * @return {@code true} if the comments are loaded
+     * @since TODO
+     */
+    public boolean areCommentsLoaded() {
+        return this.getSettings().areCommentsLoaded();
+    }
+
+    /**
+     * Whether the inbox counters of this plot are known
+     *
+     * @return {@code true} if the counters have been loaded
+     * @since TODO
+     */
+    public boolean hasCommentCounts() {
+        return this.counts != null;
+    }
+
+    /**
+     * Get the counter of an inbox
+     *
+     * @param inbox Inbox
+     * @return the counter, or {@code null} if the inbox is empty or the counters are not loaded
+     * @since TODO
+     */
+    public @Nullable CommentCount getCommentCount(final @NonNull String inbox) {
+        final Map<String, CommentCount> counts = this.counts;
+        return counts == null ? null : counts.get(inbox);
+    }
+
+    /**
+     * Set the inbox counters of the plot
+     *
+     * @param counts Counters, mapped by inbox
+     * @since TODO
+     */
+    public void setCommentCounts(final @NonNull Map<String, CommentCount> counts) {
+        this.counts = new ConcurrentHashMap<>(counts);
+    }
+
+    /**
+     * Account for a comment written to the plot. Does nothing if the counters are not loaded.
+     *
+     * @param comment Comment that was added
+     * @since TODO
+     */
+    public void countComment(final @NonNull PlotComment comment) {
+        final Map<String, CommentCount> counts = this.counts;
+        if (counts != null) {
+            counts.merge(comment.inbox(), new CommentCount(1, comment.timestamp()), (previous, added) ->
+                    new CommentCount(previous.count() + 1, Math.max(previous.latest(), added.latest())));
+        }
+    }
+
+    /**
+     * Account for a comment removed from the plot. Does nothing if the counters are not loaded.
+     *
+     * @param comment Comment that was removed
+     * @since TODO
+     */
+    public void uncountComment(final @NonNull PlotComment comment) {
+        final Map<String, CommentCount> counts = this.counts;
+        if (counts != null) {
+            counts.computeIfPresent(comment.inbox(), (inbox, previous) -> previous.count() <= 1 ? null :
+                    new CommentCount(previous.count() - 1, previous.latest()));
+        }
+    }
+
+    /**
+     * Reset the counter of an inbox, or of all inboxes
+     *
+     * @param inbox Inbox, or {@code null} for all inboxes
+     * @since TODO
+     */
+    public void clearCommentCount(final @Nullable String inbox) {
+        final Map<String, CommentCount> counts = this.counts;
+        if (counts != null) {
+            if (inbox == null) {
+                counts.clear();
+            } else {
+                counts.remove(inbox);
+            }
+        }
+    }
+
     @NonNull
     private PlotSettings getSettings() {
         if (this.plot.getSettings() == null) {
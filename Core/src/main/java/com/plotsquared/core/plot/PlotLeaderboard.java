@@ -0,0 +1,252 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot;
+
+import com.plotsquared.core.PlotSquared;
+import com.plotsquared.core.plot.flag.implementations.DoneFlag;
+import com.plotsquared.core.util.MathMan;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Ranking of base plots that is kept up to date when plots change, so that ordered pages can be read by walking
+ * the ranking instead of sorting every plot. Each leaderboard keeps one global skip list and one per plot area,
+ * ordered by descending score, then descending tiebreak, then by area and plot id, see {@link Ranking}.
+ * <p>
+ * Leaderboards are built from the loaded plots the first time they are read, updates before that are ignored.
+ * After that, entries are updated when ratings or the done flag change, when plots are merged, unlinked, swapped or
+ * moved, and when plots are removed from their area.
+ *
+ * @since TODO
+ */
+public final class PlotLeaderboard {
+
+    private static final PlotLeaderboard RATINGS = new PlotLeaderboard(PlotLeaderboard::ratingEntry);
+    private static final PlotLeaderboard DONE = new PlotLeaderboard(PlotLeaderboard::doneEntry);
+
+    private final Function<Plot, @Nullable Score> scorer;
+    private final Ranking<Plot, PlotArea> ranking = new Ranking<>();
+    private volatile boolean built;
+
+    private PlotLeaderboard(final @NonNull Function<Plot, @Nullable Score> scorer) {
+        this.scorer = scorer;
+    }
+
+    /**
+     * Get the leaderboard of rated plots. Plots are ranked by the mean of their squared ratings plus the amount of
+     * ratings, plots with more ratings first if the scores are equal.
+     *
+     * @return rating leaderboard
+     */
+    public static @NonNull PlotLeaderboard ratings() {
+        return RATINGS;
+    }
+
+    /**
+     * Get the leaderboard of plots marked as done, most recently done plots first.
+     *
+     * @return done leaderboard
+     */
+    public static @NonNull PlotLeaderboard done() {
+        return DONE;
+    }
+
+    /**
+     * Remove a plot from every leaderboard, e.g. because it was deleted.
+     *
+     * @param plot plot to remove
+     */
+    public static void removeAll(final @NonNull Plot plot) {
+        RATINGS.remove(plot);
+        DONE.remove(plot);
+    }
+
+    /**
+     * Recompute the entries of plots whose merge state changed. Plots that stopped being base plots are removed and
+     * the remaining base plots are ranked again.
+     *
+     * @param plots plots that were merged or unlinked
+     */
+    public static void updateMerged(final @NonNull Collection<Plot> plots) {
+        RATINGS.updateAll(plots);
+        DONE.updateAll(plots);
+    }
+
+    /**
+     * Rank plots again after their ids changed, e.g. because they were swapped or moved. Plots that are no base plots
+     * are removed.
+     *
+     * @param plots plots that were swapped or moved
+     */
+    public static void updateMoved(final @NonNull Collection<Plot> plots) {
+        RATINGS.updateAll(plots);
+        DONE.updateAll(plots);
+    }
+
+    /**
+     * Get the score of plots with the given ratings.
+     *
+     * @param sum   sum of the squared average ratings
+     * @param count amount of ratings
+     * @return mean of the squared ratings plus the amount of ratings
+     */
+    static double ratingScore(final double sum, final int count) {
+        return sum / count + count;
+    }
+
+    private static @Nullable Score ratingEntry(final @NonNull Plot plot) {
+        if (!plot.hasRatings() || plot.getSettings().getRatings().isEmpty()) {
+            return null;
+        }
+        double sum = 0;
+        int count = 0;
+        for (final Rating rating : plot.getRatings().values()) {
+            final double average = rating.getAverageRating();
+            sum += average * average;
+            count++;
+        }
+        return ratingEntry(plot, sum, count);
+    }
+
+    private static @NonNull Score ratingEntry(final @NonNull Plot plot, final double sum, final int count) {
+        return new Score(ratingScore(sum, count), count, sum, count);
+    }
+
+    private static @Nullable Score doneEntry(final @NonNull Plot plot) {
+        final String value = plot.getFlag(DoneFlag.class);
+        if (value.isEmpty()) {
+            return null;
+        }
+        if (MathMan.isInteger(value)) {
+            return new Score(1, Long.parseLong(value), 0, 0);
+        }
+        return new Score(0, 0, 0, 0);
+    }
+
+    /**
+     * Recompute the entry of a plot, e.g. after its done flag changed.
+     *
+     * @param plot plot to update, the entry is kept for its base plot
+     */
+    public void update(final @NonNull Plot plot) {
+        final Plot base = plot.getBasePlot(false);
+        synchronized (this) {
+            if (!this.built) {
+                return;
+            }
+            put(base, this.scorer.apply(base));
+        }
+    }
+
+    private void updateAll(final @NonNull Collection<Plot> plots) {
+        synchronized (this) {
+            if (!this.built) {
+                return;
+            }
+            for (final Plot plot : plots) {
+                put(plot, plot.isBasePlot() ? this.scorer.apply(plot) : null);
+            }
+        }
+    }
+
+    /**
+     * Account a single new rating of a plot without recomputing the existing ones.
+     *
+     * @param plot    rated plot
+     * @param average average of the new rating over all categories
+     */
+    void addRating(final @NonNull Plot plot, final double average) {
+        final Plot base = plot.getBasePlot(false);
+        synchronized (this) {
+            if (!this.built) {
+                return;
+            }
+            final Ranking.Entry<Plot, PlotArea> entry = this.ranking.get(base);
+            if (entry == null) {
+                // Ratings may have just been loaded from the database, count all of them once
+                put(base, this.scorer.apply(base));
+            } else {
+                put(base, ratingEntry(base, entry.sum() + average * average, entry.count() + 1));
+            }
+        }
+    }
+
+    /**
+     * Remove a plot from this leaderboard.
+     *
+     * @param plot plot to remove
+     */
+    public void remove(final @NonNull Plot plot) {
+        synchronized (this) {
+            if (!this.built) {
+                return;
+            }
+            put(plot, null);
+        }
+    }
+
+    /**
+     * Get the ranked plots, best first. Entries of plots that stopped being base plots are skipped.
+     *
+     * @param areas areas to limit the ranking to, or {@code null} for all areas
+     * @return ranked plots
+     */
+    public @NonNull Stream<Plot> stream(final @Nullable Collection<PlotArea> areas) {
+        build();
+        return this.ranking.stream(areas).filter(Plot::isBasePlot);
+    }
+
+    private void build() {
+        if (this.built) {
+            return;
+        }
+        synchronized (this) {
+            if (this.built) {
+                return;
+            }
+            for (final PlotArea area : PlotSquared.get().getPlotAreaManager().getAllPlotAreas()) {
+                for (final Plot plot : area.getPlots()) {
+                    if (plot.isBasePlot()) {
+                        put(plot, this.scorer.apply(plot));
+                    }
+                }
+            }
+            this.built = true;
+        }
+    }
+
+    private void put(final @NonNull Plot plot, final @Nullable Score score) {
+        if (score == null) {
+            this.ranking.remove(plot);
+        } else {
+            this.ranking.put(plot, plot.getArea(), plot.getId().getX(), plot.getId().getY(), score.score(),
+                    score.tiebreak(), score.sum(), score.count()
+            );
+        }
+    }
+
+    private record Score(double score, long tiebreak, double sum, int count) {
+
+    }
+
+}
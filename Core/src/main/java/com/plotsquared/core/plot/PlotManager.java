@@ -49,6 +49,19 @@ public abstract class PlotManager {
 
     public abstract PlotId getPlotId(int x, int y, int z);
 
+    /**
+     * Get the plot or road rectangle a position lies in, along with the distance to the edge of the rectangle.
+     * Merged plots are not considered.
+     *
+     * @param x x coordinate
+     * @param z z coordinate
+     * @return the cell, or {@code null} if the plot manager cannot tell
+     * @since TODO
+     */
+    public @Nullable PlotCell getPlotCellAbs(int x, int z) {
+        return null;
+    }
+
     // If you have a circular plot, just return the corner if it were a square
     public abstract Location getPlotBottomLocAbs(@NonNull PlotId plotId);
 
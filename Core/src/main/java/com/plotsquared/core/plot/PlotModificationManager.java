@@ -31,6 +31,7 @@ import com.plotsquared.core.events.PlotMergeEvent;
 import com.plotsquared.core.events.PlotUnlinkEvent;
 import com.plotsquared.core.events.Result;
 import com.plotsquared.core.generator.ClassicPlotWorld;
+import com.plotsquared.core.generator.HybridPlotManager;
 import com.plotsquared.core.generator.SquarePlotWorld;
 import com.plotsquared.core.inject.factory.ProgressSubscriberFactory;
 import com.plotsquared.core.location.Direction;
@@ -63,6 +64,7 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 /**
@@ -218,60 +220,78 @@ public final class PlotModificationManager {
         }
         final Set<CuboidRegion> regions = this.plot.getRegions();
         final Set<Plot> plots = this.plot.getConnectedPlots();
-        final ArrayDeque<Plot> queue = new ArrayDeque<>(plots);
         if (isDelete) {
             this.removeSign();
         }
         final PlotManager manager = this.plot.getArea().getPlotManager();
-        Runnable run = new Runnable() {
-            @Override
-            public void run() {
-                if (queue.isEmpty()) {
-                    Runnable run = () -> {
-                        for (CuboidRegion region : regions) {
-                            Location[] corners = Plot.getCorners(plot.getWorldName(), region);
-                            PlotSquared.platform().regionManager().clearAllEntities(corners[0], corners[1]);
+        final Runnable finish = () -> {
+            for (CuboidRegion region : regions) {
+                Location[] corners = Plot.getCorners(plot.getWorldName(), region);
+                PlotSquared.platform().regionManager().clearAllEntities(corners[0], corners[1]);
+            }
+            TaskManager.runTask(whenDone);
+        };
+        final Runnable run;
+        if (this.plot.getArea().getTerrain() == PlotAreaTerrainType.NONE && manager instanceof HybridPlotManager
+                && !PlotSquared.platform().regionManager().notifyClear(manager)) {
+            // All plots are written into a single queue, so every chunk is only processed once
+            run = () -> {
+                QueueCoordinator queue = plot.getArea().getQueue();
+                if (actor != null && Settings.QUEUE.NOTIFY_PROGRESS) {
+                    queue.addProgressSubscriber(subscriberFactory.createWithActor(actor));
+                }
+                for (Plot current : plots) {
+                    current.clearCache();
+                    manager.clearPlot(current, null, null, queue);
+                }
+                reclaimComponents(plots, isDelete, actor, manager, queue);
+                queue.setCompleteTask(finish);
+                queue.enqueue();
+            };
+        } else {
+            final ArrayDeque<List<Plot>> waves = new ArrayDeque<>(this.getClearWaves(plots));
+            run = new Runnable() {
+                @Override
+                public void run() {
+                    if (waves.isEmpty()) {
+                        QueueCoordinator queue = plot.getArea().getQueue();
+                        reclaimComponents(plots, isDelete, actor, manager, queue);
+                        if (queue.size() > 0) {
+                            queue.setCompleteTask(finish);
+                            queue.enqueue();
+                            return;
+                        }
+                        finish.run();
+                        return;
+                    }
+                    final List<Plot> wave = waves.poll();
+                    final AtomicInteger remaining = new AtomicInteger(wave.size());
+                    final Runnable next = () -> {
+                        if (remaining.decrementAndGet() == 0) {
+                            this.run();
                         }
-                        TaskManager.runTask(whenDone);
                     };
-                    QueueCoordinator queue = plot.getArea().getQueue();
-                    for (Plot current : plots) {
-                        if (isDelete || !current.hasOwner()) {
-                            manager.unClaimPlot(current, null, queue);
-                        } else {
-                            manager.claimPlot(current, queue);
-                            if (plot.getArea() instanceof ClassicPlotWorld cpw) {
-                                manager.setComponent(current.getId(), "wall", cpw.WALL_FILLING.toPattern(), actor, queue);
+                    for (Plot current : wave) {
+                        current.clearCache();
+                        if (plot.getArea().getTerrain() != PlotAreaTerrainType.NONE) {
+                            try {
+                                PlotSquared.platform().regionManager().regenerateRegion(
+                                        current.getBottomAbs(),
+                                        current.getTopAbs(),
+                                        false,
+                                        next
+                                );
+                            } catch (UnsupportedOperationException exception) {
+                                exception.printStackTrace();
+                                return;
                             }
+                            continue;
                         }
+                        manager.clearPlot(current, next, actor, null);
                     }
-                    if (queue.size() > 0) {
-                        queue.setCompleteTask(run);
-                        queue.enqueue();
-                        return;
-                    }
-                    run.run();
-                    return;
-                }
-                Plot current = queue.poll();
-                current.clearCache();
-                if (plot.getArea().getTerrain() != PlotAreaTerrainType.NONE) {
-                    try {
-                        PlotSquared.platform().regionManager().regenerateRegion(
-                                current.getBottomAbs(),
-                                current.getTopAbs(),
-                                false,
-                                this
-                        );
-                    } catch (UnsupportedOperationException exception) {
-                        exception.printStackTrace();
-                        return;
-                    }
-                    return;
                 }
-                manager.clearPlot(current, this, actor, null);
-            }
-        };
+            };
+        }
         PlotUnlinkEvent event = PlotSquared.get().getEventDispatcher()
                 .callUnlink(
                         this.plot.getArea(),
@@ -290,6 +310,51 @@ public final class PlotModificationManager {
         return true;
     }
 
+    private void reclaimComponents(
+            final Set<Plot> plots,
+            final boolean isDelete,
+            final @Nullable PlotPlayer<?> actor,
+            final PlotManager manager,
+            final QueueCoordinator queue
+    ) {
+        for (Plot current : plots) {
+            if (isDelete || !current.hasOwner()) {
+                manager.unClaimPlot(current, null, queue);
+            } else {
+                manager.claimPlot(current, queue);
+                if (this.plot.getArea() instanceof ClassicPlotWorld cpw) {
+                    manager.setComponent(current.getId(), "wall", cpw.WALL_FILLING.toPattern(), actor, queue);
+                }
+            }
+        }
+    }
+
+    /**
+     * Split the plots into groups that can be regenerated at the same time. Regeneration works on whole chunks and
+     * restores the blocks outside the plot afterwards, so two plots sharing a chunk must not be regenerated
+     * concurrently. Plots whose ids have the same parity on both axes are at least one plot and two roads apart.
+     */
+    private List<List<Plot>> getClearWaves(final Set<Plot> plots) {
+        final List<List<Plot>> waves = new ArrayList<>();
+        if (this.plot.getArea() instanceof SquarePlotWorld spw && spw.PLOT_WIDTH + 2 * spw.ROAD_WIDTH >= 16) {
+            final List<List<Plot>> parity = new ArrayList<>(List.of(
+                    new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>()));
+            for (final Plot current : plots) {
+                parity.get((current.getId().getX() & 1) << 1 | (current.getId().getY() & 1)).add(current);
+            }
+            for (final List<Plot> wave : parity) {
+                if (!wave.isEmpty()) {
+                    waves.add(wave);
+                }
+            }
+        } else {
+            for (final Plot current : plots) {
+                waves.add(List.of(current));
+            }
+        }
+        return waves;
+    }
+
     /**
      * Sets the biome for a plot asynchronously.
      *
@@ -381,6 +446,7 @@ public final class PlotModificationManager {
             boolean[] merged = new boolean[]{false, false, false, false};
             current.setMerged(merged);
         }
+        PlotLeaderboard.updateMerged(plots);
         if (createSign) {
             queue.setCompleteTask(() -> TaskManager.runTaskAsync(() -> {
                 List<CompletableFuture<Void>> tasks = plots.stream().map(current -> PlotSquared.platform().playerManager()
@@ -53,6 +53,10 @@ public class PlotSettings {
      * Plot comments.
      */
     private List<PlotComment> comments = null;
+    /**
+     * Whether the comments of all inboxes have been loaded from the database.
+     */
+    private volatile boolean commentsLoaded;
     /**
      * Home Position.
      */
@@ -114,6 +118,24 @@ public class PlotSettings {
                 .collect(ImmutableList.toImmutableList());
     }
 
+    boolean areCommentsLoaded() {
+        return this.commentsLoaded;
+    }
+
+    void setLoadedComments(List<PlotComment> loaded) {
+        final List<PlotComment> comments = new ArrayList<>(loaded);
+        if (this.comments != null) {
+            // Keep comments added while the database was being queried
+            for (final PlotComment comment : this.comments) {
+                if (!comments.contains(comment)) {
+                    comments.add(comment);
+                }
+            }
+        }
+        this.comments = comments;
+        this.commentsLoaded = true;
+    }
+
     boolean removeComment(PlotComment comment) {
         if (this.comments == null) {
             return false;
@@ -0,0 +1,137 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Ranking of keys by descending score, then descending tiebreak, then by group and position, with one skip list over
+ * all keys and one per group. Entries are looked up by key identity and keep the group and position they were ranked
+ * with, so an entry can still be found and replaced after the position or the hash code of its key changed.
+ * <p>
+ * Reads are safe from any thread, writes have to be synchronized by the caller.
+ *
+ * @param <K> ranked key
+ * @param <G> group of a key
+ */
+final class Ranking<K, G> {
+
+    private static final Comparator<Entry<?, ?>> ORDER = Comparator.<Entry<?, ?>>comparingDouble(Entry::score).reversed()
+            .thenComparing(Comparator.<Entry<?, ?>>comparingLong(Entry::tiebreak).reversed())
+            .thenComparing(entry -> entry.group().toString())
+            .thenComparingInt(Entry::x)
+            .thenComparingInt(Entry::z)
+            // Keys ranked at the same position while they are being moved must not replace each other
+            .thenComparingLong(Entry::sequence);
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final NavigableSet<Entry<K, G>> global = new ConcurrentSkipListSet<>(ORDER);
+    private final Map<G, NavigableSet<Entry<K, G>>> groups = new ConcurrentHashMap<>();
+    private final Map<K, Entry<K, G>> entries = new IdentityHashMap<>();
+
+    /**
+     * Get the entry of a key.
+     *
+     * @param key ranked key
+     * @return entry, or {@code null} if the key is not ranked
+     */
+    @Nullable Entry<K, G> get(final @NonNull K key) {
+        return this.entries.get(key);
+    }
+
+    /**
+     * Rank a key, replacing its previous entry.
+     *
+     * @param key      key to rank
+     * @param group    group of the key
+     * @param x        x position of the key, used to order equal scores
+     * @param z        z position of the key, used to order equal scores
+     * @param score    score, higher scores first
+     * @param tiebreak tiebreak of equal scores, higher tiebreaks first
+     * @param sum      sum of the values the score was computed from
+     * @param count    amount of values the score was computed from
+     */
+    void put(
+            final @NonNull K key, final @NonNull G group, final int x, final int z, final double score,
+            final long tiebreak, final double sum, final int count
+    ) {
+        final Entry<K, G> entry = new Entry<>(key, group, x, z, score, tiebreak, sum, count, this.sequence.incrementAndGet());
+        unlink(this.entries.put(key, entry));
+        this.global.add(entry);
+        this.groups.computeIfAbsent(group, ignored -> new ConcurrentSkipListSet<>(ORDER)).add(entry);
+    }
+
+    /**
+     * Remove a key from the ranking.
+     *
+     * @param key key to remove
+     */
+    void remove(final @NonNull K key) {
+        unlink(this.entries.remove(key));
+    }
+
+    /**
+     * Get the ranked keys, best first.
+     *
+     * @param groups groups to limit the ranking to, or {@code null} for all groups
+     * @return ranked keys
+     */
+    @NonNull Stream<K> stream(final @Nullable Collection<G> groups) {
+        final Stream<Entry<K, G>> entries;
+        if (groups == null) {
+            entries = this.global.stream();
+        } else if (groups.size() == 1) {
+            entries = this.groups.getOrDefault(groups.iterator().next(), Collections.emptyNavigableSet()).stream();
+        } else {
+            entries = this.global.stream().filter(entry -> groups.contains(entry.group()));
+        }
+        return entries.map(Entry::key);
+    }
+
+    private void unlink(final @Nullable Entry<K, G> previous) {
+        if (previous == null) {
+            return;
+        }
+        this.global.remove(previous);
+        final NavigableSet<Entry<K, G>> group = this.groups.get(previous.group());
+        if (group != null) {
+            group.remove(previous);
+        }
+    }
+
+    record Entry<K, G>(
+            @NonNull K key, @NonNull G group, int x, int z, double score, long tiebreak, double sum, int count,
+            long sequence
+    ) {
+
+    }
+
+}
@@ -0,0 +1,34 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot.comment;
+
+/**
+ * Aggregated state of a plot inbox, used to decide whether an owner has unread comments without loading them.
+ *
+ * @param count  number of comments in the inbox
+ * @param latest timestamp (in milliseconds) of the newest comment. Removing comments does not lower this value,
+ *               it is only guaranteed to be an upper bound
+ * @since TODO
+ */
+public record CommentCount(
+        int count,
+        long latest
+) {
+
+}
@@ -22,10 +22,12 @@ import com.google.inject.TypeLiteral;
 import com.plotsquared.core.configuration.Settings;
 import com.plotsquared.core.configuration.caption.StaticCaption;
 import com.plotsquared.core.configuration.caption.TranslatableCaption;
+import com.plotsquared.core.database.DBFunc;
 import com.plotsquared.core.player.MetaDataAccess;
 import com.plotsquared.core.player.MetaDataKey;
 import com.plotsquared.core.player.PlotPlayer;
 import com.plotsquared.core.plot.Plot;
+import com.plotsquared.core.plot.PlotCommentContainer;
 import com.plotsquared.core.util.task.RunnableVal;
 import com.plotsquared.core.util.task.TaskManager;
 import com.plotsquared.core.util.task.TaskTime;
@@ -33,9 +35,14 @@ import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.tag.Tag;
 import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public class CommentManager {
@@ -47,39 +54,140 @@ public class CommentManager {
             return;
         }
         TaskManager.runTaskLaterAsync(() -> {
-            Collection<CommentInbox> boxes = CommentManager.inboxes.values();
-            final AtomicInteger count = new AtomicInteger(0);
-            final AtomicInteger size = new AtomicInteger(boxes.size());
+            final PlotCommentContainer container = plot.getPlotCommentContainer();
+            if (!container.hasCommentCounts()) {
+                countUnreadComments(player, plot, CommentManager.inboxes.values(), 0);
+                return;
+            }
+            // The counters tell which inboxes may contain unread comments, only those have to be looked at
+            final List<CommentInbox> unloaded = new ArrayList<>();
+            int total = 0;
             for (final CommentInbox inbox : inboxes.values()) {
-                inbox.getComments(plot, new RunnableVal<>() {
-                    @Override
-                    public void run(List<PlotComment> value) {
-                        int total;
-                        if (value != null) {
-                            int num = 0;
-                            for (PlotComment comment : value) {
-                                if (comment.timestamp() > getTimestamp(player, inbox.toString())) {
-                                    num++;
-                                }
+                final CommentCount count = container.getCommentCount(inbox.toString());
+                final long timestamp = getTimestamp(player, inbox.toString());
+                if (count == null || count.latest() <= timestamp) {
+                    continue;
+                }
+                if (!container.areCommentsLoaded()) {
+                    unloaded.add(inbox);
+                    continue;
+                }
+                for (final PlotComment comment : container.getComments(inbox.toString())) {
+                    if (comment.timestamp() > timestamp) {
+                        total++;
+                    }
+                }
+            }
+            if (unloaded.isEmpty()) {
+                sendNotification(player, total);
+            } else {
+                countUnreadComments(player, plot, unloaded, total);
+            }
+        }, TaskTime.seconds(1L));
+    }
+
+    /**
+     * Count the unread comments by fetching the given inboxes. If all inboxes are fetched, the counters of the plot
+     * are filled in so that later notifications do not have to do this again.
+     */
+    private static void countUnreadComments(
+            final PlotPlayer<?> player, final Plot plot,
+            final Collection<CommentInbox> boxes, final int known
+    ) {
+        final boolean complete = boxes.size() == inboxes.size();
+        final Map<String, CommentCount> counts = new ConcurrentHashMap<>();
+        final AtomicInteger count = new AtomicInteger(known);
+        final AtomicInteger size = new AtomicInteger(boxes.size());
+        for (final CommentInbox inbox : boxes) {
+            inbox.getComments(plot, new RunnableVal<>() {
+                @Override
+                public void run(List<PlotComment> value) {
+                    if (value != null && !value.isEmpty()) {
+                        final long timestamp = getTimestamp(player, inbox.toString());
+                        int num = 0;
+                        long latest = 0;
+                        for (PlotComment comment : value) {
+                            if (comment.timestamp() > timestamp) {
+                                num++;
                             }
-                            total = count.addAndGet(num);
-                        } else {
-                            total = count.get();
+                            latest = Math.max(latest, comment.timestamp());
+                        }
+                        counts.put(inbox.toString(), new CommentCount(value.size(), latest));
+                        count.addAndGet(num);
+                    }
+                    if (size.decrementAndGet() == 0) {
+                        if (complete) {
+                            plot.getPlotCommentContainer().setCommentCounts(counts);
                         }
-                        if ((size.decrementAndGet() == 0) && (total > 0)) {
-                            player.sendTitle(
-                                    StaticCaption.of(""),
-                                    TranslatableCaption.of("comment.inbox_notification"),
-                                    TagResolver.builder()
-                                            .tag("amount", Tag.inserting(Component.text(total)))
-                                            .tag("command", Tag.inserting(Component.text("/plot inbox")))
-                                            .build()
-                            );
+                        sendNotification(player, count.get());
+                    }
+                }
+            });
+        }
+    }
+
+    private static void sendNotification(final PlotPlayer<?> player, final int total) {
+        if (total <= 0) {
+            return;
+        }
+        player.sendTitle(
+                StaticCaption.of(""),
+                TranslatableCaption.of("comment.inbox_notification"),
+                TagResolver.builder()
+                        .tag("amount", Tag.inserting(Component.text(total)))
+                        .tag("command", Tag.inserting(Component.text("/plot inbox")))
+                        .build()
+        );
+    }
+
+    /**
+     * Load the inbox counters of all plots owned by a player with a single query, followed by one query loading the
+     * comments of the plots that may contain unread comments. Meant to be called when the player joins, so that
+     * {@link #sendTitle(PlotPlayer, Plot)} does not need to access the database.
+     *
+     * @param player the player who joined
+     * @since TODO
+     */
+    public static void loadComments(final PlotPlayer<?> player) {
+        if (!Settings.Enabled_Components.COMMENT_NOTIFIER) {
+            return;
+        }
+        final Set<Plot> plots = player.getPlots();
+        if (plots.isEmpty()) {
+            return;
+        }
+        final long lastPlayed = player.getLastPlayed();
+        DBFunc.getCommentCounts(plots, new RunnableVal<>() {
+            @Override
+            public void run(Map<Plot, Map<String, CommentCount>> value) {
+                final List<Plot> unread = new ArrayList<>();
+                for (final Plot plot : plots) {
+                    final Map<String, CommentCount> counts = value.getOrDefault(plot, Collections.emptyMap());
+                    final PlotCommentContainer container = plot.getPlotCommentContainer();
+                    container.setCommentCounts(counts);
+                    if (container.areCommentsLoaded()) {
+                        continue;
+                    }
+                    if (counts.values().stream().anyMatch(count -> count.latest() > lastPlayed)) {
+                        unread.add(plot);
+                    }
+                }
+                if (unread.isEmpty()) {
+                    return;
+                }
+                DBFunc.getComments(unread, new RunnableVal<>() {
+                    @Override
+                    public void run(Map<Plot, List<PlotComment>> value) {
+                        for (final Plot plot : unread) {
+                            final PlotCommentContainer container = plot.getPlotCommentContainer();
+                            if (!container.areCommentsLoaded()) {
+                                container.setLoadedComments(value.getOrDefault(plot, Collections.emptyList()));
+                            }
                         }
                     }
                 });
             }
-        }, TaskTime.seconds(1L));
+        });
     }
 
     /**
@@ -44,6 +44,7 @@ public class InboxReport extends CommentInbox {
         if (plot.getOwner() == null) {
             return false;
         }
+        plot.getPlotCommentContainer().addComment(comment);
         DBFunc.setComment(plot, comment);
         return true;
     }
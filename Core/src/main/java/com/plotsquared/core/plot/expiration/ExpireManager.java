@@ -33,13 +33,14 @@ import com.plotsquared.core.player.PlotPlayer;
 import com.plotsquared.core.plot.Plot;
 import com.plotsquared.core.plot.PlotArea;
 import com.plotsquared.core.plot.PlotAreaType;
+import com.plotsquared.core.plot.PlotId;
 import com.plotsquared.core.plot.flag.GlobalFlagContainer;
 import com.plotsquared.core.plot.flag.PlotFlag;
 import com.plotsquared.core.plot.flag.implementations.AnalysisFlag;
 import com.plotsquared.core.plot.flag.implementations.KeepFlag;
 import com.plotsquared.core.plot.flag.implementations.ServerPlotFlag;
+import com.plotsquared.core.plot.world.PlotAreaManager;
 import com.plotsquared.core.util.EventDispatcher;
-import com.plotsquared.core.util.query.PlotQuery;
 import com.plotsquared.core.util.task.RunnableVal;
 import com.plotsquared.core.util.task.RunnableVal3;
 import com.plotsquared.core.util.task.TaskManager;
@@ -53,12 +54,20 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
 
 public class ExpireManager {
 
@@ -67,6 +76,7 @@ public class ExpireManager {
     private final EventDispatcher eventDispatcher;
     private final ArrayDeque<ExpiryTask> tasks;
     private volatile HashSet<Plot> plotsToDelete;
+    private volatile boolean lastSeenLoaded;
     /**
      * 0 = stopped, 1 = stopping, 2 = running
      */
@@ -197,12 +207,7 @@ public class ExpireManager {
 
     public Collection<ExpiryTask> isExpired(ArrayDeque<ExpiryTask> applicable, Plot plot) {
         // Filter out invalid worlds
-        for (int i = 0; i < applicable.size(); i++) {
-            ExpiryTask et = applicable.poll();
-            if (et.applies(plot.getArea())) {
-                applicable.add(et);
-            }
-        }
+        applicable.removeIf(et -> !et.applies(plot.getArea()));
         if (applicable.isEmpty()) {
             return new ArrayList<>();
         }
@@ -212,49 +217,39 @@ public class ExpireManager {
             return new ArrayList<>();
         }
 
-        // Filter out non old plots
-        boolean shouldCheckAccountAge = false;
-        for (int i = 0; i < applicable.size(); i++) {
-            ExpiryTask et = applicable.poll();
-            if (et.applies(getAge(plot, et.shouldDeleteForUnknownOwner()))) {
-                applicable.add(et);
-                shouldCheckAccountAge |= et.getSettings().SKIP_ACCOUNT_AGE_DAYS != -1;
+        // Filter out non old plots. The age only depends on how unknown owners are treated, so compute it at most twice
+        final long[] ages = {-1, -1};
+        final ToLongFunction<ExpiryTask> age = et -> {
+            int index = et.shouldDeleteForUnknownOwner() ? 1 : 0;
+            if (ages[index] == -1) {
+                ages[index] = getAge(plot, et.shouldDeleteForUnknownOwner());
             }
-        }
+            return ages[index];
+        };
+        applicable.removeIf(et -> !et.applies(age.applyAsLong(et)));
         if (applicable.isEmpty()) {
             return new ArrayList<>();
         }
         // Check account age
-        if (shouldCheckAccountAge) {
-            for (int i = 0; i < applicable.size(); i++) {
-                ExpiryTask et = applicable.poll();
-                long accountAge = getAge(plot, et.shouldDeleteForUnknownOwner());
-                if (et.appliesAccountAge(accountAge)) {
-                    applicable.add(et);
-                }
-            }
+        if (applicable.stream().anyMatch(et -> et.getSettings().SKIP_ACCOUNT_AGE_DAYS != -1)) {
+            applicable.removeIf(et -> !et.appliesAccountAge(age.applyAsLong(et)));
             if (applicable.isEmpty()) {
                 return new ArrayList<>();
             }
         }
 
+        final boolean skipsAnalysis = plot.getArea().getType() != PlotAreaType.NORMAL;
         // Run applicable non confirming tasks
-        for (int i = 0; i < applicable.size(); i++) {
-            ExpiryTask expiryTask = applicable.poll();
-            if (!expiryTask.needsAnalysis() || plot.getArea().getType() != PlotAreaType.NORMAL) {
-                if (!expiryTask.requiresConfirmation()) {
-                    return Collections.singletonList(expiryTask);
-                }
+        for (ExpiryTask expiryTask : applicable) {
+            if ((!expiryTask.needsAnalysis() || skipsAnalysis) && !expiryTask.requiresConfirmation()) {
+                return Collections.singletonList(expiryTask);
             }
-            applicable.add(expiryTask);
         }
         // Run applicable confirming tasks
-        for (int i = 0; i < applicable.size(); i++) {
-            ExpiryTask expiryTask = applicable.poll();
-            if (!expiryTask.needsAnalysis() || plot.getArea().getType() != PlotAreaType.NORMAL) {
+        for (ExpiryTask expiryTask : applicable) {
+            if (!expiryTask.needsAnalysis() || skipsAnalysis) {
                 return Collections.singletonList(expiryTask);
             }
-            applicable.add(expiryTask);
         }
         return applicable;
     }
@@ -303,7 +298,11 @@ public class ExpireManager {
                     return;
                 }
                 if (plots == null) {
-                    plots = new ConcurrentLinkedDeque<>(PlotQuery.newQuery().allPlots().asList());
+                    collectCandidates(candidates -> {
+                        plots = new ConcurrentLinkedDeque<>(candidates);
+                        TaskManager.runTaskAsync(task);
+                    });
+                    return;
                 }
                 while (!plots.isEmpty()) {
                     if (ExpireManager.this.running != 2) {
@@ -388,7 +387,54 @@ public class ExpireManager {
         return true;
     }
 
+    /**
+     * Collect the plots that are expired according to the current tasks. Instead of visiting every plot, the candidates
+     * are looked up in the last seen index of the database, and only plots whose owners have been idle for at least the
+     * shortest expiry time of all tasks (or are missing from the index) are checked. The candidates are checked in
+     * parallel per plot area.
+     *
+     * @param whenDone consumer of the expired plots, called asynchronously
+     */
+    private void collectCandidates(final @NonNull Consumer<List<Plot>> whenDone) {
+        if (!this.lastSeenLoaded) {
+            DBFunc.getLastSeen(new RunnableVal<>() {
+                @Override
+                public void run(final Map<UUID, Long> lastSeen) {
+                    lastSeen.forEach(dates_cache::putIfAbsent);
+                    lastSeenLoaded = true;
+                    collectCandidates(whenDone);
+                }
+            });
+            return;
+        }
+        final long minDays = this.tasks.stream().mapToLong(task -> task.getSettings().DAYS).min().orElse(-1);
+        if (minDays < 0) {
+            whenDone.accept(Collections.emptyList());
+            return;
+        }
+        DBFunc.getIdlePlots(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(minDays), new RunnableVal<>() {
+            @Override
+            public void run(final Map<String, Set<PlotId>> idlePlots) {
+                final PlotAreaManager plotAreaManager = PlotSquared.get().getPlotAreaManager();
+                final Map<PlotArea, Set<PlotId>> byArea = new HashMap<>();
+                idlePlots.forEach((world, ids) -> {
+                    PlotArea area = plotAreaManager.getPlotAreaByString(world);
+                    // Resolving the tasks also lets them compute their thresholds before the parallel checks
+                    if (area != null && !getTasks(area).isEmpty()) {
+                        byArea.computeIfAbsent(area, key -> new HashSet<>()).addAll(ids);
+                    }
+                });
+                whenDone.accept(byArea.entrySet().parallelStream()
+                        .flatMap(entry -> entry.getValue().stream()
+                                .map(entry.getKey()::getPlotAbs)
+                                .filter(plot -> plot != null && !isExpired(new ArrayDeque<>(tasks), plot).isEmpty()))
+                        .collect(Collectors.toList()));
+            }
+        });
+    }
+
     public void storeDate(UUID uuid, long time) {
+        DBFunc.setLastSeen(uuid, time);
         Long existing = this.dates_cache.put(uuid, time);
         if (existing != null) {
             long diff = time - existing;
@@ -453,15 +499,14 @@ public class ExpireManager {
         }
         Long last = this.dates_cache.get(uuid);
         if (last == null) {
+            // Not in the last seen index yet, fall back to the platform once and remember the result
             OfflinePlotPlayer opp = PlotSquared.platform().playerManager().getOfflinePlayer(uuid);
-            if (opp != null && (last = opp.getLastPlayed()) != 0) {
-                this.dates_cache.put(uuid, last);
-            } else {
-                return shouldDeleteUnknownOwner ? Long.MAX_VALUE : 0;
-            }
+            last = opp == null ? 0 : opp.getLastPlayed();
+            this.dates_cache.put(uuid, last);
+            DBFunc.setLastSeen(uuid, last);
         }
         if (last == 0) {
-            return 0;
+            return shouldDeleteUnknownOwner ? Long.MAX_VALUE : 0;
         }
         return System.currentTimeMillis() - last;
     }
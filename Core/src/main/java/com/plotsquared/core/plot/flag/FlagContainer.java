@@ -27,25 +27,48 @@ import org.apache.logging.log4j.Logger;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Container type for {@link PlotFlag plot flags}.
+ * <p>
+ * Every flag type is given a dense index the first time it is seen. Besides the flag map, each container keeps its
+ * local flags in an array indexed by that number, and lazily builds an immutable snapshot of the effective flags
+ * (local flags on top of the snapshot of the parent container). Every change of local flags or of a parent container, in
+ * any container, increments a global version. As long as that version is unchanged, a lookup is a version check and a
+ * single array read on the snapshot. After a change, the next lookup in a container walks its parent chain once to
+ * revalidate the snapshot, which is only rebuilt if its local flags, its parent container or the flags of the parent
+ * snapshot changed.
  */
 public class FlagContainer {
 
     private static final Logger LOGGER = LogManager.getLogger("PlotSquared/" + FlagContainer.class.getSimpleName());
+    private static final PlotFlag<?, ?>[] NO_FLAGS = new PlotFlag<?, ?>[0];
+    private static final AtomicInteger FLAG_TYPES = new AtomicInteger();
+    // Incremented after every change that may invalidate snapshots
+    private static final AtomicLong VERSION = new AtomicLong();
+    private static final ClassValue<Integer> FLAG_INDEX = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(final Class<?> type) {
+            return FLAG_TYPES.getAndIncrement();
+        }
+    };
 
     private final Map<String, String> unknownFlags = new HashMap<>();
     private final Map<Class<?>, PlotFlag<?, ?>> flagMap = new HashMap<>();
     private final PlotFlagUpdateHandler plotFlagUpdateHandler;
     private final Collection<PlotFlagUpdateHandler> updateSubscribers = new HashSet<>();
     private final PlotFlagUpdateHandler unknownsRef;
-    private FlagContainer parentContainer;
+    private volatile FlagContainer parentContainer;
+    private volatile PlotFlag<?, ?>[] localFlags = NO_FLAGS;
+    private volatile Snapshot snapshot;
 
     /**
      * Construct a new flag container with an optional parent container and update handler.
@@ -67,7 +90,11 @@ public class FlagContainer {
         this.plotFlagUpdateHandler = plotFlagUpdateHandler;
         if (!(this instanceof GlobalFlagContainer)) {
             this.unknownsRef = this::handleUnknowns;
-            GlobalFlagContainer.getInstance().subscribe(this.unknownsRef);
+            final GlobalFlagContainer globalContainer = GlobalFlagContainer.getInstance();
+            // Only missing before the global container is set up, e.g. in unit tests
+            if (globalContainer != null) {
+                globalContainer.subscribe(this.unknownsRef);
+            }
         } else {
             this.unknownsRef = null;
         }
@@ -115,6 +142,59 @@ public class FlagContainer {
 
     public void setParentContainer(FlagContainer parentContainer) {
         this.parentContainer = parentContainer;
+        VERSION.incrementAndGet();
+    }
+
+    private static int indexOf(final Class<?> flagClass) {
+        return FLAG_INDEX.get(flagClass);
+    }
+
+    private synchronized void setLocal(final Class<?> flagClass, final @Nullable PlotFlag<?, ?> flag) {
+        final int index = indexOf(flagClass);
+        final PlotFlag<?, ?>[] flags = this.localFlags;
+        if (flag == null && index >= flags.length) {
+            return;
+        }
+        final PlotFlag<?, ?>[] copy = Arrays.copyOf(flags, Math.max(flags.length, index + 1));
+        copy[index] = flag;
+        this.localFlags = copy;
+        VERSION.incrementAndGet();
+    }
+
+    /**
+     * Get the snapshot of the effective flags of this container, rebuilding it if it is outdated.
+     */
+    private Snapshot snapshot() {
+        // Read the version before the state, a change made meanwhile leaves the snapshot outdated
+        final long version = VERSION.get();
+        final Snapshot current = this.snapshot;
+        if (current != null && current.version == version) {
+            return current;
+        }
+        final FlagContainer parent = this.parentContainer;
+        final PlotFlag<?, ?>[] parentFlags = parent == null ? NO_FLAGS : parent.snapshot().flags;
+        final PlotFlag<?, ?>[] local = this.localFlags;
+        final Snapshot rebuilt;
+        if (current != null && current.local == local && current.parentContainer == parent
+                && current.parentFlags == parentFlags) {
+            rebuilt = new Snapshot(current.flags, local, parent, parentFlags, version);
+        } else {
+            final PlotFlag<?, ?>[] flags = Arrays.copyOf(parentFlags, Math.max(local.length, parentFlags.length));
+            for (int i = 0; i < local.length; i++) {
+                if (local[i] != null) {
+                    flags[i] = local[i];
+                }
+            }
+            rebuilt = new Snapshot(flags, local, parent, parentFlags, version);
+        }
+        this.snapshot = rebuilt;
+        return rebuilt;
+    }
+
+    private @Nullable PlotFlag<?, ?> getEffective(final Class<?> flagClass) {
+        final int index = indexOf(flagClass);
+        final PlotFlag<?, ?>[] flags = snapshot().flags;
+        return index < flags.length ? flags[index] : null;
     }
 
     @SuppressWarnings("unused")
@@ -149,6 +229,7 @@ public class FlagContainer {
                     "flag name may not be more than 64 characters. Check: " + flag.getName()
             );
             final PlotFlag<?, ?> oldInstance = this.flagMap.put(flag.getClass(), flag);
+            this.setLocal(flag.getClass(), flag);
             final PlotFlagUpdateType plotFlagUpdateType;
             if (oldInstance != null) {
                 plotFlagUpdateType = PlotFlagUpdateType.FLAG_UPDATED;
@@ -179,6 +260,7 @@ public class FlagContainer {
     @SuppressWarnings("unchecked")
     public <V, T extends PlotFlag<V, ?>> V removeFlag(final T flag) {
         final Object value = this.flagMap.remove(flag.getClass());
+        this.setLocal(flag.getClass(), null);
         if (this.plotFlagUpdateHandler != null) {
             this.plotFlagUpdateHandler.handle(flag, PlotFlagUpdateType.FLAG_REMOVED);
         }
@@ -213,8 +295,10 @@ public class FlagContainer {
     /**
      * Clears the local flag map
      */
-    public void clearLocal() {
+    public synchronized void clearLocal() {
         this.flagMap.clear();
+        this.localFlags = NO_FLAGS;
+        VERSION.incrementAndGet();
     }
 
     /**
@@ -248,15 +332,7 @@ public class FlagContainer {
      * @return the plot flag
      */
     public PlotFlag<?, ?> getFlagErased(Class<?> flagClass) {
-        final PlotFlag<?, ?> flag = this.flagMap.get(flagClass);
-        if (flag != null) {
-            return flag;
-        } else {
-            if (getParentContainer() != null) {
-                return getParentContainer().getFlagErased(flagClass);
-            }
-        }
-        return null;
+        return this.getEffective(flagClass);
     }
 
     /**
@@ -270,15 +346,11 @@ public class FlagContainer {
      * @return Flag instance
      */
     public <V, T extends PlotFlag<V, ?>> T getFlag(final Class<? extends T> flagClass) {
-        final PlotFlag<?, ?> flag = this.flagMap.get(flagClass);
-        if (flag != null) {
-            return castUnsafe(flag);
-        } else {
-            if (getParentContainer() != null) {
-                return getParentContainer().getFlag(flagClass);
-            }
+        final PlotFlag<?, ?> flag = this.getEffective(flagClass);
+        if (flag == null) {
+            return null;
         }
-        return null;
+        return castUnsafe(flag);
     }
 
     /**
@@ -290,7 +362,9 @@ public class FlagContainer {
      * @return The flag instance, if it exists in this container, else null.
      */
     public @Nullable <V, T extends PlotFlag<V, ?>> T queryLocal(final Class<?> flagClass) {
-        final PlotFlag<?, ?> localFlag = this.flagMap.get(flagClass);
+        final int index = indexOf(flagClass);
+        final PlotFlag<?, ?>[] local = this.localFlags;
+        final PlotFlag<?, ?> localFlag = index < local.length ? local[index] : null;
         if (localFlag == null) {
             return null;
         } else {
@@ -380,6 +454,21 @@ public class FlagContainer {
         return flagMap.hashCode();
     }
 
+    /**
+     * Immutable view of the effective flags of a container. It is current while the global version equals
+     * {@code version}, after that it can be reused as long as the local flag array, parent container and parent flags
+     * it was built from are unchanged.
+     */
+    private record Snapshot(
+            PlotFlag<?, ?>[] flags,
+            PlotFlag<?, ?>[] local,
+            FlagContainer parentContainer,
+            PlotFlag<?, ?>[] parentFlags,
+            long version
+    ) {
+
+    }
+
     /**
      * Update event types used in {@link PlotFlagUpdateHandler}.
      */
@@ -18,14 +18,19 @@
  */
 package com.plotsquared.core.plot.world;
 
+import com.plotsquared.core.events.TeleportCause;
 import com.plotsquared.core.location.BlockLoc;
 import com.plotsquared.core.location.Location;
+import com.plotsquared.core.player.PlotPlayer;
 import com.plotsquared.core.plot.Plot;
 import com.plotsquared.core.plot.PlotArea;
 import com.plotsquared.core.plot.PlotId;
 import com.plotsquared.core.plot.flag.PlotFlag;
+import com.plotsquared.core.util.task.TaskManager;
 import com.sk89q.worldedit.math.BlockVector3;
 import com.sk89q.worldedit.regions.CuboidRegion;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.util.Collection;
@@ -37,6 +42,8 @@ import java.util.function.Consumer;
 
 public class SinglePlot extends Plot {
 
+    private static final Logger LOGGER = LogManager.getLogger("PlotSquared/" + SinglePlot.class.getSimpleName());
+
     private final Set<CuboidRegion> regions = Collections.singleton(
             new CuboidRegion(
                     BlockVector3.at(Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE),
@@ -72,9 +79,28 @@ public class SinglePlot extends Plot {
         getCenter(result);
     }
 
+    /**
+     * Teleport a player to the plot, loading the plot world asynchronously first so the folder preparation does not
+     * stall the main thread.
+     */
+    @Override
+    public void teleportPlayer(final PlotPlayer<?> player, final TeleportCause cause, final Consumer<Boolean> resultConsumer) {
+        getArea().loadWorldAsync(getId()).whenComplete((unused, throwable) -> TaskManager.runTask(() -> {
+            if (throwable != null) {
+                LOGGER.error("Failed to load plot world {}", getWorldName(), throwable);
+                resultConsumer.accept(false);
+                return;
+            }
+            super.teleportPlayer(player, cause, resultConsumer);
+        }));
+    }
+
+    /**
+     * Get whether the world of the plot is loaded. The world is not loaded by this check, as idle plot worlds are unloaded
+     * and loading them again blocks the main thread, see {@link SinglePlotArea#loadWorldAsync(PlotId)}.
+     */
     @Override
     public boolean isLoaded() {
-        getArea().loadWorld(getId());
         return super.isLoaded();
     }
 
@@ -31,7 +31,6 @@ import com.plotsquared.core.listener.PlotListener;
 import com.plotsquared.core.location.BlockLoc;
 import com.plotsquared.core.location.Location;
 import com.plotsquared.core.plot.Plot;
-import com.plotsquared.core.plot.PlotAreaType;
 import com.plotsquared.core.plot.PlotId;
 import com.plotsquared.core.plot.PlotManager;
 import com.plotsquared.core.plot.PlotSettings;
@@ -44,9 +43,7 @@ import com.plotsquared.core.util.task.TaskManager;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
+import java.util.concurrent.CompletableFuture;
 
 public class SinglePlotArea extends GridPlotWorld {
 
@@ -54,6 +51,7 @@ public class SinglePlotArea extends GridPlotWorld {
     private final EventDispatcher eventDispatcher;
     @SuppressWarnings({"unused", "FieldCanBeLocal"})
     private final PlotListener plotListener;
+    private final SinglePlotWorldLifecycleManager lifecycleManager;
     public boolean VOID = false;
 
     public SinglePlotArea(
@@ -68,6 +66,7 @@ public class SinglePlotArea extends GridPlotWorld {
         );
         this.eventDispatcher = eventDispatcher;
         this.plotListener = plotListener;
+        this.lifecycleManager = new SinglePlotWorldLifecycleManager(this);
         this.setAllowSigns(false);
         this.setDefaultHome(new BlockLoc(Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE));
     }
@@ -125,75 +124,21 @@ public class SinglePlotArea extends GridPlotWorld {
     public void loadWorld(final PlotId id) {
         String worldName = id.toUnderscoreSeparatedString();
         if (PlotSquared.platform().worldUtil().isWorld(worldName)) {
+            this.lifecycleManager.markActive(worldName);
             return;
         }
-        PlotAreaBuilder builder = PlotAreaBuilder.newBuilder()
-                .plotManager("PlotSquared:single")
-                .generatorName("PlotSquared:single")
-                .plotAreaType(getType())
-                .terrainType(getTerrain())
-                .settingsNodesWrapper(new SettingsNodesWrapper(new ConfigurationNode[0], null))
-                .worldName(worldName);
-
-        File container = PlotSquared.platform().worldContainer();
-        File destination = new File(container, worldName);
-
-        {// convert old
-            File oldFile = new File(container, id.toCommaSeparatedString());
-            if (oldFile.exists()) {
-                oldFile.renameTo(destination);
-            } else {
-                oldFile = new File(container, id.toSeparatedString("."));
-                if (oldFile.exists()) {
-                    oldFile.renameTo(destination);
-                }
-            }
-        }
-        // Duplicate 0;0
-        if (builder.plotAreaType() != PlotAreaType.NORMAL) {
-            if (!destination.exists()) {
-                File src = new File(container, "0_0");
-                if (src.exists()) {
-                    if (!destination.exists()) {
-                        destination.mkdirs();
-                    }
-                    File levelDat = new File(src, "level.dat");
-                    if (levelDat.exists()) {
-                        try {
-                            Files.copy(
-                                    levelDat.toPath(),
-                                    new File(destination, levelDat.getName()).toPath()
-                            );
-                            File data = new File(src, "data");
-                            if (data.exists()) {
-                                File dataDest = new File(destination, "data");
-                                dataDest.mkdirs();
-                                for (File file : data.listFiles()) {
-                                    Files.copy(
-                                            file.toPath(),
-                                            new File(dataDest, file.getName()).toPath()
-                                    );
-                                }
-                            }
-                        } catch (IOException exception) {
-                            exception.printStackTrace();
-                        }
-                    }
-                }
-            }
-        }
+        final long start = System.nanoTime();
+        this.lifecycleManager.prepareWorldFolderNow(id);
 
         try {
             TaskManager.getPlatformImplementation().sync(() -> {
-                final String name = id.toUnderscoreSeparatedString();
-                if (!PlotSquared.platform().worldUtil().isWorld(name)) {
-                    PlotSquared.platform().setupUtils().setupWorld(builder);
-                }
+                setupWorld(id);
                 return null;
             });
         } catch (final Exception e) {
             e.printStackTrace();
         }
+        this.lifecycleManager.recordLoad(worldName, System.nanoTime() - start);
 
         //        String worldName = plot.getWorldName();
         //        World world = Bukkit.getWorld(worldName);
@@ -207,6 +152,64 @@ public class SinglePlotArea extends GridPlotWorld {
         //        return AsyncWorld.create(wc);
     }
 
+    /**
+     * Load the world of the given plot without blocking the calling thread. The world folder is prepared
+     * asynchronously and only the world creation itself happens on the main thread.
+     *
+     * @param id plot id
+     * @return future completing once the world is loaded
+     * @since TODO
+     */
+    public CompletableFuture<Void> loadWorldAsync(final @NonNull PlotId id) {
+        final String worldName = id.toUnderscoreSeparatedString();
+        if (PlotSquared.platform().worldUtil().isWorld(worldName)) {
+            this.lifecycleManager.markActive(worldName);
+            return CompletableFuture.completedFuture(null);
+        }
+        final long start = System.nanoTime();
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        this.lifecycleManager.prepareWorldFolderAsync(id).whenComplete((unused, throwable) -> {
+            if (throwable != null) {
+                future.completeExceptionally(throwable);
+                return;
+            }
+            TaskManager.runTask(() -> {
+                try {
+                    setupWorld(id);
+                    this.lifecycleManager.recordLoad(worldName, System.nanoTime() - start);
+                    future.complete(null);
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                }
+            });
+        });
+        return future;
+    }
+
+    private void setupWorld(final @NonNull PlotId id) {
+        final String name = id.toUnderscoreSeparatedString();
+        if (PlotSquared.platform().worldUtil().isWorld(name)) {
+            return;
+        }
+        PlotAreaBuilder builder = PlotAreaBuilder.newBuilder()
+                .plotManager("PlotSquared:single")
+                .generatorName("PlotSquared:single")
+                .plotAreaType(getType())
+                .terrainType(getTerrain())
+                .settingsNodesWrapper(new SettingsNodesWrapper(new ConfigurationNode[0], null))
+                .worldName(name);
+        PlotSquared.platform().setupUtils().setupWorld(builder);
+    }
+
+    /**
+     * Get the manager responsible for preparing, pooling and unloading the worlds of this area
+     *
+     * @return lifecycle manager
+     * @since TODO
+     */
+    public @NonNull SinglePlotWorldLifecycleManager getLifecycleManager() {
+        return this.lifecycleManager;
+    }
 
     @Override
     public ConfigurationNode[] getSettingNodes() {
@@ -83,7 +83,8 @@ public class SinglePlotManager extends PlotManager {
 
     @Override
     public boolean claimPlot(@NonNull Plot plot, @Nullable QueueCoordinator queue) {
-        // TODO
+        // Start preparing the world folder so that the first teleport doesn't have to wait for it
+        ((SinglePlotArea) plot.getArea()).getLifecycleManager().prepareWorldFolderAsync(plot.getId());
         return true;
     }
 
@@ -0,0 +1,382 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot.world;
+
+import com.plotsquared.core.PlotSquared;
+import com.plotsquared.core.configuration.Settings;
+import com.plotsquared.core.plot.PlotAreaType;
+import com.plotsquared.core.plot.PlotId;
+import com.plotsquared.core.util.FileUtils;
+import com.plotsquared.core.util.task.TaskManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Handles the lifecycle of the worlds backing a {@link SinglePlotArea}: preparing world folders from the
+ * {@code 0_0} template off the main thread, keeping a pool of pre-prepared blank worlds so that claims do not
+ * have to wait for a copy, selecting idle worlds to unload and recording load metrics.
+ *
+ * @since TODO
+ */
+public class SinglePlotWorldLifecycleManager {
+
+    private static final Logger LOGGER = LogManager.getLogger("PlotSquared/" + SinglePlotWorldLifecycleManager.class.getSimpleName());
+    private static final String TEMPLATE_WORLD = "0_0";
+    private static final String POOL_DIRECTORY = "plotsquared_world_pool";
+
+    private final SinglePlotArea area;
+    private final Map<PlotId, CompletableFuture<Void>> preparing = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastActive = new ConcurrentHashMap<>();
+    private final Deque<File> pool = new ConcurrentLinkedDeque<>();
+    private final AtomicBoolean refilling = new AtomicBoolean();
+    private final AtomicInteger poolIndex = new AtomicInteger();
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong unloads = new AtomicLong();
+    private final AtomicLong totalLoadNanos = new AtomicLong();
+    private final AtomicLong maxLoadNanos = new AtomicLong();
+    private volatile boolean poolScanned = false;
+    private volatile int loadedWorlds = 0;
+
+    SinglePlotWorldLifecycleManager(final @NonNull SinglePlotArea area) {
+        this.area = area;
+    }
+
+    /**
+     * Prepare the world folder of the given plot asynchronously. The folder is taken from the pool of
+     * pre-prepared worlds if possible, otherwise the {@code 0_0} template is copied. Concurrent calls for the
+     * same plot share the same future.
+     *
+     * @param id plot id
+     * @return future completing once the world folder is ready to be loaded
+     */
+    public @NonNull CompletableFuture<Void> prepareWorldFolderAsync(final @NonNull PlotId id) {
+        final CompletableFuture<Void> existing = this.preparing.get(id);
+        if (existing != null) {
+            return existing;
+        }
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        final CompletableFuture<Void> previous = this.preparing.putIfAbsent(id, future);
+        if (previous != null) {
+            return previous;
+        }
+        TaskManager.runTaskAsync(() -> {
+            try {
+                prepareWorldFolder(id);
+                future.complete(null);
+            } catch (Throwable throwable) {
+                future.completeExceptionally(throwable);
+            } finally {
+                this.preparing.remove(id, future);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Prepare the world folder of the given plot on the current thread. If an asynchronous preparation for the
+     * same plot is already running, this waits for it instead.
+     *
+     * @param id plot id
+     */
+    public void prepareWorldFolderNow(final @NonNull PlotId id) {
+        final CompletableFuture<Void> running = this.preparing.get(id);
+        if (running != null) {
+            try {
+                running.join();
+                return;
+            } catch (Exception e) {
+                LOGGER.error("Failed to prepare world folder for {}", id, e);
+            }
+        }
+        prepareWorldFolder(id);
+    }
+
+    private void prepareWorldFolder(final @NonNull PlotId id) {
+        final File container = PlotSquared.platform().worldContainer();
+        final File destination = new File(container, id.toUnderscoreSeparatedString());
+
+        {// convert old
+            File oldFile = new File(container, id.toCommaSeparatedString());
+            if (oldFile.exists()) {
+                oldFile.renameTo(destination);
+            } else {
+                oldFile = new File(container, id.toSeparatedString("."));
+                if (oldFile.exists()) {
+                    oldFile.renameTo(destination);
+                }
+            }
+        }
+        // Duplicate 0;0
+        if (this.area.getType() == PlotAreaType.NORMAL || destination.exists()) {
+            return;
+        }
+        final File template = new File(container, TEMPLATE_WORLD);
+        if (!new File(template, "level.dat").exists()) {
+            return;
+        }
+        if (!takeFromPool(template, destination)) {
+            try {
+                copyTemplate(template, destination);
+            } catch (IOException e) {
+                LOGGER.error("Failed to copy template world to {}", destination.getName(), e);
+            }
+        }
+        refillPool();
+    }
+
+    private boolean takeFromPool(final @NonNull File template, final @NonNull File destination) {
+        scanPool();
+        final long templateModified = new File(template, "level.dat").lastModified();
+        File pooled;
+        while ((pooled = this.pool.pollFirst()) != null) {
+            // Worlds prepared before the template changed are stale
+            if (new File(pooled, "level.dat").lastModified() < templateModified) {
+                deletePooled(pooled);
+                continue;
+            }
+            try {
+                Files.move(pooled.toPath(), destination.toPath(), StandardCopyOption.ATOMIC_MOVE);
+                return true;
+            } catch (IOException e) {
+                LOGGER.warn("Failed to move pooled world {} to {}", pooled.getName(), destination.getName(), e);
+                deletePooled(pooled);
+            }
+        }
+        return false;
+    }
+
+    private void scanPool() {
+        if (this.poolScanned) {
+            return;
+        }
+        synchronized (this.pool) {
+            if (this.poolScanned) {
+                return;
+            }
+            final File[] existing = getPoolDirectory().listFiles(File::isDirectory);
+            if (existing != null) {
+                for (final File file : existing) {
+                    if (new File(file, "level.dat").exists()) {
+                        this.pool.add(file);
+                    } else {
+                        deletePooled(file);
+                    }
+                }
+            }
+            this.poolScanned = true;
+        }
+    }
+
+    /**
+     * Asynchronously top up the pool of pre-prepared worlds to {@link Settings.Single_Plot_Worlds#PREPARED_POOL_SIZE}.
+     */
+    public void refillPool() {
+        if (Settings.Single_Plot_Worlds.PREPARED_POOL_SIZE <= 0 || this.area.getType() == PlotAreaType.NORMAL) {
+            return;
+        }
+        if (!this.refilling.compareAndSet(false, true)) {
+            return;
+        }
+        TaskManager.runTaskAsync(() -> {
+            try {
+                scanPool();
+                final File template = new File(PlotSquared.platform().worldContainer(), TEMPLATE_WORLD);
+                if (!new File(template, "level.dat").exists()) {
+                    return;
+                }
+                final File poolDirectory = getPoolDirectory();
+                while (this.pool.size() < Settings.Single_Plot_Worlds.PREPARED_POOL_SIZE) {
+                    final File target = new File(poolDirectory, System.currentTimeMillis() + "_" + this.poolIndex.getAndIncrement());
+                    try {
+                        copyTemplate(template, target);
+                        this.pool.add(target);
+                    } catch (IOException e) {
+                        LOGGER.error("Failed to prepare pooled world {}", target.getName(), e);
+                        deletePooled(target);
+                        return;
+                    }
+                }
+            } finally {
+                this.refilling.set(false);
+            }
+        });
+    }
+
+    private static void copyTemplate(final @NonNull File template, final @NonNull File destination) throws IOException {
+        destination.mkdirs();
+        final File levelDat = new File(template, "level.dat");
+        Files.copy(levelDat.toPath(), new File(destination, levelDat.getName()).toPath());
+        final File data = new File(template, "data");
+        final File[] files = data.listFiles();
+        if (files != null) {
+            final File dataDest = new File(destination, "data");
+            dataDest.mkdirs();
+            for (final File file : files) {
+                Files.copy(file.toPath(), new File(dataDest, file.getName()).toPath());
+            }
+        }
+    }
+
+    private static void deletePooled(final @NonNull File file) {
+        TaskManager.runTaskAsync(() -> FileUtils.deleteDirectory(file));
+    }
+
+    private static @NonNull File getPoolDirectory() {
+        return new File(PlotSquared.platform().worldContainer(), POOL_DIRECTORY);
+    }
+
+    /**
+     * Mark a single plot world as having been used just now.
+     *
+     * @param worldName world name
+     */
+    public void markActive(final @NonNull String worldName) {
+        this.lastActive.put(worldName, System.currentTimeMillis());
+    }
+
+    /**
+     * Record that a single plot world has been loaded.
+     *
+     * @param worldName world name
+     * @param nanos     time taken to prepare and load the world, in nanoseconds
+     */
+    public void recordLoad(final @NonNull String worldName, final long nanos) {
+        markActive(worldName);
+        this.loads.incrementAndGet();
+        this.totalLoadNanos.addAndGet(nanos);
+        this.maxLoadNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * Record that a single plot world has been unloaded.
+     *
+     * @param worldName world name
+     */
+    public void recordUnload(final @NonNull String worldName) {
+        if (this.lastActive.remove(worldName) != null) {
+            this.unloads.incrementAndGet();
+        }
+    }
+
+    /**
+     * Select the loaded single plot worlds that should be unloaded. A world is selected once it has had no players
+     * for {@link Settings.Single_Plot_Worlds#IDLE_UNLOAD_SECONDS}, or, if more than
+     * {@link Settings.Single_Plot_Worlds#MAX_LOADED_WORLDS} worlds are loaded, when it is one of the least recently
+     * used empty worlds.
+     *
+     * @param loaded   names of all currently loaded single plot worlds
+     * @param occupied predicate testing whether a world currently contains players
+     * @return world names to unload, least recently used first
+     */
+    public @NonNull List<String> selectUnloadCandidates(
+            final @NonNull Collection<String> loaded,
+            final @NonNull Predicate<String> occupied
+    ) {
+        final long now = System.currentTimeMillis();
+        final List<String> empty = new ArrayList<>();
+        for (final String world : loaded) {
+            if (occupied.test(world)) {
+                this.lastActive.put(world, now);
+            } else {
+                this.lastActive.putIfAbsent(world, now);
+                empty.add(world);
+            }
+        }
+        this.lastActive.keySet().retainAll(loaded);
+        this.loadedWorlds = loaded.size();
+
+        empty.sort(Comparator.comparingLong(world -> this.lastActive.getOrDefault(world, now)));
+        final long idleMillis = TimeUnit.SECONDS.toMillis(Settings.Single_Plot_Worlds.IDLE_UNLOAD_SECONDS);
+        final int max = Settings.Single_Plot_Worlds.MAX_LOADED_WORLDS;
+        final List<String> candidates = new ArrayList<>();
+        int remaining = loaded.size();
+        for (final String world : empty) {
+            final boolean idle = idleMillis > 0 && now - this.lastActive.getOrDefault(world, now) >= idleMillis;
+            if (idle || (max > 0 && remaining > max)) {
+                candidates.add(world);
+                remaining--;
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * @return number of loaded single plot worlds as of the last unload check
+     */
+    public int getLoadedWorldCount() {
+        return this.loadedWorlds;
+    }
+
+    /**
+     * @return number of pre-prepared worlds currently waiting in the pool
+     */
+    public int getPooledWorldCount() {
+        return this.pool.size();
+    }
+
+    /**
+     * @return number of worlds loaded through this manager
+     */
+    public long getLoadCount() {
+        return this.loads.get();
+    }
+
+    /**
+     * @return number of idle worlds unloaded
+     */
+    public long getUnloadCount() {
+        return this.unloads.get();
+    }
+
+    /**
+     * @return average time taken to prepare and load a world, in milliseconds
+     */
+    public double getAverageLoadMillis() {
+        final long count = this.loads.get();
+        return count == 0 ? 0 : this.totalLoadNanos.get() / (double) count / 1_000_000D;
+    }
+
+    /**
+     * @return longest time taken to prepare and load a world, in milliseconds
+     */
+    public double getMaxLoadMillis() {
+        return this.maxLoadNanos.get() / 1_000_000D;
+    }
+
+}
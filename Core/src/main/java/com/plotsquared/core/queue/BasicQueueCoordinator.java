@@ -113,6 +113,75 @@ public abstract class BasicQueueCoordinator extends QueueCoordinator {
         return setBlock(x, y, z, id.toBaseBlock());
     }
 
+    @Override
+    public void setCuboid(
+            final com.plotsquared.core.location.@NonNull Location pos1,
+            final com.plotsquared.core.location.@NonNull Location pos2,
+            final @NonNull BlockState block
+    ) {
+        fillCuboid(pos1, pos2, block.toBaseBlock());
+    }
+
+    @Override
+    public void setCuboid(
+            final com.plotsquared.core.location.@NonNull Location pos1,
+            final com.plotsquared.core.location.@NonNull Location pos2,
+            final @NonNull Pattern blocks
+    ) {
+        fillCuboid(pos1, pos2, blocks);
+    }
+
+    /**
+     * Record a cuboid fill. Sections completely inside the cuboid only store the pattern, which is resolved when the
+     * chunk is written. Blocks of partially covered sections are set individually.
+     */
+    private void fillCuboid(
+            final com.plotsquared.core.location.@NonNull Location pos1,
+            final com.plotsquared.core.location.@NonNull Location pos2,
+            final @NonNull Pattern pattern
+    ) {
+        final int yMin = Math.max(Math.min(pos1.getY(), pos2.getY()), world.getMinY());
+        final int yMax = Math.min(Math.max(pos1.getY(), pos2.getY()), world.getMaxY());
+        final int xMin = Math.min(pos1.getX(), pos2.getX());
+        final int xMax = Math.max(pos1.getX(), pos2.getX());
+        final int zMin = Math.min(pos1.getZ(), pos2.getZ());
+        final int zMax = Math.max(pos1.getZ(), pos2.getZ());
+        if (yMin > yMax) {
+            return;
+        }
+        final BaseBlock constant = pattern instanceof BaseBlock block ? block : null;
+        for (int chunkX = xMin >> 4; chunkX <= xMax >> 4; chunkX++) {
+            final int x1 = Math.max(xMin, chunkX << 4);
+            final int x2 = Math.min(xMax, (chunkX << 4) + 15);
+            for (int chunkZ = zMin >> 4; chunkZ <= zMax >> 4; chunkZ++) {
+                final int z1 = Math.max(zMin, chunkZ << 4);
+                final int z2 = Math.min(zMax, (chunkZ << 4) + 15);
+                final boolean fullColumn = (x1 & 15) == 0 && (x2 & 15) == 15 && (z1 & 15) == 0 && (z2 & 15) == 15;
+                final LocalChunk chunk = getChunk(chunkX, chunkZ);
+                for (int section = yMin >> 4; section <= yMax >> 4; section++) {
+                    final int y1 = Math.max(yMin, section << 4);
+                    final int y2 = Math.min(yMax, (section << 4) + 15);
+                    if (fullColumn && (y1 & 15) == 0 && (y2 & 15) == 15) {
+                        chunk.setFill(section, pattern);
+                        continue;
+                    }
+                    for (int y = y1; y <= y2; y++) {
+                        for (int x = x1; x <= x2; x++) {
+                            for (int z = z1; z <= z2; z++) {
+                                chunk.setBlock(
+                                        x & 15,
+                                        y,
+                                        z & 15,
+                                        constant != null ? constant : PatternUtil.apply(pattern, x, y, z)
+                                );
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
     @SuppressWarnings("removal")
     @Override
     public boolean setBiome(int x, int z, @NonNull BiomeType biomeType) {
@@ -120,7 +189,8 @@ public abstract class BasicQueueCoordinator extends QueueCoordinator {
             return false;
         }
         LocalChunk chunk = getChunk(x >> 4, z >> 4);
-        for (int y = world.getMinY(); y <= world.getMaxY(); y++) {
+        // Biomes are stored per 4x4x4 cell
+        for (int y = world.getMinY(); y <= world.getMaxY(); y += 4) {
             chunk.setBiome(x & 15, y, z & 15, biomeType);
         }
         settingBiomes = true;
@@ -343,7 +413,22 @@ public abstract class BasicQueueCoordinator extends QueueCoordinator {
         if (disableBiomes) {
             return;
         }
-        super.setBiomeCuboid(pos1, pos2, biome);
+        final int yMin = Math.max(Math.min(pos1.getY(), pos2.getY()), world.getMinY());
+        final int yMax = Math.min(Math.max(pos1.getY(), pos2.getY()), world.getMaxY());
+        final int xMin = Math.min(pos1.getX(), pos2.getX());
+        final int xMax = Math.max(pos1.getX(), pos2.getX());
+        final int zMin = Math.min(pos1.getZ(), pos2.getZ());
+        final int zMax = Math.max(pos1.getZ(), pos2.getZ());
+        // Visit every 4x4x4 biome cell overlapping the cuboid once
+        for (int x = xMin; x <= xMax; x = (x & ~3) + 4) {
+            for (int z = zMin; z <= zMax; z = (z & ~3) + 4) {
+                final LocalChunk chunk = getChunk(x >> 4, z >> 4);
+                for (int y = yMin; y <= yMax; y = (y & ~3) + 4) {
+                    chunk.setBiome(x & 15, y, z & 15, biome);
+                }
+            }
+        }
+        settingBiomes = true;
     }
 
     /**
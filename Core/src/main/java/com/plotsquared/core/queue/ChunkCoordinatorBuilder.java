@@ -48,6 +48,8 @@ public class ChunkCoordinatorBuilder {
     private Consumer<BlockVector2> chunkConsumer;
     private Runnable whenDone = () -> {
     };
+    private Runnable batchAction = () -> {
+    };
     private long maxIterationTime = Settings.QUEUE.MAX_ITERATION_TIME; // A little over 1 tick;
     private int initialBatchSize = Settings.QUEUE.INITIAL_BATCH_SIZE;
     private boolean unloadAfter = true;
@@ -144,6 +146,22 @@ public class ChunkCoordinatorBuilder {
         return this;
     }
 
+    /**
+     * Set the Runnable to run each time a batch of loaded chunks has been accessed. A batch contains the chunks accessed
+     * within one iteration, and the action runs before the next batch is accessed and before the final action.
+     *
+     * @param batchAction task to run after each batch of accessed chunks
+     * @return this ChunkCoordinatorBuilder instance
+     * @since TODO
+     */
+    public @NonNull ChunkCoordinatorBuilder withBatchAction(final @Nullable Runnable batchAction) {
+        if (batchAction == null) {
+            return this;
+        }
+        this.batchAction = batchAction;
+        return this;
+    }
+
     /**
      * Set the max time taken while iterating over and accessing loaded chunks
      *
@@ -231,6 +249,7 @@ public class ChunkCoordinatorBuilder {
                         this.world,
                         this.requestedChunks,
                         this.whenDone,
+                        this.batchAction,
                         this.throwableConsumer,
                         this.unloadAfter,
                         this.progressSubscribers,
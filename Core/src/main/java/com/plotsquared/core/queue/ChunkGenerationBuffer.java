@@ -0,0 +1,237 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.queue;
+
+import com.intellectualsites.annotations.NotPublic;
+import com.plotsquared.core.generator.IndependentPlotGenerator;
+import com.plotsquared.core.location.Location;
+import com.plotsquared.core.plot.PlotArea;
+import com.plotsquared.core.util.ChunkUtil;
+import com.sk89q.jnbt.CompoundTag;
+import com.sk89q.worldedit.entity.BaseEntity;
+import com.sk89q.worldedit.entity.Entity;
+import com.sk89q.worldedit.function.pattern.Pattern;
+import com.sk89q.worldedit.math.BlockVector3;
+import com.sk89q.worldedit.world.biome.BiomeType;
+import com.sk89q.worldedit.world.block.BaseBlock;
+import com.sk89q.worldedit.world.block.BlockState;
+import com.sk89q.worldedit.world.entity.EntityTypes;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link QueueCoordinator} that buffers the blocks and entities an {@link IndependentPlotGenerator} generates and populates
+ * for a single chunk. One buffer
+ * is kept per thread and reused for every chunk generated on that thread, see
+ * {@link ChunkGenerationBuffer#generate(IndependentPlotGenerator, PlotArea, String, int, int, int, int)}. Biomes are
+ * ignored, and tiles are only kept as part of the blocks they are set with.
+ * <p>
+ * Internal use only. Subject to change at any time and created for specific use cases.
+ *
+ * @since TODO
+ */
+@NotPublic
+public class ChunkGenerationBuffer extends ZeroedDelegateScopedQueueCoordinator {
+
+    private static final ThreadLocal<ChunkGenerationBuffer> BUFFERS = new ThreadLocal<>();
+
+    private final int minSection;
+    private final BaseBlock[][] sections;
+    private final int[] counts;
+    private final Map<com.sk89q.worldedit.util.Location, BaseEntity> entities = new HashMap<>();
+    private String world;
+    private int chunkX;
+    private int chunkZ;
+
+    private ChunkGenerationBuffer(final int minSection, final int maxSection) {
+        super(null, Location.at("", 0, minSection << 4, 0), Location.at("", 15, (maxSection << 4) + 15, 15));
+        this.minSection = minSection;
+        this.sections = new BaseBlock[maxSection - minSection + 1][4096];
+        this.counts = new int[this.sections.length];
+    }
+
+    /**
+     * Generate and populate a chunk into the buffer of the current thread and return a compact copy of the result, see
+     * {@link GeneratedChunk}.
+     *
+     * @param generator  generator to generate the chunk with
+     * @param area       plot area passed to the generator
+     * @param world      world name
+     * @param chunkX     chunk x coordinate
+     * @param chunkZ     chunk z coordinate
+     * @param minSection lowest section of the world
+     * @param maxSection highest section of the world
+     * @return generated chunk
+     */
+    public static @NonNull GeneratedChunk generate(
+            final @NonNull IndependentPlotGenerator generator,
+            final @Nullable PlotArea area,
+            final @NonNull String world,
+            final int chunkX,
+            final int chunkZ,
+            final int minSection,
+            final int maxSection
+    ) {
+        ChunkGenerationBuffer buffer = BUFFERS.get();
+        if (buffer == null || buffer.minSection != minSection || buffer.sections.length != maxSection - minSection + 1) {
+            buffer = new ChunkGenerationBuffer(minSection, maxSection);
+            BUFFERS.set(buffer);
+        }
+        buffer.world = world;
+        buffer.chunkX = chunkX;
+        buffer.chunkZ = chunkZ;
+        try {
+            generator.generateChunk(buffer, area, false);
+            generator.populateChunk(buffer, area);
+            return new GeneratedChunk(buffer.compact(), buffer.entities.isEmpty() ? Map.of() : new HashMap<>(buffer.entities));
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    private @Nullable BaseBlock @NonNull [][] compact() {
+        final BaseBlock[][] result = new BaseBlock[this.sections.length][];
+        for (int layer = 0; layer < this.sections.length; layer++) {
+            final int count = this.counts[layer];
+            if (count == 0) {
+                continue;
+            }
+            final BaseBlock[] section = this.sections[layer];
+            if (count == section.length && isUniform(section)) {
+                result[layer] = new BaseBlock[]{section[0]};
+            } else {
+                result[layer] = Arrays.copyOf(section, section.length);
+            }
+        }
+        return result;
+    }
+
+    private static boolean isUniform(final @NonNull BaseBlock @NonNull [] section) {
+        final BaseBlock first = section[0];
+        for (int j = 1; j < section.length; j++) {
+            if (section[j] != first && !first.equals(section[j])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void clear() {
+        for (int layer = 0; layer < this.sections.length; layer++) {
+            if (this.counts[layer] != 0) {
+                Arrays.fill(this.sections[layer], null);
+                this.counts[layer] = 0;
+            }
+        }
+        this.entities.clear();
+    }
+
+    private void set(final int x, final int y, final int z, final @NonNull BaseBlock block) {
+        final int layer = (y >> 4) - this.minSection;
+        if (x < 0 || x > 15 || z < 0 || z > 15 || layer < 0 || layer >= this.sections.length) {
+            return;
+        }
+        final int j = ChunkUtil.getJ(x, y, z);
+        if (this.sections[layer][j] == null) {
+            this.counts[layer]++;
+        }
+        this.sections[layer][j] = block;
+    }
+
+    @Override
+    public boolean setBlock(final int x, final int y, final int z, final @NonNull BaseBlock id) {
+        set(x, y, z, id);
+        return true;
+    }
+
+    @Override
+    public boolean setBlock(final int x, final int y, final int z, final @NonNull BlockState id) {
+        set(x, y, z, id.toBaseBlock());
+        return true;
+    }
+
+    @Override
+    public boolean setBlock(final int x, final int y, final int z, final @NonNull Pattern pattern) {
+        set(x, y, z, pattern.applyBlock(BlockVector3.at((this.chunkX << 4) + x, y, (this.chunkZ << 4) + z)));
+        return true;
+    }
+
+    @Override
+    public @NonNull Location getMin() {
+        return Location.at(this.world, this.chunkX << 4, this.minSection << 4, this.chunkZ << 4);
+    }
+
+    @Override
+    public @NonNull Location getMax() {
+        return Location.at(this.world, (this.chunkX << 4) + 15, ((this.minSection + this.sections.length) << 4) - 1,
+                (this.chunkZ << 4) + 15
+        );
+    }
+
+    @Override
+    public boolean setBiome(final int x, final int z, final @NonNull BiomeType biome) {
+        return false;
+    }
+
+    @Override
+    public boolean setBiome(final int x, final int y, final int z, final @NonNull BiomeType biome) {
+        return false;
+    }
+
+    @Override
+    public void fillBiome(final BiomeType biome) {
+    }
+
+    @Override
+    public boolean setTile(final int x, final int y, final int z, final @NonNull CompoundTag tag) {
+        return false;
+    }
+
+    @Override
+    public boolean setEntity(final @NonNull Entity entity) {
+        if (entity.getState() == null || entity.getState().getType() == EntityTypes.PLAYER) {
+            return false;
+        }
+        this.entities.put(entity.getLocation(), entity.getState());
+        return true;
+    }
+
+    /**
+     * Blocks and entities of a generated chunk. {@code sections} contains one entry per section, starting at the lowest
+     * section of the world. An entry is {@code null} if nothing was generated in the section, an array of length 1 if the
+     * whole section consists of a single block, or an array of 4096 blocks indexed like {@link ChunkUtil#getJ(int, int, int)}
+     * otherwise, where positions without a generated block are {@code null}. {@code entities} holds the entities placed
+     * while populating the chunk, by their location in the world.
+     *
+     * @param sections generated blocks by section
+     * @param entities populated entities by location
+     * @since TODO
+     */
+    public record GeneratedChunk(
+            @Nullable BaseBlock @NonNull [][] sections,
+            @NonNull Map<com.sk89q.worldedit.util.Location, BaseEntity> entities
+    ) {
+
+    }
+
+}
@@ -22,6 +22,7 @@ import com.plotsquared.core.util.ChunkUtil;
 import com.plotsquared.core.util.MathMan;
 import com.sk89q.jnbt.CompoundTag;
 import com.sk89q.worldedit.entity.BaseEntity;
+import com.sk89q.worldedit.function.pattern.Pattern;
 import com.sk89q.worldedit.math.BlockVector3;
 import com.sk89q.worldedit.util.Location;
 import com.sk89q.worldedit.world.biome.BiomeType;
@@ -38,6 +39,7 @@ public class LocalChunk {
     private final int minSection;
 
     private final BaseBlock[][] baseblocks;
+    private final Pattern[] fills;
     private final BiomeType[][] biomes;
     private final HashMap<BlockVector3, CompoundTag> tiles = new HashMap<>();
     private final HashMap<Location, BaseEntity> entities = new HashMap<>();
@@ -49,6 +51,7 @@ public class LocalChunk {
         this.minSection = parent.getMinLayer();
         int sections = parent.getMaxLayer() - parent.getMinLayer() + 1;
         baseblocks = new BaseBlock[sections][];
+        fills = new Pattern[sections];
         biomes = new BiomeType[sections][];
     }
 
@@ -77,22 +80,91 @@ public class LocalChunk {
         return this.baseblocks;
     }
 
+    /**
+     * Get the patterns filling entire sections, indexed like {@link #getBaseblocks()}. Blocks in
+     * {@link #getBaseblocks()} take precedence over the fill of their section.
+     *
+     * @return section fills, {@code null} for sections without a fill
+     * @since TODO
+     */
+    public @NonNull Pattern[] getFills() {
+        return this.fills;
+    }
+
+    /**
+     * Fill an entire section with a block or pattern, replacing all blocks previously set in the section.
+     *
+     * @param section section y coordinate (block y / 16)
+     * @param pattern block or pattern to fill the section with
+     * @since TODO
+     */
+    public void setFill(final int section, final @NonNull Pattern pattern) {
+        final int i = section - minSection;
+        this.fills[i] = pattern;
+        this.baseblocks[i] = null;
+    }
+
+    /**
+     * Get whether a block has been set at a position, either individually or by a section fill.
+     *
+     * @param layer layer index, as used by {@link #getBaseblocks()}
+     * @param j     index of the block in the layer, see {@link ChunkUtil#getJ(int, int, int)}
+     * @return {@code true} if a block is set
+     * @since TODO
+     */
+    public boolean isSet(final int layer, final int j) {
+        if (this.fills[layer] != null) {
+            return true;
+        }
+        final BaseBlock[] blocks = this.baseblocks[layer];
+        return blocks != null && blocks[j] != null;
+    }
+
+    /**
+     * Get whether any block has been set in a layer.
+     *
+     * @param layer layer index, as used by {@link #getBaseblocks()}
+     * @return {@code true} if the layer has a fill or individual blocks
+     * @since TODO
+     */
+    public boolean hasLayer(final int layer) {
+        return this.fills[layer] != null || this.baseblocks[layer] != null;
+    }
+
+    /**
+     * Get the biomes set in each layer. Biomes are stored at the resolution of the game, one per 4x4x4 cell, so each
+     * layer holds 64 entries indexed by {@link #getBiomeIndex(int, int, int)}.
+     *
+     * @return biomes, {@code null} for layers without biomes
+     */
     public @NonNull BiomeType[][] getBiomes() {
         return this.biomes;
     }
 
+    /**
+     * Get the index of the biome cell containing a position within its layer.
+     *
+     * @param x x coordinate, only the position within the chunk is used
+     * @param y y coordinate, only the position within the section is used
+     * @param z z coordinate, only the position within the chunk is used
+     * @return index into a layer of {@link #getBiomes()}
+     * @since TODO
+     */
+    public static int getBiomeIndex(final int x, final int y, final int z) {
+        return ((y & 15) >> 2) << 4 | ((z & 15) >> 2) << 2 | (x & 15) >> 2;
+    }
+
     public @NonNull HashMap<BlockVector3, CompoundTag> getTiles() {
         return this.tiles;
     }
 
     public void setBiome(final int x, final int y, final int z, final @NonNull BiomeType biomeType) {
         final int i = getLayerIndex(y);
-        final int j = ChunkUtil.getJ(x, y, z);
         BiomeType[] array = this.biomes[i];
         if (array == null) {
-            array = this.biomes[i] = new BiomeType[4096];
+            array = this.biomes[i] = new BiomeType[64];
         }
-        array[j] = biomeType;
+        array[getBiomeIndex(x, y, z)] = biomeType;
     }
 
     @Override
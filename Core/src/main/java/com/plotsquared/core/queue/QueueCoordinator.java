@@ -57,7 +57,10 @@ public abstract class QueueCoordinator {
      * @param world world as all queues should have this constructor
      */
     public QueueCoordinator(@Nullable World world) {
-        PlotSquared.platform().injector().injectMembers(this);
+        // Queues may be created before the platform is set up, e.g. by tests
+        if (PlotSquared.get() != null) {
+            PlotSquared.platform().injector().injectMembers(this);
+        }
     }
 
     /**
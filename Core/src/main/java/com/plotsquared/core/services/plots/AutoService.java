@@ -34,8 +34,16 @@ import java.util.function.Predicate;
 
 public interface AutoService extends Service<AutoQuery, List<Plot>> {
 
+    /**
+     * @deprecated Candidates are reserved through {@link com.plotsquared.core.plot.FreePlotIndex} of the plot area
+     */
+    @Deprecated(forRemoval = true, since = "TODO")
     Cache<PlotId, Plot> plotCandidateCache = CacheBuilder.newBuilder()
             .expireAfterWrite(20, TimeUnit.SECONDS).build();
+    /**
+     * @deprecated Candidates are reserved through {@link com.plotsquared.core.plot.FreePlotIndex} of the plot area
+     */
+    @Deprecated(forRemoval = true, since = "TODO")
     Object plotLock = new Object();
 
     final class DefaultAutoService implements AutoService {
@@ -52,22 +60,8 @@ public interface AutoService extends Service<AutoQuery, List<Plot>> {
         @Nullable
         @Override
         public List<Plot> handle(@NonNull AutoQuery autoQuery) {
-            Plot plot;
-            PlotId nextId = autoQuery.startId();
-            do {
-                synchronized (plotLock) {
-                    plot = autoQuery.plotArea().getNextFreePlot(autoQuery.player(), nextId);
-                    if (plot != null && plotCandidateCache.getIfPresent(plot.getId()) == null) {
-                        plotCandidateCache.put(plot.getId(), plot);
-                        return Collections.singletonList(plot);
-                    }
-                    // if the plot is already in the cache, we want to make sure we skip it the next time
-                    if (plot != null) {
-                        nextId = plot.getId();
-                    }
-                }
-            } while (plot != null);
-            return null;
+            Plot plot = autoQuery.plotArea().reserveNextFreePlot(autoQuery.player(), autoQuery.startId());
+            return plot == null ? null : Collections.singletonList(plot);
         }
 
         @Override
@@ -81,30 +75,7 @@ public interface AutoService extends Service<AutoQuery, List<Plot>> {
 
         @Override
         public List<Plot> handle(final @NonNull AutoQuery autoQuery) {
-            /* TODO: Add timeout? */
-            outer:
-            while (true) {
-                synchronized (plotLock) {
-                    final PlotId start =
-                            autoQuery.plotArea().getMeta("lastPlot", PlotId.of(0, 0)).getNextId();
-                    final PlotId end = PlotId.of(
-                            start.getX() + autoQuery.sizeX() - 1,
-                            start.getY() + autoQuery.sizeZ() - 1
-                    );
-                    final List<Plot> plots =
-                            autoQuery.plotArea().canClaim(autoQuery.player(), start, end);
-                    autoQuery.plotArea().setMeta("lastPlot", start); // set entry point for next try
-                    if (plots != null && !plots.isEmpty()) {
-                        for (final Plot plot : plots) {
-                            if (plotCandidateCache.getIfPresent(plot.getId()) != null) {
-                                continue outer;
-                            }
-                            plotCandidateCache.put(plot.getId(), plot);
-                        }
-                        return plots;
-                    }
-                }
-            }
+            return autoQuery.plotArea().reserveFreePlots(autoQuery.player(), autoQuery.sizeX(), autoQuery.sizeZ());
         }
 
         @Override
@@ -0,0 +1,81 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.util;
+
+import com.sk89q.worldedit.world.biome.BiomeType;
+import com.sk89q.worldedit.world.block.BaseBlock;
+import com.sk89q.worldedit.world.block.BlockState;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Immutable copy of the blocks and biomes of a single chunk that may be read from any thread.
+ *
+ * @see WorldUtil#getChunkSnapshot(String, com.sk89q.worldedit.math.BlockVector2)
+ * @since TODO
+ */
+public interface ChunkSnapshot {
+
+    /**
+     * Get the lowest Y coordinate contained in the snapshot (inclusive)
+     *
+     * @return minimum Y coordinate
+     */
+    int getMinY();
+
+    /**
+     * Get the highest Y coordinate contained in the snapshot (inclusive)
+     *
+     * @return maximum Y coordinate
+     */
+    int getMaxY();
+
+    /**
+     * Get the block at the given position
+     *
+     * @param x chunk relative X coordinate (0-15)
+     * @param y Y coordinate
+     * @param z chunk relative Z coordinate (0-15)
+     * @return block state
+     */
+    @NonNull BlockState getBlock(int x, int y, int z);
+
+    /**
+     * Get the block at the given position including its tile entity data, if the snapshot was taken with tile entities
+     *
+     * @param x chunk relative X coordinate (0-15)
+     * @param y Y coordinate
+     * @param z chunk relative Z coordinate (0-15)
+     * @return block
+     * @see WorldUtil#getChunkSnapshot(String, com.sk89q.worldedit.math.BlockVector2, boolean)
+     */
+    default @NonNull BaseBlock getFullBlock(int x, int y, int z) {
+        return getBlock(x, y, z).toBaseBlock();
+    }
+
+    /**
+     * Get the biome at the given position
+     *
+     * @param x chunk relative X coordinate (0-15)
+     * @param y Y coordinate
+     * @param z chunk relative Z coordinate (0-15)
+     * @return biome
+     */
+    @NonNull BiomeType getBiome(int x, int y, int z);
+
+}
@@ -18,7 +18,6 @@
  */
 package com.plotsquared.core.util;
 
-import com.google.common.eventbus.EventBus;
 import com.intellectualsites.annotations.DoNotUse;
 import com.plotsquared.core.PlotSquared;
 import com.plotsquared.core.configuration.Settings;
@@ -89,15 +88,13 @@ import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 @DoNotUse
 public class EventDispatcher {
 
-    private final EventBus eventBus = new EventBus("PlotSquaredEvents");
-    private final List<Object> listeners = new ArrayList<>();
+    private final SubscriberRegistry subscribers = new SubscriberRegistry();
     private final WorldEdit worldEdit;
 
     public EventDispatcher(final @Nullable WorldEdit worldEdit) {
@@ -105,27 +102,34 @@ public class EventDispatcher {
     }
 
     public void registerListener(Object listener) {
-        eventBus.register(listener);
-        listeners.add(listener);
+        subscribers.register(listener);
     }
 
     public void unregisterListener(Object listener) {
-        eventBus.unregister(listener);
-        listeners.remove(listener);
+        subscribers.unregister(listener);
     }
 
     public void unregisterAll() {
-        for (Object listener : listeners) {
-            eventBus.unregister(listener);
-        }
+        subscribers.unregisterAll();
+    }
+
+    /**
+     * Check whether any registered listener would receive events of the given class
+     *
+     * @param eventClass event class
+     * @return {@code true} if an event of the class has at least one subscriber
+     * @since TODO
+     */
+    public boolean hasListeners(final @NonNull Class<?> eventClass) {
+        return subscribers.hasSubscribers(eventClass);
     }
 
     public void callGenericEvent(final @NonNull Object event) {
-        eventBus.post(event);
+        subscribers.post(event);
     }
 
     public void callEvent(final @NonNull PlotEvent event) {
-        eventBus.post(event);
+        subscribers.post(event);
     }
 
     public PlayerClaimPlotEvent callClaim(PlotPlayer<?> player, Plot plot, String schematic) {
@@ -144,7 +148,10 @@ public class EventDispatcher {
         return event;
     }
 
-    public PostPlayerAutoPlotEvent callPostAuto(PlotPlayer<?> player, Plot plot) {
+    public @Nullable PostPlayerAutoPlotEvent callPostAuto(PlotPlayer<?> player, Plot plot) {
+        if (!hasListeners(PostPlayerAutoPlotEvent.class)) {
+            return null;
+        }
         PostPlayerAutoPlotEvent event = new PostPlayerAutoPlotEvent(player, plot);
         callEvent(event);
         return event;
@@ -183,7 +190,10 @@ public class EventDispatcher {
         return event;
     }
 
-    public PostPlotClearEvent callPostPlotClear(PlotPlayer<?> player, Plot plot) {
+    public @Nullable PostPlotClearEvent callPostPlotClear(PlotPlayer<?> player, Plot plot) {
+        if (!hasListeners(PostPlotClearEvent.class)) {
+            return null;
+        }
         PostPlotClearEvent event = new PostPlotClearEvent(player, plot);
         callEvent(event);
         return event;
@@ -195,7 +205,10 @@ public class EventDispatcher {
         return event;
     }
 
-    public PostPlotDeleteEvent callPostDelete(Plot plot) {
+    public @Nullable PostPlotDeleteEvent callPostDelete(Plot plot) {
+        if (!hasListeners(PostPlotDeleteEvent.class)) {
+            return null;
+        }
         PostPlotDeleteEvent event = new PostPlotDeleteEvent(plot);
         callEvent(event);
         return event;
@@ -219,7 +232,10 @@ public class EventDispatcher {
         return event;
     }
 
-    public PostPlotMergeEvent callPostMerge(PlotPlayer<?> player, Plot plot) {
+    public @Nullable PostPlotMergeEvent callPostMerge(PlotPlayer<?> player, Plot plot) {
+        if (!hasListeners(PostPlotMergeEvent.class)) {
+            return null;
+        }
         PostPlotMergeEvent event = new PostPlotMergeEvent(player, plot);
         callEvent(event);
         return event;
@@ -240,46 +256,64 @@ public class EventDispatcher {
         return event;
     }
 
-    public PostPlotUnlinkEvent callPostUnlink(Plot plot, PlotUnlinkEvent.REASON reason) {
+    public @Nullable PostPlotUnlinkEvent callPostUnlink(Plot plot, PlotUnlinkEvent.REASON reason) {
+        if (!hasListeners(PostPlotUnlinkEvent.class)) {
+            return null;
+        }
         PostPlotUnlinkEvent event = new PostPlotUnlinkEvent(plot, reason);
         callEvent(event);
         return event;
     }
 
-    public PlayerEnterPlotEvent callEntry(PlotPlayer<?> player, Plot plot) {
+    public @Nullable PlayerEnterPlotEvent callEntry(PlotPlayer<?> player, Plot plot) {
+        if (!hasListeners(PlayerEnterPlotEvent.class)) {
+            return null;
+        }
         PlayerEnterPlotEvent event = new PlayerEnterPlotEvent(player, plot);
         callEvent(event);
         return event;
     }
 
-    public PlayerLeavePlotEvent callLeave(PlotPlayer<?> player, Plot plot) {
+    public @Nullable PlayerLeavePlotEvent callLeave(PlotPlayer<?> player, Plot plot) {
+        if (!hasListeners(PlayerLeavePlotEvent.class)) {
+            return null;
+        }
         PlayerLeavePlotEvent event = new PlayerLeavePlotEvent(player, plot);
         callEvent(event);
         return event;
     }
 
-    public PlayerPlotDeniedEvent callDenied(
+    public @Nullable PlayerPlotDeniedEvent callDenied(
             PlotPlayer<?> initiator, Plot plot, UUID player,
             boolean added
     ) {
+        if (!hasListeners(PlayerPlotDeniedEvent.class)) {
+            return null;
+        }
         PlayerPlotDeniedEvent event = new PlayerPlotDeniedEvent(initiator, plot, player, added);
         callEvent(event);
         return event;
     }
 
-    public PlayerPlotTrustedEvent callTrusted(
+    public @Nullable PlayerPlotTrustedEvent callTrusted(
             PlotPlayer<?> initiator, Plot plot, UUID player,
             boolean added
     ) {
+        if (!hasListeners(PlayerPlotTrustedEvent.class)) {
+            return null;
+        }
         PlayerPlotTrustedEvent event = new PlayerPlotTrustedEvent(initiator, plot, player, added);
         callEvent(event);
         return event;
     }
 
-    public PlayerPlotHelperEvent callMember(
+    public @Nullable PlayerPlotHelperEvent callMember(
             PlotPlayer<?> initiator, Plot plot, UUID player,
             boolean added
     ) {
+        if (!hasListeners(PlayerPlotHelperEvent.class)) {
+            return null;
+        }
         PlayerPlotHelperEvent event = new PlayerPlotHelperEvent(initiator, plot, player, added);
         callEvent(event);
         return event;
@@ -295,7 +329,10 @@ public class EventDispatcher {
         return event;
     }
 
-    public PostPlotChangeOwnerEvent callPostOwnerChange(PlotPlayer<?> player, Plot plot, @Nullable UUID oldOwner) {
+    public @Nullable PostPlotChangeOwnerEvent callPostOwnerChange(PlotPlayer<?> player, Plot plot, @Nullable UUID oldOwner) {
+        if (!hasListeners(PostPlotChangeOwnerEvent.class)) {
+            return null;
+        }
         PostPlotChangeOwnerEvent event = new PostPlotChangeOwnerEvent(player, plot, oldOwner);
         callEvent(event);
         return event;
@@ -303,7 +340,7 @@ public class EventDispatcher {
 
     public PlotRateEvent callRating(PlotPlayer<?> player, Plot plot, Rating rating) {
         PlotRateEvent event = new PlotRateEvent(player, rating, plot);
-        eventBus.post(event);
+        callGenericEvent(event);
         return event;
     }
 
@@ -315,25 +352,28 @@ public class EventDispatcher {
 
     public RemoveRoadEntityEvent callRemoveRoadEntity(Entity entity) {
         RemoveRoadEntityEvent event = new RemoveRoadEntityEvent(entity);
-        eventBus.post(event);
+        callGenericEvent(event);
         return event;
     }
 
     public PlayerPlotLimitEvent callPlayerPlotLimit(PlotPlayer<?> player, int calculatedLimit) {
         PlayerPlotLimitEvent event = new PlayerPlotLimitEvent(player, calculatedLimit);
-        eventBus.post(event);
+        callGenericEvent(event);
         return event;
     }
 
     public PlayerBuyPlotEvent callPlayerBuyPlot(PlotPlayer<?> player, Plot plot, double price) {
         PlayerBuyPlotEvent event = new PlayerBuyPlotEvent(player, plot, price);
-        eventBus.post(event);
+        callGenericEvent(event);
         return event;
     }
 
     public void callPostPlayerBuyPlot(PlotPlayer<?> player, OfflinePlotPlayer previousOwner, Plot plot,
                                       double price) {
-        eventBus.post(new PostPlayerBuyPlotEvent(player, previousOwner, plot, price));
+        if (!hasListeners(PostPlayerBuyPlotEvent.class)) {
+            return;
+        }
+        callGenericEvent(new PostPlayerBuyPlotEvent(player, previousOwner, plot, price));
     }
 
     public void doJoinTask(final PlotPlayer<?> player) {
@@ -118,11 +118,44 @@ public abstract class PlayerManager<P extends PlotPlayer<? extends T>, T> {
      * @return Component of name list
      */
     public static @NonNull Component getPlayerList(final @NonNull Collection<UUID> uuids, LocaleHolder localeHolder) {
+        final List<UUID> players = new LinkedList<>();
+        for (final UUID uuid : uuids) {
+            if (uuid != null && !DBFunc.EVERYONE.equals(uuid) && !DBFunc.SERVER.equals(uuid)) {
+                players.add(uuid);
+            }
+        }
+        final Map<UUID, String> names = new HashMap<>();
+        try {
+            for (final UUIDMapping mapping : PlotSquared.get().getImpromptuUUIDPipeline()
+                    .getNames(players).get(Settings.UUID.BLOCKING_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                names.put(mapping.uuid(), mapping.username());
+            }
+        } catch (final Exception e) {
+            e.printStackTrace();
+        }
+        return getPlayerList(uuids, localeHolder, names);
+    }
+
+    /**
+     * Get a list of names given a list of UUIDs and their already resolved names, without blocking.
+     * UUIDs that are missing from {@code names} are left out of the list.
+     * - Uses the format {@link TranslatableCaption#of(String)} of "info.plot_user_list" for the returned string
+     *
+     * @param uuids        UUIDs
+     * @param localeHolder the localeHolder to localize the component for
+     * @param names        resolved names by UUID
+     * @return Component of name list
+     * @since TODO
+     */
+    public static @NonNull Component getPlayerList(
+            final @NonNull Collection<UUID> uuids,
+            final LocaleHolder localeHolder,
+            final @NonNull Map<UUID, String> names
+    ) {
         if (uuids.isEmpty()) {
             return TranslatableCaption.of("info.none").toComponent(localeHolder).asComponent();
         }
 
-        final List<UUID> players = new LinkedList<>();
         final List<ComponentLike> users = new LinkedList<>();
         for (final UUID uuid : uuids) {
             if (uuid == null) {
@@ -132,23 +165,17 @@ public abstract class PlayerManager<P extends PlotPlayer<? extends T>, T> {
             } else if (DBFunc.SERVER.equals(uuid)) {
                 users.add(TranslatableCaption.of("info.console").toComponent(localeHolder));
             } else {
-                players.add(uuid);
-            }
-        }
-
-        try {
-            for (final UUIDMapping mapping : PlotSquared.get().getImpromptuUUIDPipeline()
-                    .getNames(players).get(Settings.UUID.BLOCKING_TIMEOUT, TimeUnit.MILLISECONDS)) {
-                users.add(Component.text(mapping.username()));
+                final String name = names.get(uuid);
+                if (name != null) {
+                    users.add(Component.text(name));
+                }
             }
-        } catch (final Exception e) {
-            e.printStackTrace();
         }
 
         String c = TranslatableCaption.of("info.plot_user_list").getComponent(ConsolePlayer.getConsole());
         TextComponent.Builder list = Component.text();
         for (int x = 0; x < users.size(); x++) {
-            if (x + 1 == uuids.size()) {
+            if (x + 1 == users.size()) {
                 list.append(MINI_MESSAGE.deserialize(c, TagResolver.resolver(
                         "user",
                         Tag.inserting(users.get(x))
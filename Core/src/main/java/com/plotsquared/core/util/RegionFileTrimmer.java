@@ -0,0 +1,314 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.util;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Trims Anvil region files ({@code r.x.z.mca}) at chunk granularity by reading and rewriting them directly.
+ * Chunks rejected by the {@link ChunkFilter} are removed from the region header, the remaining chunks are moved
+ * together so that the sector table has no gaps and the file is truncated. Region files without any remaining
+ * chunks are deleted.
+ * <p>
+ * The world owning the region folder must not be loaded while a (non dry-run) trim is running, otherwise the server
+ * will write stale sector offsets back into the files. Files are rewritten in place, so a backup is recommended.
+ *
+ * @since TODO
+ */
+public class RegionFileTrimmer {
+
+    private static final Logger LOGGER = LogManager.getLogger("PlotSquared/" + RegionFileTrimmer.class.getSimpleName());
+    private static final Pattern REGION_FILE = Pattern.compile("r\\.(-?\\d+)\\.(-?\\d+)\\.mca");
+    private static final int SECTOR_BYTES = 4096;
+    private static final int HEADER_SECTORS = 2;
+    private static final int CHUNKS_PER_REGION = 1024;
+    private static final int EXTERNAL_FLAG = 0x80;
+
+    private final File regionFolder;
+    private final ChunkFilter filter;
+    private final boolean dryRun;
+    private final int threads;
+
+    /**
+     * @param regionFolder the {@code region} folder of the world
+     * @param filter       filter deciding which chunks are kept
+     * @param dryRun       if {@code true}, only report what would be trimmed without touching any file
+     * @param threads      number of region files processed in parallel
+     */
+    public RegionFileTrimmer(
+            final @NonNull File regionFolder,
+            final @NonNull ChunkFilter filter,
+            final boolean dryRun,
+            final int threads
+    ) {
+        this.regionFolder = regionFolder;
+        this.filter = filter;
+        this.dryRun = dryRun;
+        this.threads = Math.max(1, threads);
+    }
+
+    /**
+     * Trim all region files in the region folder.
+     *
+     * @return future completing with the combined report once every region file is processed
+     */
+    public @NonNull CompletableFuture<Report> trim() {
+        final File[] files = this.regionFolder.listFiles((dir, name) -> REGION_FILE.matcher(name).matches());
+        if (files == null || files.length == 0) {
+            return CompletableFuture.completedFuture(new Report());
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(this.threads, files.length));
+        final List<CompletableFuture<Report>> futures = new ArrayList<>(files.length);
+        for (final File file : files) {
+            futures.add(CompletableFuture.supplyAsync(() -> trimFile(file), executor));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).thenApply(ignore -> {
+            final Report report = new Report();
+            for (final CompletableFuture<Report> future : futures) {
+                report.add(future.join());
+            }
+            return report;
+        }).whenComplete((report, throwable) -> executor.shutdown());
+    }
+
+    /**
+     * Trim a single region file.
+     *
+     * @param file region file
+     * @return report for the file
+     */
+    public @NonNull Report trimFile(final @NonNull File file) {
+        final Report report = new Report();
+        report.regionFiles = 1;
+        final Matcher matcher = REGION_FILE.matcher(file.getName());
+        final long length = file.length();
+        if (!matcher.matches() || length < (long) HEADER_SECTORS * SECTOR_BYTES) {
+            report.skippedFiles = 1;
+            return report;
+        }
+        report.bytesBefore = length;
+        final int chunkBaseX = Integer.parseInt(matcher.group(1)) << 5;
+        final int chunkBaseZ = Integer.parseInt(matcher.group(2)) << 5;
+        final long fileSectors = length / SECTOR_BYTES;
+
+        try (FileChannel channel = FileChannel.open(
+                file.toPath(),
+                this.dryRun ? new StandardOpenOption[]{StandardOpenOption.READ}
+                        : new StandardOpenOption[]{StandardOpenOption.READ, StandardOpenOption.WRITE}
+        )) {
+            final MappedByteBuffer buffer = channel.map(
+                    this.dryRun ? FileChannel.MapMode.READ_ONLY : FileChannel.MapMode.READ_WRITE,
+                    0,
+                    length
+            );
+            final List<int[]> kept = new ArrayList<>();
+            final List<Integer> dropped = new ArrayList<>();
+            for (int index = 0; index < CHUNKS_PER_REGION; index++) {
+                final int location = buffer.getInt(index * 4);
+                if (location == 0) {
+                    continue;
+                }
+                final int offset = location >>> 8;
+                final int sectors = location & 0xFF;
+                if (offset < HEADER_SECTORS || sectors == 0 || offset + sectors > fileSectors) {
+                    LOGGER.warn("Skipping {}: chunk {} has an invalid sector entry", file.getName(), index);
+                    report.skippedFiles = 1;
+                    report.bytesAfter = length;
+                    return report;
+                }
+                if (this.filter.keep(chunkBaseX + (index & 31), chunkBaseZ + (index >> 5))) {
+                    kept.add(new int[]{index, offset, sectors});
+                } else {
+                    dropped.add(index);
+                }
+            }
+            report.keptChunks = kept.size();
+            report.droppedChunks = dropped.size();
+
+            // Pack the kept chunks in their current order, so that every chunk only ever moves towards the header
+            kept.sort(Comparator.comparingInt(entry -> entry[1]));
+            int nextSector = HEADER_SECTORS;
+            for (final int[] entry : kept) {
+                nextSector += entry[2];
+            }
+            final long newLength = kept.isEmpty() ? 0 : (long) nextSector * SECTOR_BYTES;
+            report.bytesAfter = newLength;
+            if (dropped.isEmpty() && newLength == length) {
+                return report;
+            }
+            if (kept.isEmpty()) {
+                report.deletedFiles = 1;
+            } else {
+                report.modifiedFiles = 1;
+            }
+            if (this.dryRun) {
+                return report;
+            }
+
+            for (final int index : dropped) {
+                final int offset = buffer.getInt(index * 4) >>> 8;
+                if ((buffer.get(offset * SECTOR_BYTES + 4) & EXTERNAL_FLAG) != 0) {
+                    deleteExternalChunk(chunkBaseX + (index & 31), chunkBaseZ + (index >> 5));
+                }
+                buffer.putInt(index * 4, 0);
+                buffer.putInt(SECTOR_BYTES + index * 4, 0);
+            }
+            if (!kept.isEmpty()) {
+                byte[] transfer = new byte[SECTOR_BYTES];
+                int sector = HEADER_SECTORS;
+                for (final int[] entry : kept) {
+                    final int sectors = entry[2];
+                    if (entry[1] != sector) {
+                        final int bytes = sectors * SECTOR_BYTES;
+                        if (transfer.length < bytes) {
+                            transfer = new byte[bytes];
+                        }
+                        buffer.get(entry[1] * SECTOR_BYTES, transfer, 0, bytes);
+                        buffer.put(sector * SECTOR_BYTES, transfer, 0, bytes);
+                        buffer.putInt(entry[0] * 4, (sector << 8) | sectors);
+                    }
+                    sector += sectors;
+                }
+            }
+            buffer.force();
+            if (!kept.isEmpty()) {
+                try {
+                    channel.truncate(newLength);
+                } catch (IOException e) {
+                    // Some platforms refuse to truncate mapped files. The unused tail is ignored by the server.
+                    LOGGER.debug("Could not truncate {}", file.getName(), e);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.error("Failed to trim region file {}", file.getName(), e);
+            report.skippedFiles = 1;
+            report.bytesAfter = length;
+            return report;
+        }
+        if (report.deletedFiles == 1 && !file.delete()) {
+            LOGGER.warn("Failed to delete empty region file {}", file.getName());
+        }
+        return report;
+    }
+
+    private void deleteExternalChunk(final int chunkX, final int chunkZ) {
+        final File external = new File(this.regionFolder, "c." + chunkX + "." + chunkZ + ".mcc");
+        if (external.exists() && !external.delete()) {
+            LOGGER.warn("Failed to delete external chunk file {}", external.getName());
+        }
+    }
+
+    /**
+     * Decides whether a chunk is kept by the trimmer.
+     */
+    @FunctionalInterface
+    public interface ChunkFilter {
+
+        /**
+         * @param chunkX chunk x coordinate
+         * @param chunkZ chunk z coordinate
+         * @return {@code true} if the chunk should be kept
+         */
+        boolean keep(int chunkX, int chunkZ);
+
+    }
+
+    /**
+     * Statistics of a trim run.
+     */
+    public static final class Report {
+
+        private int regionFiles;
+        private int modifiedFiles;
+        private int deletedFiles;
+        private int skippedFiles;
+        private long keptChunks;
+        private long droppedChunks;
+        private long bytesBefore;
+        private long bytesAfter;
+
+        private void add(final @NonNull Report other) {
+            this.regionFiles += other.regionFiles;
+            this.modifiedFiles += other.modifiedFiles;
+            this.deletedFiles += other.deletedFiles;
+            this.skippedFiles += other.skippedFiles;
+            this.keptChunks += other.keptChunks;
+            this.droppedChunks += other.droppedChunks;
+            this.bytesBefore += other.bytesBefore;
+            this.bytesAfter += other.bytesAfter;
+        }
+
+        public int getRegionFiles() {
+            return this.regionFiles;
+        }
+
+        public int getModifiedFiles() {
+            return this.modifiedFiles;
+        }
+
+        public int getDeletedFiles() {
+            return this.deletedFiles;
+        }
+
+        public int getSkippedFiles() {
+            return this.skippedFiles;
+        }
+
+        public long getKeptChunks() {
+            return this.keptChunks;
+        }
+
+        public long getDroppedChunks() {
+            return this.droppedChunks;
+        }
+
+        public long getBytesBefore() {
+            return this.bytesBefore;
+        }
+
+        public long getBytesAfter() {
+            return this.bytesAfter;
+        }
+
+        @Override
+        public String toString() {
+            return "regions=" + this.regionFiles + ", modified=" + this.modifiedFiles + ", deleted=" + this.deletedFiles
+                    + ", skipped=" + this.skippedFiles + ", kept chunks=" + this.keptChunks + ", dropped chunks="
+                    + this.droppedChunks + ", size " + (this.bytesBefore >> 20) + "MiB -> " + (this.bytesAfter >> 20) + "MiB";
+        }
+
+    }
+
+}
@@ -28,9 +28,9 @@ import com.plotsquared.core.player.PlotPlayer;
 import com.plotsquared.core.plot.Plot;
 import com.plotsquared.core.plot.PlotArea;
 import com.plotsquared.core.plot.PlotManager;
-import com.plotsquared.core.queue.BasicQueueCoordinator;
 import com.plotsquared.core.queue.GlobalBlockQueue;
 import com.plotsquared.core.queue.QueueCoordinator;
+import com.plotsquared.core.queue.subscriber.ProgressSubscriber;
 import com.plotsquared.core.util.task.TaskManager;
 import com.sk89q.worldedit.entity.Entity;
 import com.sk89q.worldedit.function.pattern.Pattern;
@@ -193,36 +193,25 @@ public abstract class RegionManager {
             final @Nullable PlotPlayer<?> actor,
             final @NonNull Runnable whenDone
     ) {
-        final int relX = newPos.getX() - pos1.getX();
-        final int relZ = newPos.getZ() - pos1.getZ();
-        final com.sk89q.worldedit.world.World oldWorld = worldUtil.getWeWorld(pos1.getWorldName());
-        final com.sk89q.worldedit.world.World newWorld = worldUtil.getWeWorld(newPos.getWorldName());
-        final QueueCoordinator copyFrom = blockQueue.getNewQueue(oldWorld);
-        final BasicQueueCoordinator copyTo = (BasicQueueCoordinator) blockQueue.getNewQueue(newWorld);
-        setCopyFromToConsumer(pos1, pos2, relX, relZ, oldWorld, copyFrom, copyTo, false);
-        copyFrom.setCompleteTask(copyTo::enqueue);
+        ProgressSubscriber pasteProgress = null;
         if (actor != null && Settings.QUEUE.NOTIFY_PROGRESS) {
-            copyFrom.addProgressSubscriber(subscriberFactory
-                    .createFull(
-                            actor,
-                            Settings.QUEUE.NOTIFY_INTERVAL,
-                            Settings.QUEUE.NOTIFY_WAIT,
-                            TranslatableCaption.of("swap.progress_region_copy")
-                    ));
+            pasteProgress = subscriberFactory.createFull(
+                    actor,
+                    Settings.QUEUE.NOTIFY_INTERVAL,
+                    Settings.QUEUE.NOTIFY_WAIT,
+                    TranslatableCaption.of("swap.progress_region_paste")
+            );
         }
-        copyFrom
-                .addReadChunks(new CuboidRegion(
-                        BlockVector3.at(pos1.getX(), 0, pos1.getZ()),
-                        BlockVector3.at(pos2.getX(), 0, pos2.getZ())
-                ).getChunks());
-        copyTo.setCompleteTask(whenDone);
+        final QueueCoordinator copyFrom = new SnapshotRegionCopy(worldUtil, blockQueue, pos1, pos2, newPos, pasteProgress,
+                whenDone
+        ).createReader();
         if (actor != null && Settings.QUEUE.NOTIFY_PROGRESS) {
-            copyTo.addProgressSubscriber(subscriberFactory
+            copyFrom.addProgressSubscriber(subscriberFactory
                     .createFull(
                             actor,
                             Settings.QUEUE.NOTIFY_INTERVAL,
                             Settings.QUEUE.NOTIFY_WAIT,
-                            TranslatableCaption.of("swap.progress_region_paste")
+                            TranslatableCaption.of("swap.progress_region_copy")
                     ));
         }
         return copyFrom.enqueue();
@@ -0,0 +1,364 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.util;
+
+import com.plotsquared.core.location.Location;
+import com.plotsquared.core.queue.BasicQueueCoordinator;
+import com.plotsquared.core.queue.ChunkCoordinator;
+import com.plotsquared.core.queue.GlobalBlockQueue;
+import com.plotsquared.core.queue.LocalChunk;
+import com.plotsquared.core.queue.QueueCoordinator;
+import com.plotsquared.core.queue.subscriber.ProgressSubscriber;
+import com.plotsquared.core.util.task.TaskManager;
+import com.sk89q.worldedit.entity.BaseEntity;
+import com.sk89q.worldedit.entity.Entity;
+import com.sk89q.worldedit.math.BlockVector2;
+import com.sk89q.worldedit.math.BlockVector3;
+import com.sk89q.worldedit.regions.CuboidRegion;
+import com.sk89q.worldedit.world.World;
+import com.sk89q.worldedit.world.entity.EntityTypes;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Copies a region to an offset position, chunk by chunk. A queue loads the source chunks and takes a {@link ChunkSnapshot} of
+ * each on the main thread. As soon as every source chunk overlapping a destination chunk has been read, the destination chunk
+ * is assembled off the main thread, directly into the section buffers of a {@link LocalChunk}. Finished destination chunks are
+ * written by a chain of destination queues, each writing the chunks that were finished while the previous one was running.
+ * Source chunks that could not be read are treated as absent once the source queue has completed.
+ */
+final class SnapshotRegionCopy {
+
+    private static final Logger LOGGER = LogManager.getLogger("PlotSquared/" + SnapshotRegionCopy.class.getSimpleName());
+
+    private final WorldUtil worldUtil;
+    private final GlobalBlockQueue blockQueue;
+    private final String sourceWorld;
+    private final World destinationWorld;
+    // Never enqueued, only provides the section layout of the destination chunks
+    private final BasicQueueCoordinator layout;
+    private final int minX;
+    private final int minZ;
+    private final int maxX;
+    private final int maxZ;
+    private final int relX;
+    private final int relZ;
+    private final ProgressSubscriber pasteProgress;
+    private final Runnable whenDone;
+
+    private final Map<BlockVector2, Source> sources = new ConcurrentHashMap<>();
+    // Source chunks that have not been read yet, by destination chunk
+    private final Map<BlockVector2, AtomicInteger> unread = new ConcurrentHashMap<>();
+    // Source chunks that have not been read or given up on yet
+    private final Set<BlockVector2> unreadSources = ConcurrentHashMap.newKeySet();
+    private final Queue<LocalChunk> finished = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger unfinished = new AtomicInteger();
+    // Only accessed on the main thread
+    private final Set<BlockVector2> unrequested = new HashSet<>();
+    private int destinations;
+    private int written;
+    private boolean readComplete;
+    private boolean writing;
+    private boolean done;
+
+    /**
+     * @param worldUtil   world util used to take the snapshots
+     * @param blockQueue  queue provider for the source and destination queues
+     * @param pos1        minimum point of the source region
+     * @param pos2        maximum point of the source region
+     * @param newPos      position the minimum point is copied to
+     * @param pasteProgress subscriber notified of the progress of writing all destination chunks, or {@code null}
+     * @param whenDone      task to run once every destination chunk has been written
+     */
+    SnapshotRegionCopy(
+            final @NonNull WorldUtil worldUtil,
+            final @NonNull GlobalBlockQueue blockQueue,
+            final @NonNull Location pos1,
+            final @NonNull Location pos2,
+            final @NonNull Location newPos,
+            final @Nullable ProgressSubscriber pasteProgress,
+            final @NonNull Runnable whenDone
+    ) {
+        this.worldUtil = worldUtil;
+        this.blockQueue = blockQueue;
+        this.sourceWorld = pos1.getWorldName();
+        this.destinationWorld = worldUtil.getWeWorld(newPos.getWorldName());
+        this.layout = (BasicQueueCoordinator) blockQueue.getNewQueue(this.destinationWorld);
+        this.minX = pos1.getX();
+        this.minZ = pos1.getZ();
+        this.maxX = pos2.getX();
+        this.maxZ = pos2.getZ();
+        this.relX = newPos.getX() - pos1.getX();
+        this.relZ = newPos.getZ() - pos1.getZ();
+        this.pasteProgress = pasteProgress;
+        this.whenDone = whenDone;
+    }
+
+    /**
+     * Create the queue reading the source chunks. Enqueueing it starts the copy.
+     *
+     * @return source queue
+     */
+    @NonNull QueueCoordinator createReader() {
+        final QueueCoordinator reader = this.blockQueue.getNewQueue(this.worldUtil.getWeWorld(this.sourceWorld));
+        final Set<BlockVector2> chunks = new HashSet<>();
+        for (int cx = this.minX >> 4; cx <= this.maxX >> 4; cx++) {
+            for (int cz = this.minZ >> 4; cz <= this.maxZ >> 4; cz++) {
+                final BlockVector2 chunk = BlockVector2.at(cx, cz);
+                chunks.add(chunk);
+                for (final BlockVector2 destination : getDestinationChunks(chunk)) {
+                    this.unread.computeIfAbsent(destination, key -> new AtomicInteger()).incrementAndGet();
+                }
+            }
+        }
+        this.destinations = this.unread.size();
+        this.unfinished.set(this.destinations);
+        this.unreadSources.addAll(chunks);
+        this.unrequested.addAll(chunks);
+        reader.addReadChunks(chunks);
+        reader.setChunkConsumer(chunk -> {
+            this.unrequested.remove(chunk);
+            try {
+                read(chunk);
+            } catch (final Throwable throwable) {
+                LOGGER.error("Failed to read chunk {} of {}", chunk, this.sourceWorld, throwable);
+                markRead(chunk, null);
+            }
+        });
+        reader.setCompleteTask(() -> {
+            // Chunks that failed to load are never passed to the consumer
+            for (final BlockVector2 chunk : this.unrequested) {
+                markRead(chunk, null);
+            }
+            this.unrequested.clear();
+            this.readComplete = true;
+            flush();
+        });
+        return reader;
+    }
+
+    /**
+     * Read a loaded source chunk on the main thread, and hand it to an async task.
+     */
+    private void read(final @NonNull BlockVector2 chunk) {
+        final World world = this.worldUtil.getWeWorld(this.sourceWorld);
+        final CuboidRegion region = new CuboidRegion(
+                BlockVector3.at(Math.max(this.minX, chunk.getX() << 4), world.getMinY(), Math.max(this.minZ, chunk.getZ() << 4)),
+                BlockVector3.at(Math.min(this.maxX, (chunk.getX() << 4) + 15), world.getMaxY(),
+                        Math.min(this.maxZ, (chunk.getZ() << 4) + 15)
+                )
+        );
+        final List<Map.Entry<com.sk89q.worldedit.util.Location, BaseEntity>> entities = new ArrayList<>();
+        for (final Entity entity : world.getEntities(region)) {
+            final BaseEntity state = entity.getState();
+            if (state == null || state.getType() == EntityTypes.PLAYER) {
+                continue;
+            }
+            final com.sk89q.worldedit.util.Location location = entity.getLocation();
+            entities.add(Map.entry(new com.sk89q.worldedit.util.Location(
+                    location.getExtent(),
+                    location.toVector().add(this.relX, 0, this.relZ),
+                    location.getYaw(),
+                    location.getPitch()
+            ), state));
+        }
+        this.worldUtil.getChunkSnapshot(this.sourceWorld, chunk, true).whenCompleteAsync((snapshot, throwable) -> {
+            if (throwable != null) {
+                // The source is absent from the copy, its entities are not copied without its blocks either
+                LOGGER.error("Failed to take a snapshot of chunk {} in {}", chunk, this.sourceWorld, throwable);
+                markRead(chunk, null);
+                return;
+            }
+            markRead(chunk, new Source(snapshot, entities, new AtomicInteger(getDestinationChunks(chunk).size())));
+        }, TaskManager::runTaskAsync);
+    }
+
+    /**
+     * Mark a source chunk as read, and assemble the destination chunks that have no unread source chunks left. A source
+     * chunk that could not be read is passed as {@code null}, and is absent from the assembled chunks.
+     */
+    private void markRead(final @NonNull BlockVector2 chunk, final @Nullable Source source) {
+        if (!this.unreadSources.remove(chunk)) {
+            return;
+        }
+        if (source != null) {
+            this.sources.put(chunk, source);
+        }
+        for (final BlockVector2 destination : getDestinationChunks(chunk)) {
+            if (this.unread.get(destination).decrementAndGet() == 0) {
+                assemble(destination);
+            }
+        }
+    }
+
+    /**
+     * Assemble a destination chunk once all of its source chunks have been read.
+     */
+    private void assemble(final @NonNull BlockVector2 destination) {
+        try {
+            this.finished.add(build(destination));
+        } catch (final Throwable throwable) {
+            LOGGER.error("Failed to copy into chunk {} of {}", destination, this.destinationWorld.getName(), throwable);
+        } finally {
+            for (final BlockVector2 chunk : getSourceChunks(destination)) {
+                final Source source = this.sources.get(chunk);
+                if (source != null && source.uses().decrementAndGet() == 0) {
+                    this.sources.remove(chunk);
+                }
+            }
+            this.unfinished.decrementAndGet();
+            TaskManager.runTask(this::flush);
+        }
+    }
+
+    private @NonNull LocalChunk build(final @NonNull BlockVector2 destination) {
+        final LocalChunk chunk = new LocalChunk(this.layout, destination.getX(), destination.getZ());
+        final int bx = Math.max(this.minX + this.relX, destination.getX() << 4);
+        final int bz = Math.max(this.minZ + this.relZ, destination.getZ() << 4);
+        final int tx = Math.min(this.maxX + this.relX, (destination.getX() << 4) + 15);
+        final int tz = Math.min(this.maxZ + this.relZ, (destination.getZ() << 4) + 15);
+        for (int x = bx; x <= tx; x++) {
+            final int sx = x - this.relX;
+            for (int z = bz; z <= tz; z++) {
+                final int sz = z - this.relZ;
+                final Source source = this.sources.get(BlockVector2.at(sx >> 4, sz >> 4));
+                if (source == null || source.snapshot() == null) {
+                    continue;
+                }
+                final ChunkSnapshot snapshot = source.snapshot();
+                final int by = Math.max(snapshot.getMinY(), this.destinationWorld.getMinY());
+                final int ty = Math.min(snapshot.getMaxY(), this.destinationWorld.getMaxY());
+                // Biomes are stored per 4x4x4 cell, so a single position of every cell is enough
+                final boolean biomeColumn = ((x & 3) == 0 || x == bx) && ((z & 3) == 0 || z == bz);
+                for (int y = by; y <= ty; y++) {
+                    chunk.setBlock(x & 15, y, z & 15, snapshot.getFullBlock(sx & 15, y, sz & 15));
+                    if (biomeColumn && ((y & 3) == 0 || y == by)) {
+                        chunk.setBiome(x & 15, y, z & 15, snapshot.getBiome(sx & 15, y, sz & 15));
+                    }
+                }
+            }
+        }
+        for (final BlockVector2 source : getSourceChunks(destination)) {
+            final Source read = this.sources.get(source);
+            if (read == null) {
+                continue;
+            }
+            for (final Map.Entry<com.sk89q.worldedit.util.Location, BaseEntity> entity : read.entities()) {
+                final com.sk89q.worldedit.util.Location location = entity.getKey();
+                if (location.getBlockX() >> 4 == destination.getX() && location.getBlockZ() >> 4 == destination.getZ()) {
+                    chunk.setEntity(location, entity.getValue());
+                }
+            }
+        }
+        return chunk;
+    }
+
+    /**
+     * Write the finished destination chunks unless a destination queue is still running, and complete the copy once
+     * everything is written. Must be called on the main thread.
+     */
+    private void flush() {
+        if (this.writing || this.done) {
+            return;
+        }
+        if (!this.finished.isEmpty()) {
+            final BasicQueueCoordinator writer = (BasicQueueCoordinator) this.blockQueue.getNewQueue(this.destinationWorld);
+            LocalChunk chunk;
+            while ((chunk = this.finished.poll()) != null) {
+                writer.setChunk(chunk);
+            }
+            this.writing = true;
+            final int size = writer.getBlockChunks().size();
+            if (this.pasteProgress != null) {
+                writer.addProgressSubscriber(new ProgressSubscriber() {
+                    @Override
+                    public void notifyProgress(final @NonNull ChunkCoordinator coordinator, final double progress) {
+                        pasteProgress.notifyProgress(coordinator, (written + progress * size) / destinations);
+                    }
+
+                    @Override
+                    public void notifyEnd() {
+                        // The copy ends the subscriber once every destination chunk has been written
+                    }
+                });
+            }
+            writer.setCompleteTask(() -> {
+                this.written += size;
+                this.writing = false;
+                flush();
+            });
+            writer.enqueue();
+        } else if (this.readComplete && this.unfinished.get() == 0) {
+            this.done = true;
+            if (this.pasteProgress != null) {
+                this.pasteProgress.notifyEnd();
+            }
+            this.whenDone.run();
+        }
+    }
+
+    private @NonNull List<BlockVector2> getDestinationChunks(final @NonNull BlockVector2 source) {
+        return getChunks(
+                Math.max(this.minX, source.getX() << 4) + this.relX,
+                Math.max(this.minZ, source.getZ() << 4) + this.relZ,
+                Math.min(this.maxX, (source.getX() << 4) + 15) + this.relX,
+                Math.min(this.maxZ, (source.getZ() << 4) + 15) + this.relZ
+        );
+    }
+
+    private @NonNull List<BlockVector2> getSourceChunks(final @NonNull BlockVector2 destination) {
+        return getChunks(
+                Math.max(this.minX + this.relX, destination.getX() << 4) - this.relX,
+                Math.max(this.minZ + this.relZ, destination.getZ() << 4) - this.relZ,
+                Math.min(this.maxX + this.relX, (destination.getX() << 4) + 15) - this.relX,
+                Math.min(this.maxZ + this.relZ, (destination.getZ() << 4) + 15) - this.relZ
+        );
+    }
+
+    private static @NonNull List<BlockVector2> getChunks(final int bx, final int bz, final int tx, final int tz) {
+        final List<BlockVector2> chunks = new ArrayList<>(4);
+        for (int cx = bx >> 4; cx <= tx >> 4; cx++) {
+            for (int cz = bz >> 4; cz <= tz >> 4; cz++) {
+                chunks.add(BlockVector2.at(cx, cz));
+            }
+        }
+        return chunks;
+    }
+
+    private record Source(
+            @Nullable ChunkSnapshot snapshot,
+            @NonNull List<Map.Entry<com.sk89q.worldedit.util.Location, BaseEntity>> entities,
+            @NonNull AtomicInteger uses
+    ) {
+
+    }
+
+}
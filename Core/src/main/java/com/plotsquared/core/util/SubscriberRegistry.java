@@ -0,0 +1,253 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.util;
+
+import com.google.common.eventbus.AllowConcurrentEvents;
+import com.google.common.eventbus.Subscribe;
+import com.google.common.reflect.TypeToken;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Dispatches events to methods annotated with Guava's {@link Subscribe}, as a replacement for Guava's
+ * {@link com.google.common.eventbus.EventBus}. Subscriber methods are turned into invokers when a listener is
+ * registered and the subscribers of every posted event class, including the ones of its super types, are cached in
+ * one array, so posting an event is a single map lookup and a loop of direct calls.
+ * <p>
+ * Like the Guava event bus, subscribers that are not annotated with {@link AllowConcurrentEvents} are never called
+ * concurrently and exceptions thrown by a subscriber are logged without affecting other subscribers. Unlike the
+ * Guava event bus, events posted by a subscriber are dispatched immediately instead of after the current event.
+ */
+final class SubscriberRegistry {
+
+    private static final Logger LOGGER = LogManager.getLogger("PlotSquared/" + SubscriberRegistry.class.getSimpleName());
+    private static final Subscriber[] NO_SUBSCRIBERS = new Subscriber[0];
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Map<Object, List<Subscriber>> listeners = new IdentityHashMap<>();
+    private volatile Snapshot snapshot = new Snapshot(Map.of());
+
+    private static @NonNull List<Subscriber> findSubscribers(final @NonNull Object listener) {
+        final List<Subscriber> subscribers = new ArrayList<>();
+        final Set<String> signatures = new HashSet<>();
+        for (final Class<?> type : TypeToken.of(listener.getClass()).getTypes().rawTypes()) {
+            for (final Method method : type.getDeclaredMethods()) {
+                if (!method.isAnnotationPresent(Subscribe.class) || method.isSynthetic()) {
+                    continue;
+                }
+                if (method.getParameterCount() != 1) {
+                    throw new IllegalArgumentException("Method " + method + " has @Subscribe annotation but has "
+                            + method.getParameterCount() + " parameters. Subscriber methods must have exactly 1 parameter.");
+                }
+                // Overridden methods are only subscribed once, like in the Guava event bus
+                if (signatures.add(method.getName() + method.getParameterTypes()[0].getName())) {
+                    subscribers.add(new Subscriber(
+                            listener,
+                            method.getParameterTypes()[0],
+                            createInvoker(method),
+                            !method.isAnnotationPresent(AllowConcurrentEvents.class),
+                            method
+                    ));
+                }
+            }
+        }
+        return subscribers;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static @NonNull BiConsumer<Object, Object> createInvoker(final @NonNull Method method) {
+        final Class<?> owner = method.getDeclaringClass();
+        final boolean isStatic = Modifier.isStatic(method.getModifiers());
+        MethodHandle handle;
+        try {
+            method.setAccessible(true);
+            handle = MethodHandles.lookup().unreflect(method);
+        } catch (final IllegalAccessException | RuntimeException e) {
+            throw new IllegalArgumentException("Cannot access subscriber method " + method, e);
+        }
+        if (!isStatic) {
+            try {
+                final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(owner, MethodHandles.lookup());
+                return (BiConsumer<Object, Object>) LambdaMetafactory.metafactory(
+                        lookup,
+                        "accept",
+                        MethodType.methodType(BiConsumer.class),
+                        INVOKER_TYPE.erase(),
+                        lookup.unreflect(method),
+                        MethodType.methodType(void.class, owner, method.getParameterTypes()[0])
+                ).getTarget().invokeExact();
+            } catch (final Throwable ignored) {
+                // The listener lives in a module or class loader we cannot define classes for, use the method handle
+            }
+        } else {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        final MethodHandle invoker = handle.asType(INVOKER_TYPE);
+        return (target, event) -> {
+            try {
+                invoker.invokeExact(target, event);
+            } catch (final Throwable throwable) {
+                throw sneakyThrow(throwable);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Throwable> RuntimeException sneakyThrow(final Throwable throwable) throws T {
+        throw (T) throwable;
+    }
+
+    /**
+     * Register all subscriber methods of a listener. Registering a listener that is already registered does nothing,
+     * like in the Guava event bus.
+     *
+     * @param listener listener
+     */
+    synchronized void register(final @NonNull Object listener) {
+        if (this.listeners.containsKey(listener)) {
+            return;
+        }
+        this.listeners.put(listener, findSubscribers(listener));
+        rebuild();
+    }
+
+    /**
+     * Unregister all subscriber methods of a listener.
+     *
+     * @param listener listener
+     * @throws IllegalArgumentException if the listener was not registered
+     */
+    synchronized void unregister(final @NonNull Object listener) {
+        if (this.listeners.remove(listener) == null) {
+            throw new IllegalArgumentException("missing event subscriber for an annotated method. Is " + listener + " registered?");
+        }
+        rebuild();
+    }
+
+    /**
+     * Unregister every listener.
+     */
+    synchronized void unregisterAll() {
+        this.listeners.clear();
+        rebuild();
+    }
+
+    private void rebuild() {
+        final Map<Class<?>, List<Subscriber>> byType = new HashMap<>();
+        for (final List<Subscriber> subscribers : this.listeners.values()) {
+            for (final Subscriber subscriber : subscribers) {
+                byType.computeIfAbsent(subscriber.eventType(), ignored -> new ArrayList<>()).add(subscriber);
+            }
+        }
+        final Map<Class<?>, Subscriber[]> arrays = new HashMap<>();
+        byType.forEach((type, subscribers) -> arrays.put(type, subscribers.toArray(NO_SUBSCRIBERS)));
+        this.snapshot = new Snapshot(arrays);
+    }
+
+    /**
+     * Check whether anything listens to events of the given class.
+     *
+     * @param eventClass event class
+     * @return {@code true} if posting an event of the class would reach at least one subscriber
+     */
+    boolean hasSubscribers(final @NonNull Class<?> eventClass) {
+        return subscribers(eventClass).length != 0;
+    }
+
+    private Subscriber @NonNull [] subscribers(final @NonNull Class<?> eventClass) {
+        final Snapshot snapshot = this.snapshot;
+        if (snapshot.byType().isEmpty()) {
+            return NO_SUBSCRIBERS;
+        }
+        return snapshot.dispatchCache().computeIfAbsent(eventClass, type -> {
+            final List<Subscriber> subscribers = new ArrayList<>();
+            for (final Class<?> superType : TypeToken.of(type).getTypes().rawTypes()) {
+                final Subscriber[] ofType = snapshot.byType().get(superType);
+                if (ofType != null) {
+                    subscribers.addAll(Arrays.asList(ofType));
+                }
+            }
+            return subscribers.toArray(NO_SUBSCRIBERS);
+        });
+    }
+
+    /**
+     * Post an event to all subscribers of its class and super types.
+     *
+     * @param event event
+     */
+    void post(final @NonNull Object event) {
+        for (final Subscriber subscriber : subscribers(event.getClass())) {
+            try {
+                if (subscriber.synchronize()) {
+                    synchronized (subscriber) {
+                        subscriber.invoker().accept(subscriber.target(), event);
+                    }
+                } else {
+                    subscriber.invoker().accept(subscriber.target(), event);
+                }
+            } catch (final Throwable throwable) {
+                LOGGER.error("Could not dispatch event {} to {}", event.getClass().getSimpleName(), subscriber.method(), throwable);
+            }
+        }
+    }
+
+    /**
+     * Subscribers by their declared event type, and the flattened subscriber arrays of posted event classes.
+     */
+    private record Snapshot(
+            @NonNull Map<Class<?>, Subscriber[]> byType,
+            @NonNull Map<Class<?>, Subscriber[]> dispatchCache
+    ) {
+
+        private Snapshot(final @NonNull Map<Class<?>, Subscriber[]> byType) {
+            this(byType, new ConcurrentHashMap<>());
+        }
+
+    }
+
+    private record Subscriber(
+            @NonNull Object target,
+            @NonNull Class<?> eventType,
+            @NonNull BiConsumer<Object, Object> invoker,
+            boolean synchronize,
+            @NonNull Method method
+    ) {
+
+    }
+
+}
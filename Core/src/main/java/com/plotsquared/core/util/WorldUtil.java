@@ -30,6 +30,7 @@ import com.sk89q.jnbt.NBTInputStream;
 import com.sk89q.jnbt.NBTOutputStream;
 import com.sk89q.jnbt.Tag;
 import com.sk89q.worldedit.math.BlockVector2;
+import com.sk89q.worldedit.math.BlockVector3;
 import com.sk89q.worldedit.regions.CuboidRegion;
 import com.sk89q.worldedit.world.World;
 import com.sk89q.worldedit.world.biome.BiomeType;
@@ -53,6 +54,7 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.IntConsumer;
 import java.util.zip.GZIPInputStream;
@@ -188,6 +190,38 @@ public abstract class WorldUtil {
     public @NonNull
     abstract BlockState getBlockSynchronous(@NonNull Location location);
 
+    /**
+     * Take a {@link ChunkSnapshot} of a chunk, asynchronously. The chunk is loaded if required, but never generated. Should
+     * be called from the main thread, as servers without asynchronous chunk loading load the chunk on the calling thread.
+     *
+     * @param world World name
+     * @param chunk Chunk coordinates
+     * @return Future completing with the snapshot, or with {@code null} if the chunk has not been generated yet
+     * @since TODO
+     */
+    public @NonNull CompletableFuture<@Nullable ChunkSnapshot> getChunkSnapshot(
+            @NonNull String world,
+            @NonNull BlockVector2 chunk
+    ) {
+        return getChunkSnapshot(world, chunk, false);
+    }
+
+    /**
+     * Take a {@link ChunkSnapshot} of a chunk, asynchronously. The chunk is loaded if required, but never generated. Should
+     * be called from the main thread, as servers without asynchronous chunk loading load the chunk on the calling thread.
+     *
+     * @param world        World name
+     * @param chunk        Chunk coordinates
+     * @param tileEntities whether to include the data of tile entities, see {@link ChunkSnapshot#getFullBlock(int, int, int)}
+     * @return Future completing with the snapshot, or with {@code null} if the chunk has not been generated yet
+     * @since TODO
+     */
+    public abstract @NonNull CompletableFuture<@Nullable ChunkSnapshot> getChunkSnapshot(
+            @NonNull String world,
+            @NonNull BlockVector2 chunk,
+            boolean tileEntities
+    );
+
     /**
      * Get the Y coordinate of the highest non-air block in the world, asynchronously
      *
@@ -220,7 +254,16 @@ public abstract class WorldUtil {
      */
     public void setBiomes(@NonNull String worldName, @NonNull CuboidRegion region, @NonNull BiomeType biome) {
         final World world = getWeWorld(worldName);
-        region.forEach(bv -> world.setBiome(bv, biome));
+        final BlockVector3 min = region.getMinimumPoint();
+        final BlockVector3 max = region.getMaximumPoint();
+        // Biomes are stored per 4x4x4 cell, so setting one position of each cell is enough
+        for (int x = min.getX(); x <= max.getX(); x = (x & ~3) + 4) {
+            for (int z = min.getZ(); z <= max.getZ(); z = (z & ~3) + 4) {
+                for (int y = min.getY(); y <= max.getY(); y = (y & ~3) + 4) {
+                    world.setBiome(BlockVector3.at(x, y, z), biome);
+                }
+            }
+        }
     }
 
     /**
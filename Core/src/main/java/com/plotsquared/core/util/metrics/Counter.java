@@ -0,0 +1,84 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.util.metrics;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counter that can be incremented from any thread without contention.
+ *
+ * @since TODO
+ */
+public final class Counter {
+
+    private final String name;
+    private final LongAdder value = new LongAdder();
+
+    Counter(final @NonNull String name) {
+        this.name = name;
+    }
+
+    /**
+     * Get the name of the counter.
+     *
+     * @return name
+     */
+    public @NonNull String getName() {
+        return this.name;
+    }
+
+    /**
+     * Increment the counter by one.
+     */
+    public void increment() {
+        if (Metrics.isEnabled()) {
+            this.value.increment();
+        }
+    }
+
+    /**
+     * Add to the counter.
+     *
+     * @param amount amount to add
+     */
+    public void add(final long amount) {
+        if (Metrics.isEnabled()) {
+            this.value.add(amount);
+        }
+    }
+
+    /**
+     * Get the current value.
+     *
+     * @return value
+     */
+    public long get() {
+        return this.value.sum();
+    }
+
+    /**
+     * Reset the counter to zero.
+     */
+    public void reset() {
+        this.value.reset();
+    }
+
+}
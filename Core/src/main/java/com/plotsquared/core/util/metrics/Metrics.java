@@ -0,0 +1,111 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.util.metrics;
+
+import com.plotsquared.core.configuration.Settings;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the {@link Timer timers} and {@link Counter counters} measuring frequently run code. Metrics are
+ * created once, usually into a static field of the measured class, and recorded into for the lifetime of the server.
+ * Recording can be switched off with {@link Settings.Enabled_Components#TIMINGS}.
+ *
+ * @see MetricsExporter
+ * @since TODO
+ */
+public final class Metrics {
+
+    private static final Map<String, Timer> TIMERS = new ConcurrentHashMap<>();
+    private static final Map<String, Counter> COUNTERS = new ConcurrentHashMap<>();
+    private static volatile long recordingSince = System.currentTimeMillis();
+
+    private Metrics() {
+    }
+
+    /**
+     * Get or create a timer.
+     *
+     * @param name name of the timer, dot separated by subsystem such as {@code "listener.player-move"}
+     * @return timer
+     */
+    public static @NonNull Timer timer(final @NonNull String name) {
+        return TIMERS.computeIfAbsent(name, Timer::new);
+    }
+
+    /**
+     * Get or create a counter.
+     *
+     * @param name name of the counter, dot separated by subsystem such as {@code "database.statements"}
+     * @return counter
+     */
+    public static @NonNull Counter counter(final @NonNull String name) {
+        return COUNTERS.computeIfAbsent(name, Counter::new);
+    }
+
+    /**
+     * Whether metrics are currently recorded.
+     *
+     * @return {@code true} if recording is enabled
+     */
+    public static boolean isEnabled() {
+        return Settings.Enabled_Components.TIMINGS;
+    }
+
+    /**
+     * Get all timers, sorted by name.
+     *
+     * @return timers
+     */
+    public static @NonNull List<Timer> getTimers() {
+        return TIMERS.values().stream().sorted(Comparator.comparing(Timer::getName)).toList();
+    }
+
+    /**
+     * Get all counters, sorted by name.
+     *
+     * @return counters
+     */
+    public static @NonNull List<Counter> getCounters() {
+        return COUNTERS.values().stream().sorted(Comparator.comparing(Counter::getName)).toList();
+    }
+
+    /**
+     * Get the time the metrics were last reset, or the registry was created.
+     *
+     * @return epoch milliseconds
+     */
+    public static long getRecordingSince() {
+        return recordingSince;
+    }
+
+    /**
+     * Discard everything recorded so far.
+     */
+    public static void reset() {
+        TIMERS.values().forEach(Timer::reset);
+        COUNTERS.values().forEach(Counter::reset);
+        recordingSince = System.currentTimeMillis();
+    }
+
+}
@@ -0,0 +1,147 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.util.metrics;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Formats the contents of the {@link Metrics} registry as plain text or JSON.
+ *
+ * @since TODO
+ */
+public final class MetricsExporter {
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    private MetricsExporter() {
+    }
+
+    /**
+     * Format every timer and counter as one line of text each. Timers attributed to plot areas are followed by one
+     * indented line per area.
+     *
+     * @return lines
+     */
+    public static @NonNull List<String> toText() {
+        final List<String> lines = new ArrayList<>();
+        for (final Timer timer : Metrics.getTimers()) {
+            if (timer.getCount() == 0) {
+                continue;
+            }
+            lines.add(formatTimer(timer.getName(), timer));
+            for (final Map.Entry<String, Timer> area : timer.getAreaTimers().entrySet()) {
+                lines.add("  " + formatTimer(area.getKey(), area.getValue()));
+            }
+        }
+        for (final Counter counter : Metrics.getCounters()) {
+            if (counter.get() != 0) {
+                lines.add(counter.getName() + ": " + counter.get());
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Format every timer and counter as a JSON document. Durations are in microseconds.
+     *
+     * @return JSON
+     */
+    public static @NonNull String toJson() {
+        final JsonObject root = new JsonObject();
+        root.addProperty("since", Metrics.getRecordingSince());
+        root.addProperty("exported", System.currentTimeMillis());
+        final JsonArray timers = new JsonArray();
+        for (final Timer timer : Metrics.getTimers()) {
+            final JsonObject object = timerToJson(timer.getName(), timer);
+            final JsonArray areas = new JsonArray();
+            for (final Map.Entry<String, Timer> area : timer.getAreaTimers().entrySet()) {
+                areas.add(timerToJson(area.getKey(), area.getValue()));
+            }
+            object.add("areas", areas);
+            timers.add(object);
+        }
+        root.add("timers", timers);
+        final JsonObject counters = new JsonObject();
+        for (final Counter counter : Metrics.getCounters()) {
+            counters.addProperty(counter.getName(), counter.get());
+        }
+        root.add("counters", counters);
+        return GSON.toJson(root);
+    }
+
+    /**
+     * Write the current metrics to {@code timings-<date>.txt} and {@code timings-<date>.json} in a folder.
+     *
+     * @param folder folder to write into, created if missing
+     * @return the written JSON file
+     * @throws IOException if the files could not be written
+     */
+    public static @NonNull File export(final @NonNull File folder) throws IOException {
+        Files.createDirectories(folder.toPath());
+        final String name = "timings-" + new SimpleDateFormat("yyyy-MM-dd-HH-mm-ss", Locale.ROOT).format(new Date());
+        Files.write(new File(folder, name + ".txt").toPath(), toText(), StandardCharsets.UTF_8);
+        final File json = new File(folder, name + ".json");
+        Files.writeString(json.toPath(), toJson(), StandardCharsets.UTF_8);
+        return json;
+    }
+
+    private static String formatTimer(final String name, final Timer timer) {
+        return String.format(
+                Locale.ROOT,
+                "%s: count=%d, mean=%.1fµs, p50=%.1fµs, p95=%.1fµs, p99=%.1fµs, max=%.1fµs, total=%.1fms",
+                name,
+                timer.getCount(),
+                timer.getMeanNanos() / 1_000D,
+                timer.getPercentileNanos(50) / 1_000D,
+                timer.getPercentileNanos(95) / 1_000D,
+                timer.getPercentileNanos(99) / 1_000D,
+                timer.getMaxNanos() / 1_000D,
+                timer.getTotalNanos() / 1_000_000D
+        );
+    }
+
+    private static JsonObject timerToJson(final String name, final Timer timer) {
+        final JsonObject object = new JsonObject();
+        object.addProperty("name", name);
+        object.addProperty("count", timer.getCount());
+        object.addProperty("mean", timer.getMeanNanos() / 1_000D);
+        object.addProperty("p50", timer.getPercentileNanos(50) / 1_000D);
+        object.addProperty("p95", timer.getPercentileNanos(95) / 1_000D);
+        object.addProperty("p99", timer.getPercentileNanos(99) / 1_000D);
+        object.addProperty("max", timer.getMaxNanos() / 1_000D);
+        object.addProperty("total", timer.getTotalNanos() / 1_000D);
+        return object;
+    }
+
+}
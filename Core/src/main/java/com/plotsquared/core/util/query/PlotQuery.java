@@ -23,10 +23,8 @@ import com.plotsquared.core.PlotSquared;
 import com.plotsquared.core.player.PlotPlayer;
 import com.plotsquared.core.plot.Plot;
 import com.plotsquared.core.plot.PlotArea;
-import com.plotsquared.core.plot.Rating;
-import com.plotsquared.core.plot.flag.implementations.DoneFlag;
+import com.plotsquared.core.plot.PlotLeaderboard;
 import com.plotsquared.core.plot.world.PlotAreaManager;
-import com.plotsquared.core.util.MathMan;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.util.ArrayList;
@@ -37,7 +35,6 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Predicate;
@@ -316,6 +313,11 @@ public final class PlotQuery implements Iterable<Plot> {
      * @return Matching plots as a mutable
      */
     public @NonNull List<Plot> asList() {
+        if (this.sortingStrategy == SortingStrategy.SORT_BY_DONE) {
+            return this.rankedList(PlotLeaderboard.done());
+        } else if (this.sortingStrategy == SortingStrategy.SORT_BY_RATING) {
+            return this.rankedList(PlotLeaderboard.ratings());
+        }
         final List<Plot> result;
         if (this.filters.isEmpty()) {
             result = new ArrayList<>(this.plotProvider.getPlots());
@@ -336,43 +338,6 @@ public final class PlotQuery implements Iterable<Plot> {
             return result;
         } else if (this.sortingStrategy == SortingStrategy.SORT_BY_TEMP) {
             return PlotSquared.get().sortPlotsByTemp(result);
-        } else if (this.sortingStrategy == SortingStrategy.SORT_BY_DONE) {
-            result.sort((a, b) -> {
-                String va = a.getFlag(DoneFlag.class);
-                String vb = b.getFlag(DoneFlag.class);
-                if (MathMan.isInteger(va)) {
-                    if (MathMan.isInteger(vb)) {
-                        return Integer.parseInt(vb) - Integer.parseInt(va);
-                    }
-                    return -1;
-                }
-                return 1;
-            });
-        } else if (this.sortingStrategy == SortingStrategy.SORT_BY_RATING) {
-            result.sort((p1, p2) -> {
-                double v1 = 0;
-                int p1s = p1.getSettings().getRatings().size();
-                int p2s = p2.getRatings().size();
-                if (!p1.getSettings().getRatings().isEmpty()) {
-                    v1 = p1.getRatings().values().stream().mapToDouble(Rating::getAverageRating)
-                            .map(av -> av * av).sum();
-                    v1 /= p1s;
-                    v1 += p1s;
-                }
-                double v2 = 0;
-                if (!p2.getSettings().getRatings().isEmpty()) {
-                    for (Map.Entry<UUID, Rating> entry : p2.getRatings().entrySet()) {
-                        double av = entry.getValue().getAverageRating();
-                        v2 += av * av;
-                    }
-                    v2 /= p2s;
-                    v2 += p2s;
-                }
-                if (v2 == v1 && v2 != 0) {
-                    return p2s - p1s;
-                }
-                return (int) Math.signum(v2 - v1);
-            });
         } else if (this.sortingStrategy == SortingStrategy.SORT_BY_CREATION) {
             return PlotSquared.get().sortPlots(result, PlotSquared.SortType.CREATION_DATE, this.priorityArea);
         } else if (this.sortingStrategy == SortingStrategy.COMPARATOR) {
@@ -381,6 +346,44 @@ public final class PlotQuery implements Iterable<Plot> {
         return result;
     }
 
+    /**
+     * Read the matching plots in the order of a leaderboard instead of sorting them. Plots that are not ranked
+     * follow in the order of the plot provider.
+     */
+    private @NonNull List<Plot> rankedList(final @NonNull PlotLeaderboard leaderboard) {
+        final Collection<Plot> provided = this.plotProvider.getPlots();
+        Collection<PlotArea> areas = null;
+        Predicate<Plot> isProvided = plot -> true;
+        if (this.plotProvider instanceof AreaLimitedPlotProvider areaLimitedPlotProvider) {
+            areas = areaLimitedPlotProvider.getAreas();
+        } else if (!(this.plotProvider instanceof GlobalPlotProvider)) {
+            isProvided = new HashSet<>(provided)::contains;
+        }
+        final Set<Plot> ranked = new HashSet<>();
+        final List<Plot> result = new ArrayList<>();
+        leaderboard.stream(areas).filter(isProvided).forEach(plot -> {
+            ranked.add(plot);
+            if (this.accepts(plot)) {
+                result.add(plot);
+            }
+        });
+        for (final Plot plot : provided) {
+            if (!ranked.contains(plot) && this.accepts(plot)) {
+                result.add(plot);
+            }
+        }
+        return result;
+    }
+
+    private boolean accepts(final @NonNull Plot plot) {
+        for (final PlotFilter filter : this.filters) {
+            if (!filter.accepts(plot)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Get all plots that match the given criteria
      *
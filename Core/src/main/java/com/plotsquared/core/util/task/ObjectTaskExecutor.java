@@ -0,0 +1,229 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.util.task;
+
+import com.plotsquared.core.configuration.Settings;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Cooperative executor for all {@link ObjectTaskRunnable object tasks} of a {@link TaskManager}. Instead of every task
+ * taking a fixed slice of each tick, the executor runs all active tasks from a single repeating task and shares one
+ * time budget between them, weighted by their {@link Priority}.
+ * <p>
+ * The budget follows the load of the server. If the platform reports the average tick time, the budget is the
+ * headroom left below {@link Settings.Object_Tasks#TARGET_TICK_TIME} after subtracting the time the server spends
+ * outside of the executor. Otherwise the executor measures the interval between its own runs, halving the budget
+ * while the server falls behind and growing it slowly while it keeps up.
+ *
+ * @since TODO
+ */
+public final class ObjectTaskExecutor {
+
+    private static final Logger LOGGER = LogManager.getLogger("PlotSquared/" + ObjectTaskExecutor.class.getSimpleName());
+    private static final double TICK_MILLIS = 50;
+    // Allow some jitter before treating a tick as late
+    private static final double LATE_TICK_MILLIS = TICK_MILLIS * 1.1;
+    private static final double GROWTH_MILLIS = 0.5;
+    private static final double SMOOTHING = 0.2;
+
+    private final TaskManager taskManager;
+    private final Queue<ObjectTaskRunnable<?>> submitted = new ConcurrentLinkedQueue<>();
+    private final List<ObjectTaskRunnable<?>> jobs = new ArrayList<>();
+    private PlotSquaredTask task;
+    private double budgetMillis = Settings.Object_Tasks.MIN_BUDGET;
+    private double ownMillis;
+    private double intervalMillis = TICK_MILLIS;
+    private long lastTick;
+    private int offset;
+
+    ObjectTaskExecutor(final @NonNull TaskManager taskManager) {
+        this.taskManager = taskManager;
+    }
+
+    /**
+     * Compute the budget of the next tick.
+     *
+     * @param current        current budget in ms
+     * @param tickMillis     average tick time reported by the platform in ms, or a negative value if unknown
+     * @param ownMillis      average time spent by the executor per tick in ms
+     * @param intervalMillis average interval between two runs of the executor in ms
+     * @return next budget in ms
+     */
+    static double nextBudget(
+            final double current,
+            final double tickMillis,
+            final double ownMillis,
+            final double intervalMillis
+    ) {
+        final double desired;
+        if (tickMillis >= 0) {
+            desired = Settings.Object_Tasks.TARGET_TICK_TIME - Math.max(0, tickMillis - ownMillis);
+        } else if (intervalMillis > LATE_TICK_MILLIS) {
+            desired = current / 2;
+        } else {
+            desired = current + GROWTH_MILLIS;
+        }
+        // Shrink at once, but only grow gradually so that a single quiet tick does not cause a spike
+        final double next = desired < current ? desired : Math.min(desired, current + GROWTH_MILLIS);
+        return Math.max(Settings.Object_Tasks.MIN_BUDGET, Math.min(Settings.Object_Tasks.MAX_BUDGET, next));
+    }
+
+    /**
+     * Submit a task. It is run from the next tick on until it completes.
+     *
+     * @param job task
+     */
+    public void submit(final @NonNull ObjectTaskRunnable<?> job) {
+        synchronized (this) {
+            this.submitted.add(job);
+            if (this.task == null) {
+                this.lastTick = 0;
+                this.task = this.taskManager.taskRepeat(this::tick, TaskTime.ticks(1L));
+            }
+        }
+    }
+
+    /**
+     * Get the tasks that are currently run by the executor.
+     *
+     * @return snapshot of the active tasks
+     */
+    public @NonNull List<ObjectTaskRunnable<?>> getJobs() {
+        synchronized (this) {
+            final List<ObjectTaskRunnable<?>> jobs = new ArrayList<>(this.jobs);
+            jobs.addAll(this.submitted);
+            return jobs;
+        }
+    }
+
+    /**
+     * Get the combined time budget of all tasks.
+     *
+     * @return budget per tick in ms
+     */
+    public double getBudgetMillis() {
+        return this.budgetMillis;
+    }
+
+    /**
+     * Get the average time the executor spent running tasks.
+     *
+     * @return time per tick in ms
+     */
+    public double getOwnMillis() {
+        return this.ownMillis;
+    }
+
+    private void tick() {
+        final long start = System.nanoTime();
+        synchronized (this) {
+            ObjectTaskRunnable<?> job;
+            while ((job = this.submitted.poll()) != null) {
+                this.jobs.add(job);
+            }
+        }
+        if (this.lastTick != 0) {
+            final double interval = (start - this.lastTick) / 1e6;
+            this.intervalMillis += (interval - this.intervalMillis) * SMOOTHING;
+        }
+        this.lastTick = start;
+        this.budgetMillis = nextBudget(
+                this.budgetMillis,
+                this.taskManager.getAverageTickTime(),
+                this.ownMillis,
+                this.intervalMillis
+        );
+
+        int totalWeight = 0;
+        for (final ObjectTaskRunnable<?> job : this.jobs) {
+            totalWeight += job.getPriority().getWeight();
+        }
+        final long budgetNanos = (long) (this.budgetMillis * 1e6);
+        final int size = this.jobs.size();
+        // Rotate the order, so that time left over by one task is not always given to the same tasks
+        this.offset = size == 0 ? 0 : (this.offset + 1) % size;
+        final List<ObjectTaskRunnable<?>> completed = new ArrayList<>();
+        long carry = 0;
+        for (int i = 0; i < size; i++) {
+            final ObjectTaskRunnable<?> job = this.jobs.get((this.offset + i) % size);
+            final long slice = budgetNanos * job.getPriority().getWeight() / totalWeight + carry;
+            final long sliceStart = System.nanoTime();
+            boolean done;
+            try {
+                done = job.process(sliceStart + slice);
+            } catch (final Throwable throwable) {
+                LOGGER.error("Object task {} failed", job.getName(), throwable);
+                job.getCompletionFuture().completeExceptionally(throwable);
+                done = true;
+            }
+            final long spent = System.nanoTime() - sliceStart;
+            job.recordSlice(slice, spent);
+            carry = Math.max(0, slice - spent);
+            if (done) {
+                completed.add(job);
+            }
+        }
+        if (!completed.isEmpty()) {
+            synchronized (this) {
+                this.jobs.removeAll(completed);
+            }
+        }
+        for (final ObjectTaskRunnable<?> job : completed) {
+            job.getCompletionFuture().complete(null);
+        }
+
+        final double own = (System.nanoTime() - start) / 1e6;
+        this.ownMillis += (own - this.ownMillis) * SMOOTHING;
+        if (this.jobs.isEmpty()) {
+            synchronized (this) {
+                if (this.submitted.isEmpty()) {
+                    this.task.cancel();
+                    this.task = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Share of the executor budget given to a task.
+     */
+    public enum Priority {
+        LOW(1),
+        NORMAL(2),
+        HIGH(4);
+
+        private final int weight;
+
+        Priority(final int weight) {
+            this.weight = weight;
+        }
+
+        public int getWeight() {
+            return this.weight;
+        }
+    }
+
+}
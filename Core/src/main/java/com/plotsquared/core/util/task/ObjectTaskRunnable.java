@@ -18,41 +18,156 @@
  */
 package com.plotsquared.core.util.task;
 
+import org.checkerframework.checker.nullness.qual.NonNull;
+
 import java.util.Iterator;
 import java.util.concurrent.CompletableFuture;
 
+/**
+ * Task performed on a series of objects, spread over multiple ticks by the {@link ObjectTaskExecutor}.
+ *
+ * @param <T> object type
+ */
 public class ObjectTaskRunnable<T> implements Runnable {
 
     private final CompletableFuture<Void> completionFuture = new CompletableFuture<>();
 
     private final Iterator<T> iterator;
     private final RunnableVal<T> task;
+    private final String name;
+    private final ObjectTaskExecutor.Priority priority;
+    private final long startedAt = System.nanoTime();
+    private volatile long processed;
+    private volatile long sliceNanos;
+    private volatile long spentNanos;
 
     public ObjectTaskRunnable(
             final Iterator<T> iterator,
             final RunnableVal<T> task
+    ) {
+        this(iterator, task, "object-task", ObjectTaskExecutor.Priority.NORMAL);
+    }
+
+    /**
+     * @param iterator objects to perform the task on
+     * @param task     task to perform
+     * @param name     name shown to operators
+     * @param priority share of the executor budget
+     * @since TODO
+     */
+    public ObjectTaskRunnable(
+            final @NonNull Iterator<T> iterator,
+            final @NonNull RunnableVal<T> task,
+            final @NonNull String name,
+            final ObjectTaskExecutor.@NonNull Priority priority
     ) {
         this.iterator = iterator;
         this.task = task;
+        this.name = name;
+        this.priority = priority;
     }
 
     public CompletableFuture<Void> getCompletionFuture() {
         return this.completionFuture;
     }
 
+    /**
+     * @since TODO
+     */
+    public @NonNull String getName() {
+        return this.name;
+    }
+
+    /**
+     * @since TODO
+     */
+    public ObjectTaskExecutor.@NonNull Priority getPriority() {
+        return this.priority;
+    }
+
+    /**
+     * Get the number of objects processed so far.
+     *
+     * @return processed objects
+     * @since TODO
+     */
+    public long getProcessed() {
+        return this.processed;
+    }
+
+    /**
+     * Get the average number of objects processed per second since the task was created.
+     *
+     * @return throughput in objects per second
+     * @since TODO
+     */
+    public double getThroughput() {
+        final double seconds = (System.nanoTime() - this.startedAt) / 1e9;
+        return seconds <= 0 ? 0 : this.processed / seconds;
+    }
+
+    /**
+     * Get the time the task was given in the last tick.
+     *
+     * @return budget in ms
+     * @since TODO
+     */
+    public double getSliceMillis() {
+        return this.sliceNanos / 1e6;
+    }
+
+    /**
+     * Get the time the task used in the last tick.
+     *
+     * @return time in ms
+     * @since TODO
+     */
+    public double getSpentMillis() {
+        return this.spentNanos / 1e6;
+    }
+
+    /**
+     * Process objects until the deadline has passed. At least one object is processed, so that the task progresses
+     * even while the budget is exhausted.
+     *
+     * @param deadline {@link System#nanoTime()} to stop at
+     * @return {@code true} if all objects have been processed
+     */
+    boolean process(final long deadline) {
+        long processed = this.processed;
+        try {
+            do {
+                if (!this.iterator.hasNext()) {
+                    return true;
+                }
+                this.task.value = this.iterator.next();
+                this.task.run();
+                processed++;
+            } while (System.nanoTime() - deadline < 0);
+            return !this.iterator.hasNext();
+        } finally {
+            this.processed = processed;
+        }
+    }
+
+    void recordSlice(final long sliceNanos, final long spentNanos) {
+        this.sliceNanos = sliceNanos;
+        this.spentNanos = spentNanos;
+    }
+
+    /**
+     * Submit the task to the {@link ObjectTaskExecutor} of the platform, or run it to completion if there is no
+     * platform.
+     */
     @Override
     public void run() {
-        long start = System.currentTimeMillis();
-        boolean hasNext;
-        while ((hasNext = iterator.hasNext()) && System.currentTimeMillis() - start < 5) {
-            task.value = iterator.next();
-            task.run();
-        }
-        if (!hasNext) {
-            completionFuture.complete(null);
-        } else {
-            TaskManager.runTaskLater(this, TaskTime.ticks(1L));
+        final TaskManager taskManager = TaskManager.getPlatformImplementation();
+        if (taskManager != null) {
+            taskManager.getObjectTaskExecutor().submit(this);
+            return;
         }
+        process(System.nanoTime() + Long.MAX_VALUE / 2);
+        this.completionFuture.complete(null);
     }
 
 }
@@ -49,6 +49,8 @@ public abstract class TaskManager {
 
     private static TaskManager platformImplementation;
 
+    private final ObjectTaskExecutor objectTaskExecutor = new ObjectTaskExecutor(this);
+
     /**
      * Add a string to the teleport queue
      *
@@ -200,13 +202,54 @@ public abstract class TaskManager {
     public <T> CompletableFuture<Void> objectTask(
             final @NonNull Collection<T> objects,
             final @NonNull RunnableVal<T> task
+    ) {
+        return objectTask(objects, task, "object-task", ObjectTaskExecutor.Priority.NORMAL);
+    }
+
+    /**
+     * Break up a series of tasks so that they can run without lagging the server. All object tasks share a
+     * time budget per tick, see {@link ObjectTaskExecutor}.
+     *
+     * @param objects  Objects to perform the task on
+     * @param task     Task to perform
+     * @param name     Name of the task shown to operators
+     * @param priority Share of the time budget
+     * @param <T>      Object type
+     * @return Future that completes when the tasks are done
+     * @since TODO
+     */
+    public <T> CompletableFuture<Void> objectTask(
+            final @NonNull Collection<T> objects,
+            final @NonNull RunnableVal<T> task,
+            final @NonNull String name,
+            final ObjectTaskExecutor.@NonNull Priority priority
     ) {
         final Iterator<T> iterator = objects.iterator();
-        final ObjectTaskRunnable<T> taskRunnable = new ObjectTaskRunnable<>(iterator, task);
-        TaskManager.runTask(taskRunnable);
+        final ObjectTaskRunnable<T> taskRunnable = new ObjectTaskRunnable<>(iterator, task, name, priority);
+        this.objectTaskExecutor.submit(taskRunnable);
         return taskRunnable.getCompletionFuture();
     }
 
+    /**
+     * Get the executor running the object tasks of this task manager.
+     *
+     * @return object task executor
+     * @since TODO
+     */
+    public @NonNull ObjectTaskExecutor getObjectTaskExecutor() {
+        return this.objectTaskExecutor;
+    }
+
+    /**
+     * Get the average duration of recent server ticks, if the platform measures it.
+     *
+     * @return average tick time in ms, or a negative value if unknown
+     * @since TODO
+     */
+    public double getAverageTickTime() {
+        return -1;
+    }
+
     /**
      * Make a synchronous method call and return the result
      *
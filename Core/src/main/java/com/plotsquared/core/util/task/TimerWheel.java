@@ -0,0 +1,151 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.util.task;
+
+import com.google.common.base.Preconditions;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Hashed timer wheel for tasks that are due after a number of ticks of the wheel. Each tick only visits the slot of
+ * the current tick, so tasks are neither polled nor counted down while they are not due. Tasks that are further away
+ * than one revolution of the wheel share slots with closer tasks and are skipped until their revolution comes.
+ * <p>
+ * The wheel is not thread safe, it is meant to be scheduled, cancelled and ticked from the same thread.
+ *
+ * @since TODO
+ */
+public final class TimerWheel {
+
+    private final Timeout[] slots;
+    private final int mask;
+    private long tick;
+    private int size;
+
+    /**
+     * @param slots number of slots, must be a power of two
+     */
+    public TimerWheel(final int slots) {
+        Preconditions.checkArgument(slots > 0 && Integer.bitCount(slots) == 1, "Slot count must be a power of two");
+        this.slots = new Timeout[slots];
+        this.mask = slots - 1;
+    }
+
+    /**
+     * Schedule a task.
+     *
+     * @param delay number of ticks until the task is due, at least one
+     * @param task  task to run
+     * @return timeout that can be used to cancel the task
+     */
+    public @NonNull Timeout schedule(final long delay, final @NonNull Runnable task) {
+        final Timeout timeout = new Timeout(this.tick + Math.max(1L, delay), task);
+        timeout.slot = (int) (timeout.deadline & this.mask);
+        // Insert at the head of the slot, so that tasks scheduled while the slot is ticked are not run in the same tick
+        timeout.next = this.slots[timeout.slot];
+        if (timeout.next != null) {
+            timeout.next.previous = timeout;
+        }
+        this.slots[timeout.slot] = timeout;
+        this.size++;
+        return timeout;
+    }
+
+    /**
+     * Advance the wheel by one tick and run every task that became due.
+     */
+    public void tick() {
+        final long tick = ++this.tick;
+        final int slot = (int) (tick & this.mask);
+        Timeout timeout = this.slots[slot];
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            if (timeout.deadline <= tick) {
+                unlink(timeout);
+                timeout.task.run();
+                if (next != null && !next.pending) {
+                    // The task cancelled the following timeout, continue from the head of the slot
+                    next = this.slots[slot];
+                }
+            }
+            timeout = next;
+        }
+    }
+
+    /**
+     * Get the number of scheduled tasks.
+     *
+     * @return scheduled tasks
+     */
+    public int size() {
+        return this.size;
+    }
+
+    private void unlink(final @NonNull Timeout timeout) {
+        if (timeout.previous != null) {
+            timeout.previous.next = timeout.next;
+        } else {
+            this.slots[timeout.slot] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.previous = timeout.previous;
+        }
+        timeout.previous = null;
+        timeout.next = null;
+        timeout.pending = false;
+        this.size--;
+    }
+
+    /**
+     * Scheduled task of a {@link TimerWheel}.
+     */
+    public final class Timeout {
+
+        private final long deadline;
+        private final Runnable task;
+        private boolean pending = true;
+        private Timeout previous;
+        private Timeout next;
+        private int slot;
+
+        private Timeout(final long deadline, final @NonNull Runnable task) {
+            this.deadline = deadline;
+            this.task = task;
+        }
+
+        /**
+         * Cancel the task. Has no effect if the task already ran or was cancelled.
+         */
+        public void cancel() {
+            if (this.pending) {
+                unlink(this);
+            }
+        }
+
+        /**
+         * Check whether the task is still waiting to run.
+         *
+         * @return {@code true} if the task neither ran nor was cancelled
+         */
+        public boolean isPending() {
+            return this.pending;
+        }
+
+    }
+
+}
@@ -24,6 +24,8 @@ import com.plotsquared.core.configuration.Settings;
 import com.plotsquared.core.configuration.caption.TranslatableCaption;
 import com.plotsquared.core.player.ConsolePlayer;
 import com.plotsquared.core.util.ThreadUtils;
+import com.plotsquared.core.util.metrics.Metrics;
+import com.plotsquared.core.util.metrics.Timer;
 import com.plotsquared.core.util.task.TaskManager;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import org.apache.logging.log4j.LogManager;
@@ -57,6 +59,8 @@ import java.util.function.Consumer;
 public class UUIDPipeline {
 
     private static final Logger LOGGER = LogManager.getLogger("PlotSquared/" + UUIDPipeline.class.getSimpleName());
+    private static final Timer NAME_LOOKUP_TIMER = Metrics.timer("uuid.name-lookup");
+    private static final Timer UUID_LOOKUP_TIMER = Metrics.timer("uuid.uuid-lookup");
     private static final MiniMessage MINI_MESSAGE = MiniMessage.builder().build();
 
     private final Executor executor;
@@ -286,6 +290,7 @@ public class UUIDPipeline {
             return CompletableFuture.completedFuture(Collections.emptyList());
         }
 
+        final long start = NAME_LOOKUP_TIMER.start();
         final List<UUIDService> serviceList = this.getServiceListInstance();
         final List<UUIDMapping> mappings = new ArrayList<>(requests.size());
         final List<UUID> remainingRequests = new ArrayList<>(requests);
@@ -303,6 +308,7 @@ public class UUIDPipeline {
                 break;
             }
             if (remainingRequests.isEmpty()) {
+                NAME_LOOKUP_TIMER.stop(start);
                 return CompletableFuture.completedFuture(mappings);
             }
         }
@@ -339,7 +345,7 @@ public class UUIDPipeline {
             } else {
                 throw new ServiceError("End of pipeline");
             }
-        }, this.executor);
+        }, this.executor).whenComplete((result, throwable) -> NAME_LOOKUP_TIMER.stop(start));
     }
 
     /**
@@ -355,6 +361,7 @@ public class UUIDPipeline {
             return CompletableFuture.completedFuture(Collections.emptyList());
         }
 
+        final long start = UUID_LOOKUP_TIMER.start();
         final List<UUIDService> serviceList = this.getServiceListInstance();
         final List<UUIDMapping> mappings = new ArrayList<>(requests.size());
         final List<String> remainingRequests = new ArrayList<>(requests);
@@ -372,6 +379,7 @@ public class UUIDPipeline {
                 break;
             }
             if (remainingRequests.isEmpty()) {
+                UUID_LOOKUP_TIMER.stop(start);
                 return CompletableFuture.completedFuture(mappings);
             }
         }
@@ -396,7 +404,7 @@ public class UUIDPipeline {
             }
 
             throw new ServiceError("End of pipeline");
-        }, this.executor);
+        }, this.executor).whenComplete((result, throwable) -> UUID_LOOKUP_TIMER.stop(start));
     }
 
     /**
@@ -22,11 +22,13 @@ import com.plotsquared.core.plot.Plot;
 import com.plotsquared.core.plot.PlotArea;
 import com.plotsquared.core.plot.PlotCluster;
 import com.plotsquared.core.plot.PlotId;
+import com.plotsquared.core.plot.comment.CommentCount;
 import com.plotsquared.core.plot.comment.PlotComment;
 import com.plotsquared.core.plot.flag.PlotFlag;
 import com.plotsquared.core.util.task.RunnableVal;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -96,6 +98,18 @@ public class AbstractDBTest implements AbstractDB {
     public void getPersistentMeta(UUID uuid, RunnableVal<Map<String, byte[]>> result) {
     }
 
+    @Override
+    public void setLastSeen(@NonNull UUID uuid, long lastSeen) {
+    }
+
+    @Override
+    public void getLastSeen(@NonNull RunnableVal<Map<UUID, Long>> whenDone) {
+    }
+
+    @Override
+    public void getIdlePlots(long before, @NonNull RunnableVal<Map<String, Set<PlotId>>> whenDone) {
+    }
+
     @Override
     public void createPlotSettings(int id, Plot plot) {
     }
@@ -238,6 +252,17 @@ public class AbstractDBTest implements AbstractDB {
     ) {
     }
 
+    @Override
+    public void getCommentCounts(
+            @NonNull Collection<Plot> plots,
+            @NonNull RunnableVal<Map<Plot, Map<String, CommentCount>>> whenDone
+    ) {
+    }
+
+    @Override
+    public void getComments(@NonNull Collection<Plot> plots, @NonNull RunnableVal<Map<Plot, List<PlotComment>>> whenDone) {
+    }
+
     @Override
     public void createPlotAndSettings(Plot plot, Runnable whenDone) {
     }
@@ -0,0 +1,75 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.generator;
+
+import com.sk89q.worldedit.math.BlockVector2;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+public class RoadRegenerationJobTest {
+
+    @TempDir
+    File folder;
+
+    @Test
+    public void resumesWithinRegion() throws IOException {
+        File file = new File(folder, "road_regen_test.dat");
+        RoadRegenerationJob.Checkpoint written = new RoadRegenerationJob.Checkpoint(
+                5,
+                BlockVector2.at(-1, 2),
+                96,
+                List.of(BlockVector2.at(0, 0), BlockVector2.at(-3, 7), BlockVector2.at(1, -1))
+        );
+        written.write(file);
+
+        RoadRegenerationJob.Checkpoint read = RoadRegenerationJob.readCheckpoint(file);
+        Assertions.assertEquals(written, read);
+        Assertions.assertFalse(new File(folder, "road_regen_test.dat.tmp").exists());
+    }
+
+    @Test
+    public void resumesBetweenRegions() throws IOException {
+        File file = new File(folder, "road_regen_test.dat");
+        new RoadRegenerationJob.Checkpoint(0, null, 0, List.of()).write(file);
+        // A later checkpoint replaces the previous one
+        RoadRegenerationJob.Checkpoint written =
+                new RoadRegenerationJob.Checkpoint(2, null, 0, List.of(BlockVector2.at(4, 4)));
+        written.write(file);
+
+        Assertions.assertEquals(written, RoadRegenerationJob.readCheckpoint(file));
+    }
+
+    @Test
+    public void rejectsUnknownFormat() throws IOException {
+        File file = new File(folder, "road_regen_test.dat");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file.toPath()))) {
+            out.writeInt(-1);
+        }
+
+        Assertions.assertThrows(IOException.class, () -> RoadRegenerationJob.readCheckpoint(file));
+    }
+
+}
@@ -0,0 +1,126 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.generator;
+
+import com.plotsquared.core.plot.PlotCell;
+import com.plotsquared.core.plot.PlotId;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SquarePlotManagerTest {
+
+    @Test
+    public void resolvesPlotsAndRoads() {
+        // Default layout: plot (1;1) spans 4 to 45, the road between (1;1) and (2;2) spans 46 to 52
+        assertCell(PlotId.of(1, 1), 0, SquarePlotManager.getPlotCell(4, 4, 42, 7));
+        assertCell(PlotId.of(1, 1), 20, SquarePlotManager.getPlotCell(24, 24, 42, 7));
+        assertCell(PlotId.of(1, 1), 0, SquarePlotManager.getPlotCell(45, 30, 42, 7));
+        assertCell(null, 0, SquarePlotManager.getPlotCell(46, 30, 42, 7));
+        assertCell(null, 3, SquarePlotManager.getPlotCell(49, 30, 42, 7));
+        assertCell(null, 0, SquarePlotManager.getPlotCell(52, 52, 42, 7));
+        assertCell(PlotId.of(2, 2), 0, SquarePlotManager.getPlotCell(53, 53, 42, 7));
+    }
+
+    @Test
+    public void resolvesNegativeCoordinates() {
+        assertCell(PlotId.of(0, 0), 0, SquarePlotManager.getPlotCell(-4, -45, 42, 7));
+        assertCell(PlotId.of(0, -1), 1, SquarePlotManager.getPlotCell(-5, -60, 42, 7));
+        assertCell(null, 0, SquarePlotManager.getPlotCell(-3, -20, 42, 7));
+        assertCell(null, 2, SquarePlotManager.getPlotCell(-1, -1, 42, 7));
+        assertCell(PlotId.of(-1, -1), 0, SquarePlotManager.getPlotCell(-53, -53, 42, 7));
+    }
+
+    @Test
+    public void edgeDistanceMatchesRectangle() {
+        for (final int[] layout : new int[][]{{42, 7}, {5, 4}, {3, 1}, {10, 0}, {1, 2}}) {
+            final int plotWidth = layout[0];
+            final int roadWidth = layout[1];
+            final int size = plotWidth + roadWidth;
+            for (int x = -2 * size; x <= 2 * size; x++) {
+                for (int z = -2 * size; z <= 2 * size; z++) {
+                    final PlotCell cell = SquarePlotManager.getPlotCell(x, z, plotWidth, roadWidth);
+                    final int expected = Math.min(
+                            axisDistance(x, plotWidth, roadWidth, true),
+                            axisDistance(z, plotWidth, roadWidth, false)
+                    );
+                    Assertions.assertEquals(
+                            expected,
+                            cell.edgeDistance(),
+                            "plot " + plotWidth + ", road " + roadWidth + " at " + x + ";" + z
+                    );
+                }
+            }
+        }
+    }
+
+    @Test
+    public void containsSameRectangle() {
+        final PlotCell cell = SquarePlotManager.getPlotCell(20, 10, 42, 7);
+        Assertions.assertEquals(6, cell.edgeDistance());
+        for (int dx = -6; dx <= 6; dx++) {
+            for (int dz = -6; dz <= 6; dz++) {
+                Assertions.assertTrue(cell.contains(dx, dz));
+                Assertions.assertEquals(cell.id(), SquarePlotManager.getPlotCell(20 + dx, 10 + dz, 42, 7).id());
+            }
+        }
+        Assertions.assertFalse(cell.contains(0, -7));
+        Assertions.assertNull(SquarePlotManager.getPlotCell(20, 3, 42, 7).id());
+    }
+
+    private static void assertCell(final PlotId id, final int edgeDistance, final PlotCell cell) {
+        Assertions.assertEquals(id, cell.id());
+        Assertions.assertEquals(id == null, cell.isRoad());
+        Assertions.assertEquals(edgeDistance, cell.edgeDistance());
+    }
+
+    /**
+     * Count the steps from a coordinate to the nearest change of plot or road strip along one axis, scanning a line
+     * through the middle of a plot on the other axis.
+     */
+    private static int axisDistance(final int coordinate, final int plotWidth, final int roadWidth, final boolean xAxis) {
+        final int middle = roadWidth / 2 + plotWidth / 2;
+        final Object strip = strip(coordinate, middle, plotWidth, roadWidth, xAxis);
+        int distance = 0;
+        while (strip.equals(strip(coordinate - distance - 1, middle, plotWidth, roadWidth, xAxis))
+                && strip.equals(strip(coordinate + distance + 1, middle, plotWidth, roadWidth, xAxis))) {
+            distance++;
+        }
+        return distance;
+    }
+
+    private static Object strip(
+            final int coordinate,
+            final int middle,
+            final int plotWidth,
+            final int roadWidth,
+            final boolean xAxis
+    ) {
+        // Roads are identified by the plot before them
+        for (int before = 0; ; before++) {
+            final PlotId id = xAxis
+                    ? SquarePlotManager.getPlotCell(coordinate - before, middle, plotWidth, roadWidth).id()
+                    : SquarePlotManager.getPlotCell(middle, coordinate - before, plotWidth, roadWidth).id();
+            if (id != null) {
+                final int index = xAxis ? id.getX() : id.getY();
+                return before == 0 ? "plot " + index : "road after " + index;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public class ClusterIndexTest {
+
+    @Test
+    public void findsClustersByPointRectangleAndName() {
+        ClusterIndex index = ClusterIndex.EMPTY;
+        List<PlotCluster> clusters = new ArrayList<>();
+        // A grid of 40 x 40 clusters of 3 x 3 plots with a gap of one plot between them
+        for (int x = 0; x < 40; x++) {
+            for (int y = 0; y < 40; y++) {
+                PlotCluster cluster = cluster(x * 4, y * 4, x * 4 + 2, y * 4 + 2);
+                cluster.settings.setAlias("c" + x + "_" + y);
+                clusters.add(cluster);
+            }
+        }
+        for (PlotCluster cluster : clusters) {
+            index = index.with(cluster);
+        }
+
+        Assertions.assertSame(clusters.get(5 * 40 + 7), index.get(21, 29));
+        Assertions.assertNull(index.get(23, 29));
+        Assertions.assertNull(index.get(-1, 0));
+        Assertions.assertSame(clusters.get(0), index.find(-5, -5, 0, 0));
+        Assertions.assertNull(index.find(3, 3, 3, 3));
+        Assertions.assertSame(clusters.get(39 * 40 + 39), index.getByName("C39_39"));
+        Assertions.assertEquals(1600, index.getAll().size());
+    }
+
+    @Test
+    public void removedAndResizedClustersAreReindexed() {
+        PlotCluster first = cluster(0, 0, 1, 1);
+        PlotCluster second = cluster(5, 5, 6, 6);
+        ClusterIndex index = ClusterIndex.EMPTY.with(first).with(second).without(first);
+
+        Assertions.assertNull(index.get(0, 0));
+        Assertions.assertSame(second, index.get(6, 6));
+
+        second.setP2(PlotId.of(10, 10));
+        index = index.rebuild();
+
+        Assertions.assertSame(second, index.get(10, 10));
+        Assertions.assertSame(ClusterIndex.EMPTY, index.without(second));
+    }
+
+    private static PlotCluster cluster(int x1, int y1, int x2, int y2) {
+        return new PlotCluster(null, PlotId.of(x1, y1), PlotId.of(x2, y2), UUID.randomUUID());
+    }
+
+}
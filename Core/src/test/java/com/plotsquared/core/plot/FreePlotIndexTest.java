@@ -0,0 +1,93 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class FreePlotIndexTest {
+
+    @Test
+    public void ordinalsFollowSpiral() {
+        PlotId id = PlotId.of(0, 0);
+        for (int ordinal = 0; ordinal < 10_000; ordinal++) {
+            Assertions.assertEquals(ordinal, FreePlotIndex.ordinal(id.getX(), id.getY()));
+            Assertions.assertEquals(id, FreePlotIndex.relativeId(ordinal));
+            id = id.getNextId();
+        }
+    }
+
+    @Test
+    public void skipsClaimedPlots() {
+        FreePlotIndex index = new FreePlotIndex(PlotId.of(0, 0), Integer.MAX_VALUE);
+        PlotId id = PlotId.of(0, 0);
+        for (int i = 0; i < 5000; i++) {
+            index.setClaimed(id, true);
+            id = id.getNextId();
+        }
+        Assertions.assertEquals(id, index.next(null, ignored -> true));
+        index.setClaimed(PlotId.of(0, 1), false);
+        Assertions.assertEquals(PlotId.of(0, 1), index.next(null, ignored -> true));
+        Assertions.assertEquals(id, index.next(PlotId.of(0, 1), ignored -> true));
+        // far away plots must not affect the search
+        index.setClaimed(PlotId.of(20000, -20000), true);
+        Assertions.assertTrue(index.isTaken(PlotId.of(20000, -20000)));
+        Assertions.assertEquals(PlotId.of(0, 1), index.next(null, ignored -> true));
+    }
+
+    @Test
+    public void reservationsExpire() {
+        AtomicLong clock = new AtomicLong();
+        FreePlotIndex index = new FreePlotIndex(PlotId.of(0, 0), Integer.MAX_VALUE, clock::get);
+        Assertions.assertEquals(PlotId.of(0, 0), index.reserve(null, ignored -> true));
+        Assertions.assertEquals(PlotId.of(0, 1), index.reserve(null, ignored -> true));
+        index.setClaimed(PlotId.of(0, 1), true);
+        clock.set(FreePlotIndex.RESERVATION_MILLIS);
+        Assertions.assertFalse(index.isTaken(PlotId.of(0, 0)));
+        Assertions.assertTrue(index.isTaken(PlotId.of(0, 1)));
+    }
+
+    @Test
+    public void reservesFreeRectangles() {
+        FreePlotIndex index = new FreePlotIndex(PlotId.of(0, 0), Integer.MAX_VALUE);
+        index.setClaimed(PlotId.of(1, 1), true);
+        List<PlotId> ids = index.reserve(2, 2, ignored -> true);
+        Assertions.assertNotNull(ids);
+        Assertions.assertEquals(4, ids.size());
+        for (PlotId id : ids) {
+            Assertions.assertNotEquals(PlotId.of(1, 1), id);
+            Assertions.assertTrue(index.isTaken(id));
+        }
+        List<PlotId> second = index.reserve(2, 2, ignored -> true);
+        Assertions.assertNotNull(second);
+        Assertions.assertTrue(second.stream().noneMatch(ids::contains));
+    }
+
+    @Test
+    public void respectsLimit() {
+        FreePlotIndex index = new FreePlotIndex(PlotId.of(5, 5), 9);
+        Assertions.assertEquals(PlotId.of(5, 5), index.next(null, ignored -> true));
+        Assertions.assertNull(index.next(null, id -> id.getX() > 6));
+        Assertions.assertEquals(PlotId.of(6, 6), index.next(null, id -> id.getX() == 6 && id.getY() == 6));
+    }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class MergeGroupsTest {
+
+    @Test
+    public void joinsTransitivelyMergedPlots() {
+        MergeGroups groups = new MergeGroups();
+        groups.union(PlotId.of(1, 1), PlotId.of(1, 2));
+        groups.union(PlotId.of(2, 2), PlotId.of(1, 2));
+        groups.union(PlotId.of(5, 5), PlotId.of(5, 6));
+        groups.compress();
+
+        Assertions.assertEquals(groups.getGroup(PlotId.of(1, 1)), groups.getGroup(PlotId.of(2, 2)));
+        Assertions.assertEquals(groups.getGroup(PlotId.of(5, 5)), groups.getGroup(PlotId.of(5, 6)));
+        Assertions.assertNotEquals(groups.getGroup(PlotId.of(1, 1)), groups.getGroup(PlotId.of(5, 5)));
+        Assertions.assertEquals(PlotId.of(3, 3), groups.getGroup(PlotId.of(3, 3)));
+    }
+
+    @Test
+    public void joinsGroupsAfterCompression() {
+        MergeGroups groups = new MergeGroups();
+        groups.union(PlotId.of(1, 1), PlotId.of(1, 2));
+        groups.union(PlotId.of(3, 1), PlotId.of(3, 2));
+        groups.compress();
+        Assertions.assertNotEquals(groups.getGroup(PlotId.of(1, 2)), groups.getGroup(PlotId.of(3, 2)));
+
+        groups.union(PlotId.of(1, 2), PlotId.of(2, 2));
+        groups.union(PlotId.of(2, 2), PlotId.of(3, 2));
+
+        Assertions.assertEquals(groups.getGroup(PlotId.of(1, 1)), groups.getGroup(PlotId.of(3, 1)));
+    }
+
+}
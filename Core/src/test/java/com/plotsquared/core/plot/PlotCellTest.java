@@ -0,0 +1,74 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot;
+
+import com.sk89q.worldedit.math.BlockVector3;
+import com.sk89q.worldedit.regions.CuboidRegion;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PlotCellTest {
+
+    // A partial area that is not aligned to the plot grid
+    private static final CuboidRegion REGION = new CuboidRegion(BlockVector3.at(-30, 0, -10), BlockVector3.at(20, 255, 40));
+
+    @Test
+    public void keepsCellsAwayFromAreaEdge() {
+        final PlotCell cell = new PlotCell(PlotId.of(1, 1), 5);
+        Assertions.assertSame(cell, PlotArea.clampToRegion(cell, REGION, 0, 10));
+        Assertions.assertSame(cell, PlotArea.clampToRegion(cell, REGION, -25, 30));
+    }
+
+    @Test
+    public void clampsToAreaEdge() {
+        final PlotCell cell = new PlotCell(PlotId.of(1, 1), 5);
+        assertCell(PlotId.of(1, 1), 2, PlotArea.clampToRegion(cell, REGION, 18, 10));
+        assertCell(PlotId.of(1, 1), 1, PlotArea.clampToRegion(cell, REGION, -29, 10));
+        assertCell(PlotId.of(1, 1), 3, PlotArea.clampToRegion(cell, REGION, 0, -7));
+        assertCell(PlotId.of(1, 1), 0, PlotArea.clampToRegion(cell, REGION, 0, 40));
+        assertCell(null, 0, PlotArea.clampToRegion(new PlotCell(null, 3), REGION, 20, -10));
+    }
+
+    @Test
+    public void rejectsPositionsOutsideOfArea() {
+        final PlotCell cell = new PlotCell(PlotId.of(1, 1), 5);
+        Assertions.assertNull(PlotArea.clampToRegion(cell, REGION, 21, 10));
+        Assertions.assertNull(PlotArea.clampToRegion(cell, REGION, -31, 10));
+        Assertions.assertNull(PlotArea.clampToRegion(cell, REGION, 0, -11));
+        Assertions.assertNull(PlotArea.clampToRegion(cell, REGION, 0, 41));
+    }
+
+    @Test
+    public void containsOffsetsWithinEdgeDistance() {
+        final PlotCell cell = new PlotCell(null, 2);
+        Assertions.assertTrue(cell.isRoad());
+        Assertions.assertTrue(cell.contains(-2, 2));
+        Assertions.assertFalse(cell.contains(3, 0));
+        Assertions.assertFalse(cell.contains(0, -3));
+        Assertions.assertTrue(new PlotCell(PlotId.of(0, 0), 0).contains(0, 0));
+        Assertions.assertFalse(new PlotCell(PlotId.of(0, 0), 0).contains(1, 0));
+    }
+
+    private static void assertCell(final PlotId id, final int edgeDistance, final PlotCell cell) {
+        Assertions.assertNotNull(cell);
+        Assertions.assertEquals(id, cell.id());
+        Assertions.assertEquals(edgeDistance, cell.edgeDistance());
+    }
+
+}
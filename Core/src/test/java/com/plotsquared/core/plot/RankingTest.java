@@ -0,0 +1,131 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+public class RankingTest {
+
+    @Test
+    public void ranksRatedKeysByScoreThenCount() {
+        Ranking<Key, String> ranking = new Ranking<>();
+        Key low = new Key(0, 0);
+        Key high = new Key(1, 0);
+        Key many = new Key(2, 0);
+        rate(ranking, low, 4, 1);
+        rate(ranking, high, 64, 1);
+        rate(ranking, many, 32, 2);
+        Assertions.assertEquals(List.of(high, many, low), ranking.stream(null).toList());
+
+        // A new rating replaces the previous entry of the key
+        Ranking.Entry<Key, String> entry = ranking.get(low);
+        rate(ranking, low, entry.sum() + 200, entry.count() + 1);
+        Assertions.assertEquals(List.of(low, high, many), ranking.stream(null).toList());
+    }
+
+    @Test
+    public void ranksDoneKeysByMostRecentFirst() {
+        Ranking<Key, String> ranking = new Ranking<>();
+        Key older = new Key(0, 0);
+        Key newer = new Key(1, 0);
+        Key undated = new Key(2, 0);
+        ranking.put(older, "area", older.x, older.z, 1, 1000L, 0, 0);
+        ranking.put(newer, "area", newer.x, newer.z, 1, 2000L, 0, 0);
+        ranking.put(undated, "area", undated.x, undated.z, 0, 0, 0, 0);
+        Assertions.assertEquals(List.of(newer, older, undated), ranking.stream(null).toList());
+
+        ranking.remove(newer);
+        Assertions.assertEquals(List.of(older, undated), ranking.stream(null).toList());
+        Assertions.assertNull(ranking.get(newer));
+    }
+
+    @Test
+    public void findsSwappedKeys() {
+        Ranking<Key, String> ranking = new Ranking<>();
+        Key first = new Key(0, 0);
+        Key second = new Key(1, 0);
+        ranking.put(first, "area", first.x, first.z, 1, 0, 0, 0);
+        ranking.put(second, "area", second.x, second.z, 1, 0, 0, 0);
+        Assertions.assertEquals(List.of(first, second), ranking.stream(null).toList());
+
+        // Swapping changes the hash codes of both keys, while both are ranked at each other's position for a moment
+        first.x = 1;
+        second.x = 0;
+        ranking.put(first, "area", first.x, first.z, 1, 0, 0, 0);
+        ranking.put(second, "area", second.x, second.z, 1, 0, 0, 0);
+        Assertions.assertEquals(List.of(second, first), ranking.stream(null).toList());
+        Assertions.assertEquals(List.of(second, first), ranking.stream(Set.of("area")).toList());
+
+        ranking.remove(first);
+        ranking.remove(second);
+        Assertions.assertEquals(List.of(), ranking.stream(null).toList());
+    }
+
+    @Test
+    public void keepsMovedKeys() {
+        Ranking<Key, String> ranking = new Ranking<>();
+        Key moved = new Key(0, 0);
+        Key other = new Key(0, 1);
+        ranking.put(moved, "first", moved.x, moved.z, 1, 0, 0, 0);
+        ranking.put(other, "second", other.x, other.z, 1, 0, 0, 0);
+
+        ranking.remove(moved);
+        moved.x = 5;
+        ranking.put(moved, "second", moved.x, moved.z, 1, 0, 0, 0);
+
+        Assertions.assertEquals(List.of(), ranking.stream(Set.of("first")).toList());
+        Assertions.assertEquals(List.of(other, moved), ranking.stream(Set.of("second")).toList());
+        Assertions.assertEquals(List.of(other, moved), ranking.stream(Set.of("first", "second")).toList());
+    }
+
+    private static void rate(Ranking<Key, String> ranking, Key key, double sum, int count) {
+        ranking.put(key, "area", key.x, key.z, PlotLeaderboard.ratingScore(sum, count), count, sum, count);
+    }
+
+    /**
+     * Key that, like plots, is equal by a position that can change.
+     */
+    private static final class Key {
+
+        private int x;
+        private final int z;
+
+        private Key(int x, int z) {
+            this.x = x;
+            this.z = z;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Key other && other.x == this.x && other.z == this.z;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.x, this.z);
+        }
+
+    }
+
+}
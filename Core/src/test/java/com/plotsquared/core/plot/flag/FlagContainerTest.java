@@ -0,0 +1,109 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot.flag;
+
+import com.plotsquared.core.plot.flag.implementations.ExplosionFlag;
+import com.plotsquared.core.plot.flag.implementations.PvpFlag;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class FlagContainerTest {
+
+    // Stands in for the global flag container, which registers flags that need a WorldEdit platform
+    private FlagContainer global;
+
+    @BeforeEach
+    public void setUp() {
+        global = new FlagContainer(null);
+        global.addFlag(PvpFlag.PVP_FALSE);
+        global.addFlag(ExplosionFlag.EXPLOSION_FALSE);
+    }
+
+    @Test
+    public void localChangesInvalidateSnapshot() {
+        FlagContainer area = new FlagContainer(global);
+        FlagContainer plot = new FlagContainer(area);
+        Assertions.assertFalse(plot.getFlag(PvpFlag.class).getValue());
+
+        plot.addFlag(PvpFlag.PVP_TRUE);
+        Assertions.assertTrue(plot.getFlag(PvpFlag.class).getValue());
+        Assertions.assertSame(PvpFlag.PVP_TRUE, plot.queryLocal(PvpFlag.class));
+
+        plot.removeFlag(PvpFlag.PVP_TRUE);
+        Assertions.assertFalse(plot.getFlag(PvpFlag.class).getValue());
+        Assertions.assertNull(plot.queryLocal(PvpFlag.class));
+
+        plot.addFlag(PvpFlag.PVP_TRUE);
+        plot.addFlag(ExplosionFlag.EXPLOSION_TRUE);
+        Assertions.assertTrue(plot.getFlag(ExplosionFlag.class).getValue());
+        plot.clearLocal();
+        Assertions.assertFalse(plot.getFlag(PvpFlag.class).getValue());
+        Assertions.assertFalse(plot.getFlag(ExplosionFlag.class).getValue());
+    }
+
+    @Test
+    public void areaChangesInvalidateSnapshot() {
+        FlagContainer area = new FlagContainer(global);
+        FlagContainer plot = new FlagContainer(area);
+        Assertions.assertFalse(plot.getFlag(PvpFlag.class).getValue());
+
+        area.addFlag(PvpFlag.PVP_TRUE);
+        Assertions.assertTrue(plot.getFlag(PvpFlag.class).getValue());
+
+        // Local flags take precedence over the area
+        plot.addFlag(PvpFlag.PVP_FALSE);
+        Assertions.assertFalse(plot.getFlag(PvpFlag.class).getValue());
+        plot.removeFlag(PvpFlag.PVP_FALSE);
+        Assertions.assertTrue(plot.getFlag(PvpFlag.class).getValue());
+
+        area.removeFlag(PvpFlag.PVP_TRUE);
+        Assertions.assertFalse(plot.getFlag(PvpFlag.class).getValue());
+    }
+
+    @Test
+    public void parentChangesInvalidateSnapshot() {
+        FlagContainer first = new FlagContainer(global);
+        FlagContainer second = new FlagContainer(global);
+        second.addFlag(PvpFlag.PVP_TRUE);
+        FlagContainer plot = new FlagContainer(first);
+        Assertions.assertFalse(plot.getFlag(PvpFlag.class).getValue());
+
+        plot.setParentContainer(second);
+        Assertions.assertTrue(plot.getFlag(PvpFlag.class).getValue());
+
+        plot.setParentContainer(first);
+        Assertions.assertFalse(plot.getFlag(PvpFlag.class).getValue());
+    }
+
+    @Test
+    public void unrelatedChangesKeepSnapshotValues() {
+        FlagContainer area = new FlagContainer(global);
+        FlagContainer plot = new FlagContainer(area);
+        FlagContainer other = new FlagContainer(area);
+        plot.addFlag(PvpFlag.PVP_TRUE);
+        Assertions.assertTrue(plot.getFlag(PvpFlag.class).getValue());
+
+        other.addFlag(ExplosionFlag.EXPLOSION_TRUE);
+        Assertions.assertTrue(plot.getFlag(PvpFlag.class).getValue());
+        Assertions.assertFalse(plot.getFlag(ExplosionFlag.class).getValue());
+        Assertions.assertFalse(other.getFlag(PvpFlag.class).getValue());
+    }
+
+}
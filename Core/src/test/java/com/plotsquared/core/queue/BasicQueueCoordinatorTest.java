@@ -0,0 +1,206 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.queue;
+
+import com.plotsquared.core.location.Location;
+import com.plotsquared.core.util.ChunkUtil;
+import com.sk89q.worldedit.math.BlockVector2;
+import com.sk89q.worldedit.world.World;
+import com.sk89q.worldedit.world.block.BaseBlock;
+import com.sk89q.worldedit.world.block.BlockState;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+
+public class BasicQueueCoordinatorTest {
+
+    private static final BaseBlock STONE = new TestBlock();
+    private static final BaseBlock DIRT = new TestBlock();
+    private static final BaseBlock GLASS = new TestBlock();
+
+    private BasicQueueCoordinator queue;
+
+    @BeforeEach
+    public void setUp() {
+        // Worlds from -64 to 319, i.e. sections -4 to 19
+        final World world = (World) Proxy.newProxyInstance(
+                World.class.getClassLoader(),
+                new Class<?>[]{World.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getMinY" -> -64;
+                    case "getMaxY" -> 319;
+                    case "getName" -> "world";
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> null;
+                }
+        );
+        this.queue = new BasicQueueCoordinator(world) {
+            @Override
+            public BlockState getBlock(final int x, final int y, final int z) {
+                return null;
+            }
+
+            @Override
+            public void start() {
+            }
+
+            @Override
+            public void cancel() {
+            }
+        };
+    }
+
+    @Test
+    public void fillsCompleteSections() {
+        fill(0, 0, 0, 15, 31, 15, STONE);
+        final LocalChunk chunk = chunk(0, 0);
+        Assertions.assertSame(STONE, chunk.getFills()[layer(0)]);
+        Assertions.assertSame(STONE, chunk.getFills()[layer(16)]);
+        Assertions.assertNull(chunk.getBaseblocks()[layer(0)]);
+        Assertions.assertNull(chunk.getBaseblocks()[layer(16)]);
+        Assertions.assertFalse(chunk.hasLayer(layer(32)));
+        Assertions.assertTrue(chunk.isSet(layer(0), ChunkUtil.getJ(7, 7, 7)));
+        Assertions.assertSame(STONE, blockAt(chunk, 15, 31, 15));
+        Assertions.assertNull(blockAt(chunk, 0, 32, 0));
+    }
+
+    @Test
+    public void setsBlocksOfPartialSections() {
+        // Full columns, but only part of the second section
+        fill(0, 0, 0, 15, 20, 15, STONE);
+        final LocalChunk chunk = chunk(0, 0);
+        Assertions.assertSame(STONE, chunk.getFills()[layer(0)]);
+        Assertions.assertNull(chunk.getFills()[layer(16)]);
+        Assertions.assertTrue(chunk.isSet(layer(20), ChunkUtil.getJ(15, 20, 15)));
+        Assertions.assertFalse(chunk.isSet(layer(21), ChunkUtil.getJ(15, 21, 15)));
+        // Complete sections, but only part of the column
+        fill(0, 48, 0, 7, 63, 15, DIRT);
+        Assertions.assertNull(chunk.getFills()[layer(48)]);
+        Assertions.assertSame(DIRT, blockAt(chunk, 7, 48, 15));
+        Assertions.assertFalse(chunk.isSet(layer(48), ChunkUtil.getJ(8, 48, 0)));
+    }
+
+    @Test
+    public void laterBlocksOverrideFills() {
+        fill(0, 0, 0, 15, 15, 15, STONE);
+        this.queue.setBlock(1, 2, 3, DIRT);
+        final LocalChunk chunk = chunk(0, 0);
+        Assertions.assertSame(STONE, chunk.getFills()[layer(0)]);
+        Assertions.assertSame(DIRT, blockAt(chunk, 1, 2, 3));
+        Assertions.assertSame(STONE, blockAt(chunk, 1, 2, 4));
+        // A partial fill on top of a complete one only replaces the blocks it covers
+        fill(0, 0, 0, 3, 15, 15, GLASS);
+        Assertions.assertSame(GLASS, blockAt(chunk, 1, 2, 3));
+        Assertions.assertSame(GLASS, blockAt(chunk, 3, 15, 15));
+        Assertions.assertSame(STONE, blockAt(chunk, 4, 0, 0));
+    }
+
+    @Test
+    public void laterFillsReplaceBlocks() {
+        this.queue.setBlock(1, 2, 3, DIRT);
+        fill(0, 0, 0, 3, 3, 3, GLASS);
+        fill(0, 0, 0, 15, 15, 15, STONE);
+        final LocalChunk chunk = chunk(0, 0);
+        Assertions.assertNull(chunk.getBaseblocks()[layer(0)]);
+        Assertions.assertSame(STONE, blockAt(chunk, 1, 2, 3));
+        Assertions.assertSame(STONE, blockAt(chunk, 0, 0, 0));
+    }
+
+    @Test
+    public void splitsAtLayerAndChunkBoundaries() {
+        // The lowest section of the world, a section crossing y = 0, and x crossing into a negative chunk
+        fill(-16, -64, 0, 15, -49, 15, STONE);
+        fill(-16, -1, 0, 15, 0, 15, DIRT);
+        for (final int chunkX : new int[]{-1, 0}) {
+            final LocalChunk chunk = chunk(chunkX, 0);
+            Assertions.assertEquals(-4, chunk.getMinSection());
+            Assertions.assertSame(STONE, chunk.getFills()[0]);
+            Assertions.assertFalse(chunk.hasLayer(layer(-48)));
+            Assertions.assertNull(chunk.getFills()[layer(-1)]);
+            Assertions.assertNull(chunk.getFills()[layer(0)]);
+            Assertions.assertSame(DIRT, blockAt(chunk, chunkX << 4, -1, 0));
+            Assertions.assertSame(DIRT, blockAt(chunk, (chunkX << 4) + 15, 0, 15));
+            Assertions.assertNull(blockAt(chunk, 0, -2, 0));
+            Assertions.assertNull(blockAt(chunk, 0, 1, 0));
+        }
+        Assertions.assertEquals(2, this.queue.getBlockChunks().size());
+    }
+
+    @Test
+    public void clampsToWorldHeight() {
+        fill(0, 300, 0, 15, 400, 15, STONE);
+        fill(0, -100, 0, 15, -70, 15, DIRT);
+        final LocalChunk chunk = chunk(0, 0);
+        Assertions.assertSame(STONE, chunk.getFills()[layer(319)]);
+        Assertions.assertNull(chunk.getFills()[layer(300)]);
+        Assertions.assertSame(STONE, blockAt(chunk, 0, 300, 0));
+        Assertions.assertNull(blockAt(chunk, 0, 299, 0));
+        Assertions.assertFalse(chunk.hasLayer(0));
+    }
+
+    private void fill(final int x1, final int y1, final int z1, final int x2, final int y2, final int z2, final BaseBlock block) {
+        // Only the coordinates are used, and the empty world name does not need a platform
+        this.queue.setCuboid(Location.at("", x1, y1, z1), Location.at("", x2, y2, z2), block);
+    }
+
+    private LocalChunk chunk(final int chunkX, final int chunkZ) {
+        final LocalChunk chunk = this.queue.getBlockChunks().get(BlockVector2.at(chunkX, chunkZ));
+        Assertions.assertNotNull(chunk);
+        return chunk;
+    }
+
+    private static int layer(final int y) {
+        return (y >> 4) + 4;
+    }
+
+    /**
+     * Resolve a block the way the queue writes it: individual blocks take precedence over the fill of their section.
+     */
+    private static BaseBlock blockAt(final LocalChunk chunk, final int x, final int y, final int z) {
+        final int layer = layer(y);
+        final BaseBlock[] blocks = chunk.getBaseblocks()[layer];
+        final BaseBlock block = blocks == null ? null : blocks[ChunkUtil.getJ(x & 15, y, z & 15)];
+        return block != null ? block : (BaseBlock) chunk.getFills()[layer];
+    }
+
+    /**
+     * Block types can not be created without a platform, so blocks are told apart by identity.
+     */
+    private static final class TestBlock extends BaseBlock {
+
+        private TestBlock() {
+            super((BlockState) null);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return this == o;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+
+public class RegionFileTrimmerTest {
+
+    private static final int SECTOR = 4096;
+
+    @TempDir
+    File folder;
+
+    @Test
+    public void dropsRejectedChunksAndCompacts() throws IOException {
+        // chunk 0 (0,0) at sector 2, chunk 1 (1,0) at sectors 3-4, chunk 32 (0,1) at sector 5
+        File file = writeRegion("r.0.0.mca", new int[][]{{0, 2, 1}, {1, 3, 2}, {32, 5, 1}});
+
+        RegionFileTrimmer.Report report = new RegionFileTrimmer(folder, (x, z) -> !(x == 0 && z == 0), false, 1)
+                .trimFile(file);
+
+        Assertions.assertEquals(1, report.getDroppedChunks());
+        Assertions.assertEquals(2, report.getKeptChunks());
+        Assertions.assertEquals(5L * SECTOR, file.length());
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+        Assertions.assertEquals(0, buffer.getInt(0));
+        Assertions.assertEquals((2 << 8) | 2, buffer.getInt(4));
+        Assertions.assertEquals((4 << 8) | 1, buffer.getInt(32 * 4));
+        // chunk payloads are tagged with their index
+        Assertions.assertEquals(1, buffer.get(2 * SECTOR + 5));
+        Assertions.assertEquals(32, buffer.get(4 * SECTOR + 5));
+    }
+
+    @Test
+    public void dryRunLeavesFileUntouched() throws IOException {
+        File file = writeRegion("r.-1.0.mca", new int[][]{{0, 2, 1}, {1, 3, 1}});
+        byte[] before = Files.readAllBytes(file.toPath());
+
+        RegionFileTrimmer.Report report = new RegionFileTrimmer(folder, (x, z) -> x != -32, true, 1).trimFile(file);
+
+        Assertions.assertEquals(1, report.getDroppedChunks());
+        Assertions.assertEquals(3L * SECTOR, report.getBytesAfter());
+        Assertions.assertArrayEquals(before, Files.readAllBytes(file.toPath()));
+    }
+
+    @Test
+    public void deletesFilesWithoutRemainingChunks() throws IOException {
+        File file = writeRegion("r.0.0.mca", new int[][]{{0, 2, 1}});
+
+        RegionFileTrimmer.Report report = new RegionFileTrimmer(folder, (x, z) -> false, false, 1).trimFile(file);
+
+        Assertions.assertEquals(1, report.getDeletedFiles());
+        Assertions.assertFalse(file.exists());
+    }
+
+    @Test
+    public void dryRunReportsDeletedFiles() throws IOException {
+        File file = writeRegion("r.0.0.mca", new int[][]{{0, 2, 1}, {1, 3, 1}});
+
+        RegionFileTrimmer.Report report = new RegionFileTrimmer(folder, (x, z) -> false, true, 1).trimFile(file);
+
+        Assertions.assertEquals(2, report.getDroppedChunks());
+        Assertions.assertEquals(1, report.getDeletedFiles());
+        Assertions.assertEquals(0, report.getModifiedFiles());
+        Assertions.assertTrue(file.exists());
+    }
+
+    private File writeRegion(String name, int[][] chunks) throws IOException {
+        int sectors = 2;
+        for (int[] chunk : chunks) {
+            sectors = Math.max(sectors, chunk[1] + chunk[2]);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(sectors * SECTOR);
+        for (int[] chunk : chunks) {
+            buffer.putInt(chunk[0] * 4, (chunk[1] << 8) | chunk[2]);
+            buffer.putInt(SECTOR + chunk[0] * 4, 1);
+            buffer.putInt(chunk[1] * SECTOR, 2);
+            buffer.put(chunk[1] * SECTOR + 4, (byte) 2);
+            buffer.put(chunk[1] * SECTOR + 5, (byte) chunk[0]);
+        }
+        File file = new File(folder, name);
+        Files.write(file.toPath(), buffer.array());
+        return file;
+    }
+
+}
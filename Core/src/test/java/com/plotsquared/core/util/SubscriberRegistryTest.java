@@ -0,0 +1,107 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.util;
+
+import com.google.common.eventbus.Subscribe;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class SubscriberRegistryTest {
+
+    @Test
+    public void dispatchesToSubscribersOfSuperTypes() {
+        SubscriberRegistry registry = new SubscriberRegistry();
+        Listener listener = new Listener();
+        registry.register(listener);
+
+        registry.post("event");
+        registry.post(42);
+
+        Assertions.assertEquals(List.of("string:event", "object:event", "object:42"), listener.received);
+        Assertions.assertTrue(registry.hasSubscribers(Integer.class));
+    }
+
+    @Test
+    public void failingSubscriberDoesNotStopDispatch() {
+        SubscriberRegistry registry = new SubscriberRegistry();
+        Listener listener = new Listener();
+        registry.register(new Object() {
+            @Subscribe
+            public void onString(String event) {
+                throw new IllegalStateException("expected");
+            }
+        });
+        registry.register(listener);
+
+        registry.post("event");
+
+        Assertions.assertEquals(List.of("string:event", "object:event"), listener.received);
+    }
+
+    @Test
+    public void unregisteredListenersReceiveNothing() {
+        SubscriberRegistry registry = new SubscriberRegistry();
+        Listener listener = new Listener();
+        registry.register(listener);
+        registry.post("first");
+        registry.unregister(listener);
+
+        registry.post("second");
+
+        Assertions.assertEquals(List.of("string:first", "object:first"), listener.received);
+        Assertions.assertFalse(registry.hasSubscribers(String.class));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> registry.unregister(listener));
+    }
+
+    @Test
+    public void registeringTwiceDispatchesOnce() {
+        SubscriberRegistry registry = new SubscriberRegistry();
+        Listener listener = new Listener();
+        registry.register(listener);
+        registry.register(listener);
+
+        registry.post("event");
+
+        Assertions.assertEquals(List.of("string:event", "object:event"), listener.received);
+    }
+
+    private static class BaseListener {
+
+        final List<String> received = new ArrayList<>();
+
+        @Subscribe
+        private void onObject(Object event) {
+            received.add("object:" + event);
+        }
+
+    }
+
+    private static final class Listener extends BaseListener {
+
+        @Subscribe
+        public void onString(String event) {
+            received.add("string:" + event);
+        }
+
+    }
+
+}
@@ -0,0 +1,60 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.util.metrics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TimerTest {
+
+    @Test
+    public void bucketsCoverValuesWithoutGaps() {
+        for (long value = 0; value < 1 << 20; value++) {
+            final int bucket = Timer.bucketOf(value);
+            Assertions.assertTrue(Timer.lowestValueOf(bucket) <= value);
+            Assertions.assertTrue(Timer.lowestValueOf(bucket + 1) > value);
+        }
+    }
+
+    @Test
+    public void percentilesAreWithinBucketPrecision() {
+        final Timer timer = new Timer("test");
+        for (long micros = 1; micros <= 1000; micros++) {
+            timer.record(micros * 1000);
+        }
+
+        Assertions.assertEquals(1000, timer.getCount());
+        Assertions.assertEquals(1_000_000, timer.getMaxNanos());
+        Assertions.assertEquals(500_500D, timer.getMeanNanos(), 0.001);
+        Assertions.assertEquals(500_000, timer.getPercentileNanos(50), 500_000 / 32D);
+        Assertions.assertEquals(990_000, timer.getPercentileNanos(99), 990_000 / 32D);
+        Assertions.assertEquals(1_000_000, timer.getPercentileNanos(100));
+    }
+
+    @Test
+    public void resetDiscardsRecordings() {
+        final Timer timer = new Timer("test");
+        timer.record(42);
+        timer.reset();
+
+        Assertions.assertEquals(0, timer.getCount());
+        Assertions.assertEquals(0, timer.getPercentileNanos(50));
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.util.task;
+
+import com.plotsquared.core.configuration.Settings;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class ObjectTaskExecutorTest {
+
+    @Test
+    public void budgetFollowsReportedHeadroom() {
+        // 30ms tick of which 5ms were spent by the executor leaves 20ms below the 45ms target
+        double budget = 1;
+        for (int tick = 0; tick < 100; tick++) {
+            budget = ObjectTaskExecutor.nextBudget(budget, 30, 5, 50);
+        }
+        Assertions.assertEquals(Math.min(20, Settings.Object_Tasks.MAX_BUDGET), budget, 1e-9);
+        // An overloaded server shrinks the budget at once
+        budget = ObjectTaskExecutor.nextBudget(budget, 60, 2, 60);
+        Assertions.assertEquals(Settings.Object_Tasks.MIN_BUDGET, budget, 1e-9);
+    }
+
+    @Test
+    public void budgetBacksOffOnLateTicksWithoutTickTime() {
+        double budget = ObjectTaskExecutor.nextBudget(10, -1, 10, 50);
+        Assertions.assertEquals(10.5, budget, 1e-9);
+        budget = ObjectTaskExecutor.nextBudget(budget, -1, 10, 80);
+        Assertions.assertEquals(5.25, budget, 1e-9);
+    }
+
+    @Test
+    public void processesAtLeastOneObjectPerSlice() {
+        final int[] sum = new int[1];
+        final ObjectTaskRunnable<Integer> job = new ObjectTaskRunnable<>(
+                List.of(1, 2, 3).iterator(),
+                new RunnableVal<>() {
+                    @Override
+                    public void run(final Integer value) {
+                        sum[0] += value;
+                    }
+                }
+        );
+        Assertions.assertFalse(job.process(System.nanoTime()));
+        Assertions.assertEquals(1, job.getProcessed());
+        Assertions.assertTrue(job.process(System.nanoTime() + Long.MAX_VALUE / 2));
+        Assertions.assertEquals(6, sum[0]);
+    }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.util.task;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TimerWheelTest {
+
+    @Test
+    public void runsTasksAtTheirDueTick() {
+        TimerWheel wheel = new TimerWheel(4);
+        List<String> ran = new ArrayList<>();
+        wheel.schedule(1, () -> ran.add("one"));
+        wheel.schedule(6, () -> ran.add("six"));
+        wheel.schedule(2, () -> ran.add("two"));
+
+        wheel.tick();
+        Assertions.assertEquals(List.of("one"), ran);
+        wheel.tick();
+        wheel.tick();
+        wheel.tick();
+        wheel.tick();
+        // "six" shares its slot with "two" and must not run one revolution early
+        Assertions.assertEquals(List.of("one", "two"), ran);
+        wheel.tick();
+        Assertions.assertEquals(List.of("one", "two", "six"), ran);
+        Assertions.assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void cancelledTasksDoNotRun() {
+        TimerWheel wheel = new TimerWheel(8);
+        List<String> ran = new ArrayList<>();
+        TimerWheel.Timeout cancelled = wheel.schedule(2, () -> ran.add("cancelled"));
+        wheel.schedule(2, cancelled::cancel);
+        wheel.schedule(2, () -> ran.add("kept"));
+
+        wheel.tick();
+        wheel.tick();
+
+        Assertions.assertEquals(List.of("kept"), ran);
+        Assertions.assertFalse(cancelled.isPending());
+    }
+
+    @Test
+    public void rescheduledTasksRunOncePerInterval() {
+        TimerWheel wheel = new TimerWheel(2);
+        int[] runs = new int[1];
+        Runnable[] task = new Runnable[1];
+        task[0] = () -> {
+            runs[0]++;
+            wheel.schedule(2, task[0]);
+        };
+        wheel.schedule(2, task[0]);
+
+        for (int tick = 0; tick < 10; tick++) {
+            wheel.tick();
+        }
+
+        Assertions.assertEquals(5, runs[0]);
+        Assertions.assertEquals(1, wheel.size());
+    }
+
+}